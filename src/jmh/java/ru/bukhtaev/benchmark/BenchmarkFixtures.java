@@ -0,0 +1,545 @@
+package ru.bukhtaev.benchmark;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.model.dictionary.*;
+import ru.bukhtaev.service.checker.ConnectorCompatibilityGraph;
+import ru.bukhtaev.service.checker.ConnectorCompatibilityGraphService;
+import ru.bukhtaev.service.checker.ConnectorOrderIndex;
+import ru.bukhtaev.service.checker.ConnectorOrderIndexService;
+import ru.bukhtaev.service.checker.IComputerBuildChecker;
+import ru.bukhtaev.service.checker.PairwiseCompatibilityMatrix;
+import ru.bukhtaev.service.checker.PairwiseCompatibilityService;
+import ru.bukhtaev.service.checker.PairwiseRule;
+
+import java.lang.reflect.Constructor;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Утилитный класс для подготовки данных бенчмарков без Spring-контекста и базы данных.
+ */
+public final class BenchmarkFixtures {
+
+    /**
+     * Пакет, содержащий сервисы проверки сборки ПК.
+     */
+    private static final String CHECKER_PACKAGE = "ru.bukhtaev.service.checker";
+
+    /**
+     * Только для статического использования.
+     */
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Создает сервис предоставления сообщений, настроенный так же,
+     * как в {@link ru.bukhtaev.config.InternationalizationConfig}.
+     *
+     * @return сервис предоставления сообщений
+     */
+    public static Translator translator() {
+        final ReloadableResourceBundleMessageSource messageSource
+                = new ReloadableResourceBundleMessageSource();
+        messageSource.setBasenames("classpath:messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setDefaultLocale(Locale.ENGLISH);
+        return new Translator(messageSource);
+    }
+
+    /**
+     * Создает экземпляры всех сервисов проверки указанного типа
+     * и упорядочивает их так же, как Spring при внедрении списка.
+     *
+     * @param baseType     тип сервисов проверки
+     * @param dependencies зависимости, передаваемые в конструкторы сервисов проверки
+     * @param <T>          тип сервисов проверки
+     * @return упорядоченный список сервисов проверки
+     */
+    public static <T extends IComputerBuildChecker> List<T> checkers(
+            final Class<T> baseType,
+            final Object... dependencies
+    ) {
+        final var provider = new ClassPathScanningCandidateComponentProvider(false);
+        provider.addIncludeFilter(new AssignableTypeFilter(baseType));
+
+        final List<T> checkers = new ArrayList<>();
+        for (final BeanDefinition definition : provider.findCandidateComponents(CHECKER_PACKAGE)) {
+            final Class<?> type = ClassUtils.resolveClassName(
+                    Objects.requireNonNull(definition.getBeanClassName()),
+                    BenchmarkFixtures.class.getClassLoader()
+            );
+            checkers.add(baseType.cast(instantiate(type, dependencies)));
+        }
+
+        AnnotationAwareOrderComparator.sort(checkers);
+        return checkers;
+    }
+
+    /**
+     * Создает экземпляр класса, подбирая аргументы конструктора
+     * из переданных зависимостей по типу.
+     *
+     * @param type         класс
+     * @param dependencies зависимости
+     * @return экземпляр класса
+     */
+    public static Object instantiate(final Class<?> type, final Object... dependencies) {
+        final Constructor<?> constructor = type.getDeclaredConstructors()[0];
+        final Object[] args = Arrays.stream(constructor.getParameterTypes())
+                .map(parameterType -> Arrays.stream(dependencies)
+                        .filter(parameterType::isInstance)
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "No dependency of type " + parameterType.getName()
+                                        + " for " + type.getName()
+                        )))
+                .toArray();
+
+        ReflectionUtils.makeAccessible(constructor);
+        try {
+            return constructor.newInstance(args);
+        } catch (final ReflectiveOperationException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Создает полностью укомплектованную совместимую сборку ПК.
+     *
+     * @return сборка ПК
+     */
+    public static ComputerBuild computerBuild() {
+        return computerBuild(1);
+    }
+
+    /**
+     * Создает полностью укомплектованную совместимую сборку ПК, размер которой
+     * пропорционален указанному множителю: сборка содержит по {@code size} различных
+     * вентиляторов, модулей оперативной памяти, жестких дисков и SSD-накопителей,
+     * а у каждого коннектора и версии PCI-Express есть {@code size} дополнительных
+     * совместимых коннекторов и более старых версий.
+     * Количество слотов и разъемов комплектующих увеличивается так,
+     * чтобы сборка оставалась совместимой.
+     *
+     * @param size множитель размера сборки ПК
+     * @return сборка ПК
+     */
+    public static ComputerBuild computerBuild(final int size) {
+        final Vendor vendor = named(Vendor.builder(), "Vendor");
+        final Manufacturer manufacturer = named(Manufacturer.builder(), "Manufacturer");
+        final Socket socket = named(Socket.builder(), "AM5");
+        final RamType ddr5 = named(RamType.builder(), "DDR5");
+        final FanSize fanSize = FanSize.builder()
+                .id(UUID.randomUUID())
+                .length(120)
+                .width(120)
+                .height(25)
+                .build();
+
+        final FanPowerConnector fanConnector4Pin = named(FanPowerConnector.builder(), "4-pin");
+        final FanPowerConnector fanConnector3Pin = named(FanPowerConnector.builder(), "3-pin");
+        fanConnector4Pin.getCompatibleConnectors().add(fanConnector3Pin);
+
+        final CpuPowerConnector cpuConnector = named(CpuPowerConnector.builder(), "8-pin");
+        final MainPowerConnector mainConnector = named(MainPowerConnector.builder(), "24-pin");
+        final GraphicsCardPowerConnector cardConnector = named(GraphicsCardPowerConnector.builder(), "8-pin PCIe");
+        final StorageConnector sata3 = named(StorageConnector.builder(), "SATA 3");
+        final StorageConnector m2 = named(StorageConnector.builder(), "M.2");
+        final StoragePowerConnector sataPower = named(StoragePowerConnector.builder(), "SATA power");
+        final ExpansionBayFormat bay35 = named(ExpansionBayFormat.builder(), "3.5\"");
+        final ExpansionBayFormat bay25 = named(ExpansionBayFormat.builder(), "2.5\"");
+        final MotherboardFormFactor atx = named(MotherboardFormFactor.builder(), "ATX");
+        final PsuFormFactor psuAtx = named(PsuFormFactor.builder(), "ATX");
+        final PciExpressConnectorVersion pci4 = named(PciExpressConnectorVersion.builder(), "PCIe 4.0");
+        final PciExpressConnectorVersion pci5 = named(PciExpressConnectorVersion.builder(), "PCIe 5.0");
+        pci5.getLowerVersions().add(pci4);
+
+        for (int i = 0; i < size; i++) {
+            fanConnector4Pin.getCompatibleConnectors().add(named(FanPowerConnector.builder(), "Fan " + i));
+            cpuConnector.getCompatibleConnectors().add(named(CpuPowerConnector.builder(), "CPU " + i));
+            mainConnector.getCompatibleConnectors().add(named(MainPowerConnector.builder(), "Main " + i));
+            cardConnector.getCompatibleConnectors().add(named(GraphicsCardPowerConnector.builder(), "PCIe " + i));
+            sata3.getCompatibleConnectors().add(named(StorageConnector.builder(), "SATA " + i));
+            m2.getCompatibleConnectors().add(named(StorageConnector.builder(), "M.2 " + i));
+            pci5.getLowerVersions().add(named(PciExpressConnectorVersion.builder(), "PCIe 1." + i));
+        }
+
+        final Design design = Design.builder()
+                .id(UUID.randomUUID())
+                .name("Design")
+                .vendor(vendor)
+                .build();
+
+        final Cpu cpu = Cpu.builder()
+                .id(UUID.randomUUID())
+                .name("CPU")
+                .coreCount(8)
+                .threadCount(16)
+                .baseClock(4200)
+                .maxClock(5000)
+                .l3CacheSize(32)
+                .maxTdp(105)
+                .maxMemorySize(Math.max(131072, 16384 * (size + 1)))
+                .manufacturer(manufacturer)
+                .socket(socket)
+                .build();
+        cpu.addRamType(ddr5, 5200);
+
+        final Motherboard motherboard = Motherboard.builder()
+                .id(UUID.randomUUID())
+                .name("Motherboard")
+                .maxMemoryClock(5200)
+                .maxMemoryOverClock(6400)
+                .maxMemorySize(Math.max(131072, 16384 * (size + 1)))
+                .slotsCount(Math.max(4, 2 * size))
+                .design(design)
+                .chipset(Chipset.builder()
+                        .id(UUID.randomUUID())
+                        .name("B650")
+                        .socket(socket)
+                        .build())
+                .ramType(ddr5)
+                .formFactor(atx)
+                .cpuPowerConnector(cpuConnector)
+                .mainPowerConnector(mainConnector)
+                .coolerPowerConnector(fanConnector4Pin)
+                .pciExpressConnectorVersion(pci5)
+                .build();
+        motherboard.addFanPowerConnector(fanConnector4Pin, 4 * size);
+        motherboard.addStorageConnector(sata3, 4 * size);
+        motherboard.addStorageConnector(m2, 2 * size);
+
+        final Psu psu = Psu.builder()
+                .id(UUID.randomUUID())
+                .name("PSU")
+                .power(850)
+                .power12V(840)
+                .length(160)
+                .vendor(vendor)
+                .formFactor(psuAtx)
+                .certificate(named(PsuCertificate.builder(), "80+ Gold"))
+                .mainPowerConnector(mainConnector)
+                .build();
+        psu.addCpuPowerConnector(cpuConnector, 2);
+        psu.addStoragePowerConnector(sataPower, 6 * size);
+        psu.addGraphicsCardPowerConnector(cardConnector, 4);
+
+        final Cooler cooler = Cooler.builder()
+                .id(UUID.randomUUID())
+                .name("Cooler")
+                .powerDissipation(220)
+                .height(155)
+                .vendor(vendor)
+                .fanSize(fanSize)
+                .powerConnector(fanConnector4Pin)
+                .supportedSockets(new HashSet<>(Set.of(socket)))
+                .build();
+
+        final GraphicsCard graphicsCard = GraphicsCard.builder()
+                .id(UUID.randomUUID())
+                .length(300)
+                .gpu(Gpu.builder()
+                        .id(UUID.randomUUID())
+                        .name("GPU")
+                        .memorySize(16384)
+                        .powerConsumption(250)
+                        .memoryType(named(VideoMemoryType.builder(), "GDDR6X"))
+                        .manufacturer(manufacturer)
+                        .build())
+                .design(design)
+                .pciExpressConnectorVersion(pci4)
+                .build();
+        graphicsCard.addPowerConnector(cardConnector, 2);
+
+        final ComputerCase computerCase = ComputerCase.builder()
+                .id(UUID.randomUUID())
+                .name("Case")
+                .maxPsuLength(200)
+                .maxGraphicsCardLength(360)
+                .maxCoolerHeight(170)
+                .vendor(vendor)
+                .motherboardFormFactors(new HashSet<>(Set.of(atx)))
+                .psuFormFactors(new HashSet<>(Set.of(psuAtx)))
+                .build();
+        computerCase.addExpansionBayFormat(bay35, 2 * size);
+        computerCase.addExpansionBayFormat(bay25, 4 * size);
+        computerCase.addFanSize(fanSize, 6 * size);
+
+        final ComputerBuild computer = ComputerBuild.builder()
+                .id(UUID.randomUUID())
+                .name("Computer build")
+                .cpu(cpu)
+                .psu(psu)
+                .cooler(cooler)
+                .motherboard(motherboard)
+                .graphicsCard(graphicsCard)
+                .computerCase(computerCase)
+                .build();
+
+        for (int i = 0; i < size; i++) {
+            computer.addFan(
+                    Fan.builder()
+                            .id(UUID.randomUUID())
+                            .name("Fan " + i)
+                            .vendor(vendor)
+                            .size(fanSize)
+                            .powerConnector(fanConnector4Pin)
+                            .build(),
+                    i == 0 ? 3 : 1
+            );
+            computer.addRamModule(
+                    RamModule.builder()
+                            .id(UUID.randomUUID())
+                            .clock(5200)
+                            .capacity(16384)
+                            .type(ddr5)
+                            .design(design)
+                            .build(),
+                    i == 0 ? 2 : 1
+            );
+            computer.addHdd(
+                    Hdd.builder()
+                            .id(UUID.randomUUID())
+                            .name("HDD " + i)
+                            .capacity(2048000)
+                            .readingSpeed(200)
+                            .writingSpeed(200)
+                            .spindleSpeed(7200)
+                            .cacheSize(256)
+                            .vendor(vendor)
+                            .connector(sata3)
+                            .powerConnector(sataPower)
+                            .expansionBayFormat(bay35)
+                            .build(),
+                    1
+            );
+            computer.addSsd(
+                    Ssd.builder()
+                            .id(UUID.randomUUID())
+                            .name("SSD " + i)
+                            .capacity(1024000)
+                            .readingSpeed(7000)
+                            .writingSpeed(5000)
+                            .vendor(vendor)
+                            .connector(m2)
+                            .build(),
+                    1
+            );
+        }
+
+        return computer;
+    }
+
+    /**
+     * Создает сервис графа совместимости коннекторов, не обращающийся к базе данных.
+     * Граф содержит все коннекторы сборки ПК и совместимые с ними коннекторы.
+     *
+     * @param computer сборка ПК
+     * @return сервис графа совместимости коннекторов
+     */
+    public static ConnectorCompatibilityGraphService connectorGraphService(final ComputerBuild computer) {
+        final var builder = ConnectorCompatibilityGraph.builder(1);
+        final Motherboard motherboard = computer.getMotherboard();
+        final Psu psu = computer.getPsu();
+
+        addConnector(builder, CpuPowerConnector.class, motherboard.getCpuPowerConnector(),
+                CpuPowerConnector::getCompatibleConnectors);
+        psu.getCpuPowerConnectors().forEach(psuToConnector -> addConnector(
+                builder, CpuPowerConnector.class, psuToConnector.getCpuPowerConnector(),
+                CpuPowerConnector::getCompatibleConnectors
+        ));
+
+        addConnector(builder, MainPowerConnector.class, motherboard.getMainPowerConnector(),
+                MainPowerConnector::getCompatibleConnectors);
+        addConnector(builder, MainPowerConnector.class, psu.getMainPowerConnector(),
+                MainPowerConnector::getCompatibleConnectors);
+
+        addConnector(builder, FanPowerConnector.class, motherboard.getCoolerPowerConnector(),
+                FanPowerConnector::getCompatibleConnectors);
+        addConnector(builder, FanPowerConnector.class, computer.getCooler().getPowerConnector(),
+                FanPowerConnector::getCompatibleConnectors);
+        motherboard.getFanPowerConnectors().forEach(motherboardToConnector -> addConnector(
+                builder, FanPowerConnector.class, motherboardToConnector.getFanPowerConnector(),
+                FanPowerConnector::getCompatibleConnectors
+        ));
+        computer.getFans().forEach(buildToFan -> addConnector(
+                builder, FanPowerConnector.class, buildToFan.getFan().getPowerConnector(),
+                FanPowerConnector::getCompatibleConnectors
+        ));
+
+        psu.getGraphicsCardPowerConnectors().forEach(psuToConnector -> addConnector(
+                builder, GraphicsCardPowerConnector.class, psuToConnector.getGraphicsCardPowerConnector(),
+                GraphicsCardPowerConnector::getCompatibleConnectors
+        ));
+        computer.getGraphicsCard().getPowerConnectors().forEach(cardToConnector -> addConnector(
+                builder, GraphicsCardPowerConnector.class, cardToConnector.getPowerConnector(),
+                GraphicsCardPowerConnector::getCompatibleConnectors
+        ));
+
+        motherboard.getStorageConnectors().forEach(motherboardToConnector -> addConnector(
+                builder, StorageConnector.class, motherboardToConnector.getStorageConnector(),
+                StorageConnector::getCompatibleConnectors
+        ));
+        computer.getHdds().forEach(buildToHdd -> addConnector(
+                builder, StorageConnector.class, buildToHdd.getHdd().getConnector(),
+                StorageConnector::getCompatibleConnectors
+        ));
+        computer.getSsds().forEach(buildToSsd -> addConnector(
+                builder, StorageConnector.class, buildToSsd.getSsd().getConnector(),
+                StorageConnector::getCompatibleConnectors
+        ));
+
+        final ConnectorCompatibilityGraph graph = builder.build();
+        return new ConnectorCompatibilityGraphService(null, null, null, null, null, null) {
+            @Override
+            public ConnectorCompatibilityGraph getGraph() {
+                return graph;
+            }
+        };
+    }
+
+    /**
+     * Создает сервис индекса порядка коннекторов, не обращающийся к базе данных.
+     * Индекс содержит версии PCI-Express и коннекторы подключения накопителей сборки ПК
+     * вместе с более старыми версиями и совместимыми с потерями в скорости коннекторами.
+     *
+     * @param computer сборка ПК
+     * @return сервис индекса порядка коннекторов
+     */
+    public static ConnectorOrderIndexService connectorOrderIndexService(final ComputerBuild computer) {
+        final var builder = ConnectorOrderIndex.builder(1);
+
+        final List<PciExpressConnectorVersion> versions = List.of(
+                computer.getMotherboard().getPciExpressConnectorVersion(),
+                computer.getGraphicsCard().getPciExpressConnectorVersion()
+        );
+        for (final PciExpressConnectorVersion version : versions) {
+            builder.element(PciExpressConnectorVersion.class, version.getId(), version.getName());
+            for (final PciExpressConnectorVersion lowerVersion : version.getLowerVersions()) {
+                builder.element(PciExpressConnectorVersion.class, lowerVersion.getId(), lowerVersion.getName());
+                builder.below(PciExpressConnectorVersion.class, version.getId(), lowerVersion.getId());
+            }
+        }
+
+        final List<StorageConnector> connectors = new ArrayList<>();
+        computer.getMotherboard().getStorageConnectors()
+                .forEach(motherboardToConnector -> connectors.add(motherboardToConnector.getStorageConnector()));
+        computer.getHdds().forEach(buildToHdd -> connectors.add(buildToHdd.getHdd().getConnector()));
+        computer.getSsds().forEach(buildToSsd -> connectors.add(buildToSsd.getSsd().getConnector()));
+        for (final StorageConnector connector : connectors) {
+            builder.element(StorageConnector.class, connector.getId(), connector.getName());
+            for (final StorageConnector lowerConnector : connector.getCompatibleConnectors()) {
+                builder.element(StorageConnector.class, lowerConnector.getId(), lowerConnector.getName());
+                builder.below(StorageConnector.class, connector.getId(), lowerConnector.getId());
+            }
+        }
+
+        final ConnectorOrderIndex index = builder.build();
+        return new ConnectorOrderIndexService(null, null, null) {
+            @Override
+            public ConnectorOrderIndex getIndex() {
+                return index;
+            }
+        };
+    }
+
+    /**
+     * Создает сервис матриц попарной совместимости, не обращающийся к базе данных.
+     * Матрицы содержат только комплектующие сборки ПК.
+     *
+     * @param computer сборка ПК
+     * @return сервис матриц попарной совместимости
+     */
+    public static PairwiseCompatibilityService pairwiseCompatibilityService(final ComputerBuild computer) {
+        final Map<Class<?>, BaseEntity> components = Map.of(
+                Cpu.class, computer.getCpu(),
+                Motherboard.class, computer.getMotherboard(),
+                Cooler.class, computer.getCooler(),
+                ComputerCase.class, computer.getComputerCase(),
+                Psu.class, computer.getPsu(),
+                GraphicsCard.class, computer.getGraphicsCard()
+        );
+
+        final Map<PairwiseRule<?, ?, ?, ?>, PairwiseCompatibilityMatrix<?, ?>> matrices = new HashMap<>();
+        PairwiseRule.ALL.forEach(rule -> matrices.put(rule, pairwiseMatrix(rule, components)));
+
+        return new PairwiseCompatibilityService(null, null, null, null, null, null, null) {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <RF, CF> PairwiseCompatibilityMatrix<RF, CF> getMatrix(final PairwiseRule<?, ?, RF, CF> rule) {
+                return (PairwiseCompatibilityMatrix<RF, CF>) matrices.get(rule);
+            }
+        };
+    }
+
+    /**
+     * Строит матрицу совместимости по правилу из одного комплектующего каждой стороны.
+     *
+     * @param rule       правило совместимости
+     * @param components комплектующие сборки ПК по их типам
+     * @param <R>        тип комплектующих-строк
+     * @param <C>        тип комплектующих-столбцов
+     * @param <RF>       тип признака комплектующих-строк
+     * @param <CF>       тип признака комплектующих-столбцов
+     * @return матрица совместимости
+     */
+    private static <R extends BaseEntity, C extends BaseEntity, RF, CF>
+    PairwiseCompatibilityMatrix<RF, CF> pairwiseMatrix(
+            final PairwiseRule<R, C, RF, CF> rule,
+            final Map<Class<?>, BaseEntity> components
+    ) {
+        final R row = rule.getRowType().cast(components.get(rule.getRowType()));
+        final C column = rule.getColumnType().cast(components.get(rule.getColumnType()));
+        return PairwiseCompatibilityMatrix.builder(rule.getTest())
+                .row(row.getId(), rule.rowFeature(row))
+                .column(column.getId(), rule.columnFeature(column))
+                .build();
+    }
+
+    /**
+     * Добавляет в граф коннектор, совместимые с ним коннекторы и пары совместимых коннекторов.
+     *
+     * @param builder    построитель графа
+     * @param type       тип коннектора
+     * @param connector  коннектор
+     * @param compatible функция получения совместимых коннекторов
+     * @param <C>        тип коннектора
+     */
+    private static <C extends NameableEntity> void addConnector(
+            final ConnectorCompatibilityGraph.Builder builder,
+            final Class<C> type,
+            final C connector,
+            final Function<C, Set<C>> compatible
+    ) {
+        builder.connector(type, connector.getId(), connector.getName());
+        for (final C compatibleConnector : compatible.apply(connector)) {
+            builder.connector(type, compatibleConnector.getId(), compatibleConnector.getName());
+            builder.compatibility(type, connector.getId(), compatibleConnector.getId());
+        }
+    }
+
+    /**
+     * Создает сущность с указанным названием и случайным ID.
+     *
+     * @param builder построитель сущности
+     * @param name    название
+     * @param <T>     тип сущности
+     * @return сущность
+     */
+    private static <T extends NameableEntity> T named(
+            final NameableEntity.NameableEntityBuilder<T, ?> builder,
+            final String name
+    ) {
+        return builder.id(UUID.randomUUID())
+                .name(name)
+                .build();
+    }
+}
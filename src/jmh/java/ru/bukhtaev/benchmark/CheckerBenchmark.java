@@ -0,0 +1,106 @@
+package ru.bukhtaev.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.IComputerBuildChecker;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк отдельных сервисов проверки сборки ПК
+ * на сборках ПК разного размера.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CheckerBenchmark {
+
+    /**
+     * Простое имя класса сервиса проверки.
+     */
+    @Param({
+            "CpuChecker",
+            "PsuChecker",
+            "CoolerChecker",
+            "MotherboardChecker",
+            "GraphicsCardChecker",
+            "ComputerCaseChecker",
+            "RamModulesChecker",
+            "StorageDeviceChecker",
+            "FansChecker",
+            "MotherboardHasEnoughStorageConnectorsChecker",
+            "MotherboardSocketMatchCpuSocketChecker",
+            "MotherboardRamTypeMatchCpuRamTypesChecker",
+            "RamModulesTheSameRamTypeChecker",
+            "CoolerSocketMatchCpuSocketChecker",
+            "RamModulesRamTypeMatchCpuRamTypeChecker",
+            "CpuMaxRamSizeChecker",
+            "MotherboardMaxRamSizeChecker",
+            "RamModulesRamTypeMatchMotherboardRamTypeChecker",
+            "CoolerPowerDissipationChecker",
+            "MotherboardFormFactorChecker",
+            "CoolerPowerConnectorChecker",
+            "MotherboardHasEnoughFanPowerConnectorsChecker",
+            "MainPowerConnectorChecker",
+            "CpuPowerConnectorChecker",
+            "MotherboardHasEnoughSlotsChecker",
+            "PsuHasEnoughGraphicsCardPowerConnectorsChecker",
+            "PsuPowerChecker",
+            "CaseMaxGraphicsCardLengthChecker",
+            "PsuFormFactorChecker",
+            "PsuHasEnoughStoragePowerConnectorsChecker",
+            "CaseMaxPsuLengthChecker",
+            "CaseMaxCoolerHeightChecker",
+            "CaseSupportsEnoughFanSizesChecker",
+            "CaseSupportsEnoughExpansionBayFormatsChecker",
+            "PciExpressConnectorVersionPerformanceLossChecker",
+            "RamModulesTheSameDesignChecker",
+            "RamModulesTheSameClockChecker",
+            "CpuMaxRamClockChecker",
+            "MotherboardMaxRamClockChecker",
+            "StorageConnectorPerformanceLossChecker"
+    })
+    private String checkerName;
+
+    /**
+     * Множитель размера сборки ПК.
+     */
+    @Param({"1", "16", "128"})
+    private int size;
+
+    /**
+     * Сервис проверки.
+     */
+    private IComputerBuildChecker checker;
+
+    /**
+     * Проверяемая сборка ПК.
+     */
+    private ComputerBuild computer;
+
+    @Setup
+    public void setUp() {
+        final Translator translator = BenchmarkFixtures.translator();
+
+        computer = BenchmarkFixtures.computerBuild(size);
+        checker = BenchmarkFixtures.checkers(
+                        IComputerBuildChecker.class,
+                        translator,
+                        BenchmarkFixtures.connectorGraphService(computer),
+                        BenchmarkFixtures.connectorOrderIndexService(computer),
+                        BenchmarkFixtures.pairwiseCompatibilityService(computer)
+                )
+                .stream()
+                .filter(candidate -> candidate.getClass().getSimpleName().equals(checkerName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown checker " + checkerName));
+    }
+
+    @Benchmark
+    public Optional<ComputerBuildViolation> check() {
+        return checker.check(computer);
+    }
+}
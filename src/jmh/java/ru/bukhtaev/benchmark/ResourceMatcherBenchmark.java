@@ -0,0 +1,118 @@
+package ru.bukhtaev.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.bukhtaev.service.checker.ResourceMatcher;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Бенчмарк сопоставления необходимых ресурсов доступным, сравнивающий {@link ResourceMatcher}
+ * с прежним бронированием через {@link HashMap} на наборах ресурсов разного размера.
+ * Выделение памяти показывает запуск с профилировщиком {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResourceMatcherBenchmark {
+
+    /**
+     * Совместимость видов ресурсов: ресурс подходит к ресурсам с тем же остатком от деления на 2.
+     */
+    private static final ResourceMatcher.Compatibility<Map<UUID, Integer>> COMPATIBILITY =
+            (parity, neededId, availableId) -> parity.get(neededId).equals(parity.get(availableId));
+
+    /**
+     * Количество видов ресурсов.
+     */
+    @Param({"2", "8", "32"})
+    private int kinds;
+
+    /**
+     * Доступные ресурсы.
+     */
+    private List<Item> available;
+
+    /**
+     * Необходимые ресурсы.
+     */
+    private List<Item> needed;
+
+    /**
+     * Четность видов ресурсов по их ID.
+     */
+    private Map<UUID, Integer> parity;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        available = new ArrayList<>();
+        needed = new ArrayList<>();
+        parity = new HashMap<>();
+
+        for (int i = 0; i < kinds; i++) {
+            final UUID id = new UUID(0, i);
+            final int count = 1 + random.nextInt(4);
+            parity.put(id, i % 2);
+            available.add(new Item(id, count));
+            needed.add(new Item(id, 1 + random.nextInt(count)));
+        }
+    }
+
+    @Benchmark
+    public boolean hashMapBooking() {
+        final Map<UUID, Integer> availableCounts = available.stream()
+                .collect(Collectors.toMap(Item::id, Item::count, Integer::sum));
+        final Map<UUID, Integer> neededCounts = needed.stream()
+                .collect(Collectors.toMap(Item::id, Item::count, Integer::sum));
+
+        Set.copyOf(neededCounts.entrySet()).forEach(entry -> {
+            final int availableCount = availableCounts.getOrDefault(entry.getKey(), 0);
+            if (entry.getValue() <= availableCount) {
+                availableCounts.put(entry.getKey(), availableCount - entry.getValue());
+                neededCounts.remove(entry.getKey());
+            } else {
+                availableCounts.remove(entry.getKey());
+                neededCounts.put(entry.getKey(), entry.getValue() - availableCount);
+            }
+        });
+
+        return neededCounts.isEmpty();
+    }
+
+    @Benchmark
+    public boolean matchesExactly() {
+        return fill(ResourceMatcher.acquire()).matchesExactly();
+    }
+
+    @Benchmark
+    public boolean matchesWithSubstitution() {
+        return fill(ResourceMatcher.acquire()).matches(parity, COMPATIBILITY);
+    }
+
+    /**
+     * Добавляет ресурсы в сопоставление.
+     *
+     * @param matcher сопоставление ресурсов
+     * @return сопоставление ресурсов
+     */
+    private ResourceMatcher fill(final ResourceMatcher matcher) {
+        for (final Item item : available) {
+            matcher.supply(item.id(), item.count());
+        }
+        for (final Item item : needed) {
+            matcher.demand(item.id(), item.count());
+        }
+        return matcher;
+    }
+
+    /**
+     * Ресурс одного вида в некотором количестве.
+     *
+     * @param id    ID вида ресурса
+     * @param count количество
+     */
+    private record Item(UUID id, int count) {
+    }
+}
@@ -0,0 +1,62 @@
+package ru.bukhtaev.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.checker.ComputerBuildFacts;
+import ru.bukhtaev.service.checker.compatibility.IRuleCompatibilityChecker;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк сервисов проверки, заданных правилами, на сборках ПК разного размера.
+ * Сравнивает вызов каждого сервиса отдельно, при котором каждое правило заново
+ * извлекает значения сборки ПК, с проверкой всех правил по общим значениям,
+ * как при проверке сборки ПК целиком.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RuleEvaluationBenchmark {
+
+    /**
+     * Множитель размера сборки ПК.
+     */
+    @Param({"1", "16", "128"})
+    private int size;
+
+    /**
+     * Сервисы проверки, заданные правилами.
+     */
+    private List<IRuleCompatibilityChecker> checkers;
+
+    /**
+     * Проверяемая сборка ПК.
+     */
+    private ComputerBuild computer;
+
+    @Setup
+    public void setUp() {
+        computer = BenchmarkFixtures.computerBuild(size);
+        checkers = BenchmarkFixtures.checkers(
+                IRuleCompatibilityChecker.class,
+                BenchmarkFixtures.translator()
+        );
+    }
+
+    @Benchmark
+    public void checkPerRule(final Blackhole blackhole) {
+        for (final IRuleCompatibilityChecker checker : checkers) {
+            blackhole.consume(checker.check(computer));
+        }
+    }
+
+    @Benchmark
+    public void checkWithSharedFacts(final Blackhole blackhole) {
+        final ComputerBuildFacts facts = ComputerBuildFacts.of(computer);
+        for (final IRuleCompatibilityChecker checker : checkers) {
+            blackhole.consume(checker.check(facts));
+        }
+    }
+}
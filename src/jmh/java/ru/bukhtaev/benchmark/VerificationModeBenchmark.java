@@ -0,0 +1,125 @@
+package ru.bukhtaev.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import ru.bukhtaev.config.VerificationConfig;
+import ru.bukhtaev.config.VerificationProperties;
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.checker.ComputerBuildCheckerMetrics;
+import ru.bukhtaev.service.checker.ComputerBuildDependencyCollector;
+import ru.bukhtaev.service.checker.ComputerBuildInitializer;
+import ru.bukhtaev.service.checker.ComputerBuildVerifyingService;
+import ru.bukhtaev.service.checker.ComputerVerifyResult;
+import ru.bukhtaev.service.checker.ComputerVerifyResultCache;
+import ru.bukhtaev.service.checker.ComputerVerifyStateStore;
+import ru.bukhtaev.service.checker.ConnectorCompatibilityGraphService;
+import ru.bukhtaev.service.checker.ConnectorOrderIndexService;
+import ru.bukhtaev.service.checker.PairwiseCompatibilityService;
+import ru.bukhtaev.service.checker.compatibility.ICompatibilityChecker;
+import ru.bukhtaev.service.checker.completeness.ICompletenessChecker;
+import ru.bukhtaev.service.checker.optimality.IOptimalityChecker;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк проверки сборки ПК целиком, сравнивающий последовательное
+ * и параллельное выполнение сервисов проверки на сборках ПК разного размера.
+ * Кэш результатов и инкрементальная проверка отключены.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VerificationModeBenchmark {
+
+    /**
+     * Выполнять ли сервисы проверки параллельно.
+     */
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    /**
+     * Множитель размера сборки ПК.
+     */
+    @Param({"1", "16", "128"})
+    private int size;
+
+    /**
+     * Пул потоков для параллельного выполнения сервисов проверки.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Сервис проверки сборки ПК.
+     */
+    private ComputerBuildVerifyingService service;
+
+    /**
+     * Проверяемая сборка ПК.
+     */
+    private ComputerBuild computer;
+
+    @Setup
+    public void setUp() {
+        final Translator translator = BenchmarkFixtures.translator();
+
+        final VerificationProperties properties = new VerificationProperties();
+        properties.setParallel(parallel);
+        properties.getCache().setEnabled(false);
+        properties.getIncremental().setEnabled(false);
+        executor = new VerificationConfig().verificationExecutor(properties);
+        computer = BenchmarkFixtures.computerBuild(size);
+        final ConnectorCompatibilityGraphService graphService = BenchmarkFixtures.connectorGraphService(computer);
+        final ConnectorOrderIndexService orderIndexService = BenchmarkFixtures.connectorOrderIndexService(computer);
+        final PairwiseCompatibilityService pairwiseService = BenchmarkFixtures.pairwiseCompatibilityService(computer);
+
+        service = new ComputerBuildVerifyingService(
+                BenchmarkFixtures.checkers(
+                        ICompletenessChecker.class,
+                        translator,
+                        graphService,
+                        orderIndexService,
+                        pairwiseService
+                ),
+                BenchmarkFixtures.checkers(
+                        ICompatibilityChecker.class,
+                        translator,
+                        graphService,
+                        orderIndexService,
+                        pairwiseService
+                ),
+                BenchmarkFixtures.checkers(
+                        IOptimalityChecker.class,
+                        translator,
+                        graphService,
+                        orderIndexService,
+                        pairwiseService
+                ),
+                null,
+                translator,
+                new ComputerBuildInitializer(),
+                properties,
+                executor,
+                null,
+                null,
+                new ComputerVerifyResultCache(
+                        properties,
+                        new ComputerBuildDependencyCollector(graphService, orderIndexService),
+                        new SimpleMeterRegistry()
+                ),
+                new ComputerVerifyStateStore(properties),
+                new ComputerBuildCheckerMetrics(new SimpleMeterRegistry())
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public ComputerVerifyResult verify() {
+        return service.verify(computer);
+    }
+}
@@ -0,0 +1,25 @@
+package ru.bukhtaev.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Конфигурация автодополнения сборок ПК.
+ */
+@Configuration
+@EnableConfigurationProperties(CompletionProperties.class)
+public class CompletionConfig {
+
+    /**
+     * Название пула потоков для параллельного перебора вариантов сборки ПК.
+     */
+    public static final String COMPLETION_POOL = "completionPool";
+
+    @Bean(name = COMPLETION_POOL, destroyMethod = "shutdown")
+    public ForkJoinPool completionPool(final CompletionProperties properties) {
+        return new ForkJoinPool(Math.max(1, properties.getParallelism()));
+    }
+}
@@ -0,0 +1,45 @@
+package ru.bukhtaev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Настройки автодополнения сборок ПК.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pc-configurator.completion")
+public class CompletionProperties {
+
+    /**
+     * Количество потоков для параллельного перебора вариантов.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Максимальное время перебора вариантов одной сборки ПК.
+     * По его истечении возвращаются лучшие из найденных вариантов.
+     */
+    private Duration timeBudget = Duration.ofSeconds(2);
+
+    /**
+     * Максимальное количество возвращаемых вариантов.
+     */
+    private int maxResults = 20;
+
+    /**
+     * Максимальное количество кандидатов, рассматриваемых для одного слота сборки ПК.
+     * Если совместимых кандидатов больше, перебор выполняется только среди первых из них
+     * в порядке критерия, а результат помечается неполным.
+     */
+    private int domainSize = 50;
+
+    /**
+     * Допустимые количества модулей оперативной памяти одной модели.
+     */
+    private List<Integer> ramModuleCounts = List.of(1, 2, 4);
+}
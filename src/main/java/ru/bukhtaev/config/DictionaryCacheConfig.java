@@ -0,0 +1,171 @@
+package ru.bukhtaev.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.bukhtaev.model.dictionary.DictionaryCacheRegions;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Конфигурация кэша справочных значений.
+ * Справочные значения, коллекции совместимых коннекторов и результаты запросов
+ * всех справочных значений хранятся в кэше второго уровня Hibernate,
+ * регионы которого создаются в отдельном менеджере кэшей Caffeine
+ * с ограничением размера и времени жизни записей.
+ */
+@Configuration
+@EnableConfigurationProperties(DictionaryCacheProperties.class)
+public class DictionaryCacheConfig {
+
+    /**
+     * Название менеджера кэшей справочных значений.
+     */
+    public static final String DICTIONARY_CACHE_MANAGER = "dictionaryCacheManager";
+
+    /**
+     * Название метрики доли попаданий в кэш справочных значений.
+     */
+    public static final String METRIC_HIT_RATIO = "dictionary.cache.hit.ratio";
+
+    /**
+     * Название тега с регионом кэша.
+     */
+    public static final String TAG_CACHE = "cache";
+
+    /**
+     * Регионы кэша с ограничением размера и времени жизни записей.
+     */
+    private static final List<String> BOUNDED_REGIONS = List.of(
+            DictionaryCacheRegions.ENTITIES,
+            DictionaryCacheRegions.COLLECTIONS,
+            DictionaryCacheRegions.QUERIES,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME
+    );
+
+    /**
+     * Создает менеджер кэшей с регионами кэша второго уровня.
+     * Провайдер создается отдельно от {@link javax.cache.Caching},
+     * чтобы менеджер кэшей не разделялся между контекстами приложения.
+     * Регион временных меток изменения таблиц не ограничивается:
+     * по нему Hibernate определяет актуальность результатов запросов.
+     *
+     * @param properties настройки кэша справочных значений
+     * @return менеджер кэшей
+     */
+    @Bean(name = DICTIONARY_CACHE_MANAGER, destroyMethod = "close")
+    public CacheManager dictionaryCacheManager(final DictionaryCacheProperties properties) {
+        final CachingProvider provider = new CaffeineCachingProvider();
+        final CacheManager cacheManager = provider.getCacheManager(
+                provider.getDefaultURI(),
+                getClass().getClassLoader()
+        );
+
+        for (final String region : BOUNDED_REGIONS) {
+            final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(Math.max(1, properties.getMaximumSize())));
+            configuration.setExpireAfterWrite(OptionalLong.of(properties.getTimeToLive().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+
+        final CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+
+        return cacheManager;
+    }
+
+    /**
+     * Включает кэш второго уровня и кэш запросов Hibernate
+     * в менеджере кэшей справочных значений.
+     *
+     * @param properties   настройки кэша справочных значений
+     * @param cacheManager менеджер кэшей справочных значений
+     * @return настройка свойств Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer dictionaryCacheCustomizer(
+            final DictionaryCacheProperties properties,
+            @Qualifier(DICTIONARY_CACHE_MANAGER) final CacheManager cacheManager
+    ) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.isEnabled());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, properties.isEnabled());
+            if (properties.isEnabled()) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+                hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+
+    /**
+     * Регистрирует метрики регионов кэша: количество попаданий, промахов, добавлений
+     * и вытеснений, а также долю попаданий.
+     *
+     * @param cacheManager менеджер кэшей справочных значений
+     * @return регистратор метрик
+     */
+    @Bean
+    public MeterBinder dictionaryCacheMetrics(
+            @Qualifier(DICTIONARY_CACHE_MANAGER) final CacheManager cacheManager
+    ) {
+        return registry -> {
+            for (final String region : cacheManager.getCacheNames()) {
+                final Cache<Object, Object> cache = cacheManager.getCache(region);
+                new JCacheMetrics<>(cache, Tags.empty()).bindTo(registry);
+                Gauge.builder(METRIC_HIT_RATIO, registry, meters -> hitRatio(meters, region))
+                        .tag(TAG_CACHE, region)
+                        .description("Доля обращений к региону кэша справочных значений, "
+                                + "обслуженных без запроса к базе данных")
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Возвращает долю попаданий в регион кэша по счетчикам обращений к нему.
+     *
+     * @param registry реестр метрик
+     * @param region   регион кэша
+     * @return доля попаданий или {@code 0}, если обращений не было
+     */
+    private static double hitRatio(final MeterRegistry registry, final String region) {
+        final double hits = count(registry, region, "hit");
+        final double total = hits + count(registry, region, "miss");
+        return total == 0 ? 0 : hits / total;
+    }
+
+    /**
+     * Возвращает значение счетчика обращений к региону кэша с указанным результатом.
+     *
+     * @param registry реестр метрик
+     * @param region   регион кэша
+     * @param result   результат обращения
+     * @return значение счетчика или {@code 0}, если он не зарегистрирован
+     */
+    private static double count(final MeterRegistry registry, final String region, final String result) {
+        final FunctionCounter counter = registry.find("cache.gets")
+                .tags(TAG_CACHE, region, "result", result)
+                .functionCounter();
+        return counter == null ? 0 : counter.count();
+    }
+}
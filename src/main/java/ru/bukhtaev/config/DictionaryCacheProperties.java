@@ -0,0 +1,31 @@
+package ru.bukhtaev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки кэша справочных значений.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pc-configurator.dictionary-cache")
+public class DictionaryCacheProperties {
+
+    /**
+     * Использовать ли кэш второго уровня Hibernate для справочных значений.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Максимальное количество записей в каждом регионе кэша.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Время жизни записи в кэше после ее сохранения.
+     */
+    private Duration timeToLive = Duration.ofHours(1);
+}
@@ -0,0 +1,54 @@
+package ru.bukhtaev.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Конфигурация проверки сборок ПК.
+ */
+@Configuration
+@EnableConfigurationProperties(VerificationProperties.class)
+public class VerificationConfig {
+
+    /**
+     * Название пула потоков для параллельного выполнения сервисов проверки.
+     */
+    public static final String VERIFICATION_EXECUTOR = "verificationExecutor";
+
+    /**
+     * Название пула потоков для фоновой повторной проверки сборок ПК.
+     */
+    public static final String REVERIFICATION_EXECUTOR = "reverificationExecutor";
+
+    @Bean(name = VERIFICATION_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService verificationExecutor(final VerificationProperties properties) {
+        final int poolSize = Math.max(1, properties.getPoolSize());
+
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                new CustomizableThreadFactory("verification-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @Bean(name = REVERIFICATION_EXECUTOR, destroyMethod = "shutdown")
+    public ScheduledExecutorService reverificationExecutor(final VerificationProperties properties) {
+        return new ScheduledThreadPoolExecutor(
+                Math.max(1, properties.getReverification().getConcurrency()),
+                new CustomizableThreadFactory("reverification-")
+        );
+    }
+}
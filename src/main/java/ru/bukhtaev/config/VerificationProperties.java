@@ -0,0 +1,158 @@
+package ru.bukhtaev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки проверки сборок ПК.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pc-configurator.verification")
+public class VerificationProperties {
+
+    /**
+     * Выполнять ли сервисы проверки параллельно.
+     */
+    private boolean parallel = false;
+
+    /**
+     * Количество потоков для параллельного выполнения сервисов проверки.
+     */
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Максимальное количество ожидающих выполнения задач.
+     * При его превышении задача выполняется в вызывающем потоке.
+     */
+    private int queueCapacity = 1024;
+
+    /**
+     * Максимальное время проверки одной сборки ПК в параллельном режиме.
+     */
+    private Duration timeout = Duration.ofSeconds(2);
+
+    /**
+     * Количество сборок ПК, загружаемых и проверяемых в одной транзакции
+     * при пакетной проверке.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Настройки кэша результатов проверки.
+     */
+    private final Cache cache = new Cache();
+
+    /**
+     * Настройки инкрементальной повторной проверки.
+     */
+    private final Incremental incremental = new Incremental();
+
+    /**
+     * Настройки фоновой повторной проверки сохраненных сборок ПК.
+     */
+    private final Reverification reverification = new Reverification();
+
+    /**
+     * Настройки подбора исправлений несовместимых сборок ПК.
+     */
+    private final Repair repair = new Repair();
+
+    /**
+     * Настройки кэша результатов проверки.
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Использовать ли кэш результатов проверки.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Максимальное количество результатов проверки в кэше.
+         */
+        private long maximumSize = 10_000;
+    }
+
+    /**
+     * Настройки инкрементальной повторной проверки.
+     */
+    @Getter
+    @Setter
+    public static class Incremental {
+
+        /**
+         * Выполнять ли повторно только сервисы проверки, зависящие от измененных слотов сборки ПК.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Максимальное количество сборок ПК, для которых хранится последний результат проверки.
+         */
+        private long maximumSize = 10_000;
+    }
+
+    /**
+     * Настройки фоновой повторной проверки сохраненных сборок ПК
+     * после изменения комплектующих и справочников.
+     */
+    @Getter
+    @Setter
+    public static class Reverification {
+
+        /**
+         * Выполнять ли фоновую повторную проверку.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Задержка перед запуском повторной проверки.
+         * Изменения, сделанные за это время, проверяются вместе.
+         */
+        private Duration delay = Duration.ofSeconds(5);
+
+        /**
+         * Количество сборок ПК в одной порции повторной проверки.
+         */
+        private int chunkSize = 100;
+
+        /**
+         * Количество одновременно проверяемых порций.
+         */
+        private int concurrency = 2;
+    }
+
+    /**
+     * Настройки подбора исправлений несовместимых сборок ПК.
+     */
+    @Getter
+    @Setter
+    public static class Repair {
+
+        /**
+         * Максимальное количество слотов, комплектующие которых заменяются в одном исправлении.
+         */
+        private int maxSwaps = 2;
+
+        /**
+         * Размер порции, которыми просматривается каталог при подборе кандидатов слота.
+         */
+        private int batchSize = 200;
+
+        /**
+         * Количество наиболее похожих на исходное комплектующее кандидатов слота,
+         * участвующих в переборе.
+         */
+        private int candidatesPerSlot = 20;
+
+        /**
+         * Максимальное количество возвращаемых исправлений.
+         */
+        private int maxResults = 20;
+    }
+}
@@ -0,0 +1,82 @@
+package ru.bukhtaev.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.bukhtaev.service.export.CompatibilityExportFormat;
+import ru.bukhtaev.service.export.CompatibilityExportService;
+import ru.bukhtaev.service.export.CompatibilityRelation;
+import ru.bukhtaev.validation.handling.ErrorResponse;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static ru.bukhtaev.controller.CompatibilityExportRestController.URL_API_V1_COMPATIBILITY_EXPORT;
+
+/**
+ * Контроллер выгрузки отношений совместимости комплектующих.
+ */
+@Tag(name = "Выгрузка совместимости комплектующих")
+@RestController
+@RequestMapping(value = URL_API_V1_COMPATIBILITY_EXPORT)
+public class CompatibilityExportRestController {
+
+    /**
+     * URL.
+     */
+    public static final String URL_API_V1_COMPATIBILITY_EXPORT = "/api/v1/compatibility-export";
+
+    /**
+     * Сервис выгрузки отношений совместимости комплектующих.
+     */
+    private final CompatibilityExportService exportService;
+
+    /**
+     * Конструктор.
+     *
+     * @param exportService сервис выгрузки отношений совместимости комплектующих
+     */
+    @Autowired
+    public CompatibilityExportRestController(final CompatibilityExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Operation(summary = "Потоковая выгрузка пар совместимых комплектующих")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Пары совместимых комплектующих передаются построчно (NDJSON или CSV) " +
+                            "по мере чтения из базы данных"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> handleExport(
+            @RequestParam(value = "relations", required = false) final Set<CompatibilityRelation> relations,
+            @RequestParam(value = "format", defaultValue = "NDJSON") final CompatibilityExportFormat format
+    ) {
+        final Set<CompatibilityRelation> exported = relations == null || relations.isEmpty()
+                ? EnumSet.allOf(CompatibilityRelation.class)
+                : EnumSet.copyOf(relations);
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(outputStream -> exportService.export(exported, format, outputStream));
+    }
+}
@@ -1,5 +1,6 @@
 package ru.bukhtaev.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -7,28 +8,49 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 import ru.bukhtaev.dto.mapper.IComputerBuildMapper;
 import ru.bukhtaev.dto.request.ComputerBuildRequestDto;
 import ru.bukhtaev.dto.response.ComputerBuildResponseDto;
 import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.checker.CatalogAvailability;
+import ru.bukhtaev.service.checker.CatalogAvailabilityService;
+import ru.bukhtaev.service.checker.CatalogOrdinalService;
+import ru.bukhtaev.service.checker.CatalogOrdinalTable;
+import ru.bukhtaev.service.checker.CompletionObjective;
+import ru.bukhtaev.service.checker.ComputerBatchVerifyResult;
+import ru.bukhtaev.service.checker.ComputerBuildCompletionResult;
+import ru.bukhtaev.service.checker.ComputerBuildCompletionService;
+import ru.bukhtaev.service.checker.ComputerBuildRepair;
+import ru.bukhtaev.service.checker.ComputerBuildRepairService;
+import ru.bukhtaev.service.checker.ComputerBuildSlot;
 import ru.bukhtaev.service.checker.ComputerBuildVerifyingService;
 import ru.bukhtaev.service.checker.ComputerVerifyResult;
+import ru.bukhtaev.service.checker.ComputerVerifyResultRenderer;
+import ru.bukhtaev.service.checker.VerificationMode;
 import ru.bukhtaev.service.crud.IPagingCrudService;
 import ru.bukhtaev.util.ComputerBuildSort;
+import ru.bukhtaev.util.KeysetSlice;
 import ru.bukhtaev.validation.handling.ErrorResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static ru.bukhtaev.controller.ComputerBuildRestController.URL_API_V1_COMPUTER_BUILDS;
+import static ru.bukhtaev.service.KeysetTokenCodec.PARAM_TOKEN;
 
 /**
  * Контроллер обработки CRUD операций над сборками ПК.
@@ -53,27 +75,75 @@ public class ComputerBuildRestController {
      */
     private final ComputerBuildVerifyingService checkingService;
 
+    /**
+     * Сервис отображения результатов проверки сборок ПК.
+     */
+    private final ComputerVerifyResultRenderer renderer;
+
+    /**
+     * Сервис автодополнения сборок ПК.
+     */
+    private final ComputerBuildCompletionService completionService;
+
+    /**
+     * Сервис подбора исправлений несовместимых сборок ПК.
+     */
+    private final ComputerBuildRepairService repairService;
+
+    /**
+     * Сервис вычисления доступности комплектующих каталога.
+     */
+    private final CatalogAvailabilityService availabilityService;
+
+    /**
+     * Сервис таблиц порядковых номеров комплектующих каталога.
+     */
+    private final CatalogOrdinalService ordinalService;
+
     /**
      * Маппер для DTO сборок ПК.
      */
     private final IComputerBuildMapper mapper;
 
+    /**
+     * Сериализатор JSON.
+     */
+    private final ObjectMapper objectMapper;
+
     /**
      * Конструктор.
      *
-     * @param crudService     сервис CRUD операций над сборками ПК
-     * @param checkingService сервис проверки сборок ПК на совместимость комплектующих
-     * @param mapper          маппер для DTO сборок ПК
+     * @param crudService         сервис CRUD операций над сборками ПК
+     * @param checkingService     сервис проверки сборок ПК на совместимость комплектующих
+     * @param renderer            сервис отображения результатов проверки сборок ПК
+     * @param completionService   сервис автодополнения сборок ПК
+     * @param repairService       сервис подбора исправлений несовместимых сборок ПК
+     * @param availabilityService сервис вычисления доступности комплектующих каталога
+     * @param ordinalService      сервис таблиц порядковых номеров комплектующих каталога
+     * @param mapper              маппер для DTO сборок ПК
+     * @param objectMapper        сериализатор JSON
      */
     @Autowired
     public ComputerBuildRestController(
             final IPagingCrudService<ComputerBuild, UUID> crudService,
             final ComputerBuildVerifyingService checkingService,
-            final IComputerBuildMapper mapper
+            final ComputerVerifyResultRenderer renderer,
+            final ComputerBuildCompletionService completionService,
+            final ComputerBuildRepairService repairService,
+            final CatalogAvailabilityService availabilityService,
+            final CatalogOrdinalService ordinalService,
+            final IComputerBuildMapper mapper,
+            final ObjectMapper objectMapper
     ) {
         this.crudService = crudService;
         this.checkingService = checkingService;
+        this.renderer = renderer;
+        this.completionService = completionService;
+        this.repairService = repairService;
+        this.availabilityService = availabilityService;
+        this.ordinalService = ordinalService;
         this.mapper = mapper;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(summary = "Получение всех сборок ПК")
@@ -133,6 +203,35 @@ public class ComputerBuildRestController {
         );
     }
 
+    @Operation(summary = "Получение всех сборок ПК (с keyset-пагинацией)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Сборки ПК получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetSlice<ComputerBuildResponseDto>> handleScroll(
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "NAME_ASC") final ComputerBuildSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok(
+                crudService.getAll(
+                        sort.getSortValue(),
+                        limit,
+                        token
+                ).map(mapper::convertToDto)
+        );
+    }
+
     @Operation(summary = "Получение сборки ПК по ID")
     @ApiResponses(value = {
             @ApiResponse(
@@ -326,11 +425,271 @@ public class ComputerBuildRestController {
             )
     })
     @GetMapping("/compatibility/{id}")
-    public ResponseEntity<ComputerVerifyResult> handleCheck(@PathVariable("id") final UUID id) {
+    public ResponseEntity<ComputerVerifyResult> handleCheck(
+            @PathVariable("id") final UUID id,
+            @RequestParam(value = "mode", defaultValue = "FULL") final VerificationMode mode,
+            @RequestParam(value = "codesOnly", defaultValue = "false") final boolean codesOnly
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                        renderer.render(checkingService.verify(id, mode), codesOnly)
+                );
+    }
+
+    @Operation(summary = "Проверка не сохраненной сборки ПК на совместимость комплектующих")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Результат проверки получен"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Процессор, блок питания, процессорный кулер, материнская плата, " +
+                            "видеокарта, корпус, вентилятор, модуль оперативной памяти, " +
+                            "жесткий диск или SSD-накопитель не найден",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @PostMapping("/compatibility")
+    public ResponseEntity<ComputerVerifyResult> handleCheck(
+            @RequestBody final ComputerBuildRequestDto dto,
+            @RequestParam(value = "mode", defaultValue = "FULL") final VerificationMode mode,
+            @RequestParam(value = "codesOnly", defaultValue = "false") final boolean codesOnly
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                        renderer.render(
+                                checkingService.verifyUnsaved(mapper.convertFromDto(dto), mode),
+                                codesOnly
+                        )
+                );
+    }
+
+    @Operation(summary = "Подбор исправлений несовместимой сборки ПК")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Исправления, заменяющие комплектующие наименьшего количества слотов, получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Сборка ПК не найдена",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @GetMapping("/compatibility/{id}/repairs")
+    public ResponseEntity<List<ComputerBuildRepair>> handleRepair(
+            @PathVariable("id") final UUID id,
+            @RequestParam(value = "limit", defaultValue = "5") final Integer limit
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                        repairService.repair(id, limit)
+                );
+    }
+
+    @Operation(summary = "Подбор исправлений несовместимой не сохраненной сборки ПК")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Исправления, заменяющие комплектующие наименьшего количества слотов, получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Процессор, блок питания, процессорный кулер, материнская плата, " +
+                            "видеокарта, корпус, вентилятор, модуль оперативной памяти, " +
+                            "жесткий диск или SSD-накопитель не найден",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @PostMapping("/compatibility/repairs")
+    public ResponseEntity<List<ComputerBuildRepair>> handleRepair(
+            @RequestBody final ComputerBuildRequestDto dto,
+            @RequestParam(value = "limit", defaultValue = "5") final Integer limit
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                        repairService.repairUnsaved(mapper.convertFromDto(dto), limit)
+                );
+    }
+
+    @Operation(summary = "Получение доступности комплектующих каталога для не сохраненной сборки ПК")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Битовые карты доступных комплектующих по слотам сборки ПК получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Процессор, блок питания, процессорный кулер, материнская плата, " +
+                            "видеокарта, корпус, вентилятор, модуль оперативной памяти, " +
+                            "жесткий диск или SSD-накопитель не найден",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @PostMapping("/compatibility/availability")
+    public ResponseEntity<CatalogAvailability> handleAvailability(@RequestBody final ComputerBuildRequestDto dto) {
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(
-                        checkingService.verify(id)
+                        availabilityService.getAvailability(mapper.convertFromDto(dto))
                 );
     }
+
+    @Operation(summary = "Получение таблицы порядковых номеров комплектующих слота сборки ПК")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Таблица порядковых номеров получена, ее версия передается в заголовке ETag"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @GetMapping("/compatibility/availability/ordinals/{slot}")
+    public ResponseEntity<CatalogOrdinalTable> handleGetOrdinals(@PathVariable("slot") final ComputerBuildSlot slot) {
+        final CatalogOrdinalTable table = ordinalService.getTable(slot);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(String.valueOf(table.getVersion()))
+                .body(table);
+    }
+
+    @Operation(summary = "Пакетная проверка сборок ПК на совместимость комплектующих")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Результаты проверки передаются построчно (NDJSON) по мере готовности, " +
+                            "для не найденных или не проверенных сборок ПК передается сообщение об ошибке"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @PostMapping(value = "/compatibility/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> handleCheckAll(
+            @RequestBody final List<UUID> ids,
+            @RequestParam(value = "mode", defaultValue = "FULL") final VerificationMode mode,
+            @RequestParam(value = "codesOnly", defaultValue = "false") final boolean codesOnly
+    ) {
+        final LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> {
+                    LocaleContextHolder.setLocaleContext(localeContext);
+                    try {
+                        checkingService.verifyAll(
+                                ids,
+                                mode,
+                                result -> writeLine(outputStream, renderer.render(result, codesOnly))
+                        );
+                    } finally {
+                        LocaleContextHolder.resetLocaleContext();
+                    }
+                });
+    }
+
+    @Operation(summary = "Автодополнение не сохраненной сборки ПК совместимыми комплектующими")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Лучшие по критерию варианты сборки ПК получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Процессор, блок питания, процессорный кулер, материнская плата, " +
+                            "видеокарта, корпус, вентилятор, модуль оперативной памяти, " +
+                            "жесткий диск или SSD-накопитель не найден",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @PostMapping("/completion")
+    public ResponseEntity<ComputerBuildCompletionResult<ComputerBuildResponseDto>> handleComplete(
+            @RequestBody final ComputerBuildRequestDto dto,
+            @RequestParam(value = "objective", defaultValue = "PSU_12V_HEADROOM") final CompletionObjective objective,
+            @RequestParam(value = "limit", defaultValue = "5") final Integer limit
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                        completionService.complete(
+                                mapper.convertFromDto(dto),
+                                objective,
+                                limit
+                        ).map(mapper::convertToDto)
+                );
+    }
+
+    /**
+     * Записывает результат пакетной проверки в поток отдельной строкой JSON.
+     *
+     * @param outputStream поток
+     * @param result       результат проверки сборки ПК
+     */
+    private void writeLine(final OutputStream outputStream, final ComputerBatchVerifyResult result) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(result));
+            outputStream.write('\n');
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
 }
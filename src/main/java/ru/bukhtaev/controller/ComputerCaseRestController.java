@@ -14,12 +14,16 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
+import ru.bukhtaev.dto.mapper.IComputerBuildMapper;
 import ru.bukhtaev.dto.mapper.IComputerCaseMapper;
+import ru.bukhtaev.dto.request.ComputerBuildRequestDto;
 import ru.bukhtaev.dto.request.ComputerCaseRequestDto;
 import ru.bukhtaev.dto.response.ComputerCaseResponseDto;
 import ru.bukhtaev.model.ComputerCase;
+import ru.bukhtaev.service.checker.CompatibleCandidateService;
 import ru.bukhtaev.service.crud.IPagingCrudService;
 import ru.bukhtaev.util.ComputerCaseSort;
+import ru.bukhtaev.util.KeysetSlice;
 import ru.bukhtaev.validation.handling.ErrorResponse;
 
 import java.util.List;
@@ -27,6 +31,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static ru.bukhtaev.controller.ComputerCaseRestController.URL_API_V1_COMPUTER_CASES;
+import static ru.bukhtaev.service.KeysetTokenCodec.PARAM_TOKEN;
 
 /**
  * Контроллер обработки CRUD операций над корпусами.
@@ -51,19 +56,35 @@ public class ComputerCaseRestController {
      */
     private final IComputerCaseMapper mapper;
 
+    /**
+     * Маппер для DTO сборок ПК.
+     */
+    private final IComputerBuildMapper buildMapper;
+
+    /**
+     * Сервис подбора совместимых комплектующих.
+     */
+    private final CompatibleCandidateService candidateService;
+
     /**
      * Конструктор.
      *
-     * @param crudService сервис CRUD операций над корпусами
-     * @param mapper      маппер для DTO корпусов
+     * @param crudService      сервис CRUD операций над корпусами
+     * @param mapper           маппер для DTO корпусов
+     * @param buildMapper      маппер для DTO сборок ПК
+     * @param candidateService сервис подбора совместимых комплектующих
      */
     @Autowired
     public ComputerCaseRestController(
             final IPagingCrudService<ComputerCase, UUID> crudService,
-            final IComputerCaseMapper mapper
+            final IComputerCaseMapper mapper,
+            final IComputerBuildMapper buildMapper,
+            final CompatibleCandidateService candidateService
     ) {
         this.crudService = crudService;
         this.mapper = mapper;
+        this.buildMapper = buildMapper;
+        this.candidateService = candidateService;
     }
 
     @Operation(summary = "Получение всех корпусов")
@@ -123,6 +144,78 @@ public class ComputerCaseRestController {
         );
     }
 
+    @Operation(summary = "Получение всех корпусов (с keyset-пагинацией)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Корпуса получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetSlice<ComputerCaseResponseDto>> handleScroll(
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "VENDOR_NAME_ASC") final ComputerCaseSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok(
+                crudService.getAll(
+                        sort.getSortValue(),
+                        limit,
+                        token
+                ).map(mapper::convertToDto)
+        );
+    }
+
+    @Operation(summary = "Подбор корпусов, совместимых с комплектующими сборки ПК")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Совместимые корпуса получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Процессор, блок питания, процессорный кулер, материнская плата, " +
+                            "видеокарта, корпус, вентилятор, модуль оперативной памяти, " +
+                            "жесткий диск или SSD-накопитель не найден",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @PostMapping("/compatible")
+    public ResponseEntity<KeysetSlice<ComputerCaseResponseDto>> handleGetCompatible(
+            @RequestBody final ComputerBuildRequestDto dto,
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "VENDOR_NAME_ASC") final ComputerCaseSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                        candidateService.findCompatible(
+                                ComputerCase.class,
+                                buildMapper.convertFromDto(dto),
+                                sort.getSortValue(),
+                                limit,
+                                token
+                        ).map(mapper::convertToDto)
+                );
+    }
+
     @Operation(summary = "Получение корпуса по ID")
     @ApiResponses(value = {
             @ApiResponse(
@@ -14,12 +14,16 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
+import ru.bukhtaev.dto.mapper.IComputerBuildMapper;
 import ru.bukhtaev.dto.mapper.ICoolerMapper;
+import ru.bukhtaev.dto.request.ComputerBuildRequestDto;
 import ru.bukhtaev.dto.request.CoolerRequestDto;
 import ru.bukhtaev.dto.response.CoolerResponseDto;
 import ru.bukhtaev.model.Cooler;
+import ru.bukhtaev.service.checker.CompatibleCandidateService;
 import ru.bukhtaev.service.crud.IPagingCrudService;
 import ru.bukhtaev.util.CoolerSort;
+import ru.bukhtaev.util.KeysetSlice;
 import ru.bukhtaev.validation.handling.ErrorResponse;
 
 import java.util.List;
@@ -27,6 +31,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static ru.bukhtaev.controller.CoolerRestController.URL_API_V1_COOLERS;
+import static ru.bukhtaev.service.KeysetTokenCodec.PARAM_TOKEN;
 
 /**
  * Контроллер обработки CRUD операций над процессорными кулерами.
@@ -51,19 +56,35 @@ public class CoolerRestController {
      */
     private final ICoolerMapper mapper;
 
+    /**
+     * Маппер для DTO сборок ПК.
+     */
+    private final IComputerBuildMapper buildMapper;
+
+    /**
+     * Сервис подбора совместимых комплектующих.
+     */
+    private final CompatibleCandidateService candidateService;
+
     /**
      * Конструктор.
      *
-     * @param crudService сервис CRUD операций над процессорными кулерами
-     * @param mapper      маппер для DTO процессорных кулеров
+     * @param crudService      сервис CRUD операций над процессорными кулерами
+     * @param mapper           маппер для DTO процессорных кулеров
+     * @param buildMapper      маппер для DTO сборок ПК
+     * @param candidateService сервис подбора совместимых комплектующих
      */
     @Autowired
     public CoolerRestController(
             final IPagingCrudService<Cooler, UUID> crudService,
-            final ICoolerMapper mapper
+            final ICoolerMapper mapper,
+            final IComputerBuildMapper buildMapper,
+            final CompatibleCandidateService candidateService
     ) {
         this.crudService = crudService;
         this.mapper = mapper;
+        this.buildMapper = buildMapper;
+        this.candidateService = candidateService;
     }
 
     @Operation(summary = "Получение всех процессорных кулеров")
@@ -123,6 +144,78 @@ public class CoolerRestController {
         );
     }
 
+    @Operation(summary = "Получение всех процессорных кулеров (с keyset-пагинацией)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Процессорные кулеры получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetSlice<CoolerResponseDto>> handleScroll(
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "NAME_ASC") final CoolerSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok(
+                crudService.getAll(
+                        sort.getSortValue(),
+                        limit,
+                        token
+                ).map(mapper::convertToDto)
+        );
+    }
+
+    @Operation(summary = "Подбор процессорных кулеров, совместимых с комплектующими сборки ПК")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Совместимые процессорные кулеры получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Процессор, блок питания, процессорный кулер, материнская плата, " +
+                            "видеокарта, корпус, вентилятор, модуль оперативной памяти, " +
+                            "жесткий диск или SSD-накопитель не найден",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @PostMapping("/compatible")
+    public ResponseEntity<KeysetSlice<CoolerResponseDto>> handleGetCompatible(
+            @RequestBody final ComputerBuildRequestDto dto,
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "NAME_ASC") final CoolerSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                        candidateService.findCompatible(
+                                Cooler.class,
+                                buildMapper.convertFromDto(dto),
+                                sort.getSortValue(),
+                                limit,
+                                token
+                        ).map(mapper::convertToDto)
+                );
+    }
+
     @Operation(summary = "Получение процессорного кулера по ID")
     @ApiResponses(value = {
             @ApiResponse(
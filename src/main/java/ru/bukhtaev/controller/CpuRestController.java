@@ -14,12 +14,16 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
+import ru.bukhtaev.dto.mapper.IComputerBuildMapper;
 import ru.bukhtaev.dto.mapper.ICpuMapper;
+import ru.bukhtaev.dto.request.ComputerBuildRequestDto;
 import ru.bukhtaev.dto.request.CpuRequestDto;
 import ru.bukhtaev.dto.response.CpuResponseDto;
 import ru.bukhtaev.model.Cpu;
+import ru.bukhtaev.service.checker.CompatibleCandidateService;
 import ru.bukhtaev.service.crud.IPagingCrudService;
 import ru.bukhtaev.util.CpuSort;
+import ru.bukhtaev.util.KeysetSlice;
 import ru.bukhtaev.validation.handling.ErrorResponse;
 
 import java.util.List;
@@ -27,6 +31,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static ru.bukhtaev.controller.CpuRestController.URL_API_V1_CPUS;
+import static ru.bukhtaev.service.KeysetTokenCodec.PARAM_TOKEN;
 
 /**
  * Контроллер обработки CRUD операций над процессорами.
@@ -51,19 +56,35 @@ public class CpuRestController {
      */
     private final ICpuMapper mapper;
 
+    /**
+     * Маппер для DTO сборок ПК.
+     */
+    private final IComputerBuildMapper buildMapper;
+
+    /**
+     * Сервис подбора совместимых комплектующих.
+     */
+    private final CompatibleCandidateService candidateService;
+
     /**
      * Конструктор.
      *
-     * @param crudService сервис CRUD операций над процессорами
-     * @param mapper      маппер для DTO процессоров
+     * @param crudService      сервис CRUD операций над процессорами
+     * @param mapper           маппер для DTO процессоров
+     * @param buildMapper      маппер для DTO сборок ПК
+     * @param candidateService сервис подбора совместимых комплектующих
      */
     @Autowired
     public CpuRestController(
             final IPagingCrudService<Cpu, UUID> crudService,
-            final ICpuMapper mapper
+            final ICpuMapper mapper,
+            final IComputerBuildMapper buildMapper,
+            final CompatibleCandidateService candidateService
     ) {
         this.crudService = crudService;
         this.mapper = mapper;
+        this.buildMapper = buildMapper;
+        this.candidateService = candidateService;
     }
 
     @Operation(summary = "Получение всех процессоров")
@@ -123,6 +144,78 @@ public class CpuRestController {
         );
     }
 
+    @Operation(summary = "Получение всех процессоров (с keyset-пагинацией)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Процессоры получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetSlice<CpuResponseDto>> handleScroll(
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "NAME_ASC") final CpuSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok(
+                crudService.getAll(
+                        sort.getSortValue(),
+                        limit,
+                        token
+                ).map(mapper::convertToDto)
+        );
+    }
+
+    @Operation(summary = "Подбор процессоров, совместимых с комплектующими сборки ПК")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Совместимые процессоры получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Процессор, блок питания, процессорный кулер, материнская плата, " +
+                            "видеокарта, корпус, вентилятор, модуль оперативной памяти, " +
+                            "жесткий диск или SSD-накопитель не найден",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @PostMapping("/compatible")
+    public ResponseEntity<KeysetSlice<CpuResponseDto>> handleGetCompatible(
+            @RequestBody final ComputerBuildRequestDto dto,
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "NAME_ASC") final CpuSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                        candidateService.findCompatible(
+                                Cpu.class,
+                                buildMapper.convertFromDto(dto),
+                                sort.getSortValue(),
+                                limit,
+                                token
+                        ).map(mapper::convertToDto)
+                );
+    }
+
     @Operation(summary = "Получение процессора по ID")
     @ApiResponses(value = {
             @ApiResponse(
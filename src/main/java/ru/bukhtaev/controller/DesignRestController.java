@@ -20,6 +20,7 @@ import ru.bukhtaev.dto.response.DesignResponseDto;
 import ru.bukhtaev.model.Design;
 import ru.bukhtaev.service.crud.IPagingCrudService;
 import ru.bukhtaev.util.DesignSort;
+import ru.bukhtaev.util.KeysetSlice;
 import ru.bukhtaev.validation.handling.ErrorResponse;
 
 import java.util.List;
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static ru.bukhtaev.controller.DesignRestController.URL_API_V1_DESIGNS;
+import static ru.bukhtaev.service.KeysetTokenCodec.PARAM_TOKEN;
 
 /**
  * Контроллер обработки CRUD операций над вариантами исполнения.
@@ -123,6 +125,35 @@ public class DesignRestController {
         );
     }
 
+    @Operation(summary = "Получение всех вариантов исполнения (с keyset-пагинацией)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Варианты исполнения получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetSlice<DesignResponseDto>> handleScroll(
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "NAME_ASC") final DesignSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok(
+                crudService.getAll(
+                        sort.getSortValue(),
+                        limit,
+                        token
+                ).map(mapper::convertToDto)
+        );
+    }
+
     @Operation(summary = "Получение варианта исполнения по ID")
     @ApiResponses(value = {
             @ApiResponse(
@@ -20,6 +20,7 @@ import ru.bukhtaev.dto.response.GpuResponseDto;
 import ru.bukhtaev.model.Gpu;
 import ru.bukhtaev.service.crud.IPagingCrudService;
 import ru.bukhtaev.util.GpuSort;
+import ru.bukhtaev.util.KeysetSlice;
 import ru.bukhtaev.validation.handling.ErrorResponse;
 
 import java.util.List;
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static ru.bukhtaev.controller.GpuRestController.URL_API_V1_GPUS;
+import static ru.bukhtaev.service.KeysetTokenCodec.PARAM_TOKEN;
 
 /**
  * Контроллер обработки CRUD операций над графическими процессорами.
@@ -123,6 +125,35 @@ public class GpuRestController {
         );
     }
 
+    @Operation(summary = "Получение всех графических процессоров (с keyset-пагинацией)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Графические процессоры получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetSlice<GpuResponseDto>> handleScroll(
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "NAME_ASC") final GpuSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok(
+                crudService.getAll(
+                        sort.getSortValue(),
+                        limit,
+                        token
+                ).map(mapper::convertToDto)
+        );
+    }
+
     @Operation(summary = "Получение графического процессора по ID")
     @ApiResponses(value = {
             @ApiResponse(
@@ -14,12 +14,16 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
+import ru.bukhtaev.dto.mapper.IComputerBuildMapper;
 import ru.bukhtaev.dto.mapper.IGraphicsCardMapper;
+import ru.bukhtaev.dto.request.ComputerBuildRequestDto;
 import ru.bukhtaev.dto.request.GraphicsCardRequestDto;
 import ru.bukhtaev.dto.response.GraphicsCardResponseDto;
 import ru.bukhtaev.model.GraphicsCard;
+import ru.bukhtaev.service.checker.CompatibleCandidateService;
 import ru.bukhtaev.service.crud.IPagingCrudService;
 import ru.bukhtaev.util.GraphicsCardSort;
+import ru.bukhtaev.util.KeysetSlice;
 import ru.bukhtaev.validation.handling.ErrorResponse;
 
 import java.util.List;
@@ -27,6 +31,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static ru.bukhtaev.controller.GraphicsCardRestController.URL_API_V1_GRAPHICS_CARDS;
+import static ru.bukhtaev.service.KeysetTokenCodec.PARAM_TOKEN;
 
 /**
  * Контроллер обработки CRUD операций над видеокартами.
@@ -51,19 +56,35 @@ public class GraphicsCardRestController {
      */
     private final IGraphicsCardMapper mapper;
 
+    /**
+     * Маппер для DTO сборок ПК.
+     */
+    private final IComputerBuildMapper buildMapper;
+
+    /**
+     * Сервис подбора совместимых комплектующих.
+     */
+    private final CompatibleCandidateService candidateService;
+
     /**
      * Конструктор.
      *
-     * @param crudService сервис CRUD операций над видеокартами
-     * @param mapper      маппер для DTO видеокарт
+     * @param crudService      сервис CRUD операций над видеокартами
+     * @param mapper           маппер для DTO видеокарт
+     * @param buildMapper      маппер для DTO сборок ПК
+     * @param candidateService сервис подбора совместимых комплектующих
      */
     @Autowired
     public GraphicsCardRestController(
             final IPagingCrudService<GraphicsCard, UUID> crudService,
-            final IGraphicsCardMapper mapper
+            final IGraphicsCardMapper mapper,
+            final IComputerBuildMapper buildMapper,
+            final CompatibleCandidateService candidateService
     ) {
         this.crudService = crudService;
         this.mapper = mapper;
+        this.buildMapper = buildMapper;
+        this.candidateService = candidateService;
     }
 
     @Operation(summary = "Получение всех видеокарт")
@@ -123,6 +144,78 @@ public class GraphicsCardRestController {
         );
     }
 
+    @Operation(summary = "Получение всех видеокарт (с keyset-пагинацией)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Видеокарты получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetSlice<GraphicsCardResponseDto>> handleScroll(
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "GPU_NAME_ASC") final GraphicsCardSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok(
+                crudService.getAll(
+                        sort.getSortValue(),
+                        limit,
+                        token
+                ).map(mapper::convertToDto)
+        );
+    }
+
+    @Operation(summary = "Подбор видеокарт, совместимых с комплектующими сборки ПК")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Совместимые видеокарты получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Процессор, блок питания, процессорный кулер, материнская плата, " +
+                            "видеокарта, корпус, вентилятор, модуль оперативной памяти, " +
+                            "жесткий диск или SSD-накопитель не найден",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @PostMapping("/compatible")
+    public ResponseEntity<KeysetSlice<GraphicsCardResponseDto>> handleGetCompatible(
+            @RequestBody final ComputerBuildRequestDto dto,
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "GPU_NAME_ASC") final GraphicsCardSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                        candidateService.findCompatible(
+                                GraphicsCard.class,
+                                buildMapper.convertFromDto(dto),
+                                sort.getSortValue(),
+                                limit,
+                                token
+                        ).map(mapper::convertToDto)
+                );
+    }
+
     @Operation(summary = "Получение видеокарты по ID")
     @ApiResponses(value = {
             @ApiResponse(
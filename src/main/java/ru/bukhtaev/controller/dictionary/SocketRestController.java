@@ -19,6 +19,7 @@ import ru.bukhtaev.dto.request.NameableRequestDto;
 import ru.bukhtaev.dto.response.NameableResponseDto;
 import ru.bukhtaev.model.dictionary.Socket;
 import ru.bukhtaev.service.crud.IPagingCrudService;
+import ru.bukhtaev.util.KeysetSlice;
 import ru.bukhtaev.util.NameableSort;
 import ru.bukhtaev.validation.handling.ErrorResponse;
 
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static ru.bukhtaev.controller.dictionary.SocketRestController.URL_API_V1_SOCKETS;
+import static ru.bukhtaev.service.KeysetTokenCodec.PARAM_TOKEN;
 
 /**
  * Контроллер обработки CRUD операций над сокетами.
@@ -123,6 +125,35 @@ public class SocketRestController {
         );
     }
 
+    @Operation(summary = "Получение всех сокетов (с keyset-пагинацией)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Сокеты получены"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибка валидации",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )}
+            )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetSlice<NameableResponseDto>> handleScroll(
+            @RequestParam(value = "limit", defaultValue = "20") final Integer limit,
+            @RequestParam(value = "sort", defaultValue = "NAME_ASC") final NameableSort sort,
+            @RequestParam(value = PARAM_TOKEN, required = false) final String token
+    ) {
+        return ResponseEntity.ok(
+                crudService.getAll(
+                        sort.getSortValue(),
+                        limit,
+                        token
+                ).map(mapper::convertToDto)
+        );
+    }
+
     @Operation(summary = "Получение сокета по ID")
     @ApiResponses(value = {
             @ApiResponse(
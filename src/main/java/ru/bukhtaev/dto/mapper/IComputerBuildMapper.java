@@ -36,12 +36,14 @@ public interface IComputerBuildMapper {
 
     /**
      * Конвертирует DTO {@link ComputerBuildRequestDto} в {@link ComputerBuild},
-     * игнорируя поле {@code id}.
+     * игнорируя поле {@code id} и статус последней проверки.
      *
      * @param dto DTO {@link ComputerBuildRequestDto}
      * @return {@link ComputerBuild}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "verificationStatus", ignore = true)
+    @Mapping(target = "verifiedAt", ignore = true)
     @Mapping(source = "cpuId", target = "cpu.id")
     @Mapping(source = "psuId", target = "psu.id")
     @Mapping(source = "coolerId", target = "cooler.id")
@@ -6,7 +6,9 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import ru.bukhtaev.model.ComputerCase;
+import ru.bukhtaev.model.VerificationStatus;
 
+import java.time.Instant;
 import java.util.Set;
 
 /**
@@ -53,6 +55,18 @@ public class ComputerBuildResponseDto extends NameableResponseDto {
     @Schema(description = "Чипсет")
     protected ComputerCaseResponseDto computerCase;
 
+    /**
+     * Статус последней проверки.
+     */
+    @Schema(description = "Статус последней проверки")
+    protected VerificationStatus verificationStatus;
+
+    /**
+     * Момент последней проверки.
+     */
+    @Schema(description = "Момент последней проверки")
+    protected Instant verifiedAt;
+
     /**
      * Включенные в сборку ПК вентиляторы.
      */
@@ -0,0 +1,62 @@
+package ru.bukhtaev.i18n;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Кэш скомпилированных шаблонов сообщений.
+ * Шаблон каждого сообщения загружается из источника сообщений
+ * и разбирается один раз для каждой локали.
+ */
+@Component
+public class MessageFormatCache {
+
+    /**
+     * Источник сообщений.
+     */
+    private final MessageSource messageSource;
+
+    /**
+     * Скомпилированные шаблоны сообщений по локалям и кодам.
+     */
+    private final Map<Locale, Map<String, MessageFormat>> formats = new ConcurrentHashMap<>();
+
+    /**
+     * Конструктор.
+     *
+     * @param messageSource источник сообщений
+     */
+    @Autowired
+    public MessageFormatCache(final MessageSource messageSource) {
+        this.messageSource = messageSource;
+    }
+
+    /**
+     * Формирует сообщение с заданным кодом и параметрами в указанной локали.
+     *
+     * @param code   код сообщения
+     * @param args   параметры сообщения
+     * @param locale локаль
+     * @return сообщение с заданным кодом и параметрами
+     */
+    public String format(final String code, final List<Object> args, final Locale locale) {
+        final MessageFormat format = formats
+                .computeIfAbsent(locale, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(code, key -> new MessageFormat(
+                        messageSource.getMessage(key, null, locale),
+                        locale
+                ));
+
+        // MessageFormat не потокобезопасен
+        synchronized (format) {
+            return format.format(args.toArray());
+        }
+    }
+}
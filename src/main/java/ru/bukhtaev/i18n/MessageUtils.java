@@ -28,6 +28,11 @@ public class MessageUtils {
      */
     public static final String MESSAGE_CODE_INVALID_PARAM_VALUE = "validation.common.invalid-param-value";
 
+    /**
+     * Код сообщения о том, что токен страницы некорректен.
+     */
+    public static final String MESSAGE_CODE_INVALID_PAGE_TOKEN = "validation.common.invalid-page-token";
+
     /**
      * Код сообщения о том, что производитель с указанным ID не найден.
      */
@@ -355,6 +360,11 @@ public class MessageUtils {
      */
     public static final String MESSAGE_CODE_COMPUTER_BUILD_UNIQUE = "validation.computer-build.unique-name";
 
+    /**
+     * Код сообщения о том, что проверка сборки ПК не завершилась за отведенное время.
+     */
+    public static final String MESSAGE_CODE_COMPUTER_BUILD_VERIFICATION_TIMEOUT = "verification.timeout";
+
     /**
      * Код сообщения о том, что в сборке ПК отсутствует процессор.
      */
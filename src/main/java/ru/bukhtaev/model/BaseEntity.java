@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.proxy.HibernateProxy;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -37,15 +38,40 @@ public abstract class BaseEntity {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null || getClass() != effectiveClass(o)) return false;
 
         BaseEntity that = (BaseEntity) o;
 
-        return Objects.equals(id, that.id);
+        return Objects.equals(id, that.getId());
     }
 
     @Override
     public int hashCode() {
         return id != null ? id.hashCode() : 0;
     }
+
+    /**
+     * Возвращает класс сущности, не инициализируя ленивую ссылку на нее.
+     *
+     * @param entity сущность или ленивая ссылка на нее
+     * @return класс сущности
+     */
+    public static Class<?> effectiveClass(final Object entity) {
+        if (entity instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getPersistentClass();
+        }
+        return entity.getClass();
+    }
+
+    /**
+     * Возвращает ID сущности, не инициализируя ленивую ссылку на нее.
+     * Используется при сравнении сущностей по связанным сущностям,
+     * чтобы сравнение и вычисление хеш-кода не загружали связанные сущности.
+     *
+     * @param entity сущность, ленивая ссылка на нее или {@code null}
+     * @return ID сущности или {@code null}
+     */
+    public static UUID idOf(final BaseEntity entity) {
+        return entity != null ? entity.getId() : null;
+    }
 }
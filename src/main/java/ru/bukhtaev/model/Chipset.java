@@ -29,7 +29,7 @@ public class Chipset extends NameableEntity {
     /**
      * Сокет.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "socket_id", referencedColumnName = "id", nullable = false)
     protected Socket socket;
 }
@@ -3,11 +3,13 @@ package ru.bukhtaev.model;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import ru.bukhtaev.model.cross.ComputerBuildToFan;
 import ru.bukhtaev.model.cross.ComputerBuildToHdd;
 import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
 import ru.bukhtaev.model.cross.ComputerBuildToSsd;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -17,6 +19,62 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
+@NamedEntityGraph(
+        name = ComputerBuild.GRAPH_COMPONENTS,
+        attributeNodes = {
+                @NamedAttributeNode(value = "cpu", subgraph = "cpu"),
+                @NamedAttributeNode(value = "psu", subgraph = "psu"),
+                @NamedAttributeNode(value = "cooler", subgraph = "cooler"),
+                @NamedAttributeNode(value = "motherboard", subgraph = "motherboard"),
+                @NamedAttributeNode(value = "graphicsCard", subgraph = "graphicsCard"),
+                @NamedAttributeNode(value = "computerCase", subgraph = "computerCase")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "cpu", attributeNodes = {
+                        @NamedAttributeNode("manufacturer"),
+                        @NamedAttributeNode("socket")
+                }),
+                @NamedSubgraph(name = "psu", attributeNodes = {
+                        @NamedAttributeNode("vendor"),
+                        @NamedAttributeNode("formFactor"),
+                        @NamedAttributeNode("certificate"),
+                        @NamedAttributeNode("mainPowerConnector")
+                }),
+                @NamedSubgraph(name = "cooler", attributeNodes = {
+                        @NamedAttributeNode("vendor"),
+                        @NamedAttributeNode("fanSize"),
+                        @NamedAttributeNode("powerConnector")
+                }),
+                @NamedSubgraph(name = "motherboard", attributeNodes = {
+                        @NamedAttributeNode(value = "design", subgraph = "design"),
+                        @NamedAttributeNode(value = "chipset", subgraph = "chipset"),
+                        @NamedAttributeNode("ramType"),
+                        @NamedAttributeNode("formFactor"),
+                        @NamedAttributeNode("cpuPowerConnector"),
+                        @NamedAttributeNode("mainPowerConnector"),
+                        @NamedAttributeNode("coolerPowerConnector"),
+                        @NamedAttributeNode("pciExpressConnectorVersion")
+                }),
+                @NamedSubgraph(name = "graphicsCard", attributeNodes = {
+                        @NamedAttributeNode(value = "gpu", subgraph = "gpu"),
+                        @NamedAttributeNode(value = "design", subgraph = "design"),
+                        @NamedAttributeNode("pciExpressConnectorVersion")
+                }),
+                @NamedSubgraph(name = "computerCase", attributeNodes = {
+                        @NamedAttributeNode("vendor")
+                }),
+                @NamedSubgraph(name = "design", attributeNodes = {
+                        @NamedAttributeNode("vendor")
+                }),
+                @NamedSubgraph(name = "chipset", attributeNodes = {
+                        @NamedAttributeNode("socket")
+                }),
+                @NamedSubgraph(name = "gpu", attributeNodes = {
+                        @NamedAttributeNode("memoryType"),
+                        @NamedAttributeNode("manufacturer")
+                })
+        }
+)
 @Table(
         name = "computer_build",
         uniqueConstraints = @UniqueConstraint(columnNames = "name")
@@ -25,6 +83,12 @@ import java.util.Set;
 @NoArgsConstructor
 public class ComputerBuild extends NameableEntity {
 
+    /**
+     * Название графа сущностей, загружающего основные комплектующие сборки ПК
+     * вместе со всеми их справочными значениями.
+     */
+    public static final String GRAPH_COMPONENTS = "ComputerBuild.components";
+
     /**
      * Название поля, хранящего процессор.
      */
@@ -75,48 +139,77 @@ public class ComputerBuild extends NameableEntity {
      */
     public static final String FIELD_SSDS = "ssds";
 
+    /**
+     * Название поля, хранящего статус последней проверки.
+     */
+    public static final String FIELD_VERIFICATION_STATUS = "verificationStatus";
+
+    /**
+     * Название поля, хранящего момент последней проверки.
+     */
+    public static final String FIELD_VERIFIED_AT = "verifiedAt";
+
+    /**
+     * Размер пакета загрузки коллекций: количество сборок ПК,
+     * коллекции которых загружаются одним запросом при обходе страницы.
+     */
+    public static final int COLLECTION_BATCH_SIZE = 50;
+
     /**
      * Процессор.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cpu_id", referencedColumnName = "id")
     protected Cpu cpu;
 
     /**
      * Блок питания.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "psu_id", referencedColumnName = "id")
     protected Psu psu;
 
     /**
      * Процессорный кулер.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cooler_id", referencedColumnName = "id")
     protected Cooler cooler;
 
     /**
      * Материнская плата.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "motherboard_id", referencedColumnName = "id")
     protected Motherboard motherboard;
 
     /**
      * Видеокарта.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "graphics_card_id", referencedColumnName = "id")
     protected GraphicsCard graphicsCard;
 
     /**
      * Корпус.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "computer_case_id", referencedColumnName = "id")
     protected ComputerCase computerCase;
 
+    /**
+     * Статус последней проверки.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "verification_status")
+    protected VerificationStatus verificationStatus;
+
+    /**
+     * Момент последней проверки.
+     */
+    @Column(name = "verified_at")
+    protected Instant verifiedAt;
+
     /**
      * Включенные в сборку ПК вентиляторы.
      */
@@ -124,6 +217,7 @@ public class ComputerBuild extends NameableEntity {
             mappedBy = "computerBuild",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -136,6 +230,7 @@ public class ComputerBuild extends NameableEntity {
             mappedBy = "computerBuild",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -148,6 +243,7 @@ public class ComputerBuild extends NameableEntity {
             mappedBy = "computerBuild",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -160,6 +256,7 @@ public class ComputerBuild extends NameableEntity {
             mappedBy = "computerBuild",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
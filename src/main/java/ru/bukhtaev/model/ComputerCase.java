@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import ru.bukhtaev.model.cross.ComputerCaseToExpansionBayFormat;
 import ru.bukhtaev.model.cross.ComputerCaseToFanSize;
 import ru.bukhtaev.model.dictionary.*;
@@ -67,6 +68,12 @@ public class ComputerCase extends NameableEntity {
      */
     public static final String FIELD_SUPPORTED_FAN_SIZES = "fanSizes";
 
+    /**
+     * Размер пакета загрузки коллекций: количество корпусов,
+     * коллекции которых загружаются одним запросом при обходе страницы.
+     */
+    public static final int COLLECTION_BATCH_SIZE = 50;
+
     /**
      * Максимальная длина блока питания (мм).
      */
@@ -94,7 +101,7 @@ public class ComputerCase extends NameableEntity {
     /**
      * Вендор.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vendor_id", referencedColumnName = "id", nullable = false)
     protected Vendor vendor;
 
@@ -108,6 +115,7 @@ public class ComputerCase extends NameableEntity {
             joinColumns = @JoinColumn(name = "computer_case_id"),
             inverseJoinColumns = @JoinColumn(name = "motherboard_form_factor_id")
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -123,6 +131,7 @@ public class ComputerCase extends NameableEntity {
             joinColumns = @JoinColumn(name = "computer_case_id"),
             inverseJoinColumns = @JoinColumn(name = "psu_form_factor_id")
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -137,6 +146,7 @@ public class ComputerCase extends NameableEntity {
             mappedBy = "computerCase",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -151,6 +161,7 @@ public class ComputerCase extends NameableEntity {
             mappedBy = "computerCase",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
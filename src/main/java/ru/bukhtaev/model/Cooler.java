@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import ru.bukhtaev.model.dictionary.FanPowerConnector;
 import ru.bukhtaev.model.dictionary.FanSize;
 import ru.bukhtaev.model.dictionary.Socket;
@@ -58,6 +59,12 @@ public class Cooler extends NameableEntity {
      */
     public static final String FIELD_SUPPORTED_SOCKETS = "supportedSockets";
 
+    /**
+     * Размер пакета загрузки коллекций: количество процессорных кулеров,
+     * коллекции которых загружаются одним запросом при обходе страницы.
+     */
+    public static final int COLLECTION_BATCH_SIZE = 50;
+
     /**
      * Рассеиваемая мощность (Вт).
      */
@@ -77,21 +84,21 @@ public class Cooler extends NameableEntity {
     /**
      * Вендор.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vendor_id", referencedColumnName = "id", nullable = false)
     protected Vendor vendor;
 
     /**
      * Размер вентилятора.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fan_size_id", referencedColumnName = "id", nullable = false)
     protected FanSize fanSize;
 
     /**
      * Коннектор питания вентилятора.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "power_connector_id", referencedColumnName = "id", nullable = false)
     protected FanPowerConnector powerConnector;
 
@@ -105,6 +112,7 @@ public class Cooler extends NameableEntity {
             joinColumns = @JoinColumn(name = "cooler_id"),
             inverseJoinColumns = @JoinColumn(name = "socket_id")
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import ru.bukhtaev.model.cross.CpuToRamType;
 import ru.bukhtaev.model.dictionary.Manufacturer;
 import ru.bukhtaev.model.dictionary.RamType;
@@ -78,6 +79,12 @@ public class Cpu extends NameableEntity {
      */
     public static final String FIELD_SUPPORTED_RAM_TYPES = "supportedRamTypes";
 
+    /**
+     * Размер пакета загрузки коллекций: количество процессоров,
+     * коллекции которых загружаются одним запросом при обходе страницы.
+     */
+    public static final int COLLECTION_BATCH_SIZE = 50;
+
     /**
      * Количество ядер.
      */
@@ -137,14 +144,14 @@ public class Cpu extends NameableEntity {
     /**
      * Производитель.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "manufacturer_id", referencedColumnName = "id", nullable = false)
     protected Manufacturer manufacturer;
 
     /**
      * Сокет.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "socket_id", referencedColumnName = "id", nullable = false)
     protected Socket socket;
 
@@ -157,6 +164,7 @@ public class Cpu extends NameableEntity {
             mappedBy = "cpu",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
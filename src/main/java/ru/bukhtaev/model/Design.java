@@ -29,7 +29,7 @@ public class Design extends NameableEntity {
     /**
      * Вендор.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vendor_id", referencedColumnName = "id", nullable = false)
     protected Vendor vendor;
 }
@@ -43,39 +43,39 @@ public class Fan extends NameableEntity {
     /**
      * Вендор.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vendor_id", referencedColumnName = "id", nullable = false)
     protected Vendor vendor;
 
     /**
      * Размер.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "size_id", referencedColumnName = "id", nullable = false)
     protected FanSize size;
 
     /**
      * Коннектор питания.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "power_connector_id", referencedColumnName = "id", nullable = false)
     protected FanPowerConnector powerConnector;
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null || getClass() != effectiveClass(o)) return false;
         if (!super.equals(o)) return false;
 
         Fan fan = (Fan) o;
 
-        return Objects.equals(size, fan.size);
+        return Objects.equals(idOf(size), idOf(fan.getSize()));
     }
 
     @Override
     public int hashCode() {
         int result = super.hashCode();
-        result = 31 * result + (size != null ? size.hashCode() : 0);
+        result = 31 * result + Objects.hashCode(idOf(size));
         return result;
     }
 }
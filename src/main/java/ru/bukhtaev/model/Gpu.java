@@ -69,34 +69,34 @@ public class Gpu extends NameableEntity {
     /**
      * Тип видеопамяти.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "memory_type_id", referencedColumnName = "id", nullable = false)
     protected VideoMemoryType memoryType;
 
     /**
      * Производитель.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "manufacturer_id", referencedColumnName = "id", nullable = false)
     protected Manufacturer manufacturer;
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null || getClass() != effectiveClass(o)) return false;
         if (!super.equals(o)) return false;
 
         Gpu gpu = (Gpu) o;
 
-        if (!Objects.equals(memorySize, gpu.memorySize)) return false;
-        return Objects.equals(memoryType, gpu.memoryType);
+        if (!Objects.equals(memorySize, gpu.getMemorySize())) return false;
+        return Objects.equals(idOf(memoryType), idOf(gpu.getMemoryType()));
     }
 
     @Override
     public int hashCode() {
         int result = super.hashCode();
         result = 31 * result + (memorySize != null ? memorySize.hashCode() : 0);
-        result = 31 * result + (memoryType != null ? memoryType.hashCode() : 0);
+        result = 31 * result + Objects.hashCode(idOf(memoryType));
         return result;
     }
 }
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import ru.bukhtaev.model.cross.GraphicsCardToPowerConnector;
 import ru.bukhtaev.model.dictionary.GraphicsCardPowerConnector;
 import ru.bukhtaev.model.dictionary.PciExpressConnectorVersion;
@@ -56,6 +57,12 @@ public class GraphicsCard extends BaseEntity {
      */
     public static final String FIELD_POWER_CONNECTORS = "powerConnectors";
 
+    /**
+     * Размер пакета загрузки коллекций: количество видеокарт,
+     * коллекции которых загружаются одним запросом при обходе страницы.
+     */
+    public static final int COLLECTION_BATCH_SIZE = 50;
+
     /**
      * Длина (мм).
      */
@@ -67,21 +74,21 @@ public class GraphicsCard extends BaseEntity {
     /**
      * Графический процессор.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "gpu_id", referencedColumnName = "id", nullable = false)
     protected Gpu gpu;
 
     /**
      * Вариант исполнения.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "design_id", referencedColumnName = "id", nullable = false)
     protected Design design;
 
     /**
      * Версия коннектора PCI-Express.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "pci_express_connector_version_id", referencedColumnName = "id", nullable = false)
     protected PciExpressConnectorVersion pciExpressConnectorVersion;
 
@@ -94,6 +101,7 @@ public class GraphicsCard extends BaseEntity {
             mappedBy = "graphicsCard",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -118,20 +126,20 @@ public class GraphicsCard extends BaseEntity {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null || getClass() != effectiveClass(o)) return false;
         if (!super.equals(o)) return false;
 
         GraphicsCard that = (GraphicsCard) o;
 
-        if (!Objects.equals(gpu, that.gpu)) return false;
-        return Objects.equals(design, that.design);
+        if (!Objects.equals(idOf(gpu), idOf(that.getGpu()))) return false;
+        return Objects.equals(idOf(design), idOf(that.getDesign()));
     }
 
     @Override
     public int hashCode() {
         int result = super.hashCode();
-        result = 31 * result + (gpu != null ? gpu.hashCode() : 0);
-        result = 31 * result + (design != null ? design.hashCode() : 0);
+        result = 31 * result + Objects.hashCode(idOf(gpu));
+        result = 31 * result + Objects.hashCode(idOf(design));
         return result;
     }
 }
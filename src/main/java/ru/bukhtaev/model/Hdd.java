@@ -58,13 +58,13 @@ public class Hdd extends StorageDevice {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null || getClass() != effectiveClass(o)) return false;
         if (!super.equals(o)) return false;
 
         Hdd hdd = (Hdd) o;
 
-        if (!Objects.equals(spindleSpeed, hdd.spindleSpeed)) return false;
-        return Objects.equals(cacheSize, hdd.cacheSize);
+        if (!Objects.equals(spindleSpeed, hdd.getSpindleSpeed())) return false;
+        return Objects.equals(cacheSize, hdd.getCacheSize());
     }
 
     @Override
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import ru.bukhtaev.model.cross.MotherboardToFanPowerConnector;
 import ru.bukhtaev.model.cross.MotherboardToStorageConnector;
 import ru.bukhtaev.model.dictionary.*;
@@ -103,6 +104,12 @@ public class Motherboard extends NameableEntity {
      */
     public static final String FIELD_STORAGE_CONNECTORS = "fanPowerConnectors";
 
+    /**
+     * Размер пакета загрузки коллекций: количество материнских плат,
+     * коллекции которых загружаются одним запросом при обходе страницы.
+     */
+    public static final int COLLECTION_BATCH_SIZE = 50;
+
     /**
      * Максимальная частота оперативной памяти (МГц).
      */
@@ -138,56 +145,56 @@ public class Motherboard extends NameableEntity {
     /**
      * Вариант исполнения.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "design_id", referencedColumnName = "id", nullable = false)
     protected Design design;
 
     /**
      * Чипсет.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chipset_id", referencedColumnName = "id", nullable = false)
     protected Chipset chipset;
 
     /**
      * Тип оперативной памяти.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ram_type_id", referencedColumnName = "id", nullable = false)
     protected RamType ramType;
 
     /**
      * Форм-фактор.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "form_factor_id", referencedColumnName = "id", nullable = false)
     protected MotherboardFormFactor formFactor;
 
     /**
      * Коннектор питания процессора.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cpu_power_connector_id", referencedColumnName = "id", nullable = false)
     protected CpuPowerConnector cpuPowerConnector;
 
     /**
      * Основной коннектор питания.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "main_power_connector_id", referencedColumnName = "id", nullable = false)
     protected MainPowerConnector mainPowerConnector;
 
     /**
      * Коннектор питания процессорного кулера.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cooler_power_connector_id", referencedColumnName = "id", nullable = false)
     protected FanPowerConnector coolerPowerConnector;
 
     /**
      * Версия коннектора PCI-Express.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "pci_express_connector_version_id", referencedColumnName = "id", nullable = false)
     protected PciExpressConnectorVersion pciExpressConnectorVersion;
 
@@ -200,6 +207,7 @@ public class Motherboard extends NameableEntity {
             mappedBy = "motherboard",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -214,6 +222,7 @@ public class Motherboard extends NameableEntity {
             mappedBy = "motherboard",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -254,22 +263,22 @@ public class Motherboard extends NameableEntity {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null || getClass() != effectiveClass(o)) return false;
         if (!super.equals(o)) return false;
 
         Motherboard that = (Motherboard) o;
 
-        if (!Objects.equals(design, that.design)) return false;
-        if (!Objects.equals(chipset, that.chipset)) return false;
-        return Objects.equals(ramType, that.ramType);
+        if (!Objects.equals(idOf(design), idOf(that.getDesign()))) return false;
+        if (!Objects.equals(idOf(chipset), idOf(that.getChipset()))) return false;
+        return Objects.equals(idOf(ramType), idOf(that.getRamType()));
     }
 
     @Override
     public int hashCode() {
         int result = super.hashCode();
-        result = 31 * result + (design != null ? design.hashCode() : 0);
-        result = 31 * result + (chipset != null ? chipset.hashCode() : 0);
-        result = 31 * result + (ramType != null ? ramType.hashCode() : 0);
+        result = 31 * result + Objects.hashCode(idOf(design));
+        result = 31 * result + Objects.hashCode(idOf(chipset));
+        result = 31 * result + Objects.hashCode(idOf(ramType));
         return result;
     }
 }
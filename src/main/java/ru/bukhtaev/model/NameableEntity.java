@@ -35,12 +35,12 @@ public abstract class NameableEntity extends BaseEntity {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null || getClass() != effectiveClass(o)) return false;
         if (!super.equals(o)) return false;
 
         NameableEntity that = (NameableEntity) o;
 
-        return Objects.equals(name, that.name);
+        return Objects.equals(name, that.getName());
     }
 
     @Override
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import ru.bukhtaev.model.cross.PsuToCpuPowerConnector;
 import ru.bukhtaev.model.cross.PsuToGraphicsCardPowerConnector;
 import ru.bukhtaev.model.cross.PsuToStoragePowerConnector;
@@ -78,6 +79,12 @@ public class Psu extends NameableEntity {
      */
     public static final String FIELD_GRAPHICS_CARD_POWER_CONNECTORS = "graphicsCardPowerConnectors";
 
+    /**
+     * Размер пакета загрузки коллекций: количество блоков питания,
+     * коллекции которых загружаются одним запросом при обходе страницы.
+     */
+    public static final int COLLECTION_BATCH_SIZE = 50;
+
     /**
      * Мощность (Вт).
      */
@@ -105,28 +112,28 @@ public class Psu extends NameableEntity {
     /**
      * Вендор.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vendor_id", referencedColumnName = "id", nullable = false)
     protected Vendor vendor;
 
     /**
      * Форм-фактор.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "form_factor_id", referencedColumnName = "id", nullable = false)
     protected PsuFormFactor formFactor;
 
     /**
      * Сертификат.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "certificate_id", referencedColumnName = "id", nullable = false)
     protected PsuCertificate certificate;
 
     /**
      * Основной коннектор питания.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "main_power_connector_id", referencedColumnName = "id", nullable = false)
     protected MainPowerConnector mainPowerConnector;
 
@@ -139,6 +146,7 @@ public class Psu extends NameableEntity {
             mappedBy = "psu",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -153,6 +161,7 @@ public class Psu extends NameableEntity {
             mappedBy = "psu",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -167,6 +176,7 @@ public class Psu extends NameableEntity {
             mappedBy = "psu",
             cascade = CascadeType.ALL
     )
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -69,29 +69,29 @@ public class RamModule extends BaseEntity {
     /**
      * Тип.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "type_id", referencedColumnName = "id", nullable = false)
     protected RamType type;
 
     /**
      * Вариант исполнения.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "design_id", referencedColumnName = "id", nullable = false)
     protected Design design;
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null || getClass() != effectiveClass(o)) return false;
         if (!super.equals(o)) return false;
 
         RamModule ramModule = (RamModule) o;
 
-        if (!Objects.equals(clock, ramModule.clock)) return false;
-        if (!Objects.equals(capacity, ramModule.capacity)) return false;
-        if (!Objects.equals(type, ramModule.type)) return false;
-        return Objects.equals(design, ramModule.design);
+        if (!Objects.equals(clock, ramModule.getClock())) return false;
+        if (!Objects.equals(capacity, ramModule.getCapacity())) return false;
+        if (!Objects.equals(idOf(type), idOf(ramModule.getType()))) return false;
+        return Objects.equals(idOf(design), idOf(ramModule.getDesign()));
     }
 
     @Override
@@ -99,8 +99,8 @@ public class RamModule extends BaseEntity {
         int result = super.hashCode();
         result = 31 * result + (clock != null ? clock.hashCode() : 0);
         result = 31 * result + (capacity != null ? capacity.hashCode() : 0);
-        result = 31 * result + (type != null ? type.hashCode() : 0);
-        result = 31 * result + (design != null ? design.hashCode() : 0);
+        result = 31 * result + Objects.hashCode(idOf(type));
+        result = 31 * result + Objects.hashCode(idOf(design));
         return result;
     }
 }
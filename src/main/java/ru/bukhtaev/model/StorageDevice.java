@@ -1,6 +1,7 @@
 package ru.bukhtaev.model;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MappedSuperclass;
@@ -89,40 +90,40 @@ public abstract class StorageDevice extends NameableEntity {
     /**
      * Вендор.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vendor_id", referencedColumnName = "id", nullable = false)
     protected Vendor vendor;
 
     /**
      * Коннектор подключения.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "connector_id", referencedColumnName = "id", nullable = false)
     protected StorageConnector connector;
 
     /**
      * Коннектор питания.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "power_connector_id", referencedColumnName = "id")
     protected StoragePowerConnector powerConnector;
 
     /**
      * Формат отсека расширения.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "expansion_bay_format_id", referencedColumnName = "id")
     protected ExpansionBayFormat expansionBayFormat;
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null || getClass() != effectiveClass(o)) return false;
         if (!super.equals(o)) return false;
 
         StorageDevice that = (StorageDevice) o;
 
-        return Objects.equals(capacity, that.capacity);
+        return Objects.equals(capacity, that.getCapacity());
     }
 
     @Override
@@ -0,0 +1,17 @@
+package ru.bukhtaev.model;
+
+/**
+ * Статус последней проверки сборки ПК.
+ */
+public enum VerificationStatus {
+
+    /**
+     * Сборка ПК законченна и все комплектующие совместимы.
+     */
+    VALID,
+
+    /**
+     * Сборка ПК не законченна или содержит несовместимые комплектующие.
+     */
+    INVALID
+}
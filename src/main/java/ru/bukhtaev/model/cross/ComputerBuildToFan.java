@@ -53,7 +53,7 @@ public class ComputerBuildToFan {
     /**
      * Сборка ПК.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "computer_build_id", referencedColumnName = "id", nullable = false)
     protected ComputerBuild computerBuild;
 
@@ -61,7 +61,7 @@ public class ComputerBuildToFan {
      * Вентилятор.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fan_id", referencedColumnName = "id", nullable = false)
     protected Fan fan;
 
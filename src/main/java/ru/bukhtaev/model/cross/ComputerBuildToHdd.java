@@ -53,7 +53,7 @@ public class ComputerBuildToHdd {
     /**
      * Сборка ПК.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "computer_build_id", referencedColumnName = "id", nullable = false)
     protected ComputerBuild computerBuild;
 
@@ -61,7 +61,7 @@ public class ComputerBuildToHdd {
      * Жесткий диск.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hdd_id", referencedColumnName = "id", nullable = false)
     protected Hdd hdd;
 
@@ -53,7 +53,7 @@ public class ComputerBuildToRamModule {
     /**
      * Сборка ПК.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "computer_build_id", referencedColumnName = "id", nullable = false)
     protected ComputerBuild computerBuild;
 
@@ -61,7 +61,7 @@ public class ComputerBuildToRamModule {
      * Модуль оперативной памяти.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ram_module_id", referencedColumnName = "id", nullable = false)
     protected RamModule ramModule;
 
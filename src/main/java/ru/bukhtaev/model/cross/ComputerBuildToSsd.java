@@ -53,7 +53,7 @@ public class ComputerBuildToSsd {
     /**
      * Сборка ПК.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "computer_build_id", referencedColumnName = "id", nullable = false)
     protected ComputerBuild computerBuild;
 
@@ -61,7 +61,7 @@ public class ComputerBuildToSsd {
      * SSD-накопитель.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ssd_id", referencedColumnName = "id", nullable = false)
     protected Ssd ssd;
 
@@ -53,7 +53,7 @@ public class ComputerCaseToExpansionBayFormat {
     /**
      * Корпус.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "computer_case_id", referencedColumnName = "id", nullable = false)
     protected ComputerCase computerCase;
 
@@ -61,7 +61,7 @@ public class ComputerCaseToExpansionBayFormat {
      * Формат отсека расширения.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "expansion_bay_format_id", referencedColumnName = "id", nullable = false)
     protected ExpansionBayFormat expansionBayFormat;
 
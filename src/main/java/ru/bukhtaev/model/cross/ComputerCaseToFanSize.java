@@ -53,7 +53,7 @@ public class ComputerCaseToFanSize {
     /**
      * Корпус.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "computer_case_id", referencedColumnName = "id", nullable = false)
     protected ComputerCase computerCase;
 
@@ -61,7 +61,7 @@ public class ComputerCaseToFanSize {
      * Размер вентилятора.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fan_size_id", referencedColumnName = "id", nullable = false)
     protected FanSize fanSize;
 
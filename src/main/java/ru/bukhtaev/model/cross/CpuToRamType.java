@@ -14,6 +14,8 @@ import ru.bukhtaev.model.dictionary.RamType;
 import java.util.Objects;
 import java.util.UUID;
 
+import static ru.bukhtaev.model.BaseEntity.idOf;
+
 /**
  * Модель поддерживаемого процессором типа оперативной памяти.
  */
@@ -54,7 +56,7 @@ public class CpuToRamType {
     /**
      * Процессор.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cpu_id", referencedColumnName = "id", nullable = false)
     protected Cpu cpu;
 
@@ -62,7 +64,7 @@ public class CpuToRamType {
      * Тип оперативной памяти.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ram_type_id", referencedColumnName = "id", nullable = false)
     protected RamType ramType;
 
@@ -81,13 +83,13 @@ public class CpuToRamType {
 
         CpuToRamType that = (CpuToRamType) o;
 
-        if (!Objects.equals(ramType, that.ramType)) return false;
+        if (!Objects.equals(idOf(ramType), idOf(that.ramType))) return false;
         return Objects.equals(maxMemoryClock, that.maxMemoryClock);
     }
 
     @Override
     public int hashCode() {
-        int result = ramType != null ? ramType.hashCode() : 0;
+        int result = Objects.hashCode(idOf(ramType));
         result = 31 * result + (maxMemoryClock != null ? maxMemoryClock.hashCode() : 0);
         return result;
     }
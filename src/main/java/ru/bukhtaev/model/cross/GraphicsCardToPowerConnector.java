@@ -14,6 +14,8 @@ import ru.bukhtaev.model.dictionary.GraphicsCardPowerConnector;
 import java.util.Objects;
 import java.util.UUID;
 
+import static ru.bukhtaev.model.BaseEntity.idOf;
+
 /**
  * Модель имеющихся у видеокарты коннекторов питания.
  */
@@ -54,7 +56,7 @@ public class GraphicsCardToPowerConnector {
     /**
      * Видеокарта.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "graphics_card_id", referencedColumnName = "id", nullable = false)
     protected GraphicsCard graphicsCard;
 
@@ -62,7 +64,7 @@ public class GraphicsCardToPowerConnector {
      * Коннектор питания видеокарты.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "power_connector_id", referencedColumnName = "id", nullable = false)
     protected GraphicsCardPowerConnector powerConnector;
 
@@ -81,14 +83,14 @@ public class GraphicsCardToPowerConnector {
 
         GraphicsCardToPowerConnector that = (GraphicsCardToPowerConnector) o;
 
-        if (!Objects.equals(powerConnector, that.powerConnector))
+        if (!Objects.equals(idOf(powerConnector), idOf(that.powerConnector)))
             return false;
         return Objects.equals(count, that.count);
     }
 
     @Override
     public int hashCode() {
-        int result = powerConnector != null ? powerConnector.hashCode() : 0;
+        int result = Objects.hashCode(idOf(powerConnector));
         result = 31 * result + (count != null ? count.hashCode() : 0);
         return result;
     }
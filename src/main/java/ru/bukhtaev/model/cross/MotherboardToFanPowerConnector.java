@@ -53,7 +53,7 @@ public class MotherboardToFanPowerConnector {
     /**
      * Материнская плата.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "motherboard_id", referencedColumnName = "id", nullable = false)
     protected Motherboard motherboard;
 
@@ -61,7 +61,7 @@ public class MotherboardToFanPowerConnector {
      * Коннектор питания вентилятора.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fan_power_connector_id", referencedColumnName = "id", nullable = false)
     protected FanPowerConnector fanPowerConnector;
 
@@ -53,7 +53,7 @@ public class MotherboardToStorageConnector {
     /**
      * Материнская плата.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "motherboard_id", referencedColumnName = "id", nullable = false)
     protected Motherboard motherboard;
 
@@ -61,7 +61,7 @@ public class MotherboardToStorageConnector {
      * Коннектор подключения накопителя.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "storage_connector_id", referencedColumnName = "id", nullable = false)
     protected StorageConnector storageConnector;
 
@@ -53,7 +53,7 @@ public class PsuToCpuPowerConnector {
     /**
      * Блок питания.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "psu_id", referencedColumnName = "id", nullable = false)
     protected Psu psu;
 
@@ -61,7 +61,7 @@ public class PsuToCpuPowerConnector {
      * Коннектор питания процессора.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cpu_power_connector_id", referencedColumnName = "id", nullable = false)
     protected CpuPowerConnector cpuPowerConnector;
 
@@ -53,7 +53,7 @@ public class PsuToGraphicsCardPowerConnector {
     /**
      * Блок питания.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "psu_id", referencedColumnName = "id", nullable = false)
     protected Psu psu;
 
@@ -61,7 +61,7 @@ public class PsuToGraphicsCardPowerConnector {
      * Коннектор питания видеокарты.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "graphics_card_power_connector_id", referencedColumnName = "id", nullable = false)
     protected GraphicsCardPowerConnector graphicsCardPowerConnector;
 
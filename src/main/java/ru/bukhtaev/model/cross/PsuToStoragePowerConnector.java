@@ -53,7 +53,7 @@ public class PsuToStoragePowerConnector {
     /**
      * Блок питания.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "psu_id", referencedColumnName = "id", nullable = false)
     protected Psu psu;
 
@@ -61,7 +61,7 @@ public class PsuToStoragePowerConnector {
      * Коннектор питания накопителя.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "storage_power_connector_id", referencedColumnName = "id", nullable = false)
     protected StoragePowerConnector storagePowerConnector;
 
@@ -0,0 +1,29 @@
+package ru.bukhtaev.model.dictionary;
+
+/**
+ * Регионы кэша второго уровня Hibernate, в которых хранятся справочные значения.
+ * Размер и время жизни регионов задаются настройками кэша справочных значений.
+ */
+public class DictionaryCacheRegions {
+
+    /**
+     * Регион справочных значений.
+     */
+    public static final String ENTITIES = "dictionary";
+
+    /**
+     * Регион коллекций совместимых коннекторов и более старых версий PCI-Express.
+     */
+    public static final String COLLECTIONS = "dictionary-collections";
+
+    /**
+     * Регион результатов запросов всех справочных значений одного типа.
+     */
+    public static final String QUERIES = "dictionary-queries";
+
+    /**
+     * Только для статического использования.
+     */
+    private DictionaryCacheRegions() {
+    }
+}
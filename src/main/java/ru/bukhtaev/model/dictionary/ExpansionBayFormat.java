@@ -1,5 +1,6 @@
 package ru.bukhtaev.model.dictionary;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
@@ -7,6 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.bukhtaev.model.NameableEntity;
 
 /**
@@ -15,6 +18,8 @@ import ru.bukhtaev.model.NameableEntity;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = DictionaryCacheRegions.ENTITIES)
 @Table(
         name = "expansion_bay_format",
         uniqueConstraints = @UniqueConstraint(columnNames = "name")
@@ -1,5 +1,6 @@
 package ru.bukhtaev.model.dictionary;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
@@ -10,6 +11,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.bukhtaev.model.BaseEntity;
 
 import java.util.Objects;
@@ -20,6 +23,8 @@ import java.util.Objects;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = DictionaryCacheRegions.ENTITIES)
 @Table(
         name = "fan_size",
         uniqueConstraints = @UniqueConstraint(columnNames = {
@@ -74,14 +79,14 @@ public class FanSize extends BaseEntity {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null || getClass() != effectiveClass(o)) return false;
         if (!super.equals(o)) return false;
 
         FanSize fanSize = (FanSize) o;
 
-        if (!Objects.equals(length, fanSize.length)) return false;
-        if (!Objects.equals(width, fanSize.width)) return false;
-        return Objects.equals(height, fanSize.height);
+        if (!Objects.equals(length, fanSize.getLength())) return false;
+        if (!Objects.equals(width, fanSize.getWidth())) return false;
+        return Objects.equals(height, fanSize.getHeight());
     }
 
     @Override
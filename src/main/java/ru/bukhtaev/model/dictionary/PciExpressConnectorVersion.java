@@ -3,6 +3,8 @@ package ru.bukhtaev.model.dictionary;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.bukhtaev.model.NameableEntity;
 
 import java.util.HashSet;
@@ -14,6 +16,8 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = DictionaryCacheRegions.ENTITIES)
 @Table(
         name = "pci_express_connector_version",
         uniqueConstraints = @UniqueConstraint(columnNames = "name")
@@ -36,6 +40,7 @@ public class PciExpressConnectorVersion extends NameableEntity {
             joinColumns = @JoinColumn(name = "version_id"),
             inverseJoinColumns = @JoinColumn(name = "lower_version_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = DictionaryCacheRegions.COLLECTIONS)
     @Builder.Default
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -0,0 +1,15 @@
+package ru.bukhtaev.repository;
+
+import java.util.UUID;
+
+/**
+ * Проекция пары совместимых комплектующих разных типов.
+ *
+ * @param firstId  ID первого комплектующего
+ * @param secondId ID второго комплектующего
+ */
+public record ComponentCompatibility(
+        UUID firstId,
+        UUID secondId
+) {
+}
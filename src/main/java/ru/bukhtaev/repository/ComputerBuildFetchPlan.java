@@ -0,0 +1,46 @@
+package ru.bukhtaev.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Планы загрузки сборок ПК из {@link IComputerBuildRepository}.
+ * Каждый план загружает все данные своего сценария постоянным количеством запросов,
+ * не зависящим от количества сборок ПК и включенных в них комплектующих.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ComputerBuildFetchPlan {
+
+    /**
+     * Список сборок ПК: сборки ПК вместе с основными комплектующими
+     * и их справочными значениями одним запросом.
+     */
+    LIST(false, false),
+
+    /**
+     * Просмотр сборки ПК: дополнительно включенные в сборку ПК вентиляторы,
+     * модули оперативной памяти, жесткие диски и SSD-накопители,
+     * а также коллекции основных комплектующих, передаваемые в ответе.
+     */
+    DETAIL(true, true),
+
+    /**
+     * Проверка сборки ПК: все данные, которые инициализирует
+     * {@link ru.bukhtaev.service.checker.ComputerBuildInitializer}.
+     * Совпадает с {@link #DETAIL}: ответ при просмотре передает все связи,
+     * которые читают сервисы проверки, поэтому инициализация не выполняет запросов.
+     */
+    VERIFY(true, true);
+
+    /**
+     * Загружать ли включенные в сборку ПК вентиляторы, модули оперативной памяти,
+     * жесткие диски и SSD-накопители.
+     */
+    private final boolean items;
+
+    /**
+     * Загружать ли коллекции основных комплектующих.
+     */
+    private final boolean componentCollections;
+}
@@ -2,10 +2,12 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import ru.bukhtaev.model.Chipset;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,10 +15,47 @@ import java.util.UUID;
  * JPA-репозиторий чипсетов.
  */
 @Repository
-public interface IChipsetRepository extends JpaRepository<Chipset, UUID> {
+public interface IChipsetRepository extends
+        JpaRepository<Chipset, UUID>,
+        IKeysetRepository<Chipset> {
 
+    /**
+     * Возвращает чипсеты по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return чипсеты
+     */
+    @EntityGraph(attributePaths = {
+            "socket"
+    })
     Slice<Chipset> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все чипсеты по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return чипсеты
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "socket"
+    })
+    List<Chipset> findAll();
+
+    /**
+     * Возвращает чипсет с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param id ID
+     * @return чипсет
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "socket"
+    })
+    Optional<Chipset> findById(final UUID id);
+
     Optional<Chipset> findByName(final String name);
 
     Optional<Chipset> findByNameAndIdNot(final String name, final UUID id);
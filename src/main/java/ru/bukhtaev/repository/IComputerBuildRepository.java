@@ -2,22 +2,357 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.model.*;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static ru.bukhtaev.model.ComputerBuild.*;
+
 /**
  * JPA-репозиторий сборок ПК.
  */
 @Repository
-public interface IComputerBuildRepository extends JpaRepository<ComputerBuild, UUID> {
+public interface IComputerBuildRepository extends
+        JpaRepository<ComputerBuild, UUID>,
+        IKeysetRepository<ComputerBuild> {
 
+    /**
+     * Возвращает сборки ПК по плану загрузки {@link ComputerBuildFetchPlan#LIST}:
+     * вместе с основными комплектующими и их справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return сборки ПК
+     */
+    @EntityGraph(GRAPH_COMPONENTS)
     Slice<ComputerBuild> findAllBy(final Pageable pageable);
 
     Optional<ComputerBuild> findByName(final String name);
 
     Optional<ComputerBuild> findByNameAndIdNot(final String name, final UUID id);
+
+    /**
+     * Возвращает сборку ПК с указанным ID, загружая ее по указанному плану.
+     *
+     * @param id   ID сборки ПК
+     * @param plan план загрузки
+     * @return сборка ПК
+     */
+    default Optional<ComputerBuild> findById(final UUID id, final ComputerBuildFetchPlan plan) {
+        return findAllByIdIn(List.of(id), plan)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Возвращает сборки ПК с указанными ID, загружая их по указанному плану.
+     * Каждая коллекция загружается отдельным запросом на все сборки ПК,
+     * чтобы результат запроса не разрастался произведением размеров коллекций.
+     *
+     * @param ids  ID сборок ПК
+     * @param plan план загрузки
+     * @return сборки ПК
+     */
+    default List<ComputerBuild> findAllByIdIn(final Collection<UUID> ids, final ComputerBuildFetchPlan plan) {
+        final List<ComputerBuild> computers = findAllByIdIn(ids);
+        if (computers.isEmpty()) {
+            return computers;
+        }
+
+        final List<UUID> foundIds = computers.stream()
+                .map(ComputerBuild::getId)
+                .toList();
+
+        if (plan.isItems()) {
+            fetchFans(foundIds);
+            fetchRamModules(foundIds);
+            fetchHdds(foundIds);
+            fetchSsds(foundIds);
+        }
+
+        if (plan.isComponentCollections()) {
+            fetchCpuRamTypes(foundIds);
+            fetchPsuCpuPowerConnectors(foundIds);
+            fetchPsuStoragePowerConnectors(foundIds);
+            fetchPsuGraphicsCardPowerConnectors(foundIds);
+            fetchCoolerSockets(foundIds);
+            fetchMotherboardFanPowerConnectors(foundIds);
+            fetchMotherboardStorageConnectors(foundIds);
+            fetchGraphicsCardPowerConnectors(foundIds);
+            fetchComputerCaseMotherboardFormFactors(foundIds);
+            fetchComputerCasePsuFormFactors(foundIds);
+            fetchComputerCaseExpansionBayFormats(foundIds);
+            fetchComputerCaseFanSizes(foundIds);
+        }
+
+        return computers;
+    }
+
+    /**
+     * Возвращает сборки ПК с указанными ID вместе с основными комплектующими
+     * и их справочными значениями одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return сборки ПК
+     */
+    @EntityGraph(GRAPH_COMPONENTS)
+    List<ComputerBuild> findAllByIdIn(final Collection<UUID> ids);
+
+    /**
+     * Загружает включенные в сборки ПК вентиляторы вместе с их справочными значениями
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return сборки ПК
+     */
+    @Query("SELECT DISTINCT b FROM ComputerBuild b " +
+            "LEFT JOIN FETCH b.fans bf " +
+            "LEFT JOIN FETCH bf.fan f " +
+            "LEFT JOIN FETCH f.vendor " +
+            "LEFT JOIN FETCH f.size " +
+            "LEFT JOIN FETCH f.powerConnector " +
+            "WHERE b.id IN :ids")
+    List<ComputerBuild> fetchFans(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает включенные в сборки ПК модули оперативной памяти вместе с их справочными значениями
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return сборки ПК
+     */
+    @Query("SELECT DISTINCT b FROM ComputerBuild b " +
+            "LEFT JOIN FETCH b.ramModules br " +
+            "LEFT JOIN FETCH br.ramModule m " +
+            "LEFT JOIN FETCH m.type " +
+            "LEFT JOIN FETCH m.design d " +
+            "LEFT JOIN FETCH d.vendor " +
+            "WHERE b.id IN :ids")
+    List<ComputerBuild> fetchRamModules(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает включенные в сборки ПК жесткие диски вместе с их справочными значениями
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return сборки ПК
+     */
+    @Query("SELECT DISTINCT b FROM ComputerBuild b " +
+            "LEFT JOIN FETCH b.hdds bh " +
+            "LEFT JOIN FETCH bh.hdd h " +
+            "LEFT JOIN FETCH h.vendor " +
+            "LEFT JOIN FETCH h.connector " +
+            "LEFT JOIN FETCH h.powerConnector " +
+            "LEFT JOIN FETCH h.expansionBayFormat " +
+            "WHERE b.id IN :ids")
+    List<ComputerBuild> fetchHdds(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает включенные в сборки ПК SSD-накопители вместе с их справочными значениями
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return сборки ПК
+     */
+    @Query("SELECT DISTINCT b FROM ComputerBuild b " +
+            "LEFT JOIN FETCH b.ssds bs " +
+            "LEFT JOIN FETCH bs.ssd s " +
+            "LEFT JOIN FETCH s.vendor " +
+            "LEFT JOIN FETCH s.connector " +
+            "LEFT JOIN FETCH s.powerConnector " +
+            "LEFT JOIN FETCH s.expansionBayFormat " +
+            "WHERE b.id IN :ids")
+    List<ComputerBuild> fetchSsds(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает типы оперативной памяти, поддерживаемые процессорами сборок ПК,
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.cpu c " +
+            "LEFT JOIN FETCH c.supportedRamTypes x " +
+            "LEFT JOIN FETCH x.ramType " +
+            "WHERE b.id IN :ids")
+    List<Cpu> fetchCpuRamTypes(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает коннекторы питания процессора блоков питания сборок ПК
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.psu c " +
+            "LEFT JOIN FETCH c.cpuPowerConnectors x " +
+            "LEFT JOIN FETCH x.cpuPowerConnector " +
+            "WHERE b.id IN :ids")
+    List<Psu> fetchPsuCpuPowerConnectors(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает коннекторы питания накопителей блоков питания сборок ПК
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.psu c " +
+            "LEFT JOIN FETCH c.storagePowerConnectors x " +
+            "LEFT JOIN FETCH x.storagePowerConnector " +
+            "WHERE b.id IN :ids")
+    List<Psu> fetchPsuStoragePowerConnectors(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает коннекторы питания видеокарты блоков питания сборок ПК
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.psu c " +
+            "LEFT JOIN FETCH c.graphicsCardPowerConnectors x " +
+            "LEFT JOIN FETCH x.graphicsCardPowerConnector " +
+            "WHERE b.id IN :ids")
+    List<Psu> fetchPsuGraphicsCardPowerConnectors(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает сокеты, поддерживаемые процессорными кулерами сборок ПК,
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.cooler c " +
+            "LEFT JOIN FETCH c.supportedSockets " +
+            "WHERE b.id IN :ids")
+    List<Cooler> fetchCoolerSockets(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает коннекторы питания вентиляторов материнских плат сборок ПК
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.motherboard c " +
+            "LEFT JOIN FETCH c.fanPowerConnectors x " +
+            "LEFT JOIN FETCH x.fanPowerConnector " +
+            "WHERE b.id IN :ids")
+    List<Motherboard> fetchMotherboardFanPowerConnectors(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает коннекторы подключения накопителей материнских плат сборок ПК
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.motherboard c " +
+            "LEFT JOIN FETCH c.storageConnectors x " +
+            "LEFT JOIN FETCH x.storageConnector " +
+            "WHERE b.id IN :ids")
+    List<Motherboard> fetchMotherboardStorageConnectors(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает коннекторы питания видеокарт сборок ПК
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.graphicsCard c " +
+            "LEFT JOIN FETCH c.powerConnectors x " +
+            "LEFT JOIN FETCH x.powerConnector " +
+            "WHERE b.id IN :ids")
+    List<GraphicsCard> fetchGraphicsCardPowerConnectors(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает форм-факторы материнских плат, поддерживаемые корпусами сборок ПК,
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.computerCase c " +
+            "LEFT JOIN FETCH c.motherboardFormFactors " +
+            "WHERE b.id IN :ids")
+    List<ComputerCase> fetchComputerCaseMotherboardFormFactors(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает форм-факторы блоков питания, поддерживаемые корпусами сборок ПК,
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.computerCase c " +
+            "LEFT JOIN FETCH c.psuFormFactors " +
+            "WHERE b.id IN :ids")
+    List<ComputerCase> fetchComputerCasePsuFormFactors(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает форматы отсеков расширения корпусов сборок ПК
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.computerCase c " +
+            "LEFT JOIN FETCH c.expansionBayFormats x " +
+            "LEFT JOIN FETCH x.expansionBayFormat " +
+            "WHERE b.id IN :ids")
+    List<ComputerCase> fetchComputerCaseExpansionBayFormats(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Загружает размеры вентиляторов, поддерживаемые корпусами сборок ПК,
+     * в контекст персистентности одним запросом.
+     *
+     * @param ids ID сборок ПК
+     * @return комплектующие сборок ПК
+     */
+    @Query("SELECT DISTINCT c FROM ComputerBuild b " +
+            "JOIN b.computerCase c " +
+            "LEFT JOIN FETCH c.fanSizes x " +
+            "LEFT JOIN FETCH x.fanSize " +
+            "WHERE b.id IN :ids")
+    List<ComputerCase> fetchComputerCaseFanSizes(@Param("ids") final Collection<UUID> ids);
+
+    /**
+     * Сохраняет статус последней проверки сборок ПК.
+     *
+     * @param ids        ID сборок ПК
+     * @param status     статус последней проверки
+     * @param verifiedAt момент последней проверки
+     * @return количество обновленных сборок ПК
+     */
+    @Modifying
+    @Query("UPDATE ComputerBuild b " +
+            "SET b.verificationStatus = :status, b.verifiedAt = :verifiedAt " +
+            "WHERE b.id IN :ids")
+    int updateVerificationStatus(
+            @Param("ids") final Collection<UUID> ids,
+            @Param("status") final VerificationStatus status,
+            @Param("verifiedAt") final Instant verifiedAt
+    );
 }
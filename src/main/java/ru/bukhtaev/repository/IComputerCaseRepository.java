@@ -1,23 +1,129 @@
 package ru.bukhtaev.repository;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import ru.bukhtaev.model.ComputerCase;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.AvailableHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.AvailableHints.HINT_READ_ONLY;
 
 /**
  * JPA-репозиторий корпусов.
  */
 @Repository
-public interface IComputerCaseRepository extends JpaRepository<ComputerCase, UUID> {
+public interface IComputerCaseRepository extends
+        JpaRepository<ComputerCase, UUID>,
+        IKeysetRepository<ComputerCase> {
 
+    /**
+     * Возвращает корпуса по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return корпуса
+     */
+    @EntityGraph(attributePaths = {
+            "vendor"
+    })
     Slice<ComputerCase> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все корпуса по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return корпуса
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor"
+    })
+    List<ComputerCase> findAll();
+
+    /**
+     * Возвращает корпус с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями и коллекциями одним запросом.
+     *
+     * @param id ID
+     * @return корпус
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "motherboardFormFactors",
+            "psuFormFactors",
+            "expansionBayFormats",
+            "expansionBayFormats.expansionBayFormat",
+            "fanSizes",
+            "fanSizes.fanSize"
+    })
+    Optional<ComputerCase> findById(final UUID id);
+
     Optional<ComputerCase> findByName(final String name);
 
     Optional<ComputerCase> findByNameAndIdNot(final String name, final UUID id);
+
+    /**
+     * Возвращает поток пар совместимых корпусов и материнских плат:
+     * корпус поддерживает форм-фактор материнской платы.
+     * Пары вычисляются одним запросом и читаются порциями, поэтому поток
+     * должен потребляться внутри транзакции и быть закрыт после чтения.
+     *
+     * @return поток пар (ID корпуса, ID материнской платы)
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new ru.bukhtaev.repository.ComponentCompatibility(computerCase.id, mb.id) " +
+            "FROM ComputerCase computerCase JOIN computerCase.motherboardFormFactors formFactor, Motherboard mb " +
+            "WHERE mb.formFactor.id = formFactor.id " +
+            "ORDER BY computerCase.id, mb.id")
+    Stream<ComponentCompatibility> streamMotherboardCompatibilities();
+
+    /**
+     * Возвращает поток пар совместимых корпусов и видеокарт:
+     * длина видеокарты не превышает допустимую корпусом.
+     * Пары вычисляются одним запросом и читаются порциями, поэтому поток
+     * должен потребляться внутри транзакции и быть закрыт после чтения.
+     *
+     * @return поток пар (ID корпуса, ID видеокарты)
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new ru.bukhtaev.repository.ComponentCompatibility(computerCase.id, card.id) " +
+            "FROM ComputerCase computerCase, GraphicsCard card " +
+            "WHERE card.length <= computerCase.maxGraphicsCardLength " +
+            "ORDER BY computerCase.id, card.id")
+    Stream<ComponentCompatibility> streamGraphicsCardCompatibilities();
+
+    /**
+     * Возвращает поток пар совместимых корпусов и блоков питания:
+     * корпус поддерживает форм-фактор блока питания.
+     * Пары вычисляются одним запросом и читаются порциями, поэтому поток
+     * должен потребляться внутри транзакции и быть закрыт после чтения.
+     *
+     * @return поток пар (ID корпуса, ID блока питания)
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new ru.bukhtaev.repository.ComponentCompatibility(computerCase.id, psu.id) " +
+            "FROM ComputerCase computerCase JOIN computerCase.psuFormFactors formFactor, Psu psu " +
+            "WHERE psu.formFactor.id = formFactor.id " +
+            "ORDER BY computerCase.id, psu.id")
+    Stream<ComponentCompatibility> streamPsuCompatibilities();
 }
@@ -2,10 +2,12 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import ru.bukhtaev.model.Cooler;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,10 +15,54 @@ import java.util.UUID;
  * JPA-репозиторий процессорных кулеров.
  */
 @Repository
-public interface ICoolerRepository extends JpaRepository<Cooler, UUID> {
+public interface ICoolerRepository extends
+        JpaRepository<Cooler, UUID>,
+        IKeysetRepository<Cooler> {
 
+    /**
+     * Возвращает процессорные кулеры по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return процессорные кулеры
+     */
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "fanSize",
+            "powerConnector"
+    })
     Slice<Cooler> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все процессорные кулеры по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return процессорные кулеры
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "fanSize",
+            "powerConnector"
+    })
+    List<Cooler> findAll();
+
+    /**
+     * Возвращает процессорный кулер с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями и коллекциями одним запросом.
+     *
+     * @param id ID
+     * @return процессорный кулер
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "fanSize",
+            "powerConnector",
+            "supportedSockets"
+    })
+    Optional<Cooler> findById(final UUID id);
+
     Optional<Cooler> findByName(final String name);
 
     Optional<Cooler> findByNameAndIdNot(final String name, final UUID id);
@@ -1,23 +1,111 @@
 package ru.bukhtaev.repository;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import ru.bukhtaev.model.Cpu;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.AvailableHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.AvailableHints.HINT_READ_ONLY;
 
 /**
  * JPA-репозиторий процессоров.
  */
 @Repository
-public interface ICpuRepository extends JpaRepository<Cpu, UUID> {
+public interface ICpuRepository extends
+        JpaRepository<Cpu, UUID>,
+        IKeysetRepository<Cpu> {
 
+    /**
+     * Возвращает процессоры по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return процессоры
+     */
+    @EntityGraph(attributePaths = {
+            "manufacturer",
+            "socket"
+    })
     Slice<Cpu> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все процессоры по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return процессоры
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "manufacturer",
+            "socket"
+    })
+    List<Cpu> findAll();
+
+    /**
+     * Возвращает процессор с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями и коллекциями одним запросом.
+     *
+     * @param id ID
+     * @return процессор
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "manufacturer",
+            "socket",
+            "supportedRamTypes",
+            "supportedRamTypes.ramType"
+    })
+    Optional<Cpu> findById(final UUID id);
+
     Optional<Cpu> findByName(final String name);
 
     Optional<Cpu> findByNameAndIdNot(final String name, final UUID id);
+
+    /**
+     * Возвращает поток пар совместимых процессоров и материнских плат:
+     * сокет процессора совпадает с сокетом чипсета материнской платы.
+     * Пары вычисляются одним запросом и читаются порциями, поэтому поток
+     * должен потребляться внутри транзакции и быть закрыт после чтения.
+     *
+     * @return поток пар (ID процессора, ID материнской платы)
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new ru.bukhtaev.repository.ComponentCompatibility(cpu.id, mb.id) " +
+            "FROM Cpu cpu, Motherboard mb JOIN mb.chipset chipset " +
+            "WHERE chipset.socket.id = cpu.socket.id " +
+            "ORDER BY cpu.id, mb.id")
+    Stream<ComponentCompatibility> streamMotherboardCompatibilities();
+
+    /**
+     * Возвращает поток пар совместимых процессоров и процессорных кулеров:
+     * кулер поддерживает сокет процессора и рассеивает не меньше его максимального тепловыделения.
+     * Пары вычисляются одним запросом и читаются порциями, поэтому поток
+     * должен потребляться внутри транзакции и быть закрыт после чтения.
+     *
+     * @return поток пар (ID процессора, ID процессорного кулера)
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new ru.bukhtaev.repository.ComponentCompatibility(cpu.id, cooler.id) " +
+            "FROM Cpu cpu, Cooler cooler JOIN cooler.supportedSockets socket " +
+            "WHERE socket.id = cpu.socket.id " +
+            "AND cooler.powerDissipation >= cpu.maxTdp " +
+            "ORDER BY cpu.id, cooler.id")
+    Stream<ComponentCompatibility> streamCoolerCompatibilities();
 }
@@ -2,10 +2,12 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import ru.bukhtaev.model.Design;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,10 +15,47 @@ import java.util.UUID;
  * JPA-репозиторий вариантов исполнения.
  */
 @Repository
-public interface IDesignRepository extends JpaRepository<Design, UUID> {
+public interface IDesignRepository extends
+        JpaRepository<Design, UUID>,
+        IKeysetRepository<Design> {
 
+    /**
+     * Возвращает варианты исполнения по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return варианты исполнения
+     */
+    @EntityGraph(attributePaths = {
+            "vendor"
+    })
     Slice<Design> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все варианты исполнения по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return варианты исполнения
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor"
+    })
+    List<Design> findAll();
+
+    /**
+     * Возвращает вариант исполнения с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param id ID
+     * @return вариант исполнения
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor"
+    })
+    Optional<Design> findById(final UUID id);
+
     Optional<Design> findByName(final String name);
 
     Optional<Design> findByNameAndIdNot(final String name, final UUID id);
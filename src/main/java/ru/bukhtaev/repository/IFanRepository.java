@@ -2,6 +2,7 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import ru.bukhtaev.model.Fan;
 import ru.bukhtaev.model.dictionary.FanSize;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,10 +18,68 @@ import java.util.UUID;
  * JPA-репозиторий вентиляторов.
  */
 @Repository
-public interface IFanRepository extends JpaRepository<Fan, UUID> {
+public interface IFanRepository extends
+        JpaRepository<Fan, UUID>,
+        IKeysetRepository<Fan> {
 
+    /**
+     * Возвращает вентиляторы по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return вентиляторы
+     */
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "size",
+            "powerConnector"
+    })
     Slice<Fan> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все вентиляторы по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return вентиляторы
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "size",
+            "powerConnector"
+    })
+    List<Fan> findAll();
+
+    /**
+     * Возвращает вентилятор с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param id ID
+     * @return вентилятор
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "size",
+            "powerConnector"
+    })
+    Optional<Fan> findById(final UUID id);
+
+    /**
+     * Возвращает вентиляторы с указанными ID по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param ids ID
+     * @return вентиляторы
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "size",
+            "powerConnector"
+    })
+    List<Fan> findAllById(final Iterable<UUID> ids);
+
     @Query("SELECT f FROM Fan f " +
             "WHERE f.name = :name " +
             "AND f.size.length = :#{#size.length} " +
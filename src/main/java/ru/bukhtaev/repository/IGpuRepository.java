@@ -2,6 +2,7 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import ru.bukhtaev.model.Gpu;
 import ru.bukhtaev.model.dictionary.VideoMemoryType;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,10 +18,50 @@ import java.util.UUID;
  * JPA-репозиторий графических процессоров.
  */
 @Repository
-public interface IGpuRepository extends JpaRepository<Gpu, UUID> {
+public interface IGpuRepository extends
+        JpaRepository<Gpu, UUID>,
+        IKeysetRepository<Gpu> {
 
+    /**
+     * Возвращает графические процессоры по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return графические процессоры
+     */
+    @EntityGraph(attributePaths = {
+            "memoryType",
+            "manufacturer"
+    })
     Slice<Gpu> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все графические процессоры по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return графические процессоры
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "memoryType",
+            "manufacturer"
+    })
+    List<Gpu> findAll();
+
+    /**
+     * Возвращает графический процессор с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param id ID
+     * @return графический процессор
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "memoryType",
+            "manufacturer"
+    })
+    Optional<Gpu> findById(final UUID id);
+
     @Query("SELECT gpu FROM Gpu gpu " +
             "WHERE gpu.name = :name " +
             "AND gpu.memorySize = :memorySize " +
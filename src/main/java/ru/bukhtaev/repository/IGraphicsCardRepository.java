@@ -2,6 +2,7 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +11,7 @@ import ru.bukhtaev.model.Design;
 import ru.bukhtaev.model.Gpu;
 import ru.bukhtaev.model.GraphicsCard;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,10 +19,64 @@ import java.util.UUID;
  * JPA-репозиторий видеокарт.
  */
 @Repository
-public interface IGraphicsCardRepository extends JpaRepository<GraphicsCard, UUID> {
+public interface IGraphicsCardRepository extends
+        JpaRepository<GraphicsCard, UUID>,
+        IKeysetRepository<GraphicsCard> {
 
+    /**
+     * Возвращает видеокарты по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return видеокарты
+     */
+    @EntityGraph(attributePaths = {
+            "gpu",
+            "gpu.memoryType",
+            "gpu.manufacturer",
+            "design",
+            "design.vendor",
+            "pciExpressConnectorVersion"
+    })
     Slice<GraphicsCard> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все видеокарты по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return видеокарты
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "gpu",
+            "gpu.memoryType",
+            "gpu.manufacturer",
+            "design",
+            "design.vendor",
+            "pciExpressConnectorVersion"
+    })
+    List<GraphicsCard> findAll();
+
+    /**
+     * Возвращает видеокарту с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями и коллекциями одним запросом.
+     *
+     * @param id ID
+     * @return видеокарту
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "gpu",
+            "gpu.memoryType",
+            "gpu.manufacturer",
+            "design",
+            "design.vendor",
+            "pciExpressConnectorVersion",
+            "powerConnectors",
+            "powerConnectors.powerConnector"
+    })
+    Optional<GraphicsCard> findById(final UUID id);
+
     @Query("SELECT card FROM GraphicsCard card " +
             "WHERE card.gpu.name = :#{#gpu.name} " +
             "AND card.gpu.memorySize = :#{#gpu.memorySize} " +
@@ -2,12 +2,14 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.bukhtaev.model.Hdd;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,10 +17,72 @@ import java.util.UUID;
  * JPA-репозиторий жестких дисков.
  */
 @Repository
-public interface IHddRepository extends JpaRepository<Hdd, UUID> {
+public interface IHddRepository extends
+        JpaRepository<Hdd, UUID>,
+        IKeysetRepository<Hdd> {
 
+    /**
+     * Возвращает жесткие диски по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return жесткие диски
+     */
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "connector",
+            "powerConnector",
+            "expansionBayFormat"
+    })
     Slice<Hdd> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все жесткие диски по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return жесткие диски
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "connector",
+            "powerConnector",
+            "expansionBayFormat"
+    })
+    List<Hdd> findAll();
+
+    /**
+     * Возвращает жесткий диск с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param id ID
+     * @return жесткий диск
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "connector",
+            "powerConnector",
+            "expansionBayFormat"
+    })
+    Optional<Hdd> findById(final UUID id);
+
+    /**
+     * Возвращает жесткие диски с указанными ID по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param ids ID
+     * @return жесткие диски
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "connector",
+            "powerConnector",
+            "expansionBayFormat"
+    })
+    List<Hdd> findAllById(final Iterable<UUID> ids);
+
     @Query("SELECT hdd FROM Hdd hdd " +
             "WHERE hdd.name = :name " +
             "AND hdd.capacity = :capacity " +
@@ -0,0 +1,44 @@
+package ru.bukhtaev.repository;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import static ru.bukhtaev.model.BaseEntity.FIELD_ID;
+
+/**
+ * JPA-репозиторий с поддержкой keyset-пагинации.
+ * Следующая порция выбирается условием по значениям ключей сортировки
+ * последней полученной сущности, а не смещением от начала выборки,
+ * поэтому время получения порции не зависит от ее удаленности от начала.
+ *
+ * @param <T> тип сущности
+ */
+public interface IKeysetRepository<T> extends JpaSpecificationExecutor<T> {
+
+    /**
+     * Возвращает порцию сущностей, следующую за указанной позицией.
+     * Если сортировка не содержит ID, он добавляется последним ключом,
+     * поэтому порядок сущностей с одинаковыми значениями остальных ключей однозначен.
+     * Справочные значения сущностей загружаются пакетами при первом обращении.
+     *
+     * @param position позиция keyset-пагинации
+     * @param sort     сортировка
+     * @param limit    максимальное количество сущностей в порции, не меньше одной
+     * @return порция сущностей
+     */
+    default Window<T> findAllBy(final KeysetScrollPosition position, final Sort sort, final int limit) {
+        final Sort sortWithId = sort.getOrderFor(FIELD_ID) == null
+                ? sort.and(Sort.by(FIELD_ID))
+                : sort;
+
+        return findBy(
+                Specification.where(null),
+                query -> query.sortBy(sortWithId)
+                        .limit(Math.max(1, limit))
+                        .scroll(position)
+        );
+    }
+}
@@ -2,6 +2,7 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +12,7 @@ import ru.bukhtaev.model.Design;
 import ru.bukhtaev.model.Motherboard;
 import ru.bukhtaev.model.dictionary.RamType;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,10 +20,78 @@ import java.util.UUID;
  * JPA-репозиторий материнских плат.
  */
 @Repository
-public interface IMotherboardRepository extends JpaRepository<Motherboard, UUID> {
+public interface IMotherboardRepository extends
+        JpaRepository<Motherboard, UUID>,
+        IKeysetRepository<Motherboard> {
 
+    /**
+     * Возвращает материнские платы по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return материнские платы
+     */
+    @EntityGraph(attributePaths = {
+            "design",
+            "design.vendor",
+            "chipset",
+            "chipset.socket",
+            "ramType",
+            "formFactor",
+            "cpuPowerConnector",
+            "mainPowerConnector",
+            "coolerPowerConnector",
+            "pciExpressConnectorVersion"
+    })
     Slice<Motherboard> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все материнские платы по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return материнские платы
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "design",
+            "design.vendor",
+            "chipset",
+            "chipset.socket",
+            "ramType",
+            "formFactor",
+            "cpuPowerConnector",
+            "mainPowerConnector",
+            "coolerPowerConnector",
+            "pciExpressConnectorVersion"
+    })
+    List<Motherboard> findAll();
+
+    /**
+     * Возвращает материнскую плату с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями и коллекциями одним запросом.
+     *
+     * @param id ID
+     * @return материнскую плату
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "design",
+            "design.vendor",
+            "chipset",
+            "chipset.socket",
+            "ramType",
+            "formFactor",
+            "cpuPowerConnector",
+            "mainPowerConnector",
+            "coolerPowerConnector",
+            "pciExpressConnectorVersion",
+            "fanPowerConnectors",
+            "fanPowerConnectors.fanPowerConnector",
+            "storageConnectors",
+            "storageConnectors.storageConnector"
+    })
+    Optional<Motherboard> findById(final UUID id);
+
     @Query("SELECT mb FROM Motherboard mb " +
             "WHERE mb.name = :name " +
             "AND mb.design.name = :#{#design.name} " +
@@ -2,10 +2,12 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import ru.bukhtaev.model.Psu;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,10 +15,62 @@ import java.util.UUID;
  * JPA-репозиторий блоков питания.
  */
 @Repository
-public interface IPsuRepository extends JpaRepository<Psu, UUID> {
+public interface IPsuRepository extends
+        JpaRepository<Psu, UUID>,
+        IKeysetRepository<Psu> {
 
+    /**
+     * Возвращает блоки питания по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return блоки питания
+     */
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "formFactor",
+            "certificate",
+            "mainPowerConnector"
+    })
     Slice<Psu> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все блоки питания по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return блоки питания
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "formFactor",
+            "certificate",
+            "mainPowerConnector"
+    })
+    List<Psu> findAll();
+
+    /**
+     * Возвращает блок питания с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями и коллекциями одним запросом.
+     *
+     * @param id ID
+     * @return блок питания
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "formFactor",
+            "certificate",
+            "mainPowerConnector",
+            "cpuPowerConnectors",
+            "cpuPowerConnectors.cpuPowerConnector",
+            "storagePowerConnectors",
+            "storagePowerConnectors.storagePowerConnector",
+            "graphicsCardPowerConnectors",
+            "graphicsCardPowerConnectors.graphicsCardPowerConnector"
+    })
+    Optional<Psu> findById(final UUID id);
+
     Optional<Psu> findByName(final String name);
 
     Optional<Psu> findByNameAndIdNot(final String name, final UUID id);
@@ -2,6 +2,7 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +11,7 @@ import ru.bukhtaev.model.Design;
 import ru.bukhtaev.model.RamModule;
 import ru.bukhtaev.model.dictionary.RamType;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,10 +19,68 @@ import java.util.UUID;
  * JPA-репозиторий модулей оперативной памяти.
  */
 @Repository
-public interface IRamModuleRepository extends JpaRepository<RamModule, UUID> {
+public interface IRamModuleRepository extends
+        JpaRepository<RamModule, UUID>,
+        IKeysetRepository<RamModule> {
 
+    /**
+     * Возвращает модули оперативной памяти по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return модули оперативной памяти
+     */
+    @EntityGraph(attributePaths = {
+            "type",
+            "design",
+            "design.vendor"
+    })
     Slice<RamModule> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все модули оперативной памяти по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return модули оперативной памяти
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "type",
+            "design",
+            "design.vendor"
+    })
+    List<RamModule> findAll();
+
+    /**
+     * Возвращает модуль оперативной памяти с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param id ID
+     * @return модуль оперативной памяти
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "type",
+            "design",
+            "design.vendor"
+    })
+    Optional<RamModule> findById(final UUID id);
+
+    /**
+     * Возвращает модули оперативной памяти с указанными ID по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param ids ID
+     * @return модули оперативной памяти
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "type",
+            "design",
+            "design.vendor"
+    })
+    List<RamModule> findAllById(final Iterable<UUID> ids);
+
     @Query("SELECT module FROM RamModule module " +
             "WHERE module.clock = :clock " +
             "AND module.capacity = :capacity " +
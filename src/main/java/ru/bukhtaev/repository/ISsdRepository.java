@@ -2,12 +2,14 @@ package ru.bukhtaev.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.bukhtaev.model.Ssd;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,10 +17,72 @@ import java.util.UUID;
  * JPA-репозиторий SSD накопителей.
  */
 @Repository
-public interface ISsdRepository extends JpaRepository<Ssd, UUID> {
+public interface ISsdRepository extends
+        JpaRepository<Ssd, UUID>,
+        IKeysetRepository<Ssd> {
 
+    /**
+     * Возвращает SSD-накопители по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param pageable параметры страницы
+     * @return SSD-накопители
+     */
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "connector",
+            "powerConnector",
+            "expansionBayFormat"
+    })
     Slice<Ssd> findAllBy(final Pageable pageable);
 
+    /**
+     * Возвращает все SSD-накопители по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @return SSD-накопители
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "connector",
+            "powerConnector",
+            "expansionBayFormat"
+    })
+    List<Ssd> findAll();
+
+    /**
+     * Возвращает SSD-накопитель с указанным ID по плану загрузки просмотра:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param id ID
+     * @return SSD-накопитель
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "connector",
+            "powerConnector",
+            "expansionBayFormat"
+    })
+    Optional<Ssd> findById(final UUID id);
+
+    /**
+     * Возвращает SSD-накопители с указанными ID по плану загрузки списка:
+     * вместе со справочными значениями одним запросом.
+     *
+     * @param ids ID
+     * @return SSD-накопители
+     */
+    @Override
+    @EntityGraph(attributePaths = {
+            "vendor",
+            "connector",
+            "powerConnector",
+            "expansionBayFormat"
+    })
+    List<Ssd> findAllById(final Iterable<UUID> ids);
+
     @Query("SELECT ssd FROM Ssd ssd " +
             "WHERE ssd.name = :name " +
             "AND ssd.capacity = :capacity")
@@ -0,0 +1,15 @@
+package ru.bukhtaev.repository.dictionary;
+
+import java.util.UUID;
+
+/**
+ * Проекция записи таблицы совместимости коннекторов.
+ *
+ * @param connectorId           ID коннектора
+ * @param compatibleConnectorId ID совместимого с ним коннектора
+ */
+public record ConnectorCompatibility(
+        UUID connectorId,
+        UUID compatibleConnectorId
+) {
+}
@@ -1,9 +1,14 @@
 package ru.bukhtaev.repository.dictionary;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.bukhtaev.model.dictionary.DictionaryCacheRegions;
 import ru.bukhtaev.model.dictionary.ExpansionBayFormat;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,6 +18,19 @@ import java.util.UUID;
 @Repository
 public interface IExpansionBayFormatRepository extends JpaRepository<ExpansionBayFormat, UUID> {
 
+    /**
+     * Возвращает все форматы отсеков расширения. Результат запроса хранится
+     * в кэше второго уровня до изменения таблицы справочника или истечения времени жизни.
+     *
+     * @return форматы отсеков расширения
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = DictionaryCacheRegions.QUERIES)
+    })
+    List<ExpansionBayFormat> findAll();
+
     Optional<ExpansionBayFormat> findByName(final String name);
 
     Optional<ExpansionBayFormat> findByNameAndIdNot(final String name, final UUID id);
@@ -1,9 +1,15 @@
 package ru.bukhtaev.repository.dictionary;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.bukhtaev.model.dictionary.DictionaryCacheRegions;
 import ru.bukhtaev.model.dictionary.FanPowerConnector;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,7 +19,29 @@ import java.util.UUID;
 @Repository
 public interface IFanPowerConnectorRepository extends JpaRepository<FanPowerConnector, UUID> {
 
+    /**
+     * Возвращает все коннекторы питания вентиляторов. Результат запроса хранится
+     * в кэше второго уровня до изменения таблицы справочника или истечения времени жизни.
+     *
+     * @return коннекторы питания вентиляторов
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = DictionaryCacheRegions.QUERIES)
+    })
+    List<FanPowerConnector> findAll();
+
     Optional<FanPowerConnector> findByName(final String name);
 
     Optional<FanPowerConnector> findByNameAndIdNot(final String name, final UUID id);
+
+    /**
+     * Возвращает все пары совместимых коннекторов одним запросом.
+     *
+     * @return пары совместимых коннекторов
+     */
+    @Query("SELECT new ru.bukhtaev.repository.dictionary.ConnectorCompatibility(c.id, cc.id) " +
+            "FROM FanPowerConnector c JOIN c.compatibleConnectors cc")
+    List<ConnectorCompatibility> findAllCompatibilities();
 }
@@ -1,9 +1,14 @@
 package ru.bukhtaev.repository.dictionary;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.bukhtaev.model.dictionary.DictionaryCacheRegions;
 import ru.bukhtaev.model.dictionary.FanSize;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,6 +18,19 @@ import java.util.UUID;
 @Repository
 public interface IFanSizeRepository extends JpaRepository<FanSize, UUID> {
 
+    /**
+     * Возвращает все размеры вентиляторов. Результат запроса хранится
+     * в кэше второго уровня до изменения таблицы справочника или истечения времени жизни.
+     *
+     * @return размеры вентиляторов
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = DictionaryCacheRegions.QUERIES)
+    })
+    List<FanSize> findAll();
+
     Optional<FanSize> findByLengthAndWidthAndHeight(
             final Integer length,
             final Integer width,
@@ -1,9 +1,15 @@
 package ru.bukhtaev.repository.dictionary;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.bukhtaev.model.dictionary.DictionaryCacheRegions;
 import ru.bukhtaev.model.dictionary.PciExpressConnectorVersion;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,7 +19,29 @@ import java.util.UUID;
 @Repository
 public interface IPciExpressConnectorVersionRepository extends JpaRepository<PciExpressConnectorVersion, UUID> {
 
+    /**
+     * Возвращает все версии коннектора PCI-Express. Результат запроса хранится
+     * в кэше второго уровня до изменения таблицы справочника или истечения времени жизни.
+     *
+     * @return версии коннектора PCI-Express
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = DictionaryCacheRegions.QUERIES)
+    })
+    List<PciExpressConnectorVersion> findAll();
+
     Optional<PciExpressConnectorVersion> findByName(final String name);
 
     Optional<PciExpressConnectorVersion> findByNameAndIdNot(final String name, final UUID id);
+
+    /**
+     * Возвращает все пары «версия — более старая версия» одним запросом.
+     *
+     * @return пары версий коннектора PCI-Express
+     */
+    @Query("SELECT new ru.bukhtaev.repository.dictionary.ConnectorCompatibility(v.id, lv.id) " +
+            "FROM PciExpressConnectorVersion v JOIN v.lowerVersions lv")
+    List<ConnectorCompatibility> findAllLowerVersions();
 }
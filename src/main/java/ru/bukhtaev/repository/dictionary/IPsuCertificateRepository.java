@@ -1,9 +1,14 @@
 package ru.bukhtaev.repository.dictionary;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.bukhtaev.model.dictionary.DictionaryCacheRegions;
 import ru.bukhtaev.model.dictionary.PsuCertificate;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,6 +18,19 @@ import java.util.UUID;
 @Repository
 public interface IPsuCertificateRepository extends JpaRepository<PsuCertificate, UUID> {
 
+    /**
+     * Возвращает все сертификаты блоков питания. Результат запроса хранится
+     * в кэше второго уровня до изменения таблицы справочника или истечения времени жизни.
+     *
+     * @return сертификаты блоков питания
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = DictionaryCacheRegions.QUERIES)
+    })
+    List<PsuCertificate> findAll();
+
     Optional<PsuCertificate> findByName(final String name);
 
     Optional<PsuCertificate> findByNameAndIdNot(final String name, final UUID id);
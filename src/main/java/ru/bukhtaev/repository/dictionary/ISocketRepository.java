@@ -1,11 +1,17 @@
 package ru.bukhtaev.repository.dictionary;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.bukhtaev.model.dictionary.DictionaryCacheRegions;
 import ru.bukhtaev.model.dictionary.Socket;
+import ru.bukhtaev.repository.IKeysetRepository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,7 +19,22 @@ import java.util.UUID;
  * JPA-репозиторий сокетов.
  */
 @Repository
-public interface ISocketRepository extends JpaRepository<Socket, UUID> {
+public interface ISocketRepository extends
+        JpaRepository<Socket, UUID>,
+        IKeysetRepository<Socket> {
+
+    /**
+     * Возвращает все сокеты. Результат запроса хранится
+     * в кэше второго уровня до изменения таблицы справочника или истечения времени жизни.
+     *
+     * @return сокеты
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = DictionaryCacheRegions.QUERIES)
+    })
+    List<Socket> findAll();
 
     Slice<Socket> findAllBy(final Pageable pageable);
 
@@ -1,11 +1,17 @@
 package ru.bukhtaev.repository.dictionary;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.bukhtaev.model.dictionary.DictionaryCacheRegions;
 import ru.bukhtaev.model.dictionary.Vendor;
+import ru.bukhtaev.repository.IKeysetRepository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,7 +19,22 @@ import java.util.UUID;
  * JPA-репозиторий вендоров.
  */
 @Repository
-public interface IVendorRepository extends JpaRepository<Vendor, UUID> {
+public interface IVendorRepository extends
+        JpaRepository<Vendor, UUID>,
+        IKeysetRepository<Vendor> {
+
+    /**
+     * Возвращает всех вендоров. Результат запроса хранится
+     * в кэше второго уровня до изменения таблицы справочника или истечения времени жизни.
+     *
+     * @return вендоров
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = DictionaryCacheRegions.QUERIES)
+    })
+    List<Vendor> findAll();
 
     Slice<Vendor> findAllBy(final Pageable pageable);
 
@@ -0,0 +1,191 @@
+package ru.bukhtaev.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import ru.bukhtaev.exception.InvalidParamException;
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+
+import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INVALID_PAGE_TOKEN;
+import static ru.bukhtaev.model.BaseEntity.FIELD_ID;
+
+/**
+ * Сервис преобразования позиции keyset-пагинации в непрозрачный токен и обратно.
+ * Токен содержит значения ключей сортировки последнего просмотренного элемента
+ * вместе с их типами и кодируется в Base64 без заполнения,
+ * поэтому его можно передавать в параметрах запроса без экранирования.
+ */
+@Component
+public class KeysetTokenCodec {
+
+    /**
+     * Название параметра запроса, содержащего токен.
+     */
+    public static final String PARAM_TOKEN = "token";
+
+    /**
+     * Метка пустого значения ключа.
+     */
+    private static final String TAG_NULL = "0";
+
+    /**
+     * Метки поддерживаемых типов значений ключей.
+     */
+    private static final Map<Class<?>, String> TAGS = Map.of(
+            String.class, "s",
+            UUID.class, "u",
+            Integer.class, "i",
+            Long.class, "l",
+            Double.class, "d",
+            Boolean.class, "b",
+            BigDecimal.class, "n"
+    );
+
+    /**
+     * Функции восстановления значений ключей по меткам их типов.
+     */
+    private static final Map<String, Function<String, Object>> PARSERS = Map.of(
+            "s", value -> value,
+            "u", UUID::fromString,
+            "i", Integer::valueOf,
+            "l", Long::valueOf,
+            "d", Double::valueOf,
+            "b", Boolean::valueOf,
+            "n", BigDecimal::new
+    );
+
+    /**
+     * Сериализатор JSON.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Сервис предоставления сообщений.
+     */
+    private final Translator translator;
+
+    /**
+     * Конструктор.
+     *
+     * @param objectMapper сериализатор JSON
+     * @param translator   сервис предоставления сообщений
+     */
+    @Autowired
+    public KeysetTokenCodec(final ObjectMapper objectMapper, final Translator translator) {
+        this.objectMapper = objectMapper;
+        this.translator = translator;
+    }
+
+    /**
+     * Кодирует позицию в токен.
+     *
+     * @param position позиция keyset-пагинации
+     * @return токен
+     */
+    public String encode(final KeysetScrollPosition position) {
+        final List<String[]> keys = new ArrayList<>(position.getKeys().size());
+        position.getKeys().forEach((property, value) -> keys.add(value == null
+                ? new String[]{property, TAG_NULL, null}
+                : new String[]{property, tagOf(value), value.toString()}
+        ));
+
+        try {
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(objectMapper.writeValueAsBytes(keys));
+        } catch (final JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Декодирует токен в позицию.
+     * Если токен не задан, возвращает начальную позицию.
+     * Если токен поврежден или получен при другой сортировке,
+     * выбрасывает {@link InvalidParamException}.
+     *
+     * @param token токен или {@code null}
+     * @param sort  сортировка, при которой запрашивается следующая порция
+     * @return позиция keyset-пагинации
+     */
+    public KeysetScrollPosition decode(final String token, final Sort sort) {
+        if (token == null || token.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        final Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            final String[][] entries = objectMapper.readValue(
+                    new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8),
+                    String[][].class
+            );
+            for (final String[] entry : entries) {
+                keys.put(entry[0], TAG_NULL.equals(entry[1]) ? null : PARSERS.get(entry[1]).apply(entry[2]));
+            }
+        } catch (final IOException | RuntimeException exception) {
+            throw invalidToken();
+        }
+
+        final Set<String> expected = new HashSet<>();
+        sort.forEach(order -> expected.add(order.getProperty()));
+        expected.add(FIELD_ID);
+        if (!expected.equals(keys.keySet())) {
+            throw invalidToken();
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Преобразует порцию, полученную keyset-пагинацией, в порцию с токеном следующей порции.
+     * Токен кодирует позицию последнего элемента порции.
+     *
+     * @param window порция keyset-пагинации
+     * @param <T>    тип элементов
+     * @return порция с токеном следующей порции
+     */
+    public <T> KeysetSlice<T> toSlice(final Window<T> window) {
+        final String nextToken = window.hasNext() && !window.isEmpty()
+                ? encode((KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+        return new KeysetSlice<>(window.getContent(), nextToken);
+    }
+
+    /**
+     * Возвращает метку типа значения ключа.
+     *
+     * @param value значение ключа
+     * @return метка типа
+     */
+    private static String tagOf(final Object value) {
+        final String tag = TAGS.get(value.getClass());
+        if (tag == null) {
+            throw new IllegalStateException("Unsupported keyset value type: " + value.getClass().getName());
+        }
+        return tag;
+    }
+
+    /**
+     * Создает исключение о некорректном токене.
+     *
+     * @return исключение
+     */
+    private InvalidParamException invalidToken() {
+        return new InvalidParamException(
+                translator.getMessage(MESSAGE_CODE_INVALID_PAGE_TOKEN),
+                PARAM_TOKEN
+        );
+    }
+}
@@ -3,6 +3,7 @@ package ru.bukhtaev.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
 /**
@@ -40,4 +41,20 @@ public class TransactionService {
         transactionTemplate.executeWithoutResult(status -> runnable.run());
     }
 
+    /**
+     * Выполняет код в новой транзакции, независимой от текущей.
+     * Используется в обработчиках событий, вызываемых после фиксации транзакции.
+     *
+     * @param readOnly является ли транзакция read only
+     * @param runnable код для выполнения
+     */
+    public void doInNewTransaction(final boolean readOnly, final Runnable runnable) {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (readOnly) {
+            transactionTemplate.setReadOnly(true);
+        }
+        transactionTemplate.executeWithoutResult(status -> runnable.run());
+    }
+
 }
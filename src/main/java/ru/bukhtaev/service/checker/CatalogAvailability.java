@@ -0,0 +1,71 @@
+package ru.bukhtaev.service.checker;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Доступность комплектующих каталога для сборки ПК по слотам.
+ * Для каждого слота передается битовая карта по порядковым номерам
+ * таблицы {@link CatalogOrdinalTable} той же версии: бит с номером комплектующего
+ * установлен, если комплектующее можно выбрать в слот.
+ */
+@Schema(description = "Доступность комплектующих каталога для сборки ПК")
+@Getter
+public class CatalogAvailability {
+
+    /**
+     * Доступность комплектующих по слотам сборки ПК.
+     */
+    @Schema(description = "Доступность комплектующих по слотам сборки ПК")
+    private final Map<ComputerBuildSlot, Category> categories;
+
+    /**
+     * Конструктор.
+     *
+     * @param categories доступность комплектующих по слотам сборки ПК
+     */
+    public CatalogAvailability(final Map<ComputerBuildSlot, Category> categories) {
+        this.categories = Collections.unmodifiableMap(new EnumMap<>(categories));
+    }
+
+    /**
+     * Доступность комплектующих одного слота сборки ПК.
+     */
+    @Schema(description = "Доступность комплектующих слота сборки ПК")
+    @Getter
+    public static class Category {
+
+        /**
+         * Версия таблицы порядковых номеров.
+         */
+        @Schema(description = "Версия таблицы порядковых номеров, по которой построена битовая карта")
+        private final long version;
+
+        /**
+         * Количество доступных комплектующих.
+         */
+        @Schema(description = "Количество доступных комплектующих")
+        private final int available;
+
+        /**
+         * Битовая карта доступных комплектующих.
+         */
+        @Schema(description = "Битовая карта доступных комплектующих в Base64: бит i - это бит i % 8 " +
+                "байта i / 8, завершающие нулевые байты опускаются")
+        private final String bitmap;
+
+        /**
+         * Конструктор.
+         *
+         * @param version версия таблицы порядковых номеров
+         * @param bits    порядковые номера доступных комплектующих
+         */
+        public Category(final long version, final BitSet bits) {
+            this.version = version;
+            this.available = bits.cardinality();
+            this.bitmap = Base64.getEncoder().encodeToString(bits.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.bukhtaev.model.BaseEntity;
+import ru.bukhtaev.model.ComputerBuild;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
+
+/**
+ * Сервис вычисления доступности всех комплектующих каталога для не сохраненной сборки ПК.
+ * Комплектующие каждого слота подбираются {@link CompatibleCandidateService}:
+ * комплектующее слота с одним комплектующим доступно, если им можно заменить выбранное,
+ * а комплектующее слота с несколькими комплектующими - если его можно добавить к выбранным.
+ * Доступные комплектующие отмечаются в битовых картах по таблицам {@link CatalogOrdinalService},
+ * поэтому один запрос заменяет отдельные запросы подбора комплектующих каждого типа.
+ * Комплектующие, созданные после построения таблицы, в битовую карту не попадают,
+ * пока не будут добавлены в таблицу.
+ */
+@Service
+@Transactional(
+        isolation = READ_COMMITTED,
+        readOnly = true
+)
+public class CatalogAvailabilityService {
+
+    /**
+     * Порядок просмотра каталога, применимый к комплектующим любого типа.
+     */
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.asc(BaseEntity.FIELD_ID));
+
+    /**
+     * Размер порции просмотра каталога.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Сервис получения комплектующих не сохраненной сборки ПК.
+     */
+    private final ComputerBuildResolver resolver;
+
+    /**
+     * Сервис подбора совместимых комплектующих.
+     */
+    private final CompatibleCandidateService candidateService;
+
+    /**
+     * Сервис таблиц порядковых номеров комплектующих каталога.
+     */
+    private final CatalogOrdinalService ordinalService;
+
+    /**
+     * Сервис инициализации ленивых связей сборки ПК.
+     */
+    private final ComputerBuildInitializer initializer;
+
+    /**
+     * Конструктор.
+     *
+     * @param resolver         сервис получения комплектующих не сохраненной сборки ПК
+     * @param candidateService сервис подбора совместимых комплектующих
+     * @param ordinalService   сервис таблиц порядковых номеров комплектующих каталога
+     * @param initializer      сервис инициализации ленивых связей сборки ПК
+     */
+    @Autowired
+    public CatalogAvailabilityService(
+            final ComputerBuildResolver resolver,
+            final CompatibleCandidateService candidateService,
+            final CatalogOrdinalService ordinalService,
+            final ComputerBuildInitializer initializer
+    ) {
+        this.resolver = resolver;
+        this.candidateService = candidateService;
+        this.ordinalService = ordinalService;
+        this.initializer = initializer;
+    }
+
+    /**
+     * Вычисляет доступность комплектующих каталога для не сохраненной сборки ПК.
+     *
+     * @param draft сборка ПК, комплектующие которой заданы только ID
+     * @return доступность комплектующих по слотам сборки ПК
+     */
+    public CatalogAvailability getAvailability(final ComputerBuild draft) {
+        final ComputerBuild computer = resolver.resolve(draft);
+        initializer.initialize(computer);
+
+        final Map<ComputerBuildSlot, CatalogAvailability.Category> categories =
+                new EnumMap<>(ComputerBuildSlot.class);
+        ordinalService.getTables().forEach((slot, table) -> {
+            final BitSet bits = new BitSet(table.size());
+            candidateService.forEachCompatible(
+                    ordinalService.getType(slot),
+                    computer,
+                    DEFAULT_SORT,
+                    BATCH_SIZE,
+                    candidate -> {
+                        final int ordinal = table.ordinalOf(candidate.getId());
+                        if (ordinal >= 0) {
+                            bits.set(ordinal);
+                        }
+                    }
+            );
+            categories.put(slot, new CatalogAvailability.Category(table.getVersion(), bits));
+        });
+
+        return new CatalogAvailability(categories);
+    }
+}
@@ -0,0 +1,209 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.repository.*;
+import ru.bukhtaev.service.TransactionService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
+
+import java.util.*;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.*;
+
+/**
+ * Сервис, хранящий таблицы порядковых номеров комплектующих каталога по слотам сборки ПК.
+ * Таблицы строятся по всему каталогу при первом обращении. После фиксации транзакции,
+ * создавшей или удалившей комплектующее, в таблицу его типа добавляется или из нее
+ * удаляется только это комплектующее, поэтому номера остальных комплектующих не меняются
+ * и клиенты могут кешировать таблицы по их версиям.
+ * Начальная версия таблиц берется из текущего времени, чтобы таблицы,
+ * построенные после перезапуска приложения, не совпадали по версии с прежними.
+ */
+@Component
+public class CatalogOrdinalService {
+
+    /**
+     * Типы комплектующих по слотам сборки ПК.
+     */
+    private final Map<ComputerBuildSlot, Class<? extends BaseEntity>> types = new EnumMap<>(ComputerBuildSlot.class);
+
+    /**
+     * Репозитории комплектующих по слотам сборки ПК.
+     */
+    private final Map<ComputerBuildSlot, JpaRepository<? extends BaseEntity, UUID>> repositories =
+            new EnumMap<>(ComputerBuildSlot.class);
+
+    /**
+     * Сервис выполнения кода в транзакции.
+     */
+    private final TransactionService transactionService;
+
+    /**
+     * Объект синхронизации изменения таблиц.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Актуальные таблицы порядковых номеров по слотам сборки ПК.
+     */
+    private volatile Map<ComputerBuildSlot, CatalogOrdinalTable> tables;
+
+    /**
+     * Конструктор.
+     *
+     * @param cpuRepository          репозиторий процессоров
+     * @param psuRepository          репозиторий блоков питания
+     * @param coolerRepository       репозиторий процессорных кулеров
+     * @param motherboardRepository  репозиторий материнских плат
+     * @param graphicsCardRepository репозиторий видеокарт
+     * @param computerCaseRepository репозиторий корпусов
+     * @param fanRepository          репозиторий вентиляторов
+     * @param ramModuleRepository    репозиторий модулей оперативной памяти
+     * @param hddRepository          репозиторий жестких дисков
+     * @param ssdRepository          репозиторий SSD-накопителей
+     * @param transactionService     сервис выполнения кода в транзакции
+     */
+    @Autowired
+    public CatalogOrdinalService(
+            final ICpuRepository cpuRepository,
+            final IPsuRepository psuRepository,
+            final ICoolerRepository coolerRepository,
+            final IMotherboardRepository motherboardRepository,
+            final IGraphicsCardRepository graphicsCardRepository,
+            final IComputerCaseRepository computerCaseRepository,
+            final IFanRepository fanRepository,
+            final IRamModuleRepository ramModuleRepository,
+            final IHddRepository hddRepository,
+            final ISsdRepository ssdRepository,
+            final TransactionService transactionService
+    ) {
+        this.transactionService = transactionService;
+
+        register(CPU, Cpu.class, cpuRepository);
+        register(PSU, Psu.class, psuRepository);
+        register(COOLER, Cooler.class, coolerRepository);
+        register(MOTHERBOARD, Motherboard.class, motherboardRepository);
+        register(GRAPHICS_CARD, GraphicsCard.class, graphicsCardRepository);
+        register(COMPUTER_CASE, ComputerCase.class, computerCaseRepository);
+        register(FANS, Fan.class, fanRepository);
+        register(RAM_MODULES, RamModule.class, ramModuleRepository);
+        register(HDDS, Hdd.class, hddRepository);
+        register(SSDS, Ssd.class, ssdRepository);
+    }
+
+    /**
+     * Возвращает тип комплектующих слота сборки ПК.
+     *
+     * @param slot слот сборки ПК
+     * @return тип комплектующих
+     */
+    public Class<? extends BaseEntity> getType(final ComputerBuildSlot slot) {
+        return types.get(slot);
+    }
+
+    /**
+     * Возвращает актуальную таблицу порядковых номеров комплектующих слота сборки ПК.
+     *
+     * @param slot слот сборки ПК
+     * @return таблица порядковых номеров
+     */
+    public CatalogOrdinalTable getTable(final ComputerBuildSlot slot) {
+        return getTables().get(slot);
+    }
+
+    /**
+     * Возвращает актуальные таблицы порядковых номеров всех слотов сборки ПК,
+     * при первом обращении строя их.
+     *
+     * @return таблицы порядковых номеров по слотам сборки ПК
+     */
+    public Map<ComputerBuildSlot, CatalogOrdinalTable> getTables() {
+        Map<ComputerBuildSlot, CatalogOrdinalTable> current = tables;
+        if (current == null) {
+            synchronized (lock) {
+                if (tables == null) {
+                    build();
+                }
+                current = tables;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Добавляет созданное комплектующее в таблицу или удаляет из нее удаленное.
+     * Если таблицы еще не построены, ничего не делает:
+     * они будут построены по актуальному каталогу при первом обращении.
+     *
+     * @param event событие изменения сущности
+     */
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        final Optional<ComputerBuildSlot> slot = types.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(event.getEntityType()))
+                .map(Map.Entry::getKey)
+                .findFirst();
+        if (slot.isEmpty()) {
+            return;
+        }
+
+        synchronized (lock) {
+            if (tables == null) {
+                return;
+            }
+
+            final boolean[] exists = new boolean[1];
+            transactionService.doInNewTransaction(true, () ->
+                    exists[0] = repositories.get(slot.get()).existsById(event.getId())
+            );
+
+            final CatalogOrdinalTable table = tables.get(slot.get());
+            final CatalogOrdinalTable updated = exists[0]
+                    ? table.withAppended(event.getId())
+                    : table.withRemoved(event.getId());
+            if (updated != table) {
+                final Map<ComputerBuildSlot, CatalogOrdinalTable> copy = new EnumMap<>(tables);
+                copy.put(slot.get(), updated);
+                tables = Collections.unmodifiableMap(copy);
+            }
+        }
+    }
+
+    /**
+     * Строит таблицы всех слотов сборки ПК по текущему состоянию каталога.
+     */
+    private void build() {
+        final long version = System.currentTimeMillis();
+        final Map<ComputerBuildSlot, CatalogOrdinalTable> built = new EnumMap<>(ComputerBuildSlot.class);
+
+        transactionService.doInNewTransaction(true, () -> repositories.forEach((slot, repository) -> {
+            final List<UUID> ids = repository.findAll(Sort.by(BaseEntity.FIELD_ID)).stream()
+                    .map(BaseEntity::getId)
+                    .toList();
+            built.put(slot, CatalogOrdinalTable.of(version, ids));
+        }));
+
+        tables = Collections.unmodifiableMap(built);
+    }
+
+    /**
+     * Регистрирует тип и репозиторий комплектующих слота сборки ПК.
+     *
+     * @param slot       слот сборки ПК
+     * @param type       тип комплектующих
+     * @param repository репозиторий комплектующих
+     */
+    private void register(
+            final ComputerBuildSlot slot,
+            final Class<? extends BaseEntity> type,
+            final JpaRepository<? extends BaseEntity, UUID> repository
+    ) {
+        types.put(slot, type);
+        repositories.put(slot, repository);
+    }
+}
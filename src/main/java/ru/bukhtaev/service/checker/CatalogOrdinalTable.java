@@ -0,0 +1,139 @@
+package ru.bukhtaev.service.checker;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.*;
+
+/**
+ * Неизменяемая таблица порядковых номеров комплектующих одного типа.
+ * Порядковые номера назначаются в порядке ID при построении таблицы,
+ * новые комплектующие получают следующие номера, а номера удаленных комплектующих
+ * не переиспользуются, поэтому номер комплектующего не меняется, пока таблица жива.
+ * Каждое изменение таблицы увеличивает ее версию.
+ */
+@Schema(description = "Таблица порядковых номеров комплектующих")
+public final class CatalogOrdinalTable {
+
+    /**
+     * Версия таблицы.
+     */
+    private final long version;
+
+    /**
+     * ID комплектующих по порядковым номерам, {@code null} для удаленных комплектующих.
+     */
+    private final UUID[] ids;
+
+    /**
+     * Порядковые номера комплектующих по их ID.
+     */
+    private final Map<UUID, Integer> ordinals;
+
+    /**
+     * Конструктор.
+     *
+     * @param version  версия таблицы
+     * @param ids      ID комплектующих по порядковым номерам
+     * @param ordinals порядковые номера комплектующих по их ID
+     */
+    private CatalogOrdinalTable(final long version, final UUID[] ids, final Map<UUID, Integer> ordinals) {
+        this.version = version;
+        this.ids = ids;
+        this.ordinals = ordinals;
+    }
+
+    /**
+     * Строит таблицу, назначая порядковые номера в порядке возрастания ID.
+     *
+     * @param version версия таблицы
+     * @param ids     ID комплектующих
+     * @return таблица порядковых номеров
+     */
+    public static CatalogOrdinalTable of(final long version, final Collection<UUID> ids) {
+        final UUID[] sorted = ids.toArray(UUID[]::new);
+        Arrays.sort(sorted);
+
+        final Map<UUID, Integer> ordinals = new HashMap<>(sorted.length * 2);
+        for (int i = 0; i < sorted.length; i++) {
+            ordinals.put(sorted[i], i);
+        }
+        return new CatalogOrdinalTable(version, sorted, ordinals);
+    }
+
+    /**
+     * Возвращает версию таблицы.
+     *
+     * @return версия таблицы
+     */
+    @Schema(description = "Версия таблицы")
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Возвращает ID комплектующих по порядковым номерам.
+     *
+     * @return ID комплектующих, {@code null} на месте удаленных комплектующих
+     */
+    @Schema(description = "ID комплектующих по порядковым номерам, null на месте удаленных комплектующих")
+    public List<UUID> getIds() {
+        return Collections.unmodifiableList(Arrays.asList(ids));
+    }
+
+    /**
+     * Возвращает количество порядковых номеров, включая номера удаленных комплектующих.
+     *
+     * @return количество порядковых номеров
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Возвращает порядковый номер комплектующего.
+     *
+     * @param id ID комплектующего
+     * @return порядковый номер или -1, если комплектующего нет в таблице
+     */
+    public int ordinalOf(final UUID id) {
+        final Integer ordinal = ordinals.get(id);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Возвращает таблицу, в которой комплектующему назначен следующий порядковый номер.
+     *
+     * @param id ID комплектующего
+     * @return новая таблица или эта же, если комплектующее уже есть в таблице
+     */
+    public CatalogOrdinalTable withAppended(final UUID id) {
+        if (ordinals.containsKey(id)) {
+            return this;
+        }
+
+        final UUID[] appended = Arrays.copyOf(ids, ids.length + 1);
+        appended[ids.length] = id;
+        final Map<UUID, Integer> appendedOrdinals = new HashMap<>(ordinals);
+        appendedOrdinals.put(id, ids.length);
+        return new CatalogOrdinalTable(version + 1, appended, appendedOrdinals);
+    }
+
+    /**
+     * Возвращает таблицу, в которой порядковый номер комплектующего освобожден без переиспользования.
+     *
+     * @param id ID комплектующего
+     * @return новая таблица или эта же, если комплектующего нет в таблице
+     */
+    public CatalogOrdinalTable withRemoved(final UUID id) {
+        final Integer ordinal = ordinals.get(id);
+        if (ordinal == null) {
+            return this;
+        }
+
+        final UUID[] removed = ids.clone();
+        removed[ordinal] = null;
+        final Map<UUID, Integer> removedOrdinals = new HashMap<>(ordinals);
+        removedOrdinals.remove(id);
+        return new CatalogOrdinalTable(version + 1, removed, removedOrdinals);
+    }
+}
@@ -0,0 +1,23 @@
+package ru.bukhtaev.service.checker;
+
+import java.lang.annotation.*;
+
+/**
+ * Объявляет слоты сборки ПК, которые читает сервис проверки.
+ * Результат сервиса проверки зависит только от содержимого этих слотов,
+ * поэтому при изменении других слотов его можно не выполнять повторно.
+ * Если аннотация не указана, считается, что сервис проверки читает все слоты.
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CheckedSlots {
+
+    /**
+     * Слоты сборки ПК, которые читает сервис проверки.
+     *
+     * @return слоты сборки ПК
+     */
+    ComputerBuildSlot[] value();
+}
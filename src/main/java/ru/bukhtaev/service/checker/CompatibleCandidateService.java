@@ -0,0 +1,390 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.model.cross.ComputerBuildToFan;
+import ru.bukhtaev.model.cross.ComputerBuildToHdd;
+import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
+import ru.bukhtaev.model.cross.ComputerBuildToSsd;
+import ru.bukhtaev.repository.*;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.checker.compatibility.ICompatibilityChecker;
+import ru.bukhtaev.util.KeysetSlice;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
+
+/**
+ * Сервис подбора комплектующих, совместимых с уже выбранными комплектующими
+ * не сохраненной сборки ПК.
+ * Каталог комплектующих просматривается keyset-пагинацией в заданной сортировке,
+ * предварительно суженный фильтрами {@link CompatibleCandidateSpecifications}.
+ * Каждый кандидат подставляется в копию сборки ПК и проверяется только теми сервисами
+ * проверки совместимости, которые зависят от слота кандидата.
+ */
+@Service
+@Transactional(
+        isolation = READ_COMMITTED,
+        readOnly = true
+)
+public class CompatibleCandidateService {
+
+    /**
+     * Сервис получения комплектующих не сохраненной сборки ПК.
+     */
+    private final ComputerBuildResolver resolver;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен и обратно.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
+    /**
+     * Источники кандидатов по типам комплектующих.
+     */
+    private final Map<Class<?>, CandidateSource<?>> sources = new HashMap<>();
+
+    /**
+     * Сервисы проверки совместимости комплектующих по слотам, от которых они зависят.
+     */
+    private final Map<ComputerBuildSlot, List<ICompatibilityChecker>> checkersBySlot =
+            new EnumMap<>(ComputerBuildSlot.class);
+
+    /**
+     * Конструктор.
+     *
+     * @param compatibilityCheckers  сервисы проверки сборки ПК на совместимость комплектующих
+     * @param resolver               сервис получения комплектующих не сохраненной сборки ПК
+     * @param graphService           сервис графа совместимости коннекторов
+     * @param tokenCodec             сервис преобразования позиции keyset-пагинации в токен и обратно
+     * @param cpuRepository          репозиторий процессоров
+     * @param psuRepository          репозиторий блоков питания
+     * @param coolerRepository       репозиторий процессорных кулеров
+     * @param motherboardRepository  репозиторий материнских плат
+     * @param graphicsCardRepository репозиторий видеокарт
+     * @param computerCaseRepository репозиторий корпусов
+     * @param fanRepository          репозиторий вентиляторов
+     * @param ramModuleRepository    репозиторий модулей оперативной памяти
+     * @param hddRepository          репозиторий жестких дисков
+     * @param ssdRepository          репозиторий SSD-накопителей
+     */
+    @Autowired
+    public CompatibleCandidateService(
+            final List<ICompatibilityChecker> compatibilityCheckers,
+            final ComputerBuildResolver resolver,
+            final ConnectorCompatibilityGraphService graphService,
+            final KeysetTokenCodec tokenCodec,
+            final ICpuRepository cpuRepository,
+            final IPsuRepository psuRepository,
+            final ICoolerRepository coolerRepository,
+            final IMotherboardRepository motherboardRepository,
+            final IGraphicsCardRepository graphicsCardRepository,
+            final IComputerCaseRepository computerCaseRepository,
+            final IFanRepository fanRepository,
+            final IRamModuleRepository ramModuleRepository,
+            final IHddRepository hddRepository,
+            final ISsdRepository ssdRepository
+    ) {
+        this.resolver = resolver;
+        this.tokenCodec = tokenCodec;
+
+        for (final ComputerBuildSlot slot : ComputerBuildSlot.values()) {
+            checkersBySlot.put(slot, compatibilityCheckers.stream()
+                    .filter(checker -> checker.getSlots().contains(slot))
+                    .toList());
+        }
+
+        register(Cpu.class, ComputerBuildSlot.CPU, cpuRepository,
+                CompatibleCandidateSpecifications::cpus,
+                ComputerBuild::setCpu);
+        register(Psu.class, ComputerBuildSlot.PSU, psuRepository,
+                CompatibleCandidateSpecifications::psus,
+                ComputerBuild::setPsu);
+        register(Cooler.class, ComputerBuildSlot.COOLER, coolerRepository,
+                computer -> CompatibleCandidateSpecifications.coolers(computer, graphService.getGraph()),
+                ComputerBuild::setCooler);
+        register(Motherboard.class, ComputerBuildSlot.MOTHERBOARD, motherboardRepository,
+                CompatibleCandidateSpecifications::motherboards,
+                ComputerBuild::setMotherboard);
+        register(GraphicsCard.class, ComputerBuildSlot.GRAPHICS_CARD, graphicsCardRepository,
+                CompatibleCandidateSpecifications::graphicsCards,
+                ComputerBuild::setGraphicsCard);
+        register(ComputerCase.class, ComputerBuildSlot.COMPUTER_CASE, computerCaseRepository,
+                CompatibleCandidateSpecifications::computerCases,
+                ComputerBuild::setComputerCase);
+        register(Fan.class, ComputerBuildSlot.FANS, fanRepository,
+                computer -> CompatibleCandidateSpecifications.unrestricted(),
+                (computer, fan) -> computer.addFan(fan, 1 + remove(
+                        computer.getFans(), fan, ComputerBuildToFan::getFan, ComputerBuildToFan::getCount
+                )));
+        register(RamModule.class, ComputerBuildSlot.RAM_MODULES, ramModuleRepository,
+                CompatibleCandidateSpecifications::ramModules,
+                (computer, module) -> computer.addRamModule(module, 1 + remove(
+                        computer.getRamModules(), module,
+                        ComputerBuildToRamModule::getRamModule, ComputerBuildToRamModule::getCount
+                )));
+        register(Hdd.class, ComputerBuildSlot.HDDS, hddRepository,
+                computer -> CompatibleCandidateSpecifications.unrestricted(),
+                (computer, hdd) -> computer.addHdd(hdd, 1 + remove(
+                        computer.getHdds(), hdd, ComputerBuildToHdd::getHdd, ComputerBuildToHdd::getCount
+                )));
+        register(Ssd.class, ComputerBuildSlot.SSDS, ssdRepository,
+                computer -> CompatibleCandidateSpecifications.unrestricted(),
+                (computer, ssd) -> computer.addSsd(ssd, 1 + remove(
+                        computer.getSsds(), ssd, ComputerBuildToSsd::getSsd, ComputerBuildToSsd::getCount
+                )));
+    }
+
+    /**
+     * Возвращает порцию комплектующих указанного типа, совместимых
+     * с уже выбранными комплектующими не сохраненной сборки ПК.
+     * Комплектующие, включаемые в сборку ПК в количестве, проверяются
+     * добавлением одного экземпляра к уже выбранным.
+     * Токен следующей порции указывает на последний просмотренный кандидат,
+     * поэтому следующая порция продолжает просмотр каталога с места остановки.
+     *
+     * @param type  тип комплектующих
+     * @param draft сборка ПК, комплектующие которой заданы только ID
+     * @param sort  сортировка
+     * @param limit максимальное количество комплектующих в порции
+     * @param token токен порции или {@code null} для первой порции
+     * @param <T>   тип комплектующих
+     * @return порция совместимых комплектующих
+     */
+    public <T extends BaseEntity> KeysetSlice<T> findCompatible(
+            final Class<T> type,
+            final ComputerBuild draft,
+            final Sort sort,
+            final int limit,
+            final String token
+    ) {
+        return scan(type, resolver.resolve(draft), sort, limit, tokenCodec.decode(token, sort));
+    }
+
+    /**
+     * Возвращает первые в заданной сортировке комплектующие указанного типа,
+     * совместимые с уже выбранными комплектующими сборки ПК.
+     * В отличие от {@link #findCompatible(Class, ComputerBuild, Sort, int, String)}
+     * принимает сборку ПК с уже загруженными комплектующими.
+     *
+     * @param type     тип комплектующих
+     * @param computer сборка ПК с загруженными комплектующими
+     * @param sort     сортировка
+     * @param limit    максимальное количество комплектующих
+     * @param <T>      тип комплектующих
+     * @return совместимые комплектующие
+     */
+    public <T extends BaseEntity> List<T> findCompatible(
+            final Class<T> type,
+            final ComputerBuild computer,
+            final Sort sort,
+            final int limit
+    ) {
+        return scan(type, computer, sort, limit, ScrollPosition.keyset()).getContent();
+    }
+
+    /**
+     * Передает действию все комплектующие указанного типа,
+     * совместимые с уже выбранными комплектующими сборки ПК.
+     * Каталог просматривается порциями, поэтому в памяти не удерживается больше одной порции.
+     *
+     * @param type      тип комплектующих
+     * @param computer  сборка ПК с загруженными комплектующими
+     * @param sort      сортировка
+     * @param batchSize размер порции
+     * @param action    действие над совместимым комплектующим
+     * @param <T>       тип комплектующих
+     */
+    public <T extends BaseEntity> void forEachCompatible(
+            final Class<T> type,
+            final ComputerBuild computer,
+            final Sort sort,
+            final int batchSize,
+            final Consumer<? super T> action
+    ) {
+        @SuppressWarnings("unchecked")
+        final CandidateSource<T> source = (CandidateSource<T>) sources.get(type);
+        final List<ICompatibilityChecker> checkers = checkersBySlot.get(source.slot());
+        final Specification<T> filter = source.filter().apply(computer);
+        final int size = Math.max(1, batchSize);
+
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        while (true) {
+            final KeysetScrollPosition from = position;
+            final Window<T> window = source.repository().findBy(
+                    filter,
+                    query -> query.sortBy(sort).limit(size).scroll(from)
+            );
+
+            for (final T candidate : window) {
+                if (isCompatible(computer, source, candidate, checkers)) {
+                    action.accept(candidate);
+                }
+            }
+
+            if (!window.hasNext() || window.isEmpty()) {
+                return;
+            }
+            position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        }
+    }
+
+    /**
+     * Просматривает каталог комплектующих с заданной позиции,
+     * пока не наберет порцию совместимых комплектующих или не дойдет до конца каталога.
+     *
+     * @param type     тип комплектующих
+     * @param computer сборка ПК с загруженными комплектующими
+     * @param sort     сортировка
+     * @param limit    максимальное количество комплектующих в порции
+     * @param start    позиция, с которой начинается просмотр
+     * @param <T>      тип комплектующих
+     * @return порция совместимых комплектующих
+     */
+    private <T extends BaseEntity> KeysetSlice<T> scan(
+            final Class<T> type,
+            final ComputerBuild computer,
+            final Sort sort,
+            final int limit,
+            final KeysetScrollPosition start
+    ) {
+        @SuppressWarnings("unchecked")
+        final CandidateSource<T> source = (CandidateSource<T>) sources.get(type);
+        final List<ICompatibilityChecker> checkers = checkersBySlot.get(source.slot());
+        final Specification<T> filter = source.filter().apply(computer);
+        final int size = Math.max(1, limit);
+
+        final List<T> content = new ArrayList<>(size);
+        KeysetScrollPosition position = start;
+        while (true) {
+            final KeysetScrollPosition from = position;
+            final Window<T> window = source.repository().findBy(
+                    filter,
+                    query -> query.sortBy(sort).limit(size).scroll(from)
+            );
+
+            for (int i = 0; i < window.size(); i++) {
+                final T candidate = window.getContent().get(i);
+                if (isCompatible(computer, source, candidate, checkers)) {
+                    content.add(candidate);
+                }
+                position = (KeysetScrollPosition) window.positionAt(i);
+
+                if (content.size() == size) {
+                    final boolean hasNext = i < window.size() - 1 || window.hasNext();
+                    return new KeysetSlice<>(content, hasNext ? tokenCodec.encode(position) : null);
+                }
+            }
+
+            if (!window.hasNext()) {
+                return new KeysetSlice<>(content, null);
+            }
+        }
+    }
+
+    /**
+     * Проверяет, совместим ли кандидат с уже выбранными комплектующими сборки ПК.
+     *
+     * @param computer  сборка ПК
+     * @param source    источник кандидатов
+     * @param candidate кандидат
+     * @param checkers  сервисы проверки совместимости, зависящие от слота кандидата
+     * @param <T>       тип кандидата
+     * @return {@code true}, если ни один сервис проверки не обнаружил нарушений
+     */
+    private <T extends BaseEntity> boolean isCompatible(
+            final ComputerBuild computer,
+            final CandidateSource<T> source,
+            final T candidate,
+            final List<ICompatibilityChecker> checkers
+    ) {
+        final ComputerBuild withCandidate = ComputerBuildResolver.copy(computer);
+        source.placement().accept(withCandidate, candidate);
+
+        final ComputerBuildFacts facts = ComputerBuildFacts.of(withCandidate);
+        for (final ICompatibilityChecker checker : checkers) {
+            if (checker.check(facts).isPresent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Регистрирует источник кандидатов.
+     *
+     * @param type       тип комплектующих
+     * @param slot       слот сборки ПК
+     * @param repository репозиторий комплектующих
+     * @param filter     функция построения фильтра по сборке ПК
+     * @param placement  функция подстановки кандидата в сборку ПК
+     * @param <T>        тип комплектующих
+     */
+    private <T extends BaseEntity> void register(
+            final Class<T> type,
+            final ComputerBuildSlot slot,
+            final JpaSpecificationExecutor<T> repository,
+            final Function<ComputerBuild, Specification<T>> filter,
+            final BiConsumer<ComputerBuild, T> placement
+    ) {
+        sources.put(type, new CandidateSource<>(slot, repository, filter, placement));
+    }
+
+    /**
+     * Удаляет из элементов сборки ПК элементы, ссылающиеся на комплектующее.
+     *
+     * @param items     элементы сборки ПК
+     * @param component комплектующее
+     * @param reference функция получения комплектующего из элемента сборки ПК
+     * @param count     функция получения количества из элемента сборки ПК
+     * @param <I>       тип элемента сборки ПК
+     * @param <T>       тип комплектующего
+     * @return суммарное количество удаленных комплектующих
+     */
+    private static <I, T extends BaseEntity> int remove(
+            final Set<I> items,
+            final T component,
+            final Function<I, T> reference,
+            final Function<I, Integer> count
+    ) {
+        int removed = 0;
+        final Iterator<I> iterator = items.iterator();
+        while (iterator.hasNext()) {
+            final I item = iterator.next();
+            if (component.getId().equals(reference.apply(item).getId())) {
+                removed += count.apply(item);
+                iterator.remove();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Источник кандидатов одного типа.
+     *
+     * @param slot       слот сборки ПК
+     * @param repository репозиторий комплектующих
+     * @param filter     функция построения фильтра по сборке ПК
+     * @param placement  функция подстановки кандидата в сборку ПК
+     * @param <T>        тип комплектующих
+     */
+    private record CandidateSource<T extends BaseEntity>(
+            ComputerBuildSlot slot,
+            JpaSpecificationExecutor<T> repository,
+            Function<ComputerBuild, Specification<T>> filter,
+            BiConsumer<ComputerBuild, T> placement
+    ) {
+    }
+}
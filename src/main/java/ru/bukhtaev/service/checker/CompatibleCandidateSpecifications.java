@@ -0,0 +1,341 @@
+package ru.bukhtaev.service.checker;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
+import ru.bukhtaev.model.cross.CpuToRamType;
+import ru.bukhtaev.model.dictionary.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static ru.bukhtaev.model.BaseEntity.FIELD_ID;
+
+/**
+ * Фильтры комплектующих, совместимых с уже выбранными комплектующими сборки ПК.
+ * Фильтры повторяют на уровне запроса простые условия сервисов проверки совместимости:
+ * сравнение размеров, совпадение сокетов, форм-факторов и типов оперативной памяти,
+ * совместимость коннекторов по графу совместимости.
+ * Фильтры только сужают выборку, окончательное решение принимают сами сервисы проверки,
+ * поэтому любое условие фильтра обязано быть необходимым условием совместимости.
+ */
+public final class CompatibleCandidateSpecifications {
+
+    /**
+     * Конструктор.
+     */
+    private CompatibleCandidateSpecifications() {
+    }
+
+    /**
+     * Возвращает фильтр, не накладывающий ограничений.
+     *
+     * @param <T> тип комплектующего
+     * @return фильтр
+     */
+    public static <T> Specification<T> unrestricted() {
+        return (root, query, builder) -> builder.conjunction();
+    }
+
+    /**
+     * Возвращает фильтр процессоров, совместимых с материнской платой
+     * и процессорным кулером сборки ПК.
+     *
+     * @param computer сборка ПК
+     * @return фильтр
+     */
+    public static Specification<Cpu> cpus(final ComputerBuild computer) {
+        return (root, query, builder) -> {
+            final List<Predicate> predicates = new ArrayList<>();
+
+            final Motherboard motherboard = computer.getMotherboard();
+            if (motherboard != null) {
+                predicates.add(builder.equal(root.get(Cpu.FIELD_SOCKET), motherboard.getChipset().getSocket()));
+            }
+
+            final Cooler cooler = computer.getCooler();
+            if (cooler != null) {
+                predicates.add(in(builder, root.get(Cpu.FIELD_SOCKET), cooler.getSupportedSockets()));
+                predicates.add(builder.lessThanOrEqualTo(
+                        root.get(Cpu.FIELD_MAX_TDP),
+                        cooler.getPowerDissipation()
+                ));
+            }
+
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Возвращает фильтр блоков питания, помещающихся в корпус сборки ПК.
+     *
+     * @param computer сборка ПК
+     * @return фильтр
+     */
+    public static Specification<Psu> psus(final ComputerBuild computer) {
+        return (root, query, builder) -> {
+            final List<Predicate> predicates = new ArrayList<>();
+
+            final ComputerCase computerCase = computer.getComputerCase();
+            if (computerCase != null) {
+                predicates.add(builder.lessThanOrEqualTo(
+                        root.get(Psu.FIELD_LENGTH),
+                        computerCase.getMaxPsuLength()
+                ));
+                predicates.add(in(builder, root.get(Psu.FIELD_FORM_FACTOR), computerCase.getPsuFormFactors()));
+            }
+
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Возвращает фильтр процессорных кулеров, совместимых с процессором,
+     * материнской платой и корпусом сборки ПК.
+     *
+     * @param computer сборка ПК
+     * @param graph    граф совместимости коннекторов
+     * @return фильтр
+     */
+    public static Specification<Cooler> coolers(
+            final ComputerBuild computer,
+            final ConnectorCompatibilityGraph graph
+    ) {
+        return (root, query, builder) -> {
+            final List<Predicate> predicates = new ArrayList<>();
+
+            final Cpu cpu = computer.getCpu();
+            if (cpu != null) {
+                predicates.add(builder.isMember(
+                        cpu.getSocket(),
+                        root.<Collection<Socket>>get(Cooler.FIELD_SUPPORTED_SOCKETS)
+                ));
+                predicates.add(builder.greaterThanOrEqualTo(
+                        root.get(Cooler.FIELD_POWER_DISSIPATION),
+                        cpu.getMaxTdp()
+                ));
+            }
+
+            final Motherboard motherboard = computer.getMotherboard();
+            if (motherboard != null) {
+                final UUID connectorId = motherboard.getCoolerPowerConnector().getId();
+                final Set<UUID> acceptedIds = new HashSet<>(graph.getCompatibleIds(
+                        FanPowerConnector.class,
+                        connectorId
+                ));
+                acceptedIds.add(connectorId);
+                predicates.add(root.get(Cooler.FIELD_POWER_CONNECTOR).get(FIELD_ID).in(acceptedIds));
+            }
+
+            final ComputerCase computerCase = computer.getComputerCase();
+            if (computerCase != null) {
+                predicates.add(builder.lessThanOrEqualTo(
+                        root.get(Cooler.FIELD_HEIGHT),
+                        computerCase.getMaxCoolerHeight()
+                ));
+            }
+
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Возвращает фильтр материнских плат, совместимых с процессором,
+     * корпусом и модулями оперативной памяти сборки ПК.
+     *
+     * @param computer сборка ПК
+     * @return фильтр
+     */
+    public static Specification<Motherboard> motherboards(final ComputerBuild computer) {
+        return (root, query, builder) -> {
+            final List<Predicate> predicates = new ArrayList<>();
+
+            final Cpu cpu = computer.getCpu();
+            if (cpu != null) {
+                predicates.add(builder.equal(
+                        root.get(Motherboard.FIELD_CHIPSET).get(Chipset.FIELD_SOCKET),
+                        cpu.getSocket()
+                ));
+                predicates.add(in(builder, root.get(Motherboard.FIELD_RAM_TYPE), ramTypesOf(cpu)));
+            }
+
+            final ComputerCase computerCase = computer.getComputerCase();
+            if (computerCase != null) {
+                predicates.add(in(
+                        builder,
+                        root.get(Motherboard.FIELD_FORM_FACTOR),
+                        computerCase.getMotherboardFormFactors()
+                ));
+            }
+
+            final Set<RamType> modulesRamTypes = ramTypesOf(computer.getRamModules());
+            if (modulesRamTypes.size() == 1) {
+                predicates.add(builder.equal(
+                        root.get(Motherboard.FIELD_RAM_TYPE),
+                        modulesRamTypes.iterator().next()
+                ));
+            }
+
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Возвращает фильтр видеокарт, помещающихся в корпус сборки ПК.
+     *
+     * @param computer сборка ПК
+     * @return фильтр
+     */
+    public static Specification<GraphicsCard> graphicsCards(final ComputerBuild computer) {
+        return (root, query, builder) -> {
+            final List<Predicate> predicates = new ArrayList<>();
+
+            final ComputerCase computerCase = computer.getComputerCase();
+            if (computerCase != null) {
+                predicates.add(builder.lessThanOrEqualTo(
+                        root.get(GraphicsCard.FIELD_LENGTH),
+                        computerCase.getMaxGraphicsCardLength()
+                ));
+            }
+
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Возвращает фильтр корпусов, вмещающих блок питания, процессорный кулер,
+     * материнскую плату и видеокарту сборки ПК.
+     *
+     * @param computer сборка ПК
+     * @return фильтр
+     */
+    public static Specification<ComputerCase> computerCases(final ComputerBuild computer) {
+        return (root, query, builder) -> {
+            final List<Predicate> predicates = new ArrayList<>();
+
+            final Psu psu = computer.getPsu();
+            if (psu != null) {
+                predicates.add(builder.greaterThanOrEqualTo(
+                        root.get(ComputerCase.FIELD_MAX_PSU_LENGTH),
+                        psu.getLength()
+                ));
+                predicates.add(builder.isMember(
+                        psu.getFormFactor(),
+                        root.<Collection<PsuFormFactor>>get(ComputerCase.FIELD_SUPPORTED_PSU_FORM_FACTORS)
+                ));
+            }
+
+            final Cooler cooler = computer.getCooler();
+            if (cooler != null) {
+                predicates.add(builder.greaterThanOrEqualTo(
+                        root.get(ComputerCase.FIELD_MAX_COOLER_HEIGHT),
+                        cooler.getHeight()
+                ));
+            }
+
+            final Motherboard motherboard = computer.getMotherboard();
+            if (motherboard != null) {
+                predicates.add(builder.isMember(
+                        motherboard.getFormFactor(),
+                        root.<Collection<MotherboardFormFactor>>get(
+                                ComputerCase.FIELD_SUPPORTED_MOTHERBOARD_FORM_FACTORS
+                        )
+                ));
+            }
+
+            final GraphicsCard graphicsCard = computer.getGraphicsCard();
+            if (graphicsCard != null) {
+                predicates.add(builder.greaterThanOrEqualTo(
+                        root.get(ComputerCase.FIELD_MAX_GRAPHICS_CARD_LENGTH),
+                        graphicsCard.getLength()
+                ));
+            }
+
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Возвращает фильтр модулей оперативной памяти, совместимых с процессором,
+     * материнской платой и уже выбранными модулями оперативной памяти сборки ПК.
+     *
+     * @param computer сборка ПК
+     * @return фильтр
+     */
+    public static Specification<RamModule> ramModules(final ComputerBuild computer) {
+        return (root, query, builder) -> {
+            final List<Predicate> predicates = new ArrayList<>();
+
+            final Cpu cpu = computer.getCpu();
+            if (cpu != null) {
+                predicates.add(in(builder, root.get(RamModule.FIELD_TYPE), ramTypesOf(cpu)));
+            }
+
+            final Motherboard motherboard = computer.getMotherboard();
+            if (motherboard != null) {
+                predicates.add(builder.equal(root.get(RamModule.FIELD_TYPE), motherboard.getRamType()));
+            }
+
+            final Set<RamType> modulesRamTypes = ramTypesOf(computer.getRamModules());
+            if (modulesRamTypes.size() == 1) {
+                predicates.add(builder.equal(
+                        root.get(RamModule.FIELD_TYPE),
+                        modulesRamTypes.iterator().next()
+                ));
+            }
+
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Создает условие вхождения значения в набор.
+     * Для пустого набора условие всегда ложно.
+     *
+     * @param builder    построитель условий
+     * @param expression значение
+     * @param values     набор допустимых значений
+     * @return условие
+     */
+    private static Predicate in(
+            final CriteriaBuilder builder,
+            final Expression<?> expression,
+            final Collection<?> values
+    ) {
+        return values.isEmpty()
+                ? builder.disjunction()
+                : expression.in(values);
+    }
+
+    /**
+     * Возвращает типы оперативной памяти, поддерживаемые процессором.
+     *
+     * @param cpu процессор
+     * @return типы оперативной памяти
+     */
+    private static Set<RamType> ramTypesOf(final Cpu cpu) {
+        return cpu.getSupportedRamTypes()
+                .stream()
+                .map(CpuToRamType::getRamType)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Возвращает типы включенных в сборку ПК модулей оперативной памяти.
+     *
+     * @param computerToModules включенные в сборку ПК модули оперативной памяти
+     * @return типы оперативной памяти
+     */
+    private static Set<RamType> ramTypesOf(final Set<ComputerBuildToRamModule> computerToModules) {
+        if (computerToModules == null) {
+            return Collections.emptySet();
+        }
+
+        return computerToModules.stream()
+                .map(ctm -> ctm.getRamModule().getType())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,111 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.data.domain.Sort;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.model.Motherboard;
+import ru.bukhtaev.model.Psu;
+import ru.bukhtaev.model.RamModule;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.*;
+
+/**
+ * Критерий ранжирования вариантов автодополнения сборки ПК.
+ * Лучшим считается вариант с наибольшей оценкой.
+ */
+public enum CompletionObjective {
+
+    /**
+     * Запас мощности блока питания по линии 12V сверх мощности,
+     * которую требует проверка {@link ru.bukhtaev.service.checker.compatibility.PsuPowerChecker}.
+     */
+    PSU_12V_HEADROOM(
+            Set.of(CPU, PSU, GRAPHICS_CARD),
+            Map.of(PSU, Sort.by(Sort.Order.desc(Psu.FIELD_POWER_12V))),
+            computer -> computer.getPsu().getPower12V() - Math.round(
+                    (computer.getCpu().getMaxTdp() + computer.getGraphicsCard().getGpu().getPowerConsumption()) * 1.5
+            )
+    ),
+
+    /**
+     * Суммарный объем модулей оперативной памяти.
+     */
+    RAM_CAPACITY(
+            Set.of(RAM_MODULES),
+            Map.of(
+                    RAM_MODULES, Sort.by(Sort.Order.desc(RamModule.FIELD_CAPACITY)),
+                    MOTHERBOARD, Sort.by(Sort.Order.desc(Motherboard.FIELD_MAX_MEMORY_SIZE))
+            ),
+            computer -> computer.getRamModules()
+                    .stream()
+                    .mapToLong(item -> (long) item.getRamModule().getCapacity() * item.getCount())
+                    .sum()
+    );
+
+    /**
+     * Слоты, от которых зависит оценка.
+     */
+    private final Set<ComputerBuildSlot> slots;
+
+    /**
+     * Порядок просмотра кандидатов по слотам, при котором
+     * лучшие по критерию кандидаты рассматриваются первыми.
+     */
+    private final Map<ComputerBuildSlot, Sort> sorts;
+
+    /**
+     * Функция вычисления оценки.
+     */
+    private final ToLongFunction<ComputerBuild> score;
+
+    /**
+     * Конструктор.
+     *
+     * @param slots слоты, от которых зависит оценка
+     * @param sorts порядок просмотра кандидатов по слотам
+     * @param score функция вычисления оценки
+     */
+    CompletionObjective(
+            final Set<ComputerBuildSlot> slots,
+            final Map<ComputerBuildSlot, Sort> sorts,
+            final ToLongFunction<ComputerBuild> score
+    ) {
+        this.slots = slots;
+        this.sorts = sorts;
+        this.score = score;
+    }
+
+    /**
+     * Возвращает слоты, от которых зависит оценка.
+     *
+     * @return слоты, от которых зависит оценка
+     */
+    public Set<ComputerBuildSlot> getSlots() {
+        return slots;
+    }
+
+    /**
+     * Возвращает порядок просмотра кандидатов для слота.
+     *
+     * @param slot        слот сборки ПК
+     * @param defaultSort порядок по умолчанию
+     * @return порядок просмотра кандидатов
+     */
+    public Sort getSort(final ComputerBuildSlot slot, final Sort defaultSort) {
+        return sorts.getOrDefault(slot, defaultSort);
+    }
+
+    /**
+     * Вычисляет оценку сборки ПК, в которой заполнены все слоты,
+     * от которых зависит оценка.
+     *
+     * @param computer сборка ПК
+     * @return оценка
+     */
+    public long score(final ComputerBuild computer) {
+        return score.applyAsLong(computer);
+    }
+}
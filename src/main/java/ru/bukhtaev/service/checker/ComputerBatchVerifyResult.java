@@ -0,0 +1,34 @@
+package ru.bukhtaev.service.checker;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * DTO для результата проверки одной сборки ПК в рамках пакетной проверки.
+ * Содержит либо результат проверки, либо сообщение об ошибке.
+ */
+@Schema(description = "Результат проверки одной сборки ПК в рамках пакетной проверки")
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ComputerBatchVerifyResult {
+
+    /**
+     * ID сборки ПК.
+     */
+    private final UUID id;
+
+    /**
+     * Результат проверки.
+     */
+    private final ComputerVerifyResult result;
+
+    /**
+     * Сообщение об ошибке, если проверить сборку ПК не удалось.
+     */
+    private final String errorMessage;
+}
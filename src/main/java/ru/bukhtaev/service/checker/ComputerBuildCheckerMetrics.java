@@ -0,0 +1,176 @@
+package ru.bukhtaev.service.checker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Метрики сервисов проверки сборок ПК.
+ * Для каждого сервиса проверки учитываются время выполнения (количество вызовов
+ * доступно как количество измерений таймера), количество обнаруженных нарушений
+ * и количество ошибок. Метрики помечаются классом сервиса проверки
+ * и его порядком выполнения.
+ */
+@Component
+public class ComputerBuildCheckerMetrics {
+
+    /**
+     * Название таймера выполнения сервисов проверки.
+     */
+    public static final String METRIC_CHECKER_DURATION = "computer.build.checker.duration";
+
+    /**
+     * Название счетчика нарушений, обнаруженных сервисами проверки.
+     */
+    public static final String METRIC_CHECKER_VIOLATIONS = "computer.build.checker.violations";
+
+    /**
+     * Название счетчика ошибок сервисов проверки.
+     */
+    public static final String METRIC_CHECKER_ERRORS = "computer.build.checker.errors";
+
+    /**
+     * Название гистограммы времени проверки сборок ПК.
+     */
+    public static final String METRIC_VERIFICATION_DURATION = "computer.build.verification.duration";
+
+    /**
+     * Название тега с классом сервиса проверки.
+     */
+    public static final String TAG_CHECKER = "checker";
+
+    /**
+     * Название тега с порядком выполнения сервиса проверки.
+     */
+    public static final String TAG_ORDER = "order";
+
+    /**
+     * Название тега с режимом проверки.
+     */
+    public static final String TAG_MODE = "mode";
+
+    /**
+     * Название тега с режимом выполнения сервисов проверки.
+     */
+    public static final String TAG_PARALLEL = "parallel";
+
+    /**
+     * Реестр метрик.
+     */
+    private final MeterRegistry registry;
+
+    /**
+     * Метрики по классам сервисов проверки.
+     */
+    private final Map<Class<?>, CheckerMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Конструктор.
+     *
+     * @param registry реестр метрик
+     */
+    @Autowired
+    public ComputerBuildCheckerMetrics(final MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Выполняет сервис проверки над сборкой ПК, учитывая время выполнения,
+     * обнаруженное нарушение и ошибку, если она возникла.
+     *
+     * @param checker сервис проверки
+     * @param facts   значения сборки ПК, общие для всех сервисов проверки
+     * @return объект типа {@link Optional} с нарушением, если оно обнаружено
+     */
+    public Optional<ComputerBuildViolation> check(
+            final IComputerBuildChecker checker,
+            final ComputerBuildFacts facts
+    ) {
+        final CheckerMeters checkerMeters = meters.computeIfAbsent(checker.getClass(), this::register);
+        final long start = System.nanoTime();
+
+        try {
+            final Optional<ComputerBuildViolation> violation = checker.check(facts);
+            if (violation.isPresent()) {
+                checkerMeters.violations().increment();
+            }
+            return violation;
+
+        } catch (final RuntimeException exception) {
+            checkerMeters.errors().increment();
+            throw exception;
+
+        } finally {
+            checkerMeters.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Выполняет проверку сборки ПК, учитывая ее время в гистограмме.
+     *
+     * @param mode         режим проверки
+     * @param parallel     выполняются ли сервисы проверки параллельно
+     * @param verification проверка сборки ПК
+     */
+    public void recordVerification(
+            final VerificationMode mode,
+            final boolean parallel,
+            final Runnable verification
+    ) {
+        Timer.builder(METRIC_VERIFICATION_DURATION)
+                .description("Время проверки сборки ПК всеми затронутыми сервисами проверки")
+                .tag(TAG_MODE, mode.name())
+                .tag(TAG_PARALLEL, Boolean.toString(parallel))
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(verification);
+    }
+
+    /**
+     * Регистрирует метрики сервиса проверки.
+     *
+     * @param type класс сервиса проверки
+     * @return метрики сервиса проверки
+     */
+    private CheckerMeters register(final Class<?> type) {
+        final Tags tags = Tags.of(
+                TAG_CHECKER, type.getSimpleName(),
+                TAG_ORDER, Integer.toString(OrderUtils.getOrder(type, Ordered.LOWEST_PRECEDENCE))
+        );
+
+        return new CheckerMeters(
+                Timer.builder(METRIC_CHECKER_DURATION)
+                        .description("Время выполнения сервиса проверки сборки ПК")
+                        .tags(tags)
+                        .register(registry),
+                Counter.builder(METRIC_CHECKER_VIOLATIONS)
+                        .description("Количество нарушений, обнаруженных сервисом проверки сборки ПК")
+                        .tags(tags)
+                        .register(registry),
+                Counter.builder(METRIC_CHECKER_ERRORS)
+                        .description("Количество ошибок при выполнении сервиса проверки сборки ПК")
+                        .tags(tags)
+                        .register(registry)
+        );
+    }
+
+    /**
+     * Метрики сервиса проверки.
+     *
+     * @param timer      таймер выполнения
+     * @param violations счетчик обнаруженных нарушений
+     * @param errors     счетчик ошибок
+     */
+    private record CheckerMeters(Timer timer, Counter violations, Counter errors) {
+    }
+}
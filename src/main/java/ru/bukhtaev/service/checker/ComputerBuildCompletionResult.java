@@ -0,0 +1,95 @@
+package ru.bukhtaev.service.checker;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Результат автодополнения сборки ПК: лучшие по критерию варианты
+ * в порядке убывания оценки.
+ *
+ * @param <T> тип представления сборки ПК
+ */
+@Schema(description = "Результат автодополнения сборки ПК")
+@Getter
+public class ComputerBuildCompletionResult<T> {
+
+    /**
+     * Варианты сборки ПК в порядке убывания оценки.
+     */
+    @Schema(description = "Варианты сборки ПК в порядке убывания оценки")
+    private final List<Candidate<T>> candidates;
+
+    /**
+     * Перебраны ли все варианты: отведенное время не истекло
+     * и кандидаты ни одного слота не были ограничены размером домена.
+     * Если нет, результат содержит лучшие из найденных вариантов.
+     */
+    @Schema(description = "Перебраны ли все варианты: время не истекло и кандидаты слотов не ограничивались")
+    private final boolean exhaustive;
+
+    /**
+     * Конструктор.
+     *
+     * @param candidates варианты сборки ПК в порядке убывания оценки
+     * @param exhaustive перебраны ли все варианты
+     */
+    public ComputerBuildCompletionResult(final List<Candidate<T>> candidates, final boolean exhaustive) {
+        this.candidates = List.copyOf(candidates);
+        this.exhaustive = exhaustive;
+    }
+
+    /**
+     * Преобразует сборки ПК вариантов, сохраняя их оценки.
+     *
+     * @param converter функция преобразования сборок ПК
+     * @param <R>       тип преобразованного представления сборки ПК
+     * @return результат с преобразованными сборками ПК
+     */
+    public <R> ComputerBuildCompletionResult<R> map(final Function<? super T, ? extends R> converter) {
+        return new ComputerBuildCompletionResult<>(
+                candidates.stream()
+                        .<Candidate<R>>map(candidate -> new Candidate<>(
+                                converter.apply(candidate.getBuild()),
+                                candidate.getScore()
+                        ))
+                        .toList(),
+                exhaustive
+        );
+    }
+
+    /**
+     * Вариант сборки ПК.
+     *
+     * @param <T> тип представления сборки ПК
+     */
+    @Schema(description = "Вариант сборки ПК")
+    @Getter
+    public static class Candidate<T> {
+
+        /**
+         * Сборка ПК.
+         */
+        @Schema(description = "Сборка ПК")
+        private final T build;
+
+        /**
+         * Оценка по критерию автодополнения.
+         */
+        @Schema(description = "Оценка по критерию автодополнения")
+        private final long score;
+
+        /**
+         * Конструктор.
+         *
+         * @param build сборка ПК
+         * @param score оценка по критерию автодополнения
+         */
+        public Candidate(final T build, final long score) {
+            this.build = build;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,505 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.bukhtaev.config.CompletionProperties;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.service.checker.ComputerBuildCompletionResult.Candidate;
+import ru.bukhtaev.service.checker.compatibility.ICompatibilityChecker;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
+import static ru.bukhtaev.config.CompletionConfig.COMPLETION_POOL;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.*;
+
+/**
+ * Сервис автодополнения сборки ПК.
+ * Заполняет пустые слоты процессора, материнской платы, модулей оперативной памяти,
+ * процессорного кулера, видеокарты, блока питания и корпуса совместимыми комплектующими
+ * и возвращает лучшие по критерию {@link CompletionObjective} варианты.
+ * <p>
+ * Кандидаты каждого слота отбираются {@link CompatibleCandidateService} по уже выбранным
+ * комплектующим. Это эвристика: для слота берутся только первые {@code domain-size} кандидатов
+ * в порядке, в котором критерий рассматривает лучших кандидатов первыми, поэтому перебор полон
+ * только среди них. Если кандидатов какого-либо слота больше, результат помечается неполным.
+ * Далее выполняется перебор с возвратом: после выбора комплектующего
+ * кандидаты остальных слотов сразу проверяются сервисами проверки совместимости,
+ * зависящими от обоих слотов, и несовместимые кандидаты отбрасываются.
+ * Следующим заполняется слот, от которого зависит оценка, а среди остальных -
+ * слот с наименьшим числом оставшихся кандидатов. Как только заполнены все слоты,
+ * от которых зависит оценка, ветви, не способные попасть в лучшие варианты, отсекаются.
+ * Ветви первого слота перебираются параллельно, весь перебор ограничен по времени:
+ * по его истечении ветви, в том числе еще не начатые ветви первого слота, не перебираются.
+ * <p>
+ * Вентиляторы и накопители не подбираются и остаются такими, как в исходной сборке ПК.
+ */
+@Service
+@Transactional(
+        isolation = READ_COMMITTED,
+        readOnly = true
+)
+public class ComputerBuildCompletionService {
+
+    /**
+     * Порядок просмотра кандидатов, если критерий не задает другой.
+     * Сортировка по ID применима к комплектующим любого типа, в том числе не имеющим названия.
+     */
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.asc(BaseEntity.FIELD_ID));
+
+    /**
+     * Сервисы проверки сборки ПК на совместимость комплектующих.
+     */
+    private final List<ICompatibilityChecker> compatibilityCheckers;
+
+    /**
+     * Сервисы проверки совместимости комплектующих по слотам, от которых они зависят.
+     */
+    private final Map<ComputerBuildSlot, List<ICompatibilityChecker>> checkersBySlot =
+            new EnumMap<>(ComputerBuildSlot.class);
+
+    /**
+     * Сервисы проверки совместимости комплектующих, зависящие одновременно от двух слотов.
+     */
+    private final Map<ComputerBuildSlot, Map<ComputerBuildSlot, List<ICompatibilityChecker>>> checkersBySlots =
+            new EnumMap<>(ComputerBuildSlot.class);
+
+    /**
+     * Сервис получения комплектующих не сохраненной сборки ПК.
+     */
+    private final ComputerBuildResolver resolver;
+
+    /**
+     * Сервис подбора совместимых комплектующих.
+     */
+    private final CompatibleCandidateService candidateService;
+
+    /**
+     * Сервис инициализации ленивых связей сборки ПК.
+     */
+    private final ComputerBuildInitializer initializer;
+
+    /**
+     * Настройки автодополнения сборок ПК.
+     */
+    private final CompletionProperties properties;
+
+    /**
+     * Пул потоков для параллельного перебора вариантов.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Конструктор.
+     *
+     * @param compatibilityCheckers сервисы проверки сборки ПК на совместимость комплектующих
+     * @param resolver              сервис получения комплектующих не сохраненной сборки ПК
+     * @param candidateService      сервис подбора совместимых комплектующих
+     * @param initializer           сервис инициализации ленивых связей сборки ПК
+     * @param properties            настройки автодополнения сборок ПК
+     * @param pool                  пул потоков для параллельного перебора вариантов
+     */
+    @Autowired
+    public ComputerBuildCompletionService(
+            final List<ICompatibilityChecker> compatibilityCheckers,
+            final ComputerBuildResolver resolver,
+            final CompatibleCandidateService candidateService,
+            final ComputerBuildInitializer initializer,
+            final CompletionProperties properties,
+            @Qualifier(COMPLETION_POOL) final ForkJoinPool pool
+    ) {
+        this.compatibilityCheckers = compatibilityCheckers;
+        this.resolver = resolver;
+        this.candidateService = candidateService;
+        this.initializer = initializer;
+        this.properties = properties;
+        this.pool = pool;
+
+        for (final ComputerBuildSlot slot : ComputerBuildSlot.values()) {
+            checkersBySlot.put(slot, compatibilityCheckers.stream()
+                    .filter(checker -> checker.getSlots().contains(slot))
+                    .toList());
+
+            final Map<ComputerBuildSlot, List<ICompatibilityChecker>> byOtherSlot =
+                    new EnumMap<>(ComputerBuildSlot.class);
+            for (final ComputerBuildSlot other : ComputerBuildSlot.values()) {
+                byOtherSlot.put(other, compatibilityCheckers.stream()
+                        .filter(checker -> checker.getSlots().contains(slot) && checker.getSlots().contains(other))
+                        .toList());
+            }
+            checkersBySlots.put(slot, byOtherSlot);
+        }
+    }
+
+    /**
+     * Заполняет пустые слоты не сохраненной сборки ПК совместимыми комплектующими
+     * и возвращает лучшие по критерию варианты.
+     * Если уже выбранные комплектующие несовместимы между собой
+     * или для какого-либо слота нет совместимых кандидатов, возвращает пустой результат.
+     *
+     * @param draft     сборка ПК, комплектующие которой заданы только ID
+     * @param objective критерий ранжирования вариантов
+     * @param limit     максимальное количество вариантов
+     * @return лучшие варианты в порядке убывания оценки
+     */
+    public ComputerBuildCompletionResult<ComputerBuild> complete(
+            final ComputerBuild draft,
+            final CompletionObjective objective,
+            final int limit
+    ) {
+        final long deadline = System.nanoTime() + properties.getTimeBudget().toNanos();
+        final ComputerBuild computer = resolver.resolve(draft);
+        initializer.initialize(computer);
+
+        if (!SlotAssignment.passes(computer, compatibilityCheckers)) {
+            return new ComputerBuildCompletionResult<>(List.of(), true);
+        }
+
+        final Map<ComputerBuildSlot, List<SlotAssignment>> domains = new EnumMap<>(ComputerBuildSlot.class);
+        final int domainSize = Math.max(1, properties.getDomainSize());
+        boolean truncated = false;
+        for (final Map.Entry<ComputerBuildSlot, Class<? extends BaseEntity>> entry
+                : SlotAssignment.ASSIGNABLE_SLOTS.entrySet()) {
+            final ComputerBuildSlot slot = entry.getKey();
+            if (SlotAssignment.isFilled(computer, slot)) {
+                continue;
+            }
+
+            final List<? extends BaseEntity> components = candidateService.findCompatible(
+                    entry.getValue(),
+                    computer,
+                    objective.getSort(slot, DEFAULT_SORT),
+                    domainSize + 1
+            );
+            if (components.size() > domainSize) {
+                truncated = true;
+            }
+
+            final List<SlotAssignment> domain = toDomain(
+                    computer,
+                    slot,
+                    components.subList(0, Math.min(domainSize, components.size()))
+            );
+            if (domain.isEmpty()) {
+                return new ComputerBuildCompletionResult<>(List.of(), !truncated);
+            }
+            domains.put(slot, domain);
+        }
+
+        final Search search = new Search(
+                objective,
+                Math.min(Math.max(1, limit), properties.getMaxResults()),
+                deadline,
+                truncated
+        );
+        search.run(computer, domains);
+        return search.result();
+    }
+
+    /**
+     * Преобразует совместимые с уже выбранными комплектующими кандидаты слота в назначения.
+     * Модули оперативной памяти рассматриваются в каждом из допустимых количеств.
+     *
+     * @param computer   сборка ПК
+     * @param slot       слот сборки ПК
+     * @param components кандидаты слота
+     * @return назначения слота
+     */
+    private List<SlotAssignment> toDomain(
+            final ComputerBuild computer,
+            final ComputerBuildSlot slot,
+            final List<? extends BaseEntity> components
+    ) {
+        final List<SlotAssignment> domain = new ArrayList<>();
+        for (final BaseEntity component : components) {
+            initializer.initializeComponent(component);
+
+            if (slot != RAM_MODULES) {
+                domain.add(new SlotAssignment(slot, component, 1));
+                continue;
+            }
+
+            properties.getRamModuleCounts()
+                    .stream()
+                    .sorted(Comparator.reverseOrder())
+                    .map(count -> new SlotAssignment(slot, component, count))
+                    .filter(value -> value.isCompatible(computer, checkersBySlot.get(slot)))
+                    .forEach(domain::add);
+        }
+        return domain;
+    }
+
+    /**
+     * Перебор вариантов одной сборки ПК.
+     */
+    private final class Search {
+
+        /**
+         * Критерий ранжирования вариантов.
+         */
+        private final CompletionObjective objective;
+
+        /**
+         * Максимальное количество вариантов.
+         */
+        private final int limit;
+
+        /**
+         * Момент истечения отведенного времени в единицах {@link System#nanoTime()}.
+         */
+        private final long deadline;
+
+        /**
+         * Были ли кандидаты какого-либо слота ограничены размером домена.
+         */
+        private final boolean truncated;
+
+        /**
+         * Лучшие найденные варианты, худший - в голове очереди.
+         */
+        private final PriorityQueue<Candidate<ComputerBuild>> best =
+                new PriorityQueue<>(Comparator.comparingLong(Candidate::getScore));
+
+        /**
+         * Истекло ли отведенное время.
+         */
+        private volatile boolean expired;
+
+        /**
+         * Конструктор.
+         *
+         * @param objective критерий ранжирования вариантов
+         * @param limit     максимальное количество вариантов
+         * @param deadline  момент истечения отведенного времени
+         * @param truncated были ли кандидаты какого-либо слота ограничены размером домена
+         */
+        private Search(
+                final CompletionObjective objective,
+                final int limit,
+                final long deadline,
+                final boolean truncated
+        ) {
+            this.objective = objective;
+            this.limit = limit;
+            this.deadline = deadline;
+            this.truncated = truncated;
+        }
+
+        /**
+         * Запускает перебор, распределяя ветви первого заполняемого слота
+         * между потоками пула. Ветвь, до которой очередь дошла после истечения
+         * отведенного времени, не перебирается.
+         *
+         * @param computer сборка ПК
+         * @param domains  кандидаты пустых слотов
+         */
+        private void run(
+                final ComputerBuild computer,
+                final Map<ComputerBuildSlot, List<SlotAssignment>> domains
+        ) {
+            if (domains.isEmpty()) {
+                offer(computer);
+                return;
+            }
+
+            final ComputerBuildSlot slot = select(domains);
+            final List<ForkJoinTask<?>> branches = domains.get(slot)
+                    .stream()
+                    .<ForkJoinTask<?>>map(value -> ForkJoinTask.adapt(() -> {
+                        if (!isExpired()) {
+                            descend(ComputerBuildResolver.copy(computer), domains, slot, value);
+                        }
+                    }))
+                    .toList();
+
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(branches)));
+        }
+
+        /**
+         * Возвращает найденные варианты в порядке убывания оценки.
+         *
+         * @return результат автодополнения
+         */
+        private ComputerBuildCompletionResult<ComputerBuild> result() {
+            final List<Candidate<ComputerBuild>> candidates;
+            synchronized (best) {
+                candidates = new ArrayList<>(best);
+            }
+            candidates.sort(Comparator.comparingLong(Candidate<ComputerBuild>::getScore).reversed());
+            return new ComputerBuildCompletionResult<>(candidates, !expired && !truncated);
+        }
+
+        /**
+         * Перебирает варианты заполнения оставшихся слотов.
+         *
+         * @param computer сборка ПК
+         * @param domains  оставшиеся кандидаты пустых слотов
+         */
+        private void search(
+                final ComputerBuild computer,
+                final Map<ComputerBuildSlot, List<SlotAssignment>> domains
+        ) {
+            if (domains.isEmpty()) {
+                offer(computer);
+                return;
+            }
+
+            final ComputerBuildSlot slot = select(domains);
+            for (final SlotAssignment value : domains.get(slot)) {
+                if (isExpired()) {
+                    return;
+                }
+                descend(computer, domains, slot, value);
+            }
+        }
+
+        /**
+         * Заполняет слот кандидатом, отбрасывает несовместимых с ним кандидатов
+         * остальных слотов и продолжает перебор.
+         *
+         * @param computer сборка ПК
+         * @param domains  оставшиеся кандидаты пустых слотов
+         * @param slot     заполняемый слот
+         * @param value    кандидат
+         */
+        private void descend(
+                final ComputerBuild computer,
+                final Map<ComputerBuildSlot, List<SlotAssignment>> domains,
+                final ComputerBuildSlot slot,
+                final SlotAssignment value
+        ) {
+            value.place(computer);
+            try {
+                if (isHopeless(computer, domains, slot)) {
+                    return;
+                }
+
+                final Map<ComputerBuildSlot, List<SlotAssignment>> next = forwardCheck(computer, domains, slot);
+                if (next != null) {
+                    search(computer, next);
+                }
+            } finally {
+                value.remove(computer);
+            }
+        }
+
+        /**
+         * Оставляет кандидатов пустых слотов, совместимых с только что выбранным комплектующим.
+         *
+         * @param computer сборка ПК
+         * @param domains  оставшиеся кандидаты пустых слотов
+         * @param assigned только что заполненный слот
+         * @return кандидаты слотов, оставшихся пустыми, или {@code null},
+         * если для какого-либо слота не осталось кандидатов
+         */
+        private Map<ComputerBuildSlot, List<SlotAssignment>> forwardCheck(
+                final ComputerBuild computer,
+                final Map<ComputerBuildSlot, List<SlotAssignment>> domains,
+                final ComputerBuildSlot assigned
+        ) {
+            final Map<ComputerBuildSlot, List<SlotAssignment>> next = new EnumMap<>(ComputerBuildSlot.class);
+            for (final Map.Entry<ComputerBuildSlot, List<SlotAssignment>> entry : domains.entrySet()) {
+                final ComputerBuildSlot slot = entry.getKey();
+                if (slot == assigned) {
+                    continue;
+                }
+
+                final List<ICompatibilityChecker> checkers = checkersBySlots.get(slot).get(assigned);
+                if (checkers.isEmpty()) {
+                    next.put(slot, entry.getValue());
+                    continue;
+                }
+
+                final List<SlotAssignment> values = new ArrayList<>(entry.getValue().size());
+                for (final SlotAssignment value : entry.getValue()) {
+                    if (value.isCompatible(computer, checkers)) {
+                        values.add(value);
+                    }
+                }
+                if (values.isEmpty()) {
+                    return null;
+                }
+                next.put(slot, values);
+            }
+            return next;
+        }
+
+        /**
+         * Выбирает следующий заполняемый слот: сначала слоты, от которых зависит оценка,
+         * затем слоты с наименьшим числом оставшихся кандидатов.
+         *
+         * @param domains оставшиеся кандидаты пустых слотов
+         * @return слот
+         */
+        private ComputerBuildSlot select(final Map<ComputerBuildSlot, List<SlotAssignment>> domains) {
+            return domains.entrySet()
+                    .stream()
+                    .min(Comparator.<Map.Entry<ComputerBuildSlot, List<SlotAssignment>>, Boolean>comparing(
+                                    entry -> !objective.getSlots().contains(entry.getKey())
+                            )
+                            .thenComparingInt(entry -> entry.getValue().size()))
+                    .orElseThrow()
+                    .getKey();
+        }
+
+        /**
+         * Проверяет, что все слоты, от которых зависит оценка, заполнены,
+         * а оценка не позволяет варианту попасть в лучшие.
+         *
+         * @param computer сборка ПК
+         * @param domains  кандидаты пустых слотов до заполнения слота
+         * @param assigned только что заполненный слот
+         * @return {@code true}, если ветвь можно отбросить
+         */
+        private boolean isHopeless(
+                final ComputerBuild computer,
+                final Map<ComputerBuildSlot, List<SlotAssignment>> domains,
+                final ComputerBuildSlot assigned
+        ) {
+            for (final ComputerBuildSlot slot : objective.getSlots()) {
+                if (slot != assigned && domains.containsKey(slot)) {
+                    return false;
+                }
+            }
+
+            final long score = objective.score(computer);
+            synchronized (best) {
+                return best.size() == limit && score <= best.peek().getScore();
+            }
+        }
+
+        /**
+         * Добавляет вариант в лучшие, если его оценка выше худшего из них.
+         *
+         * @param computer полностью заполненная сборка ПК
+         */
+        private void offer(final ComputerBuild computer) {
+            final long score = objective.score(computer);
+            synchronized (best) {
+                if (best.size() < limit) {
+                    best.add(new Candidate<>(ComputerBuildResolver.copy(computer), score));
+                } else if (score > best.peek().getScore()) {
+                    best.poll();
+                    best.add(new Candidate<>(ComputerBuildResolver.copy(computer), score));
+                }
+            }
+        }
+
+        /**
+         * Проверяет, истекло ли отведенное время.
+         *
+         * @return {@code true}, если время истекло
+         */
+        private boolean isExpired() {
+            if (!expired && System.nanoTime() - deadline > 0) {
+                expired = true;
+            }
+            return expired;
+        }
+    }
+}
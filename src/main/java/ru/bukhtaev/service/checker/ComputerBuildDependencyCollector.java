@@ -0,0 +1,386 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.model.cross.*;
+import ru.bukhtaev.model.dictionary.*;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Сервис сбора ID всех комплектующих и записей справочников,
+ * от которых зависит результат проверки сборки ПК.
+ */
+@Component
+public class ComputerBuildDependencyCollector {
+
+    /**
+     * Сервис графа совместимости коннекторов.
+     */
+    private final ConnectorCompatibilityGraphService graphService;
+
+    /**
+     * Сервис индекса порядка коннекторов.
+     */
+    private final ConnectorOrderIndexService orderIndexService;
+
+    /**
+     * Конструктор.
+     *
+     * @param graphService      сервис графа совместимости коннекторов
+     * @param orderIndexService сервис индекса порядка коннекторов
+     */
+    @Autowired
+    public ComputerBuildDependencyCollector(
+            final ConnectorCompatibilityGraphService graphService,
+            final ConnectorOrderIndexService orderIndexService
+    ) {
+        this.graphService = graphService;
+        this.orderIndexService = orderIndexService;
+    }
+
+    /**
+     * Возвращает ID всех комплектующих и записей справочников,
+     * на которые прямо или косвенно ссылается сборка ПК.
+     *
+     * @param computer сборка ПК
+     * @return ID комплектующих и записей справочников
+     */
+    public Set<UUID> collect(final ComputerBuild computer) {
+        final Set<UUID> ids = new HashSet<>();
+
+        collect(ids, computer.getCpu());
+        collect(ids, computer.getPsu());
+        collect(ids, computer.getCooler());
+        collect(ids, computer.getMotherboard());
+        collect(ids, computer.getGraphicsCard());
+        collect(ids, computer.getComputerCase());
+
+        if (computer.getFans() != null) {
+            computer.getFans().forEach(buildToFan -> collect(ids, buildToFan.getFan()));
+        }
+
+        if (computer.getRamModules() != null) {
+            computer.getRamModules().forEach(buildToModule -> collect(ids, buildToModule.getRamModule()));
+        }
+
+        if (computer.getHdds() != null) {
+            computer.getHdds().forEach(buildToHdd -> collect(ids, buildToHdd.getHdd()));
+        }
+
+        if (computer.getSsds() != null) {
+            computer.getSsds().forEach(buildToSsd -> collect(ids, buildToSsd.getSsd()));
+        }
+
+        return ids;
+    }
+
+    /**
+     * Добавляет ID процессора и связанных с ним записей справочников.
+     *
+     * @param ids ID
+     * @param cpu процессор
+     */
+    private void collect(final Set<UUID> ids, final Cpu cpu) {
+        if (!add(ids, cpu)) {
+            return;
+        }
+
+        add(ids, cpu.getManufacturer());
+        add(ids, cpu.getSocket());
+        cpu.getSupportedRamTypes()
+                .stream()
+                .map(CpuToRamType::getRamType)
+                .forEach(type -> add(ids, type));
+    }
+
+    /**
+     * Добавляет ID блока питания и связанных с ним записей справочников.
+     *
+     * @param ids ID
+     * @param psu блок питания
+     */
+    private void collect(final Set<UUID> ids, final Psu psu) {
+        if (!add(ids, psu)) {
+            return;
+        }
+
+        add(ids, psu.getVendor());
+        add(ids, psu.getFormFactor());
+        add(ids, psu.getCertificate());
+        collect(ids, psu.getMainPowerConnector());
+        psu.getCpuPowerConnectors()
+                .stream()
+                .map(PsuToCpuPowerConnector::getCpuPowerConnector)
+                .forEach(connector -> collect(ids, connector));
+        psu.getStoragePowerConnectors()
+                .stream()
+                .map(PsuToStoragePowerConnector::getStoragePowerConnector)
+                .forEach(connector -> add(ids, connector));
+        psu.getGraphicsCardPowerConnectors()
+                .stream()
+                .map(PsuToGraphicsCardPowerConnector::getGraphicsCardPowerConnector)
+                .forEach(connector -> collect(ids, connector));
+    }
+
+    /**
+     * Добавляет ID процессорного кулера и связанных с ним записей справочников.
+     *
+     * @param ids    ID
+     * @param cooler процессорный кулер
+     */
+    private void collect(final Set<UUID> ids, final Cooler cooler) {
+        if (!add(ids, cooler)) {
+            return;
+        }
+
+        add(ids, cooler.getVendor());
+        add(ids, cooler.getFanSize());
+        collect(ids, cooler.getPowerConnector());
+        addAll(ids, cooler.getSupportedSockets());
+    }
+
+    /**
+     * Добавляет ID материнской платы и связанных с ней записей справочников.
+     *
+     * @param ids         ID
+     * @param motherboard материнская плата
+     */
+    private void collect(final Set<UUID> ids, final Motherboard motherboard) {
+        if (!add(ids, motherboard)) {
+            return;
+        }
+
+        collect(ids, motherboard.getDesign());
+        if (add(ids, motherboard.getChipset())) {
+            add(ids, motherboard.getChipset().getSocket());
+        }
+        add(ids, motherboard.getRamType());
+        add(ids, motherboard.getFormFactor());
+        collect(ids, motherboard.getCpuPowerConnector());
+        collect(ids, motherboard.getMainPowerConnector());
+        collect(ids, motherboard.getCoolerPowerConnector());
+        collect(ids, motherboard.getPciExpressConnectorVersion());
+        motherboard.getFanPowerConnectors()
+                .stream()
+                .map(MotherboardToFanPowerConnector::getFanPowerConnector)
+                .forEach(connector -> collect(ids, connector));
+        motherboard.getStorageConnectors()
+                .stream()
+                .map(MotherboardToStorageConnector::getStorageConnector)
+                .forEach(connector -> collect(ids, connector));
+    }
+
+    /**
+     * Добавляет ID видеокарты и связанных с ней записей справочников.
+     *
+     * @param ids          ID
+     * @param graphicsCard видеокарта
+     */
+    private void collect(final Set<UUID> ids, final GraphicsCard graphicsCard) {
+        if (!add(ids, graphicsCard)) {
+            return;
+        }
+
+        final Gpu gpu = graphicsCard.getGpu();
+        if (add(ids, gpu)) {
+            add(ids, gpu.getMemoryType());
+            add(ids, gpu.getManufacturer());
+        }
+        collect(ids, graphicsCard.getDesign());
+        collect(ids, graphicsCard.getPciExpressConnectorVersion());
+        graphicsCard.getPowerConnectors()
+                .stream()
+                .map(GraphicsCardToPowerConnector::getPowerConnector)
+                .forEach(connector -> collect(ids, connector));
+    }
+
+    /**
+     * Добавляет ID корпуса и связанных с ним записей справочников.
+     *
+     * @param ids          ID
+     * @param computerCase корпус
+     */
+    private void collect(final Set<UUID> ids, final ComputerCase computerCase) {
+        if (!add(ids, computerCase)) {
+            return;
+        }
+
+        add(ids, computerCase.getVendor());
+        addAll(ids, computerCase.getMotherboardFormFactors());
+        addAll(ids, computerCase.getPsuFormFactors());
+        computerCase.getExpansionBayFormats()
+                .stream()
+                .map(ComputerCaseToExpansionBayFormat::getExpansionBayFormat)
+                .forEach(format -> add(ids, format));
+        computerCase.getFanSizes()
+                .stream()
+                .map(ComputerCaseToFanSize::getFanSize)
+                .forEach(size -> add(ids, size));
+    }
+
+    /**
+     * Добавляет ID вентилятора и связанных с ним записей справочников.
+     *
+     * @param ids ID
+     * @param fan вентилятор
+     */
+    private void collect(final Set<UUID> ids, final Fan fan) {
+        if (!add(ids, fan)) {
+            return;
+        }
+
+        add(ids, fan.getVendor());
+        add(ids, fan.getSize());
+        collect(ids, fan.getPowerConnector());
+    }
+
+    /**
+     * Добавляет ID модуля оперативной памяти и связанных с ним записей справочников.
+     *
+     * @param ids    ID
+     * @param module модуль оперативной памяти
+     */
+    private void collect(final Set<UUID> ids, final RamModule module) {
+        if (!add(ids, module)) {
+            return;
+        }
+
+        add(ids, module.getType());
+        collect(ids, module.getDesign());
+    }
+
+    /**
+     * Добавляет ID накопителя и связанных с ним записей справочников.
+     *
+     * @param ids    ID
+     * @param device накопитель
+     */
+    private void collect(final Set<UUID> ids, final StorageDevice device) {
+        if (!add(ids, device)) {
+            return;
+        }
+
+        add(ids, device.getVendor());
+        collect(ids, device.getConnector());
+        add(ids, device.getPowerConnector());
+        add(ids, device.getExpansionBayFormat());
+    }
+
+    /**
+     * Добавляет ID дизайна и его вендора.
+     *
+     * @param ids    ID
+     * @param design дизайн
+     */
+    private void collect(final Set<UUID> ids, final Design design) {
+        if (add(ids, design)) {
+            add(ids, design.getVendor());
+        }
+    }
+
+    /**
+     * Добавляет ID коннектора питания процессора и совместимых с ним коннекторов.
+     *
+     * @param ids       ID
+     * @param connector коннектор
+     */
+    private void collect(final Set<UUID> ids, final CpuPowerConnector connector) {
+        if (add(ids, connector)) {
+            ids.addAll(graphService.getGraph().getCompatibleIds(CpuPowerConnector.class, connector.getId()));
+        }
+    }
+
+    /**
+     * Добавляет ID основного коннектора питания и совместимых с ним коннекторов.
+     *
+     * @param ids       ID
+     * @param connector коннектор
+     */
+    private void collect(final Set<UUID> ids, final MainPowerConnector connector) {
+        if (add(ids, connector)) {
+            ids.addAll(graphService.getGraph().getCompatibleIds(MainPowerConnector.class, connector.getId()));
+        }
+    }
+
+    /**
+     * Добавляет ID коннектора питания вентилятора и совместимых с ним коннекторов.
+     *
+     * @param ids       ID
+     * @param connector коннектор
+     */
+    private void collect(final Set<UUID> ids, final FanPowerConnector connector) {
+        if (add(ids, connector)) {
+            ids.addAll(graphService.getGraph().getCompatibleIds(FanPowerConnector.class, connector.getId()));
+        }
+    }
+
+    /**
+     * Добавляет ID коннектора питания видеокарты и совместимых с ним коннекторов.
+     *
+     * @param ids       ID
+     * @param connector коннектор
+     */
+    private void collect(final Set<UUID> ids, final GraphicsCardPowerConnector connector) {
+        if (add(ids, connector)) {
+            ids.addAll(graphService.getGraph().getCompatibleIds(GraphicsCardPowerConnector.class, connector.getId()));
+        }
+    }
+
+    /**
+     * Добавляет ID коннектора подключения накопителя и всех коннекторов ниже и выше него.
+     *
+     * @param ids       ID
+     * @param connector коннектор
+     */
+    private void collect(final Set<UUID> ids, final StorageConnector connector) {
+        if (add(ids, connector)) {
+            final ConnectorOrderIndex index = orderIndexService.getIndex();
+            ids.addAll(index.getAtOrBelowIds(StorageConnector.class, connector.getId()));
+            ids.addAll(index.getAtOrAboveIds(StorageConnector.class, connector.getId()));
+        }
+    }
+
+    /**
+     * Добавляет ID версии коннектора PCI-Express и всех более старых версий.
+     *
+     * @param ids     ID
+     * @param version версия коннектора PCI-Express
+     */
+    private void collect(final Set<UUID> ids, final PciExpressConnectorVersion version) {
+        if (add(ids, version)) {
+            ids.addAll(orderIndexService.getIndex()
+                    .getAtOrBelowIds(PciExpressConnectorVersion.class, version.getId()));
+        }
+    }
+
+    /**
+     * Добавляет ID всех переданных сущностей.
+     *
+     * @param ids      ID
+     * @param entities сущности
+     */
+    private void addAll(final Set<UUID> ids, final Collection<? extends BaseEntity> entities) {
+        entities.forEach(entity -> add(ids, entity));
+    }
+
+    /**
+     * Добавляет ID сущности, если она задана.
+     *
+     * @param ids    ID
+     * @param entity сущность
+     * @return {@code true}, если сущность задана
+     */
+    private boolean add(final Set<UUID> ids, final BaseEntity entity) {
+        if (entity == null) {
+            return false;
+        }
+
+        ids.add(entity.getId());
+        return true;
+    }
+}
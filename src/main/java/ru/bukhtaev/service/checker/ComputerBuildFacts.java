@@ -0,0 +1,245 @@
+package ru.bukhtaev.service.checker;
+
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.model.NameableEntity;
+import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
+import ru.bukhtaev.model.cross.CpuToRamType;
+import ru.bukhtaev.model.dictionary.RamType;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
+
+/**
+ * Значения, извлекаемые из сборки ПК один раз за проверку и общие для всех правил
+ * {@link ComputerBuildRule}. Каждому значению {@link Fact} при загрузке класса назначается
+ * порядковый номер, по которому вычисленное значение хранится в массиве,
+ * поэтому значение, нужное нескольким правилам, вычисляется только при первом обращении.
+ * Заполненность слотов сборки ПК вычисляется при создании и хранится битовой маской.
+ * <p>
+ * Экземпляр можно использовать из нескольких потоков: значение, вычисленное
+ * одновременно в нескольких потоках, одинаково, а сохраняется первое из них.
+ */
+public final class ComputerBuildFacts {
+
+    /**
+     * Все объявленные значения по порядковым номерам.
+     */
+    private static final List<Fact<?>> FACTS = new ArrayList<>();
+
+    /**
+     * Суммарный объем модулей оперативной памяти.
+     */
+    public static final Fact<Integer> RAM_TOTAL_CAPACITY = declare(RAM_MODULES, computer -> {
+        int capacity = 0;
+        for (final ComputerBuildToRamModule computerToModule : computer.getRamModules()) {
+            capacity += computerToModule.getRamModule().getCapacity() * computerToModule.getCount();
+        }
+        return capacity;
+    });
+
+    /**
+     * Типы модулей оперативной памяти в порядке обхода модулей.
+     */
+    public static final Fact<Set<RamType>> RAM_TYPES = declare(RAM_MODULES, computer -> {
+        final Set<RamType> types = new LinkedHashSet<>();
+        for (final ComputerBuildToRamModule computerToModule : computer.getRamModules()) {
+            types.add(computerToModule.getRamModule().getType());
+        }
+        return Collections.unmodifiableSet(types);
+    });
+
+    /**
+     * Поддерживаемые процессором типы оперативной памяти.
+     */
+    public static final Fact<Set<RamType>> CPU_RAM_TYPES = declare(CPU, computer -> {
+        final Set<RamType> types = new HashSet<>();
+        for (final CpuToRamType cpuToRamType : computer.getCpu().getSupportedRamTypes()) {
+            types.add(cpuToRamType.getRamType());
+        }
+        return Collections.unmodifiableSet(types);
+    });
+
+    /**
+     * Названия поддерживаемых процессором типов оперативной памяти.
+     */
+    public static final Fact<Set<String>> CPU_RAM_TYPE_NAMES = declare(CPU, computer -> Collections.unmodifiableSet(
+            names(computer.getCpu().getSupportedRamTypes().stream()
+                    .map(CpuToRamType::getRamType)
+                    .toList())
+    ));
+
+    /**
+     * Сборка ПК.
+     */
+    private final ComputerBuild computer;
+
+    /**
+     * Битовая маска заполненных слотов сборки ПК по их порядковым номерам.
+     */
+    private final int filledSlots;
+
+    /**
+     * Вычисленные значения по порядковым номерам.
+     */
+    private final AtomicReferenceArray<Object> values;
+
+    /**
+     * Конструктор.
+     *
+     * @param computer сборка ПК
+     */
+    private ComputerBuildFacts(final ComputerBuild computer) {
+        this.computer = computer;
+        this.values = new AtomicReferenceArray<>(FACTS.size());
+
+        int filled = 0;
+        for (final ComputerBuildSlot slot : ComputerBuildSlot.values()) {
+            if (SlotAssignment.isFilled(computer, slot)) {
+                filled |= mask(slot);
+            }
+        }
+        this.filledSlots = filled;
+    }
+
+    /**
+     * Создает значения сборки ПК. Значения вычисляются при первом обращении.
+     *
+     * @param computer сборка ПК
+     * @return значения сборки ПК
+     */
+    public static ComputerBuildFacts of(final ComputerBuild computer) {
+        return new ComputerBuildFacts(computer);
+    }
+
+    /**
+     * Возвращает битовую маску слотов сборки ПК.
+     *
+     * @param slots слоты сборки ПК
+     * @return битовая маска
+     */
+    public static int mask(final Collection<ComputerBuildSlot> slots) {
+        int mask = 0;
+        for (final ComputerBuildSlot slot : slots) {
+            mask |= mask(slot);
+        }
+        return mask;
+    }
+
+    /**
+     * Возвращает сборку ПК.
+     *
+     * @return сборка ПК
+     */
+    public ComputerBuild getComputer() {
+        return computer;
+    }
+
+    /**
+     * Проверяет, что заполнены все слоты сборки ПК из битовой маски.
+     *
+     * @param slotMask битовая маска слотов сборки ПК
+     * @return {@code true}, если все слоты заполнены
+     */
+    public boolean isFilled(final int slotMask) {
+        return (filledSlots & slotMask) == slotMask;
+    }
+
+    /**
+     * Возвращает значение, вычисляя его при первом обращении.
+     * Слот, из которого извлекается значение, должен быть заполнен.
+     *
+     * @param fact значение
+     * @param <T>  тип значения
+     * @return значение
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Fact<T> fact) {
+        final Object value = values.get(fact.ordinal);
+        if (value != null) {
+            return (T) value;
+        }
+
+        if (!isFilled(mask(fact.slot))) {
+            throw new IllegalStateException("Slot " + fact.slot + " is not filled");
+        }
+        values.compareAndSet(fact.ordinal, null, fact.extractor.apply(computer));
+        return (T) values.get(fact.ordinal);
+    }
+
+    /**
+     * Возвращает названия комплектующих или справочных значений.
+     *
+     * @param entities комплектующие или справочные значения
+     * @return названия
+     */
+    public static Set<String> names(final Collection<? extends NameableEntity> entities) {
+        return entities.stream()
+                .map(NameableEntity::getName)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Объявляет значение, назначая ему следующий порядковый номер.
+     *
+     * @param slot      слот сборки ПК, из которого извлекается значение
+     * @param extractor функция извлечения значения из сборки ПК с заполненным слотом
+     * @param <T>       тип значения
+     * @return значение
+     */
+    private static <T> Fact<T> declare(final ComputerBuildSlot slot, final Function<ComputerBuild, T> extractor) {
+        final Fact<T> fact = new Fact<>(FACTS.size(), slot, extractor);
+        FACTS.add(fact);
+        return fact;
+    }
+
+    /**
+     * Возвращает бит слота сборки ПК.
+     *
+     * @param slot слот сборки ПК
+     * @return бит слота
+     */
+    private static int mask(final ComputerBuildSlot slot) {
+        return 1 << slot.ordinal();
+    }
+
+    /**
+     * Значение, извлекаемое из одного слота сборки ПК.
+     *
+     * @param <T> тип значения
+     */
+    public static final class Fact<T> {
+
+        /**
+         * Порядковый номер.
+         */
+        private final int ordinal;
+
+        /**
+         * Слот сборки ПК, из которого извлекается значение.
+         */
+        private final ComputerBuildSlot slot;
+
+        /**
+         * Функция извлечения значения из сборки ПК.
+         */
+        private final Function<ComputerBuild, T> extractor;
+
+        /**
+         * Конструктор.
+         *
+         * @param ordinal   порядковый номер
+         * @param slot      слот сборки ПК, из которого извлекается значение
+         * @param extractor функция извлечения значения из сборки ПК
+         */
+        private Fact(final int ordinal, final ComputerBuildSlot slot, final Function<ComputerBuild, T> extractor) {
+            this.ordinal = ordinal;
+            this.slot = slot;
+            this.extractor = extractor;
+        }
+    }
+}
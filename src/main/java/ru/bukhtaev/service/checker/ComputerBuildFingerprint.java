@@ -0,0 +1,105 @@
+package ru.bukhtaev.service.checker;
+
+import ru.bukhtaev.model.BaseEntity;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.model.cross.ComputerBuildToFan;
+import ru.bukhtaev.model.cross.ComputerBuildToHdd;
+import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
+import ru.bukhtaev.model.cross.ComputerBuildToSsd;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Каноническое представление состава сборки ПК:
+ * ID комплектующих и их количество, независимо от ID и названия самой сборки ПК.
+ * Сборки ПК с одинаковым составом имеют равные отпечатки.
+ *
+ * @param cpuId          ID процессора
+ * @param psuId          ID блока питания
+ * @param coolerId       ID процессорного кулера
+ * @param motherboardId  ID материнской платы
+ * @param graphicsCardId ID видеокарты
+ * @param computerCaseId ID корпуса
+ * @param fans           количество вентиляторов по их ID
+ * @param ramModules     количество модулей оперативной памяти по их ID
+ * @param hdds           количество жестких дисков по их ID
+ * @param ssds           количество SSD-накопителей по их ID
+ */
+public record ComputerBuildFingerprint(
+        UUID cpuId,
+        UUID psuId,
+        UUID coolerId,
+        UUID motherboardId,
+        UUID graphicsCardId,
+        UUID computerCaseId,
+        Map<UUID, Integer> fans,
+        Map<UUID, Integer> ramModules,
+        Map<UUID, Integer> hdds,
+        Map<UUID, Integer> ssds
+) {
+
+    /**
+     * Вычисляет отпечаток состава сборки ПК.
+     *
+     * @param computer сборка ПК
+     * @return отпечаток состава сборки ПК
+     */
+    public static ComputerBuildFingerprint of(final ComputerBuild computer) {
+        return new ComputerBuildFingerprint(
+                idOf(computer.getCpu()),
+                idOf(computer.getPsu()),
+                idOf(computer.getCooler()),
+                idOf(computer.getMotherboard()),
+                idOf(computer.getGraphicsCard()),
+                idOf(computer.getComputerCase()),
+                counts(computer.getFans(), ComputerBuildToFan::getFan, ComputerBuildToFan::getCount),
+                counts(
+                        computer.getRamModules(),
+                        ComputerBuildToRamModule::getRamModule,
+                        ComputerBuildToRamModule::getCount
+                ),
+                counts(computer.getHdds(), ComputerBuildToHdd::getHdd, ComputerBuildToHdd::getCount),
+                counts(computer.getSsds(), ComputerBuildToSsd::getSsd, ComputerBuildToSsd::getCount)
+        );
+    }
+
+    /**
+     * Возвращает ID сущности или {@code null}, если сущность не задана.
+     *
+     * @param entity сущность
+     * @return ID сущности
+     */
+    private static UUID idOf(final BaseEntity entity) {
+        return entity == null ? null : entity.getId();
+    }
+
+    /**
+     * Суммирует количество комплектующих по их ID.
+     *
+     * @param items     элементы сборки ПК
+     * @param component функция получения комплектующего из элемента сборки ПК
+     * @param count     функция получения количества из элемента сборки ПК
+     * @param <I>       тип элемента сборки ПК
+     * @return неизменяемое отображение ID комплектующих на их количество
+     */
+    private static <I> Map<UUID, Integer> counts(
+            final Collection<I> items,
+            final Function<I, ? extends BaseEntity> component,
+            final Function<I, Integer> count
+    ) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<UUID, Integer> counts = new HashMap<>();
+        for (final I item : items) {
+            counts.merge(
+                    idOf(component.apply(item)),
+                    Objects.requireNonNullElse(count.apply(item), 0),
+                    Integer::sum
+            );
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+}
@@ -0,0 +1,251 @@
+package ru.bukhtaev.service.checker;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import ru.bukhtaev.model.*;
+
+/**
+ * Сервис инициализации ленивых связей сборки ПК.
+ * Загружает все данные, необходимые сервисам проверки, в вызывающем потоке:
+ * коллекции комплектующих и ленивые ссылки на справочные значения,
+ * чтобы сервисы проверки могли безопасно выполняться в других потоках.
+ * Совместимые коннекторы и более старые версии PCI-Express не загружаются:
+ * сервисы проверки берут их из {@link ConnectorCompatibilityGraph} и {@link ConnectorOrderIndex}.
+ */
+@Component
+public class ComputerBuildInitializer {
+
+    /**
+     * Инициализирует все ленивые связи сборки ПК,
+     * используемые сервисами проверки.
+     *
+     * @param computer сборка ПК
+     */
+    public void initialize(final ComputerBuild computer) {
+        initialize(computer.getCpu());
+        initialize(computer.getPsu());
+        initialize(computer.getCooler());
+        initialize(computer.getMotherboard());
+        initialize(computer.getGraphicsCard());
+        initialize(computer.getComputerCase());
+
+        if (computer.getFans() != null) {
+            Hibernate.initialize(computer.getFans());
+            computer.getFans().forEach(buildToFan -> initialize(buildToFan.getFan()));
+        }
+
+        if (computer.getRamModules() != null) {
+            Hibernate.initialize(computer.getRamModules());
+            computer.getRamModules().forEach(buildToModule -> initialize(buildToModule.getRamModule()));
+        }
+
+        if (computer.getHdds() != null) {
+            Hibernate.initialize(computer.getHdds());
+            computer.getHdds().forEach(buildToHdd -> initialize(buildToHdd.getHdd()));
+        }
+
+        if (computer.getSsds() != null) {
+            Hibernate.initialize(computer.getSsds());
+            computer.getSsds().forEach(buildToSsd -> initialize(buildToSsd.getSsd()));
+        }
+    }
+
+    /**
+     * Инициализирует ленивые связи комплектующего любого типа.
+     * Используется при переборе вариантов сборки ПК, когда тип комплектующего
+     * известен только во время выполнения.
+     *
+     * @param component комплектующее
+     */
+    public void initializeComponent(final BaseEntity component) {
+        if (component instanceof Cpu cpu) {
+            initialize(cpu);
+        } else if (component instanceof Psu psu) {
+            initialize(psu);
+        } else if (component instanceof Cooler cooler) {
+            initialize(cooler);
+        } else if (component instanceof Motherboard motherboard) {
+            initialize(motherboard);
+        } else if (component instanceof GraphicsCard graphicsCard) {
+            initialize(graphicsCard);
+        } else if (component instanceof ComputerCase computerCase) {
+            initialize(computerCase);
+        }
+    }
+
+    /**
+     * Инициализирует ленивые связи процессора.
+     *
+     * @param cpu процессор
+     */
+    public void initialize(final Cpu cpu) {
+        if (cpu == null) {
+            return;
+        }
+
+        Hibernate.initialize(cpu);
+        Hibernate.initialize(cpu.getManufacturer());
+        Hibernate.initialize(cpu.getSocket());
+        Hibernate.initialize(cpu.getSupportedRamTypes());
+        cpu.getSupportedRamTypes().forEach(cpuToRamType -> Hibernate.initialize(cpuToRamType.getRamType()));
+    }
+
+    /**
+     * Инициализирует ленивые связи блока питания.
+     *
+     * @param psu блок питания
+     */
+    public void initialize(final Psu psu) {
+        if (psu == null) {
+            return;
+        }
+
+        Hibernate.initialize(psu);
+        Hibernate.initialize(psu.getVendor());
+        Hibernate.initialize(psu.getFormFactor());
+        Hibernate.initialize(psu.getCertificate());
+        Hibernate.initialize(psu.getMainPowerConnector());
+        Hibernate.initialize(psu.getCpuPowerConnectors());
+        psu.getCpuPowerConnectors().forEach(psuToConnector ->
+                Hibernate.initialize(psuToConnector.getCpuPowerConnector()));
+        Hibernate.initialize(psu.getStoragePowerConnectors());
+        psu.getStoragePowerConnectors().forEach(psuToConnector ->
+                Hibernate.initialize(psuToConnector.getStoragePowerConnector()));
+        Hibernate.initialize(psu.getGraphicsCardPowerConnectors());
+        psu.getGraphicsCardPowerConnectors().forEach(psuToConnector ->
+                Hibernate.initialize(psuToConnector.getGraphicsCardPowerConnector()));
+    }
+
+    /**
+     * Инициализирует ленивые связи процессорного кулера.
+     *
+     * @param cooler процессорный кулер
+     */
+    public void initialize(final Cooler cooler) {
+        if (cooler == null) {
+            return;
+        }
+
+        Hibernate.initialize(cooler);
+        Hibernate.initialize(cooler.getVendor());
+        Hibernate.initialize(cooler.getFanSize());
+        Hibernate.initialize(cooler.getPowerConnector());
+        Hibernate.initialize(cooler.getSupportedSockets());
+    }
+
+    /**
+     * Инициализирует ленивые связи материнской платы.
+     *
+     * @param motherboard материнская плата
+     */
+    public void initialize(final Motherboard motherboard) {
+        if (motherboard == null) {
+            return;
+        }
+
+        Hibernate.initialize(motherboard);
+        initialize(motherboard.getDesign());
+        Hibernate.initialize(motherboard.getChipset());
+        Hibernate.initialize(motherboard.getChipset().getSocket());
+        Hibernate.initialize(motherboard.getRamType());
+        Hibernate.initialize(motherboard.getFormFactor());
+        Hibernate.initialize(motherboard.getCpuPowerConnector());
+        Hibernate.initialize(motherboard.getMainPowerConnector());
+        Hibernate.initialize(motherboard.getCoolerPowerConnector());
+        Hibernate.initialize(motherboard.getPciExpressConnectorVersion());
+        Hibernate.initialize(motherboard.getFanPowerConnectors());
+        motherboard.getFanPowerConnectors().forEach(motherboardToConnector ->
+                Hibernate.initialize(motherboardToConnector.getFanPowerConnector()));
+        Hibernate.initialize(motherboard.getStorageConnectors());
+        motherboard.getStorageConnectors().forEach(motherboardToConnector ->
+                Hibernate.initialize(motherboardToConnector.getStorageConnector()));
+    }
+
+    /**
+     * Инициализирует ленивые связи видеокарты.
+     *
+     * @param graphicsCard видеокарта
+     */
+    public void initialize(final GraphicsCard graphicsCard) {
+        if (graphicsCard == null) {
+            return;
+        }
+
+        Hibernate.initialize(graphicsCard);
+        Hibernate.initialize(graphicsCard.getGpu());
+        Hibernate.initialize(graphicsCard.getGpu().getMemoryType());
+        Hibernate.initialize(graphicsCard.getGpu().getManufacturer());
+        initialize(graphicsCard.getDesign());
+        Hibernate.initialize(graphicsCard.getPciExpressConnectorVersion());
+        Hibernate.initialize(graphicsCard.getPowerConnectors());
+        graphicsCard.getPowerConnectors().forEach(cardToConnector ->
+                Hibernate.initialize(cardToConnector.getPowerConnector()));
+    }
+
+    /**
+     * Инициализирует ленивые связи корпуса.
+     *
+     * @param computerCase корпус
+     */
+    public void initialize(final ComputerCase computerCase) {
+        if (computerCase == null) {
+            return;
+        }
+
+        Hibernate.initialize(computerCase);
+        Hibernate.initialize(computerCase.getVendor());
+        Hibernate.initialize(computerCase.getMotherboardFormFactors());
+        Hibernate.initialize(computerCase.getPsuFormFactors());
+        Hibernate.initialize(computerCase.getExpansionBayFormats());
+        computerCase.getExpansionBayFormats().forEach(caseToFormat ->
+                Hibernate.initialize(caseToFormat.getExpansionBayFormat()));
+        Hibernate.initialize(computerCase.getFanSizes());
+        computerCase.getFanSizes().forEach(caseToSize -> Hibernate.initialize(caseToSize.getFanSize()));
+    }
+
+    /**
+     * Инициализирует ленивые связи варианта исполнения.
+     *
+     * @param design вариант исполнения
+     */
+    private void initialize(final Design design) {
+        Hibernate.initialize(design);
+        Hibernate.initialize(design.getVendor());
+    }
+
+    /**
+     * Инициализирует ленивые связи вентилятора.
+     *
+     * @param fan вентилятор
+     */
+    private void initialize(final Fan fan) {
+        Hibernate.initialize(fan);
+        Hibernate.initialize(fan.getVendor());
+        Hibernate.initialize(fan.getSize());
+        Hibernate.initialize(fan.getPowerConnector());
+    }
+
+    /**
+     * Инициализирует ленивые связи модуля оперативной памяти.
+     *
+     * @param ramModule модуль оперативной памяти
+     */
+    private void initialize(final RamModule ramModule) {
+        Hibernate.initialize(ramModule);
+        Hibernate.initialize(ramModule.getType());
+        initialize(ramModule.getDesign());
+    }
+
+    /**
+     * Инициализирует ленивые связи устройства хранения данных.
+     *
+     * @param storageDevice устройство хранения данных
+     */
+    private void initialize(final StorageDevice storageDevice) {
+        Hibernate.initialize(storageDevice);
+        Hibernate.initialize(storageDevice.getVendor());
+        Hibernate.initialize(storageDevice.getConnector());
+        Hibernate.initialize(storageDevice.getPowerConnector());
+        Hibernate.initialize(storageDevice.getExpansionBayFormat());
+    }
+}
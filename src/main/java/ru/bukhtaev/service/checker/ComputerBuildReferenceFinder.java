@@ -0,0 +1,222 @@
+package ru.bukhtaev.service.checker;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import org.springframework.stereotype.Component;
+import ru.bukhtaev.model.BaseEntity;
+import ru.bukhtaev.model.ComputerBuild;
+
+import java.util.*;
+
+/**
+ * Сервис обратного поиска сборок ПК, прямо или косвенно ссылающихся на сущность.
+ * Ссылки находятся по метамодели JPA: от измененной сущности поиск поднимается
+ * по ассоциациям к ссылающимся на нее сущностям, пока не дойдет до сборок ПК.
+ * Связующие сущности, не наследующие {@link BaseEntity} (например, {@code CpuToRamType}),
+ * заменяются сущностями, в коллекции которых они входят.
+ */
+@Component
+public class ComputerBuildReferenceFinder {
+
+    /**
+     * Максимальное количество ID в одном условии {@code IN}.
+     */
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    /**
+     * Менеджер сущностей.
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Ссылки на сущности по типу сущности, на которую ссылаются.
+     */
+    private volatile Map<Class<?>, List<Reference>> referencesByTarget;
+
+    /**
+     * Возвращает ID сборок ПК, прямо или косвенно ссылающихся на сущности указанного типа.
+     * Должен вызываться в транзакции.
+     *
+     * @param type тип сущностей
+     * @param ids  ID сущностей
+     * @return ID сборок ПК
+     */
+    public Set<UUID> findBuildIds(final Class<? extends BaseEntity> type, final Collection<UUID> ids) {
+        final Set<UUID> buildIds = new LinkedHashSet<>();
+        final Map<Class<?>, Set<UUID>> visited = new HashMap<>();
+        final Deque<Map.Entry<Class<?>, Set<UUID>>> queue = new ArrayDeque<>();
+        queue.add(Map.entry(type, new LinkedHashSet<>(ids)));
+
+        while (!queue.isEmpty()) {
+            final Map.Entry<Class<?>, Set<UUID>> entry = queue.poll();
+            final Class<?> entryType = entry.getKey();
+
+            final Set<UUID> unvisited = new LinkedHashSet<>(entry.getValue());
+            unvisited.removeAll(visited.computeIfAbsent(entryType, key -> new HashSet<>()));
+            if (unvisited.isEmpty()) {
+                continue;
+            }
+            visited.get(entryType).addAll(unvisited);
+
+            if (ComputerBuild.class.equals(entryType)) {
+                buildIds.addAll(unvisited);
+                continue;
+            }
+
+            for (final Reference reference : references(entryType)) {
+                final Set<UUID> sourceIds = reference.find(entityManager, unvisited);
+                if (!sourceIds.isEmpty()) {
+                    queue.add(Map.entry(reference.sourceType(), sourceIds));
+                }
+            }
+        }
+
+        return buildIds;
+    }
+
+    /**
+     * Возвращает ссылки на сущности указанного типа.
+     *
+     * @param type тип сущностей
+     * @return ссылки
+     */
+    private List<Reference> references(final Class<?> type) {
+        Map<Class<?>, List<Reference>> current = referencesByTarget;
+        if (current == null) {
+            current = collectReferences();
+            referencesByTarget = current;
+        }
+
+        final List<Reference> references = new ArrayList<>();
+        current.forEach((target, targetReferences) -> {
+            if (target.isAssignableFrom(type)) {
+                references.addAll(targetReferences);
+            }
+        });
+        return references;
+    }
+
+    /**
+     * Собирает по метамодели JPA все ссылки между сущностями.
+     *
+     * @return ссылки по типу сущности, на которую ссылаются
+     */
+    private Map<Class<?>, List<Reference>> collectReferences() {
+        final Metamodel metamodel = entityManager.getMetamodel();
+        final Map<Class<?>, List<Reference>> references = new HashMap<>();
+
+        for (final EntityType<?> entityType : metamodel.getEntities()) {
+            if (BaseEntity.class.isAssignableFrom(entityType.getJavaType())) {
+                for (final Attribute<?, ?> attribute : entityType.getAttributes()) {
+                    final Class<?> target = targetType(attribute);
+                    if (target != null) {
+                        references.computeIfAbsent(target, key -> new ArrayList<>())
+                                .add(new Reference(
+                                        "SELECT DISTINCT e.id FROM " + entityType.getName() + " e "
+                                                + "JOIN e." + attribute.getName() + " r WHERE r.id IN :ids",
+                                        entityType.getJavaType()
+                                ));
+                    }
+                }
+                continue;
+            }
+
+            // Связующая сущность заменяется сущностью, в коллекцию которой она входит
+            final List<Attribute<?, ?>> owners = entityType.getAttributes()
+                    .stream()
+                    .filter(attribute -> isOwner(metamodel, attribute, entityType.getJavaType()))
+                    .<Attribute<?, ?>>map(attribute -> attribute)
+                    .toList();
+
+            for (final Attribute<?, ?> attribute : entityType.getAttributes()) {
+                final Class<?> target = targetType(attribute);
+                if (target == null || owners.contains(attribute)) {
+                    continue;
+                }
+
+                for (final Attribute<?, ?> owner : owners) {
+                    references.computeIfAbsent(target, key -> new ArrayList<>())
+                            .add(new Reference(
+                                    "SELECT DISTINCT e." + owner.getName() + ".id FROM "
+                                            + entityType.getName() + " e "
+                                            + "WHERE e." + attribute.getName() + ".id IN :ids",
+                                    owner.getJavaType()
+                            ));
+                }
+            }
+        }
+
+        return references;
+    }
+
+    /**
+     * Возвращает тип сущностей, на которые ссылается атрибут.
+     * Коллекции связующих сущностей не учитываются:
+     * ссылки из них находятся со стороны самих связующих сущностей.
+     *
+     * @param attribute атрибут
+     * @return тип сущностей или {@code null}, если атрибут не ссылается на сущности
+     */
+    private Class<?> targetType(final Attribute<?, ?> attribute) {
+        if (!attribute.isAssociation()) {
+            return null;
+        }
+
+        final Class<?> target = attribute instanceof PluralAttribute<?, ?, ?> plural
+                ? plural.getElementType().getJavaType()
+                : attribute.getJavaType();
+        return BaseEntity.class.isAssignableFrom(target) ? target : null;
+    }
+
+    /**
+     * Проверяет, ссылается ли атрибут связующей сущности на сущность,
+     * в коллекцию которой входит связующая сущность.
+     *
+     * @param metamodel метамодель JPA
+     * @param attribute атрибут связующей сущности
+     * @param linkType  тип связующей сущности
+     * @return ссылается ли атрибут на владельца связующей сущности
+     */
+    private boolean isOwner(final Metamodel metamodel, final Attribute<?, ?> attribute, final Class<?> linkType) {
+        return targetType(attribute) != null
+                && !attribute.isCollection()
+                && metamodel.entity(attribute.getJavaType())
+                .getPluralAttributes()
+                .stream()
+                .anyMatch(plural -> linkType.equals(plural.getElementType().getJavaType()));
+    }
+
+    /**
+     * Ссылка на сущность.
+     *
+     * @param query      запрос ID ссылающихся сущностей по ID сущностей, на которые ссылаются
+     * @param sourceType тип ссылающихся сущностей
+     */
+    private record Reference(String query, Class<?> sourceType) {
+
+        /**
+         * Возвращает ID сущностей, ссылающихся на сущности с указанными ID.
+         *
+         * @param entityManager менеджер сущностей
+         * @param ids           ID сущностей, на которые ссылаются
+         * @return ID ссылающихся сущностей
+         */
+        Set<UUID> find(final EntityManager entityManager, final Collection<UUID> ids) {
+            final Set<UUID> sourceIds = new LinkedHashSet<>();
+            final List<UUID> idList = List.copyOf(ids);
+
+            for (int from = 0; from < idList.size(); from += MAX_IDS_PER_QUERY) {
+                sourceIds.addAll(entityManager.createQuery(query, UUID.class)
+                        .setParameter("ids", idList.subList(from, Math.min(from + MAX_IDS_PER_QUERY, idList.size())))
+                        .getResultList());
+            }
+
+            return sourceIds;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package ru.bukhtaev.service.checker;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Вариант исправления несовместимой сборки ПК заменой комплектующих.
+ */
+@Schema(description = "Вариант исправления сборки ПК")
+@Getter
+public class ComputerBuildRepair {
+
+    /**
+     * Замены комплектующих, по одной на слот.
+     */
+    @Schema(description = "Замены комплектующих")
+    private final List<Swap> swaps;
+
+    /**
+     * Среднее сходство характеристик замен с исходными комплектующими.
+     */
+    @Schema(description = "Среднее сходство характеристик замен с исходными комплектующими, от 0 до 1")
+    private final double similarity;
+
+    /**
+     * Конструктор.
+     *
+     * @param swaps замены комплектующих
+     */
+    public ComputerBuildRepair(final List<Swap> swaps) {
+        this.swaps = List.copyOf(swaps);
+        this.similarity = swaps.stream()
+                .mapToDouble(Swap::getSimilarity)
+                .average()
+                .orElse(0);
+    }
+
+    /**
+     * Замена комплектующего одного слота сборки ПК.
+     */
+    @Schema(description = "Замена комплектующего")
+    @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Swap {
+
+        /**
+         * Слот сборки ПК.
+         */
+        @Schema(description = "Слот сборки ПК")
+        private final ComputerBuildSlot slot;
+
+        /**
+         * ID заменяемых комплектующих.
+         */
+        @Schema(description = "ID заменяемых комплектующих")
+        private final List<UUID> originalIds;
+
+        /**
+         * ID комплектующего-замены.
+         */
+        @Schema(description = "ID комплектующего-замены")
+        private final UUID replacementId;
+
+        /**
+         * Количество комплектующих-замен для слотов, содержащих несколько комплектующих.
+         */
+        @Schema(description = "Количество комплектующих-замен")
+        private final Integer count;
+
+        /**
+         * Сходство характеристик замены с исходным комплектующим.
+         */
+        @Schema(description = "Сходство характеристик замены с исходным комплектующим, от 0 до 1")
+        private final double similarity;
+
+        /**
+         * Конструктор.
+         *
+         * @param slot          слот сборки ПК
+         * @param originalIds   ID заменяемых комплектующих
+         * @param replacementId ID комплектующего-замены
+         * @param count         количество комплектующих-замен или {@code null} для слотов с одним комплектующим
+         * @param similarity    сходство характеристик замены с исходным комплектующим
+         */
+        public Swap(
+                final ComputerBuildSlot slot,
+                final List<UUID> originalIds,
+                final UUID replacementId,
+                final Integer count,
+                final double similarity
+        ) {
+            this.slot = slot;
+            this.originalIds = List.copyOf(originalIds);
+            this.replacementId = replacementId;
+            this.count = count;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -0,0 +1,454 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.bukhtaev.config.VerificationProperties;
+import ru.bukhtaev.exception.DataNotFoundException;
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.model.BaseEntity;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
+import ru.bukhtaev.repository.IComputerBuildRepository;
+import ru.bukhtaev.service.checker.compatibility.ICompatibilityChecker;
+
+import java.util.*;
+
+import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
+import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_COMPUTER_BUILD_NOT_FOUND;
+import static ru.bukhtaev.model.ComputerBuild.FIELD_ID;
+import static ru.bukhtaev.repository.ComputerBuildFetchPlan.VERIFY;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
+
+/**
+ * Сервис подбора исправлений несовместимых сборок ПК.
+ * Исправление заменяет комплектующие наименьшего возможного количества слотов так,
+ * чтобы сборка ПК прошла все проверки совместимости.
+ * <p>
+ * Заменяемые слоты выбираются среди слотов нарушенных проверок: рассматриваются только
+ * наборы слотов, затрагивающие каждую нарушенную проверку, сначала из одного слота, затем
+ * из двух и так далее до первого размера, для которого нашлось исправление. Кандидаты слота
+ * отбираются {@link CompatibleCandidateService} по остальным комплектующим сборки ПК:
+ * каталог просматривается порциями до конца, и в перебор попадают наиболее похожие
+ * на исходное комплектующее по {@link SpecSimilarity} среди всех совместимых кандидатов.
+ * При переборе сочетаний кандидатов повторно выполняются только проверки, зависящие
+ * от нескольких заменяемых слотов. Исправления упорядочиваются по убыванию сходства.
+ * <p>
+ * Вентиляторы и накопители не заменяются.
+ */
+@Service
+@Transactional(
+        isolation = READ_COMMITTED,
+        readOnly = true
+)
+public class ComputerBuildRepairService {
+
+    /**
+     * Порядок загрузки кандидатов, применимый к комплектующим любого типа.
+     */
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.asc(BaseEntity.FIELD_ID));
+
+    /**
+     * Сервисы проверки сборки ПК на совместимость комплектующих.
+     */
+    private final List<ICompatibilityChecker> compatibilityCheckers;
+
+    /**
+     * Сервисы проверки совместимости комплектующих по слотам, от которых они зависят.
+     */
+    private final Map<ComputerBuildSlot, List<ICompatibilityChecker>> checkersBySlot =
+            new EnumMap<>(ComputerBuildSlot.class);
+
+    /**
+     * Сервисы проверки совместимости комплектующих, зависящие одновременно от двух слотов.
+     */
+    private final Map<ComputerBuildSlot, Map<ComputerBuildSlot, List<ICompatibilityChecker>>> checkersBySlots =
+            new EnumMap<>(ComputerBuildSlot.class);
+
+    /**
+     * Репозиторий сборок ПК.
+     */
+    private final IComputerBuildRepository repository;
+
+    /**
+     * Сервис получения комплектующих не сохраненной сборки ПК.
+     */
+    private final ComputerBuildResolver resolver;
+
+    /**
+     * Сервис подбора совместимых комплектующих.
+     */
+    private final CompatibleCandidateService candidateService;
+
+    /**
+     * Сервис инициализации ленивых связей сборки ПК.
+     */
+    private final ComputerBuildInitializer initializer;
+
+    /**
+     * Сервис для работы с сообщениями.
+     */
+    private final Translator translator;
+
+    /**
+     * Настройки проверки сборок ПК.
+     */
+    private final VerificationProperties properties;
+
+    /**
+     * Конструктор.
+     *
+     * @param compatibilityCheckers сервисы проверки сборки ПК на совместимость комплектующих
+     * @param repository            репозиторий сборок ПК
+     * @param resolver              сервис получения комплектующих не сохраненной сборки ПК
+     * @param candidateService      сервис подбора совместимых комплектующих
+     * @param initializer           сервис инициализации ленивых связей сборки ПК
+     * @param translator            сервис для работы с сообщениями
+     * @param properties            настройки проверки сборок ПК
+     */
+    @Autowired
+    public ComputerBuildRepairService(
+            final List<ICompatibilityChecker> compatibilityCheckers,
+            final IComputerBuildRepository repository,
+            final ComputerBuildResolver resolver,
+            final CompatibleCandidateService candidateService,
+            final ComputerBuildInitializer initializer,
+            final Translator translator,
+            final VerificationProperties properties
+    ) {
+        this.compatibilityCheckers = compatibilityCheckers;
+        this.repository = repository;
+        this.resolver = resolver;
+        this.candidateService = candidateService;
+        this.initializer = initializer;
+        this.translator = translator;
+        this.properties = properties;
+
+        for (final ComputerBuildSlot slot : ComputerBuildSlot.values()) {
+            checkersBySlot.put(slot, compatibilityCheckers.stream()
+                    .filter(checker -> checker.getSlots().contains(slot))
+                    .toList());
+
+            final Map<ComputerBuildSlot, List<ICompatibilityChecker>> byOtherSlot =
+                    new EnumMap<>(ComputerBuildSlot.class);
+            for (final ComputerBuildSlot other : ComputerBuildSlot.values()) {
+                byOtherSlot.put(other, compatibilityCheckers.stream()
+                        .filter(checker -> checker.getSlots().contains(slot) && checker.getSlots().contains(other))
+                        .toList());
+            }
+            checkersBySlots.put(slot, byOtherSlot);
+        }
+    }
+
+    /**
+     * Подбирает исправления сборки ПК с указанным ID.
+     *
+     * @param id    ID сборки ПК
+     * @param limit максимальное количество исправлений
+     * @return исправления в порядке убывания сходства или пустой список,
+     * если сборка ПК совместима или исправить ее не удалось
+     */
+    public List<ComputerBuildRepair> repair(final UUID id, final int limit) {
+        final ComputerBuild computer = repository.findById(id, VERIFY)
+                .orElseThrow(() -> new DataNotFoundException(
+                        translator.getMessage(
+                                MESSAGE_CODE_COMPUTER_BUILD_NOT_FOUND,
+                                id
+                        ),
+                        FIELD_ID
+                ));
+        initializer.initialize(computer);
+
+        return repair(ComputerBuildResolver.copy(computer), limit);
+    }
+
+    /**
+     * Подбирает исправления не сохраненной сборки ПК.
+     *
+     * @param draft сборка ПК, комплектующие которой заданы только ID
+     * @param limit максимальное количество исправлений
+     * @return исправления в порядке убывания сходства или пустой список,
+     * если сборка ПК совместима или исправить ее не удалось
+     */
+    public List<ComputerBuildRepair> repairUnsaved(final ComputerBuild draft, final int limit) {
+        final ComputerBuild computer = resolver.resolve(draft);
+        initializer.initialize(computer);
+
+        return repair(computer, limit);
+    }
+
+    /**
+     * Подбирает исправления сборки ПК, перебирая наборы заменяемых слотов
+     * в порядке возрастания их размера.
+     *
+     * @param computer сборка ПК, которую можно изменять
+     * @param limit    максимальное количество исправлений
+     * @return исправления в порядке убывания сходства
+     */
+    private List<ComputerBuildRepair> repair(final ComputerBuild computer, final int limit) {
+        final List<ICompatibilityChecker> violated = compatibilityCheckers.stream()
+                .filter(checker -> checker.check(computer).isPresent())
+                .toList();
+        if (violated.isEmpty()) {
+            return List.of();
+        }
+
+        final List<ComputerBuildSlot> conflictSlots = violated.stream()
+                .flatMap(checker -> checker.getSlots().stream())
+                .distinct()
+                .filter(SlotAssignment.ASSIGNABLE_SLOTS::containsKey)
+                .filter(slot -> SlotAssignment.isFilled(computer, slot))
+                .sorted()
+                .toList();
+
+        final int maxSwaps = Math.min(properties.getRepair().getMaxSwaps(), conflictSlots.size());
+        for (int size = 1; size <= maxSwaps; size++) {
+            final List<ComputerBuildRepair> repairs = new ArrayList<>();
+            for (final List<ComputerBuildSlot> slots : subsets(conflictSlots, size)) {
+                if (violated.stream().allMatch(checker -> slots.stream().anyMatch(checker.getSlots()::contains))) {
+                    repairs.addAll(repair(computer, slots));
+                }
+            }
+
+            if (!repairs.isEmpty()) {
+                return repairs.stream()
+                        .sorted(Comparator.comparingDouble(ComputerBuildRepair::getSimilarity).reversed())
+                        .limit(Math.min(Math.max(1, limit), properties.getRepair().getMaxResults()))
+                        .toList();
+            }
+        }
+
+        return List.of();
+    }
+
+    /**
+     * Подбирает исправления, заменяющие комплектующие указанных слотов.
+     *
+     * @param computer сборка ПК
+     * @param slots    заменяемые слоты
+     * @return исправления
+     */
+    private List<ComputerBuildRepair> repair(final ComputerBuild computer, final List<ComputerBuildSlot> slots) {
+        final ComputerBuild base = ComputerBuildResolver.copy(computer);
+        slots.forEach(slot -> SlotAssignment.clear(base, slot));
+
+        final List<List<Replacement>> domains = new ArrayList<>();
+        for (final ComputerBuildSlot slot : slots) {
+            final List<Replacement> domain = loadReplacements(computer, base, slot);
+            if (domain.isEmpty()) {
+                return List.of();
+            }
+            domains.add(domain);
+        }
+
+        final List<ComputerBuildRepair> repairs = new ArrayList<>();
+        combine(base, slots, domains, 0, new ArrayList<>(), repairs);
+        return repairs;
+    }
+
+    /**
+     * Загружает наиболее похожие на исходное комплектующее замены слота,
+     * совместимые с остальными комплектующими сборки ПК.
+     * Просматриваются все совместимые кандидаты, в памяти удерживаются только лучшие из них.
+     * Модули оперативной памяти заменяются одной моделью в исходном суммарном количестве.
+     *
+     * @param computer исходная сборка ПК
+     * @param base     сборка ПК с освобожденными заменяемыми слотами
+     * @param slot     заменяемый слот
+     * @return замены слота в порядке убывания сходства
+     */
+    private List<Replacement> loadReplacements(
+            final ComputerBuild computer,
+            final ComputerBuild base,
+            final ComputerBuildSlot slot
+    ) {
+        final List<BaseEntity> originals = getOriginals(computer, slot);
+        final List<UUID> originalIds = originals.stream()
+                .map(BaseEntity::getId)
+                .toList();
+        final int count = slot == RAM_MODULES
+                ? computer.getRamModules().stream().mapToInt(ComputerBuildToRamModule::getCount).sum()
+                : 1;
+
+        final BaseEntity original = originals.get(0);
+        final int candidatesPerSlot = Math.max(1, properties.getRepair().getCandidatesPerSlot());
+        final PriorityQueue<Replacement> best = new PriorityQueue<>(
+                Comparator.comparingDouble(Replacement::similarity)
+        );
+
+        candidateService.forEachCompatible(
+                SlotAssignment.ASSIGNABLE_SLOTS.get(slot),
+                base,
+                DEFAULT_SORT,
+                properties.getRepair().getBatchSize(),
+                component -> {
+                    if (originalIds.contains(component.getId())) {
+                        return;
+                    }
+
+                    final SlotAssignment assignment = new SlotAssignment(slot, component, count);
+                    if (slot == RAM_MODULES && !assignment.isCompatible(base, checkersBySlot.get(slot))) {
+                        return;
+                    }
+
+                    final double similarity = SpecSimilarity.of(original, component);
+                    if (best.size() < candidatesPerSlot) {
+                        best.add(new Replacement(assignment, originalIds, similarity));
+                    } else if (similarity > best.element().similarity()) {
+                        best.poll();
+                        best.add(new Replacement(assignment, originalIds, similarity));
+                    }
+                }
+        );
+
+        return best.stream()
+                .sorted(Comparator.comparingDouble(Replacement::similarity).reversed())
+                .toList();
+    }
+
+    /**
+     * Перебирает сочетания замен, подставляя их в сборку ПК по одному слоту.
+     * Замена проверяется только сервисами проверки, зависящими от нее
+     * и от одного из уже подставленных слотов: остальные проверки
+     * выполнены при загрузке замен.
+     *
+     * @param base    сборка ПК с освобожденными заменяемыми слотами
+     * @param slots   заменяемые слоты
+     * @param domains замены по слотам
+     * @param index   номер подставляемого слота
+     * @param chosen  уже подставленные замены
+     * @param repairs найденные исправления
+     */
+    private void combine(
+            final ComputerBuild base,
+            final List<ComputerBuildSlot> slots,
+            final List<List<Replacement>> domains,
+            final int index,
+            final List<Replacement> chosen,
+            final List<ComputerBuildRepair> repairs
+    ) {
+        if (index == slots.size()) {
+            repairs.add(new ComputerBuildRepair(chosen.stream()
+                    .map(Replacement::toSwap)
+                    .toList()));
+            return;
+        }
+
+        final ComputerBuildSlot slot = slots.get(index);
+        final List<ICompatibilityChecker> checkers = slots.subList(0, index)
+                .stream()
+                .flatMap(placed -> checkersBySlots.get(slot).get(placed).stream())
+                .distinct()
+                .toList();
+
+        for (final Replacement replacement : domains.get(index)) {
+            final SlotAssignment assignment = replacement.assignment();
+            if (!checkers.isEmpty() && !assignment.isCompatible(base, checkers)) {
+                continue;
+            }
+
+            assignment.place(base);
+            chosen.add(replacement);
+            combine(base, slots, domains, index + 1, chosen, repairs);
+            chosen.remove(chosen.size() - 1);
+            assignment.remove(base);
+        }
+    }
+
+    /**
+     * Возвращает исходные комплектующие слота.
+     * Модули оперативной памяти упорядочиваются по убыванию количества,
+     * так что первым оказывается модуль, с которым сравниваются замены.
+     *
+     * @param computer сборка ПК
+     * @param slot     слот сборки ПК
+     * @return исходные комплектующие слота
+     */
+    private static List<BaseEntity> getOriginals(final ComputerBuild computer, final ComputerBuildSlot slot) {
+        return switch (slot) {
+            case CPU -> List.of(computer.getCpu());
+            case PSU -> List.of(computer.getPsu());
+            case COOLER -> List.of(computer.getCooler());
+            case MOTHERBOARD -> List.of(computer.getMotherboard());
+            case GRAPHICS_CARD -> List.of(computer.getGraphicsCard());
+            case COMPUTER_CASE -> List.of(computer.getComputerCase());
+            case RAM_MODULES -> computer.getRamModules()
+                    .stream()
+                    .sorted(Comparator.comparing(ComputerBuildToRamModule::getCount).reversed())
+                    .<BaseEntity>map(ComputerBuildToRamModule::getRamModule)
+                    .toList();
+            default -> throw new IllegalStateException("Slot " + slot + " is not assignable");
+        };
+    }
+
+    /**
+     * Возвращает все наборы слотов указанного размера.
+     *
+     * @param slots слоты
+     * @param size  размер набора
+     * @return наборы слотов
+     */
+    private static List<List<ComputerBuildSlot>> subsets(final List<ComputerBuildSlot> slots, final int size) {
+        final List<List<ComputerBuildSlot>> result = new ArrayList<>();
+        collectSubsets(slots, size, 0, new ArrayList<>(), result);
+        return result;
+    }
+
+    /**
+     * Дополняет набор слотов всеми способами, начиная с указанной позиции.
+     *
+     * @param slots   слоты
+     * @param size    размер набора
+     * @param from    позиция, с которой выбираются следующие слоты
+     * @param current текущий набор
+     * @param result  собранные наборы
+     */
+    private static void collectSubsets(
+            final List<ComputerBuildSlot> slots,
+            final int size,
+            final int from,
+            final List<ComputerBuildSlot> current,
+            final List<List<ComputerBuildSlot>> result
+    ) {
+        if (current.size() == size) {
+            result.add(List.copyOf(current));
+            return;
+        }
+
+        for (int i = from; i < slots.size(); i++) {
+            current.add(slots.get(i));
+            collectSubsets(slots, size, i + 1, current, result);
+            current.remove(current.size() - 1);
+        }
+    }
+
+    /**
+     * Замена комплектующего слота.
+     *
+     * @param assignment  назначаемое слоту комплектующее
+     * @param originalIds ID заменяемых комплектующих
+     * @param similarity  сходство характеристик с исходным комплектующим
+     */
+    private record Replacement(
+            SlotAssignment assignment,
+            List<UUID> originalIds,
+            double similarity
+    ) {
+
+        /**
+         * Преобразует замену в элемент исправления.
+         *
+         * @return элемент исправления
+         */
+        private ComputerBuildRepair.Swap toSwap() {
+            return new ComputerBuildRepair.Swap(
+                    assignment.slot(),
+                    originalIds,
+                    assignment.component().getId(),
+                    assignment.slot() == RAM_MODULES ? assignment.count() : null,
+                    similarity
+            );
+        }
+    }
+}
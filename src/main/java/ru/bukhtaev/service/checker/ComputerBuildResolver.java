@@ -0,0 +1,321 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import ru.bukhtaev.exception.DataNotFoundException;
+import ru.bukhtaev.exception.InvalidParamException;
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.model.cross.ComputerBuildToFan;
+import ru.bukhtaev.model.cross.ComputerBuildToHdd;
+import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
+import ru.bukhtaev.model.cross.ComputerBuildToSsd;
+import ru.bukhtaev.repository.*;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static ru.bukhtaev.i18n.MessageUtils.*;
+import static ru.bukhtaev.model.BaseEntity.FIELD_ID;
+import static ru.bukhtaev.model.ComputerBuild.*;
+
+/**
+ * Сервис получения комплектующих, на которые ссылается не сохраненная сборка ПК.
+ * Комплектующие каждого типа, включаемые в сборку ПК в количестве,
+ * загружаются одним запросом.
+ */
+@Component
+public class ComputerBuildResolver {
+
+    /**
+     * Репозиторий процессоров.
+     */
+    private final ICpuRepository cpuRepository;
+
+    /**
+     * Репозиторий блоков питания.
+     */
+    private final IPsuRepository psuRepository;
+
+    /**
+     * Репозиторий процессорных кулеров.
+     */
+    private final ICoolerRepository coolerRepository;
+
+    /**
+     * Репозиторий материнских плат.
+     */
+    private final IMotherboardRepository motherboardRepository;
+
+    /**
+     * Репозиторий видеокарт.
+     */
+    private final IGraphicsCardRepository graphicsCardRepository;
+
+    /**
+     * Репозиторий корпусов.
+     */
+    private final IComputerCaseRepository computerCaseRepository;
+
+    /**
+     * Репозиторий вентиляторов.
+     */
+    private final IFanRepository fanRepository;
+
+    /**
+     * Репозиторий модулей оперативной памяти.
+     */
+    private final IRamModuleRepository ramModuleRepository;
+
+    /**
+     * Репозиторий жестких дисков.
+     */
+    private final IHddRepository hddRepository;
+
+    /**
+     * Репозиторий SSD-накопителей.
+     */
+    private final ISsdRepository ssdRepository;
+
+    /**
+     * Сервис предоставления сообщений.
+     */
+    private final Translator translator;
+
+    /**
+     * Конструктор.
+     *
+     * @param cpuRepository          репозиторий процессоров
+     * @param psuRepository          репозиторий блоков питания
+     * @param coolerRepository       репозиторий процессорных кулеров
+     * @param motherboardRepository  репозиторий материнских плат
+     * @param graphicsCardRepository репозиторий видеокарт
+     * @param computerCaseRepository репозиторий корпусов
+     * @param fanRepository          репозиторий вентиляторов
+     * @param ramModuleRepository    репозиторий модулей оперативной памяти
+     * @param hddRepository          репозиторий жестких дисков
+     * @param ssdRepository          репозиторий SSD-накопителей
+     * @param translator             сервис предоставления сообщений
+     */
+    @Autowired
+    public ComputerBuildResolver(
+            final ICpuRepository cpuRepository,
+            final IPsuRepository psuRepository,
+            final ICoolerRepository coolerRepository,
+            final IMotherboardRepository motherboardRepository,
+            final IGraphicsCardRepository graphicsCardRepository,
+            final IComputerCaseRepository computerCaseRepository,
+            final IFanRepository fanRepository,
+            final IRamModuleRepository ramModuleRepository,
+            final IHddRepository hddRepository,
+            final ISsdRepository ssdRepository,
+            final Translator translator
+    ) {
+        this.cpuRepository = cpuRepository;
+        this.psuRepository = psuRepository;
+        this.coolerRepository = coolerRepository;
+        this.motherboardRepository = motherboardRepository;
+        this.graphicsCardRepository = graphicsCardRepository;
+        this.computerCaseRepository = computerCaseRepository;
+        this.fanRepository = fanRepository;
+        this.ramModuleRepository = ramModuleRepository;
+        this.hddRepository = hddRepository;
+        this.ssdRepository = ssdRepository;
+        this.translator = translator;
+    }
+
+    /**
+     * Создает новую сборку ПК, не привязанную к контексту персистентности,
+     * из комплектующих, на которые ссылается переданная сборка ПК.
+     * Если какое-либо комплектующее не найдено, выбрасывает {@link DataNotFoundException}.
+     *
+     * @param draft сборка ПК, комплектующие которой заданы только ID
+     * @return сборку ПК с загруженными комплектующими
+     */
+    public ComputerBuild resolve(final ComputerBuild draft) {
+        final ComputerBuild computer = ComputerBuild.builder()
+                .name(draft.getName())
+                .cpu(findById(cpuRepository, draft.getCpu(), MESSAGE_CODE_CPU_NOT_FOUND))
+                .psu(findById(psuRepository, draft.getPsu(), MESSAGE_CODE_PSU_NOT_FOUND))
+                .cooler(findById(coolerRepository, draft.getCooler(), MESSAGE_CODE_COOLER_NOT_FOUND))
+                .motherboard(findById(
+                        motherboardRepository,
+                        draft.getMotherboard(),
+                        MESSAGE_CODE_MOTHERBOARD_NOT_FOUND
+                ))
+                .graphicsCard(findById(
+                        graphicsCardRepository,
+                        draft.getGraphicsCard(),
+                        MESSAGE_CODE_GRAPHICS_CARD_NOT_FOUND
+                ))
+                .computerCase(findById(
+                        computerCaseRepository,
+                        draft.getComputerCase(),
+                        MESSAGE_CODE_COMPUTER_CASE_NOT_FOUND
+                ))
+                .build();
+
+        if (draft.getFans() != null) {
+            final Map<UUID, Fan> fans = findAllById(
+                    fanRepository,
+                    draft.getFans(),
+                    ComputerBuildToFan::getFan,
+                    MESSAGE_CODE_FAN_NOT_FOUND,
+                    FIELD_FANS
+            );
+            draft.getFans().forEach(buildToFan -> computer.addFan(
+                    fans.get(buildToFan.getFan().getId()),
+                    buildToFan.getCount()
+            ));
+        }
+
+        if (draft.getRamModules() != null) {
+            final Map<UUID, RamModule> modules = findAllById(
+                    ramModuleRepository,
+                    draft.getRamModules(),
+                    ComputerBuildToRamModule::getRamModule,
+                    MESSAGE_CODE_RAM_MODULE_NOT_FOUND,
+                    FIELD_RAM_MODULES
+            );
+            draft.getRamModules().forEach(buildToModule -> computer.addRamModule(
+                    modules.get(buildToModule.getRamModule().getId()),
+                    buildToModule.getCount()
+            ));
+        }
+
+        if (draft.getHdds() != null) {
+            final Map<UUID, Hdd> hdds = findAllById(
+                    hddRepository,
+                    draft.getHdds(),
+                    ComputerBuildToHdd::getHdd,
+                    MESSAGE_CODE_HDD_NOT_FOUND,
+                    FIELD_HDDS
+            );
+            draft.getHdds().forEach(buildToHdd -> computer.addHdd(
+                    hdds.get(buildToHdd.getHdd().getId()),
+                    buildToHdd.getCount()
+            ));
+        }
+
+        if (draft.getSsds() != null) {
+            final Map<UUID, Ssd> ssds = findAllById(
+                    ssdRepository,
+                    draft.getSsds(),
+                    ComputerBuildToSsd::getSsd,
+                    MESSAGE_CODE_SSD_NOT_FOUND,
+                    FIELD_SSDS
+            );
+            draft.getSsds().forEach(buildToSsd -> computer.addSsd(
+                    ssds.get(buildToSsd.getSsd().getId()),
+                    buildToSsd.getCount()
+            ));
+        }
+
+        return computer;
+    }
+
+    /**
+     * Создает копию сборки ПК, которую можно изменять, не затрагивая исходную.
+     *
+     * @param computer сборка ПК
+     * @return копия сборки ПК
+     */
+    static ComputerBuild copy(final ComputerBuild computer) {
+        final ComputerBuild copy = ComputerBuild.builder()
+                .name(computer.getName())
+                .cpu(computer.getCpu())
+                .psu(computer.getPsu())
+                .cooler(computer.getCooler())
+                .motherboard(computer.getMotherboard())
+                .graphicsCard(computer.getGraphicsCard())
+                .computerCase(computer.getComputerCase())
+                .build();
+
+        computer.getFans().forEach(item -> copy.addFan(item.getFan(), item.getCount()));
+        computer.getRamModules().forEach(item -> copy.addRamModule(item.getRamModule(), item.getCount()));
+        computer.getHdds().forEach(item -> copy.addHdd(item.getHdd(), item.getCount()));
+        computer.getSsds().forEach(item -> copy.addSsd(item.getSsd(), item.getCount()));
+        return copy;
+    }
+
+    /**
+     * Возвращает комплектующее с ID переданной ссылки или {@code null}, если ссылка не задана.
+     * Если комплектующее не найдено, выбрасывает {@link DataNotFoundException}.
+     *
+     * @param repository  репозиторий комплектующих
+     * @param reference   ссылка на комплектующее
+     * @param messageCode код сообщения об ошибке
+     * @param <T>         тип комплектующего
+     * @return комплектующее или {@code null}, если ссылка не задана
+     */
+    private <T extends BaseEntity> T findById(
+            final JpaRepository<T, UUID> repository,
+            final T reference,
+            final String messageCode
+    ) {
+        if (reference == null || reference.getId() == null) {
+            return null;
+        }
+
+        return repository.findById(reference.getId())
+                .orElseThrow(() -> new DataNotFoundException(
+                        translator.getMessage(messageCode, reference.getId()),
+                        FIELD_ID
+                ));
+    }
+
+    /**
+     * Загружает одним запросом все комплектующие, на которые ссылаются
+     * переданные элементы сборки ПК.
+     * Если какой-либо элемент не ссылается на комплектующее,
+     * выбрасывает {@link InvalidParamException}.
+     * Если какое-либо комплектующее не найдено, выбрасывает {@link DataNotFoundException}.
+     *
+     * @param repository  репозиторий комплектующих
+     * @param items       элементы сборки ПК
+     * @param reference   функция получения ссылки на комплектующее из элемента сборки ПК
+     * @param messageCode код сообщения об ошибке
+     * @param fieldName   название поля, хранящего элементы сборки ПК
+     * @param <T>         тип комплектующего
+     * @param <I>         тип элемента сборки ПК
+     * @return комплектующие по их ID
+     */
+    private <T extends BaseEntity, I> Map<UUID, T> findAllById(
+            final JpaRepository<T, UUID> repository,
+            final Set<I> items,
+            final Function<I, T> reference,
+            final String messageCode,
+            final String fieldName
+    ) {
+        if (items.stream().anyMatch(item -> item == null
+                || reference.apply(item) == null
+                || reference.apply(item).getId() == null)) {
+            throw new InvalidParamException(
+                    translator.getMessage(MESSAGE_CODE_INVALID_PARAM_VALUE),
+                    fieldName
+            );
+        }
+
+        final Set<UUID> ids = items.stream()
+                .map(item -> reference.apply(item).getId())
+                .collect(Collectors.toSet());
+
+        final Map<UUID, T> found = repository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(BaseEntity::getId, Function.identity()));
+
+        ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new DataNotFoundException(
+                            translator.getMessage(messageCode, id),
+                            FIELD_ID
+                    );
+                });
+
+        return found;
+    }
+}
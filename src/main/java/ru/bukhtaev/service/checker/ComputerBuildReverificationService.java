@@ -0,0 +1,233 @@
+package ru.bukhtaev.service.checker;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.bukhtaev.config.VerificationProperties;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.repository.IComputerBuildRepository;
+import ru.bukhtaev.service.TransactionService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+import static ru.bukhtaev.config.VerificationConfig.REVERIFICATION_EXECUTOR;
+
+/**
+ * Сервис фоновой повторной проверки сохраненных сборок ПК.
+ * После фиксации транзакции, изменившей комплектующее, запись справочника
+ * или саму сборку ПК, с задержкой запускает повторную проверку затронутых сборок ПК
+ * и сохраняет статус последней проверки каждой из них.
+ * Изменения, сделанные за время задержки, проверяются вместе.
+ * Сборки ПК, прямо или косвенно ссылающиеся на измененную сущность, находятся обратным поиском,
+ * поэтому сборки ПК, не затронутые изменением, повторно не проверяются.
+ * Порции сборок ПК проверяются не более чем в заданное количество потоков,
+ * следующая порция берется потоком только после проверки предыдущей.
+ */
+@Slf4j
+@Service
+public class ComputerBuildReverificationService {
+
+    /**
+     * Репозиторий сборок ПК.
+     */
+    private final IComputerBuildRepository repository;
+
+    /**
+     * Сервис проверки сборок ПК.
+     */
+    private final ComputerBuildVerifyingService verifyingService;
+
+    /**
+     * Сервис обратного поиска сборок ПК, ссылающихся на сущность.
+     */
+    private final ComputerBuildReferenceFinder referenceFinder;
+
+    /**
+     * Сервис выполнения кода в транзакции.
+     */
+    private final TransactionService transactionService;
+
+    /**
+     * Настройки фоновой повторной проверки.
+     */
+    private final VerificationProperties.Reverification properties;
+
+    /**
+     * Пул потоков для фоновой повторной проверки.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * ID измененных сущностей по их типу, сборки ПК с которыми ожидают повторной проверки.
+     */
+    private final Map<Class<? extends BaseEntity>, Set<UUID>> pendingIds = new ConcurrentHashMap<>();
+
+    /**
+     * Запланирована ли повторная проверка.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Конструктор.
+     *
+     * @param repository         репозиторий сборок ПК
+     * @param verifyingService   сервис проверки сборок ПК
+     * @param referenceFinder    сервис обратного поиска сборок ПК, ссылающихся на сущность
+     * @param transactionService сервис выполнения кода в транзакции
+     * @param properties         настройки проверки сборок ПК
+     * @param executor           пул потоков для фоновой повторной проверки
+     */
+    @Autowired
+    public ComputerBuildReverificationService(
+            final IComputerBuildRepository repository,
+            final ComputerBuildVerifyingService verifyingService,
+            final ComputerBuildReferenceFinder referenceFinder,
+            final TransactionService transactionService,
+            final VerificationProperties properties,
+            @Qualifier(REVERIFICATION_EXECUTOR) final ScheduledExecutorService executor
+    ) {
+        this.repository = repository;
+        this.verifyingService = verifyingService;
+        this.referenceFinder = referenceFinder;
+        this.transactionService = transactionService;
+        this.properties = properties.getReverification();
+        this.executor = executor;
+    }
+
+    /**
+     * Запоминает сборки ПК, затронутые изменением сущности,
+     * и планирует их повторную проверку.
+     *
+     * @param event событие изменения сущности
+     */
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        pendingIds.computeIfAbsent(event.getEntityType(), type -> ConcurrentHashMap.newKeySet())
+                .add(event.getId());
+
+        if (scheduled.compareAndSet(false, true)) {
+            executor.schedule(this::sweep, properties.getDelay().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Находит сборки ПК, ожидающие повторной проверки,
+     * и отправляет их на проверку порциями.
+     */
+    void sweep() {
+        scheduled.set(false);
+
+        final Map<Class<? extends BaseEntity>, List<UUID>> changedIds = new HashMap<>();
+        pendingIds.forEach((type, ids) -> {
+            final List<UUID> drained = drain(ids);
+            if (!drained.isEmpty()) {
+                changedIds.put(type, drained);
+            }
+        });
+
+        final Set<UUID> buildIds = new LinkedHashSet<>();
+        try {
+            transactionService.doInTransaction(true, () -> changedIds.forEach(
+                    (type, ids) -> buildIds.addAll(referenceFinder.findBuildIds(type, ids))
+            ));
+        } catch (final RuntimeException exception) {
+            log.error("Failed to find computer builds for re-verification", exception);
+            return;
+        }
+
+        final List<UUID> ids = List.copyOf(buildIds);
+        final int chunkSize = Math.max(1, properties.getChunkSize());
+        final Queue<List<UUID>> chunks = new ConcurrentLinkedQueue<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+
+        final int workers = Math.min(Math.max(1, properties.getConcurrency()), chunks.size());
+        for (int i = 0; i < workers; i++) {
+            executor.execute(() -> reverifyAll(chunks));
+        }
+    }
+
+    /**
+     * Повторно проверяет порции сборок ПК из очереди, пока она не опустеет.
+     *
+     * @param chunks очередь порций ID сборок ПК
+     */
+    private void reverifyAll(final Queue<List<UUID>> chunks) {
+        List<UUID> chunk;
+        while ((chunk = chunks.poll()) != null) {
+            reverify(chunk);
+        }
+    }
+
+    /**
+     * Повторно проверяет порцию сборок ПК и сохраняет статус их последней проверки.
+     * Не найденные и не проверенные сборки ПК пропускаются.
+     *
+     * @param ids ID сборок ПК
+     */
+    void reverify(final List<UUID> ids) {
+        final Map<VerificationStatus, List<UUID>> idsByStatus = new EnumMap<>(VerificationStatus.class);
+
+        try {
+            verifyingService.verifyAll(ids, VerificationMode.BLOCKING_ONLY, batchResult -> {
+                final ComputerVerifyResult result = batchResult.getResult();
+                if (result != null) {
+                    idsByStatus.computeIfAbsent(statusOf(result), status -> new ArrayList<>())
+                            .add(batchResult.getId());
+                }
+            });
+
+            final Instant verifiedAt = Instant.now();
+            transactionService.doInTransaction(false, () -> idsByStatus.forEach(
+                    (status, statusIds) -> repository.updateVerificationStatus(statusIds, status, verifiedAt)
+            ));
+        } catch (final RuntimeException exception) {
+            log.error("Failed to re-verify computer builds", exception);
+        }
+    }
+
+    /**
+     * Возвращает статус проверки по ее результату.
+     *
+     * @param result результат проверки
+     * @return статус проверки
+     */
+    private VerificationStatus statusOf(final ComputerVerifyResult result) {
+        return result.getCompletenessViolations().isEmpty() && result.getCompatibilityViolations().isEmpty()
+                ? VerificationStatus.VALID
+                : VerificationStatus.INVALID;
+    }
+
+    /**
+     * Извлекает все элементы из множества.
+     *
+     * @param pending множество
+     * @return извлеченные элементы
+     */
+    private List<UUID> drain(final Set<UUID> pending) {
+        final List<UUID> drained = new ArrayList<>();
+
+        final Iterator<UUID> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+
+        return drained;
+    }
+}
@@ -0,0 +1,131 @@
+package ru.bukhtaev.service.checker;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Декларативное правило проверки сборки ПК: условие нарушения и параметры его сообщения,
+ * вычисляемые по общим значениям сборки ПК {@link ComputerBuildFacts}.
+ * Правило явно объявляет обязательные слоты сборки ПК и проверяется, только если все они заполнены,
+ * поэтому условие не проверяет наличие комплектующих.
+ * Обязательные слоты не заменяют {@link CheckedSlots}: аннотация объявляет все читаемые слоты,
+ * а правило — только те, без которых проверка не выполняется.
+ */
+public final class ComputerBuildRule {
+
+    /**
+     * Код сообщения о нарушении.
+     */
+    private final String code;
+
+    /**
+     * Обязательные слоты сборки ПК.
+     */
+    private final Set<ComputerBuildSlot> requiredSlots;
+
+    /**
+     * Битовая маска обязательных слотов сборки ПК.
+     */
+    private final int requiredMask;
+
+    /**
+     * Условие нарушения.
+     */
+    private final Predicate<ComputerBuildFacts> violated;
+
+    /**
+     * Функция вычисления параметров сообщения о нарушении.
+     */
+    private final Function<ComputerBuildFacts, Object[]> args;
+
+    /**
+     * Конструктор.
+     *
+     * @param code          код сообщения о нарушении
+     * @param requiredSlots обязательные слоты сборки ПК
+     * @param violated      условие нарушения
+     * @param args          функция вычисления параметров сообщения о нарушении
+     */
+    private ComputerBuildRule(
+            final String code,
+            final Set<ComputerBuildSlot> requiredSlots,
+            final Predicate<ComputerBuildFacts> violated,
+            final Function<ComputerBuildFacts, Object[]> args
+    ) {
+        this.code = code;
+        this.requiredSlots = Collections.unmodifiableSet(EnumSet.copyOf(requiredSlots));
+        this.requiredMask = ComputerBuildFacts.mask(requiredSlots);
+        this.violated = violated;
+        this.args = args;
+    }
+
+    /**
+     * Создает правило.
+     *
+     * @param code          код сообщения о нарушении
+     * @param requiredSlots обязательные слоты сборки ПК, не пустые
+     * @param violated      условие нарушения, вызываемое только при заполненных обязательных слотах
+     * @param args          функция вычисления параметров сообщения о нарушении,
+     *                      вызываемая только при нарушении
+     * @return правило
+     */
+    public static ComputerBuildRule of(
+            final String code,
+            final Set<ComputerBuildSlot> requiredSlots,
+            final Predicate<ComputerBuildFacts> violated,
+            final Function<ComputerBuildFacts, Object[]> args
+    ) {
+        return new ComputerBuildRule(code, requiredSlots, violated, args);
+    }
+
+    /**
+     * Возвращает код сообщения о нарушении.
+     *
+     * @return код сообщения о нарушении
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Возвращает обязательные слоты сборки ПК.
+     *
+     * @return обязательные слоты сборки ПК
+     */
+    public Set<ComputerBuildSlot> getRequiredSlots() {
+        return requiredSlots;
+    }
+
+    /**
+     * Проверяет, заполнены ли все обязательные слоты сборки ПК.
+     *
+     * @param facts значения сборки ПК
+     * @return {@code true}, если правило применимо к сборке ПК
+     */
+    public boolean isApplicable(final ComputerBuildFacts facts) {
+        return facts.isFilled(requiredMask);
+    }
+
+    /**
+     * Проверяет условие нарушения.
+     *
+     * @param facts значения сборки ПК с заполненными обязательными слотами
+     * @return {@code true}, если правило нарушено
+     */
+    public boolean isViolated(final ComputerBuildFacts facts) {
+        return violated.test(facts);
+    }
+
+    /**
+     * Вычисляет параметры сообщения о нарушении.
+     *
+     * @param facts значения сборки ПК с заполненными обязательными слотами
+     * @return параметры сообщения о нарушении
+     */
+    public Object[] args(final ComputerBuildFacts facts) {
+        return args.apply(facts);
+    }
+}
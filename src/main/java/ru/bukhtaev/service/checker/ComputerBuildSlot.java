@@ -0,0 +1,102 @@
+package ru.bukhtaev.service.checker;
+
+import java.util.function.Function;
+
+/**
+ * Слот сборки ПК: комплектующее или группа комплектующих,
+ * которые можно изменить независимо от остальных.
+ */
+public enum ComputerBuildSlot {
+
+    /**
+     * Процессор.
+     */
+    CPU(ComputerBuildFingerprint::cpuId, 1),
+
+    /**
+     * Блок питания.
+     */
+    PSU(ComputerBuildFingerprint::psuId, 1),
+
+    /**
+     * Процессорный кулер.
+     */
+    COOLER(ComputerBuildFingerprint::coolerId, 1),
+
+    /**
+     * Материнская плата.
+     */
+    MOTHERBOARD(ComputerBuildFingerprint::motherboardId, 1),
+
+    /**
+     * Видеокарта.
+     */
+    GRAPHICS_CARD(ComputerBuildFingerprint::graphicsCardId, 1),
+
+    /**
+     * Корпус.
+     */
+    COMPUTER_CASE(ComputerBuildFingerprint::computerCaseId, 1),
+
+    /**
+     * Вентиляторы.
+     */
+    FANS(ComputerBuildFingerprint::fans, 4),
+
+    /**
+     * Модули оперативной памяти.
+     */
+    RAM_MODULES(ComputerBuildFingerprint::ramModules, 4),
+
+    /**
+     * Жесткие диски.
+     */
+    HDDS(ComputerBuildFingerprint::hdds, 4),
+
+    /**
+     * SSD-накопители.
+     */
+    SSDS(ComputerBuildFingerprint::ssds, 4);
+
+    /**
+     * Функция получения содержимого слота из отпечатка состава сборки ПК.
+     */
+    private final Function<ComputerBuildFingerprint, Object> extractor;
+
+    /**
+     * Относительная стоимость проверки содержимого слота:
+     * слоты, содержащие несколько комплектующих, проверяются дольше.
+     */
+    private final int cost;
+
+    /**
+     * Конструктор.
+     *
+     * @param extractor функция получения содержимого слота из отпечатка состава сборки ПК
+     * @param cost      относительная стоимость проверки содержимого слота
+     */
+    ComputerBuildSlot(final Function<ComputerBuildFingerprint, Object> extractor, final int cost) {
+        this.extractor = extractor;
+        this.cost = cost;
+    }
+
+    /**
+     * Возвращает относительную стоимость проверки содержимого слота.
+     *
+     * @return относительная стоимость проверки содержимого слота
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Возвращает содержимое слота: ID комплектующего
+     * или количество комплектующих по их ID.
+     *
+     * @param fingerprint отпечаток состава сборки ПК
+     * @return содержимое слота
+     */
+    public Object valueOf(final ComputerBuildFingerprint fingerprint) {
+        return extractor.apply(fingerprint);
+    }
+}
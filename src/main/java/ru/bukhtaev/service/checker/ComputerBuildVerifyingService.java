@@ -1,29 +1,46 @@
 package ru.bukhtaev.service.checker;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.bukhtaev.config.VerificationProperties;
+import ru.bukhtaev.exception.CommonException;
+import ru.bukhtaev.exception.CommonServerSideException;
 import ru.bukhtaev.exception.DataNotFoundException;
 import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.repository.ComputerBuildFetchPlan;
 import ru.bukhtaev.repository.IComputerBuildRepository;
+import ru.bukhtaev.service.TransactionService;
 import ru.bukhtaev.service.checker.compatibility.ICompatibilityChecker;
 import ru.bukhtaev.service.checker.completeness.ICompletenessChecker;
 import ru.bukhtaev.service.checker.optimality.IOptimalityChecker;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
+import static ru.bukhtaev.config.VerificationConfig.VERIFICATION_EXECUTOR;
 import static ru.bukhtaev.model.ComputerBuild.FIELD_ID;
+import static ru.bukhtaev.repository.ComputerBuildFetchPlan.VERIFY;
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_COMPUTER_BUILD_NOT_FOUND;
+import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_COMPUTER_BUILD_VERIFICATION_TIMEOUT;
 
 /**
  * Сервис проверки сборки ПК на законченность,
  * совместимость комплектующих и оптимальность.
  */
 @Service
+@Transactional(
+        isolation = READ_COMMITTED,
+        readOnly = true
+)
 public class ComputerBuildVerifyingService {
 
     /**
@@ -51,6 +68,62 @@ public class ComputerBuildVerifyingService {
      */
     private final Translator translator;
 
+    /**
+     * Сервис инициализации ленивых связей сборки ПК.
+     */
+    private final ComputerBuildInitializer initializer;
+
+    /**
+     * Настройки проверки сборок ПК.
+     */
+    private final VerificationProperties properties;
+
+    /**
+     * Пул потоков для параллельного выполнения сервисов проверки.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Сервис выполнения кода в транзакции.
+     */
+    private final TransactionService transactionService;
+
+    /**
+     * Сервис получения комплектующих не сохраненной сборки ПК.
+     */
+    private final ComputerBuildResolver resolver;
+
+    /**
+     * Кэш результатов проверки.
+     */
+    private final ComputerVerifyResultCache cache;
+
+    /**
+     * Хранилище последних результатов проверки сохраненных сборок ПК.
+     */
+    private final ComputerVerifyStateStore stateStore;
+
+    /**
+     * Метрики сервисов проверки.
+     */
+    private final ComputerBuildCheckerMetrics metrics;
+
+    /**
+     * Все сервисы проверки: на завершенность, на совместимость комплектующих и на оптимальность.
+     */
+    private final List<IComputerBuildChecker> checkers;
+
+    /**
+     * Индексы всех сервисов проверки в порядке возрастания их стоимости.
+     */
+    private final List<Integer> checkersByCost;
+
+    /**
+     * Индексы сервисов проверки, обнаруживающих блокирующие нарушения,
+     * в порядке возрастания их стоимости.
+     */
+    private final List<Integer> blockingCheckersByCost;
+
     /**
      * Конструктор.
      *
@@ -59,6 +132,14 @@ public class ComputerBuildVerifyingService {
      * @param optimalityCheckers    сервисы проверки сборки ПК на оптимальность
      * @param repository            репозиторий сборок ПК
      * @param translator            сервис предоставления сообщений
+     * @param initializer           сервис инициализации ленивых связей сборки ПК
+     * @param properties            настройки проверки сборок ПК
+     * @param executor              пул потоков для параллельного выполнения сервисов проверки
+     * @param transactionService    сервис выполнения кода в транзакции
+     * @param resolver              сервис получения комплектующих не сохраненной сборки ПК
+     * @param cache                 кэш результатов проверки
+     * @param stateStore            хранилище последних результатов проверки сохраненных сборок ПК
+     * @param metrics               метрики сервисов проверки
      */
     @Autowired
     public ComputerBuildVerifyingService(
@@ -66,50 +147,412 @@ public class ComputerBuildVerifyingService {
             final List<ICompatibilityChecker> compatibilityCheckers,
             final List<IOptimalityChecker> optimalityCheckers,
             final IComputerBuildRepository repository,
-            final Translator translator
+            final Translator translator,
+            final ComputerBuildInitializer initializer,
+            final VerificationProperties properties,
+            @Qualifier(VERIFICATION_EXECUTOR) final ExecutorService executor,
+            final TransactionService transactionService,
+            final ComputerBuildResolver resolver,
+            final ComputerVerifyResultCache cache,
+            final ComputerVerifyStateStore stateStore,
+            final ComputerBuildCheckerMetrics metrics
     ) {
         this.completenessCheckers = completenessCheckers;
         this.compatibilityCheckers = compatibilityCheckers;
         this.optimalityCheckers = optimalityCheckers;
         this.repository = repository;
         this.translator = translator;
+        this.initializer = initializer;
+        this.properties = properties;
+        this.executor = executor;
+        this.transactionService = transactionService;
+        this.resolver = resolver;
+        this.cache = cache;
+        this.stateStore = stateStore;
+        this.metrics = metrics;
+
+        final List<IComputerBuildChecker> all = new ArrayList<>(completenessCheckers);
+        all.addAll(compatibilityCheckers);
+        all.addAll(optimalityCheckers);
+        this.checkers = List.copyOf(all);
+        this.checkersByCost = IntStream.range(0, checkers.size())
+                .boxed()
+                .sorted(Comparator.comparingInt(index -> checkers.get(index).getCost()))
+                .toList();
+        this.blockingCheckersByCost = checkersByCost.stream()
+                .filter(index -> checkers.get(index).getSeverity() == ViolationSeverity.ERROR)
+                .toList();
     }
 
     /**
      * Проверяет сборку ПК на законченность,
      * совместимость комплектующих и оптимальность.
      *
-     * @param id ID сборки ПК
+     * @param id   ID сборки ПК
+     * @param mode режим проверки
      * @return результат проверки
      */
-    public ComputerVerifyResult verify(final UUID id) {
-        final ComputerBuild computer = findById(id);
+    public ComputerVerifyResult verify(final UUID id, final VerificationMode mode) {
+        return verify(findById(id), mode);
+    }
 
-        final Set<String> completenessViolations = completenessCheckers.stream()
-                .map(checker -> checker.check(computer))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toSet());
+    /**
+     * Проверяет не сохраненную сборку ПК на законченность,
+     * совместимость комплектующих и оптимальность.
+     * Комплектующие сборки ПК загружаются по их ID,
+     * сама сборка ПК в базу данных не сохраняется.
+     *
+     * @param draft сборка ПК, комплектующие которой заданы только ID
+     * @param mode  режим проверки
+     * @return результат проверки
+     */
+    public ComputerVerifyResult verifyUnsaved(final ComputerBuild draft, final VerificationMode mode) {
+        return verify(resolver.resolve(draft), mode);
+    }
 
-        final Set<String> compatibilityViolations = compatibilityCheckers.stream()
-                .map(checker -> checker.check(computer))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toSet());
+    /**
+     * Проверяет сборки ПК с указанными ID на законченность,
+     * совместимость комплектующих и оптимальность.
+     * Сборки ПК загружаются пакетами, каждый пакет загружается
+     * несколькими запросами и проверяется в отдельной транзакции.
+     * Результаты передаются потребителю вне транзакции в порядке следования ID.
+     * Ошибка проверки отдельной сборки ПК не прерывает проверку остальных.
+     *
+     * @param ids      ID сборок ПК
+     * @param mode     режим проверки
+     * @param consumer потребитель результатов проверки
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void verifyAll(
+            final Collection<UUID> ids,
+            final VerificationMode mode,
+            final Consumer<ComputerBatchVerifyResult> consumer
+    ) {
+        final List<UUID> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        final int batchSize = Math.max(1, properties.getBatchSize());
+
+        for (int from = 0; from < distinctIds.size(); from += batchSize) {
+            final List<UUID> batch = distinctIds.subList(
+                    from,
+                    Math.min(from + batchSize, distinctIds.size())
+            );
 
-        final Set<String> optimalityWarnings = optimalityCheckers.stream()
-                .map(checker -> checker.check(computer))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toSet());
+            final List<ComputerBatchVerifyResult> results = new ArrayList<>(batch.size());
+            transactionService.doInTransaction(true, () -> results.addAll(verifyBatch(batch, mode)));
+            results.forEach(consumer);
+        }
+    }
 
+    /**
+     * Проверяет переданную сборку ПК на законченность,
+     * совместимость комплектующих и оптимальность.
+     * Результат проверки сборки ПК того же состава берется из кэша, если он там есть.
+     *
+     * @param computer сборка ПК
+     * @return результат проверки
+     */
+    public ComputerVerifyResult verify(final ComputerBuild computer) {
+        return verify(computer, VerificationMode.FULL);
+    }
+
+    /**
+     * Проверяет переданную сборку ПК в указанном режиме.
+     * Полный результат проверки сохраняется в кэш. Для остальных режимов результат
+     * выводится из полного результата в кэше, если он там есть,
+     * иначе выполняются только необходимые сервисы проверки.
+     *
+     * @param computer сборка ПК
+     * @param mode     режим проверки
+     * @return результат проверки
+     */
+    public ComputerVerifyResult verify(final ComputerBuild computer, final VerificationMode mode) {
+        if (mode == VerificationMode.FULL) {
+            return cache.get(computer, this::runCheckers);
+        }
+
+        return cache.find(computer)
+                .map(result -> restrict(result, mode))
+                .orElseGet(() -> runCheckers(computer, mode));
+    }
+
+    /**
+     * Выполняет все сервисы проверки над сборкой ПК.
+     *
+     * @param computer сборка ПК
+     * @return результат проверки
+     */
+    ComputerVerifyResult runCheckers(final ComputerBuild computer) {
+        return runCheckers(computer, VerificationMode.FULL);
+    }
+
+    /**
+     * Выполняет сервисы проверки, необходимые в указанном режиме, над сборкой ПК.
+     * Если при полной проверке сохраненной сборки ПК известен предыдущий результат проверки,
+     * полученный при той же версии каталога комплектующих,
+     * повторно выполняются только сервисы проверки, зависящие от измененных слотов сборки ПК.
+     * В зависимости от настроек сервисы проверки выполняются
+     * последовательно или параллельно; до первого нарушения - всегда последовательно.
+     *
+     * @param computer сборка ПК
+     * @param mode     режим проверки
+     * @return результат проверки
+     */
+    ComputerVerifyResult runCheckers(final ComputerBuild computer, final VerificationMode mode) {
+        final boolean full = mode == VerificationMode.FULL;
+        final ComputerBuildFingerprint fingerprint = ComputerBuildFingerprint.of(computer);
+        final long catalogVersion = stateStore.getCatalogVersion();
+        final Optional<ComputerVerifyState> previous = full
+                ? stateStore.find(computer.getId())
+                : Optional.empty();
+
+        final ComputerBuildViolation[] violations = previous
+                .map(state -> state.violations().clone())
+                .orElseGet(() -> new ComputerBuildViolation[checkers.size()]);
+        final List<Integer> affected = previous
+                .map(state -> findAffectedCheckers(state.changedSlots(fingerprint)))
+                .orElse(full ? checkersByCost : blockingCheckersByCost);
+
+        final boolean parallel = properties.isParallel() && mode != VerificationMode.FIRST_VIOLATION;
+        metrics.recordVerification(mode, parallel, () -> {
+            if (parallel) {
+                checkInParallel(computer, affected, violations);
+                return;
+            }
+
+            final ComputerBuildFacts facts = ComputerBuildFacts.of(computer);
+            for (final Integer index : affected) {
+                violations[index] = metrics.check(checkers.get(index), facts).orElse(null);
+                if (violations[index] != null && mode == VerificationMode.FIRST_VIOLATION) {
+                    return;
+                }
+            }
+        });
+
+        if (full) {
+            stateStore.save(
+                    computer.getId(),
+                    new ComputerVerifyState(fingerprint, catalogVersion, violations.clone())
+            );
+        }
+
+        final int compatibilityFrom = completenessCheckers.size();
+        final int optimalityFrom = compatibilityFrom + compatibilityCheckers.size();
         return ComputerVerifyResult.builder()
-                .completenessViolations(completenessViolations)
-                .compatibilityViolations(compatibilityViolations)
-                .optimalityWarnings(optimalityWarnings)
+                .completenessViolations(collect(violations, 0, compatibilityFrom))
+                .compatibilityViolations(collect(violations, compatibilityFrom, optimalityFrom))
+                .optimalityWarnings(collect(violations, optimalityFrom, violations.length))
+                .firstBlockingViolation(blockingCheckersByCost.stream()
+                        .map(index -> violations[index])
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .orElse(null))
                 .build();
     }
 
+    /**
+     * Параллельно выполняет указанные сервисы проверки в пуле потоков.
+     * Если проверка не завершилась за отведенное время,
+     * выбрасывает {@link CommonServerSideException}.
+     * В этом случае, как и при ошибке одного из сервисов проверки, невыполненные задачи отменяются.
+     *
+     * @param computer   сборка ПК
+     * @param indices    индексы выполняемых сервисов проверки
+     * @param violations нарушения по индексам сервисов проверки
+     */
+    private void checkInParallel(
+            final ComputerBuild computer,
+            final List<Integer> indices,
+            final ComputerBuildViolation[] violations
+    ) {
+        if (indices.isEmpty()) {
+            return;
+        }
+
+        // ленивые связи загружаются в вызывающем потоке, т.к. сессия Hibernate не потокобезопасна
+        initializer.initialize(computer);
+
+        final long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        final ComputerBuildFacts facts = ComputerBuildFacts.of(computer);
+
+        final List<Future<Optional<ComputerBuildViolation>>> futures = new ArrayList<>(indices.size());
+        for (final Integer index : indices) {
+            final IComputerBuildChecker checker = checkers.get(index);
+            futures.add(executor.submit(() -> metrics.check(checker, facts)));
+        }
+
+        try {
+            for (int i = 0; i < indices.size(); i++) {
+                violations[indices.get(i)] = await(futures.get(i), deadline).orElse(null);
+            }
+
+        } catch (final TimeoutException exception) {
+            throw new CommonServerSideException(translator.getMessage(
+                    MESSAGE_CODE_COMPUTER_BUILD_VERIFICATION_TIMEOUT,
+                    computer.getId(),
+                    properties.getTimeout().toMillis()
+            ));
+
+        } finally {
+            // после таймаута или ошибки одного из сервисов проверки остальные задачи уже не нужны
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Выводит из полного результата проверки результат для указанного режима.
+     * В режиме {@link VerificationMode#FIRST_VIOLATION} выбирается то же нарушение,
+     * которое обнаружила бы проверка в порядке возрастания стоимости сервисов проверки,
+     * поэтому результат не зависит от наличия полного результата в кэше.
+     *
+     * @param result полный результат проверки
+     * @param mode   режим проверки
+     * @return результат проверки в указанном режиме
+     */
+    private ComputerVerifyResult restrict(final ComputerVerifyResult result, final VerificationMode mode) {
+        if (mode == VerificationMode.FULL) {
+            return result;
+        }
+
+        if (mode == VerificationMode.BLOCKING_ONLY) {
+            return ComputerVerifyResult.builder()
+                    .completenessViolations(result.getCompletenessViolations())
+                    .compatibilityViolations(result.getCompatibilityViolations())
+                    .optimalityWarnings(Collections.emptySet())
+                    .firstBlockingViolation(result.getFirstBlockingViolation())
+                    .build();
+        }
+
+        final ComputerBuildViolation first = result.getFirstBlockingViolation();
+        final Set<ComputerBuildViolation> completeness = new LinkedHashSet<>();
+        final Set<ComputerBuildViolation> compatibility = new LinkedHashSet<>();
+        if (first != null) {
+            if (result.getCompletenessViolations().contains(first)) {
+                completeness.add(first);
+            } else {
+                compatibility.add(first);
+            }
+        }
+
+        return ComputerVerifyResult.builder()
+                .completenessViolations(completeness)
+                .compatibilityViolations(compatibility)
+                .optimalityWarnings(Collections.emptySet())
+                .firstBlockingViolation(first)
+                .build();
+    }
+
+    /**
+     * Загружает и проверяет пакет сборок ПК.
+     * Сборки ПК загружаются по плану {@link ComputerBuildFetchPlan#VERIFY}
+     * постоянным количеством запросов на весь пакет.
+     *
+     * @param ids  ID сборок ПК
+     * @param mode режим проверки
+     * @return результаты проверки в порядке следования ID
+     */
+    private List<ComputerBatchVerifyResult> verifyBatch(final List<UUID> ids, final VerificationMode mode) {
+        final Map<UUID, ComputerBuild> computers = repository.findAllByIdIn(ids, VERIFY)
+                .stream()
+                .collect(Collectors.toMap(ComputerBuild::getId, Function.identity()));
+
+        return ids.stream()
+                .map(id -> verifyBatchItem(id, computers.get(id), mode))
+                .toList();
+    }
+
+    /**
+     * Проверяет сборку ПК из пакета.
+     * Если сборка ПК не найдена или ее не удалось проверить,
+     * возвращает результат с сообщением об ошибке.
+     *
+     * @param id       ID сборки ПК
+     * @param computer сборка ПК или {@code null}, если она не найдена
+     * @param mode     режим проверки
+     * @return результат проверки
+     */
+    private ComputerBatchVerifyResult verifyBatchItem(
+            final UUID id,
+            final ComputerBuild computer,
+            final VerificationMode mode
+    ) {
+        final var builder = ComputerBatchVerifyResult.builder().id(id);
+
+        if (computer == null) {
+            return builder.errorMessage(translator.getMessage(MESSAGE_CODE_COMPUTER_BUILD_NOT_FOUND, id))
+                    .build();
+        }
+
+        try {
+            return builder.result(verify(computer, mode)).build();
+        } catch (final CommonException exception) {
+            return builder.errorMessage(exception.getErrorMessage()).build();
+        }
+    }
+
+    /**
+     * Возвращает индексы сервисов проверки,
+     * зависящих хотя бы от одного из измененных слотов сборки ПК.
+     *
+     * @param changedSlots измененные слоты сборки ПК
+     * @return индексы сервисов проверки в порядке их следования
+     */
+    private List<Integer> findAffectedCheckers(final Set<ComputerBuildSlot> changedSlots) {
+        return IntStream.range(0, checkers.size())
+                .filter(index -> !Collections.disjoint(checkers.get(index).getSlots(), changedSlots))
+                .boxed()
+                .toList();
+    }
+
+    /**
+     * Ожидает результат выполнения сервиса проверки не дольше указанного момента времени.
+     *
+     * @param future   задача
+     * @param deadline момент времени (в наносекундах), после которого ожидание прекращается
+     * @return нарушение
+     * @throws TimeoutException если результат не был получен вовремя
+     */
+    private Optional<ComputerBuildViolation> await(
+            final Future<Optional<ComputerBuildViolation>> future,
+            final long deadline
+    ) throws TimeoutException {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException(exception.getMessage());
+
+        } catch (final ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    /**
+     * Собирает нарушения сервисов проверки из указанного диапазона индексов.
+     *
+     * @param violations нарушения по индексам сервисов проверки
+     * @param from       начальный индекс (включительно)
+     * @param to         конечный индекс (не включительно)
+     * @return нарушения в порядке следования сервисов проверки
+     */
+    private Set<ComputerBuildViolation> collect(final ComputerBuildViolation[] violations, final int from, final int to) {
+        final Set<ComputerBuildViolation> collected = new LinkedHashSet<>();
+
+        for (int i = from; i < to; i++) {
+            if (violations[i] != null) {
+                collected.add(violations[i]);
+            }
+        }
+
+        return collected;
+    }
+
     /**
      * Возвращает сборку ПК с указанным ID, если она существует.
      * В противном случае выбрасывает {@link DataNotFoundException}.
@@ -118,7 +561,7 @@ public class ComputerBuildVerifyingService {
      * @return сборку ПК с указанным ID, если она существует
      */
     private ComputerBuild findById(final UUID id) {
-        return repository.findById(id)
+        return repository.findById(id, VERIFY)
                 .orElseThrow(() -> new DataNotFoundException(
                         translator.getMessage(
                                 MESSAGE_CODE_COMPUTER_BUILD_NOT_FOUND,
@@ -0,0 +1,59 @@
+package ru.bukhtaev.service.checker;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Нарушение, обнаруженное при проверке сборки ПК.
+ * Не зависит от локали: содержит код сообщения и его параметры,
+ * текст сообщения заполняется только при отображении результата проверки.
+ *
+ * @param code     код сообщения
+ * @param args     параметры сообщения
+ * @param severity критичность нарушения
+ * @param message  текст сообщения или {@code null}, если сообщение не отображалось
+ */
+@Schema(description = "Нарушение, обнаруженное при проверке сборки ПК")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ComputerBuildViolation(
+        String code,
+        List<Object> args,
+        ViolationSeverity severity,
+        String message
+) {
+
+    /**
+     * Создает нарушение без текста сообщения.
+     *
+     * @param code     код сообщения
+     * @param severity критичность нарушения
+     * @param args     параметры сообщения
+     * @return нарушение
+     */
+    public static ComputerBuildViolation of(
+            final String code,
+            final ViolationSeverity severity,
+            final Object... args
+    ) {
+        return new ComputerBuildViolation(
+                code,
+                Collections.unmodifiableList(Arrays.asList(args)),
+                severity,
+                null
+        );
+    }
+
+    /**
+     * Возвращает копию нарушения с указанным текстом сообщения.
+     *
+     * @param message текст сообщения
+     * @return нарушение с текстом сообщения
+     */
+    public ComputerBuildViolation withMessage(final String message) {
+        return new ComputerBuildViolation(code, args, severity, message);
+    }
+}
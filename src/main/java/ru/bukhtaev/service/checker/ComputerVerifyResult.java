@@ -1,5 +1,6 @@
 package ru.bukhtaev.service.checker;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,6 +10,8 @@ import java.util.Set;
 /**
  * DTO для результата проверки сборки ПК на законченность,
  * совместимость комплектующих и оптимальность.
+ * Содержит структурированные нарушения, тексты сообщений заполняются
+ * при отображении результата с помощью {@link ComputerVerifyResultRenderer}.
  */
 @Schema(description = "Результат проверки на законченность, совместимость комплектующих и оптимальность")
 @Getter
@@ -18,15 +21,25 @@ public class ComputerVerifyResult {
     /**
      * Нарушения законченности сборки ПК.
      */
-    private final Set<String> completenessViolations;
+    private final Set<ComputerBuildViolation> completenessViolations;
 
     /**
      * Нарушения совместимости комплектующих.
      */
-    private final Set<String> compatibilityViolations;
+    private final Set<ComputerBuildViolation> compatibilityViolations;
 
     /**
      * Предупреждения о не оптимальности сборки ПК.
      */
-    private final Set<String> optimalityWarnings;
+    private final Set<ComputerBuildViolation> optimalityWarnings;
+
+    /**
+     * Первое блокирующее нарушение в порядке возрастания стоимости сервисов проверки
+     * или {@code null}, если блокирующих нарушений нет.
+     * По нему результат в режиме {@link VerificationMode#FIRST_VIOLATION}
+     * выводится из полного результата в кэше. В ответ не передается.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private final ComputerBuildViolation firstBlockingViolation;
 }
@@ -0,0 +1,223 @@
+package ru.bukhtaev.service.checker;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.bukhtaev.config.VerificationProperties;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.event.EntityChangedEvent;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Ограниченный по размеру кэш результатов проверки сборок ПК.
+ * Ключом является отпечаток состава сборки ПК: результат проверки
+ * содержит структурированные нарушения и не зависит от локали.
+ * Запись удаляется из кэша после фиксации транзакции, изменившей или удалившей
+ * любое комплектующее или запись справочника, от которых зависит результат проверки.
+ */
+@Component
+public class ComputerVerifyResultCache {
+
+    /**
+     * Название кэша в метриках.
+     */
+    public static final String CACHE_NAME = "computer-build-verification";
+
+    /**
+     * Кэш результатов проверки.
+     */
+    private final Cache<ComputerBuildFingerprint, Entry> cache;
+
+    /**
+     * Ключи записей кэша по ID комплектующих и записей справочников, от которых они зависят.
+     */
+    private final Map<UUID, Set<ComputerBuildFingerprint>> keysByDependency = new ConcurrentHashMap<>();
+
+    /**
+     * Количество инвалидаций кэша.
+     * Используется, чтобы не сохранять в кэш результат,
+     * вычисленный одновременно с изменением данных.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Объект синхронизации изменений индекса зависимостей.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Сервис сбора зависимостей сборки ПК.
+     */
+    private final ComputerBuildDependencyCollector collector;
+
+    /**
+     * Используется ли кэш.
+     */
+    private final boolean enabled;
+
+    /**
+     * Конструктор.
+     *
+     * @param properties    настройки проверки сборок ПК
+     * @param collector     сервис сбора зависимостей сборки ПК
+     * @param meterRegistry реестр метрик
+     */
+    @Autowired
+    public ComputerVerifyResultCache(
+            final VerificationProperties properties,
+            final ComputerBuildDependencyCollector collector,
+            final MeterRegistry meterRegistry
+    ) {
+        this.collector = collector;
+        this.enabled = properties.getCache().isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCache().getMaximumSize())
+                .recordStats()
+                .removalListener(this::onRemoval)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Возвращает результат проверки сборки ПК из кэша.
+     * Если результата нет в кэше, вычисляет его и сохраняет в кэш.
+     *
+     * @param computer сборка ПК
+     * @param verifier функция проверки сборки ПК
+     * @return результат проверки
+     */
+    public ComputerVerifyResult get(
+            final ComputerBuild computer,
+            final Function<ComputerBuild, ComputerVerifyResult> verifier
+    ) {
+        if (!enabled) {
+            return verifier.apply(computer);
+        }
+
+        final ComputerBuildFingerprint key = ComputerBuildFingerprint.of(computer);
+        final Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.result();
+        }
+
+        final long generation = invalidations.get();
+        final ComputerVerifyResult result = verifier.apply(computer);
+        put(key, new Entry(result, collector.collect(computer)), generation);
+
+        return result;
+    }
+
+    /**
+     * Возвращает результат проверки сборки ПК из кэша, не вычисляя его.
+     *
+     * @param computer сборка ПК
+     * @return объект типа {@link Optional} с результатом проверки, если он есть в кэше
+     */
+    public Optional<ComputerVerifyResult> find(final ComputerBuild computer) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(cache.getIfPresent(ComputerBuildFingerprint.of(computer)))
+                .map(Entry::result);
+    }
+
+    /**
+     * Удаляет из кэша результаты проверки, зависящие от измененной сущности.
+     *
+     * @param event событие изменения сущности
+     */
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        invalidate(event.getId());
+    }
+
+    /**
+     * Удаляет из кэша результаты проверки, зависящие от сущности с указанным ID.
+     *
+     * @param id ID комплектующего или записи справочника
+     */
+    public void invalidate(final UUID id) {
+        invalidations.incrementAndGet();
+
+        final Set<ComputerBuildFingerprint> keys;
+        synchronized (lock) {
+            keys = keysByDependency.remove(id);
+        }
+
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    /**
+     * Сохраняет результат проверки в кэш, если с момента начала проверки
+     * кэш не инвалидировался.
+     *
+     * @param key        ключ
+     * @param entry      запись
+     * @param generation количество инвалидаций на момент начала проверки
+     */
+    private void put(final ComputerBuildFingerprint key, final Entry entry, final long generation) {
+        synchronized (lock) {
+            entry.dependencies().forEach(id -> keysByDependency
+                    .computeIfAbsent(id, dependency -> ConcurrentHashMap.newKeySet())
+                    .add(key));
+            cache.put(key, entry);
+        }
+
+        if (invalidations.get() != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Удаляет ключ вытесненной или инвалидированной записи из индекса зависимостей.
+     * Вызывается асинхронно, поэтому ключ не удаляется,
+     * если в кэш уже сохранена новая запись с тем же ключом.
+     *
+     * @param key   ключ
+     * @param entry запись
+     * @param cause причина удаления
+     */
+    private void onRemoval(final ComputerBuildFingerprint key, final Entry entry, final RemovalCause cause) {
+        if (key == null || entry == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+
+        synchronized (lock) {
+            if (cache.asMap().containsKey(key)) {
+                return;
+            }
+
+            entry.dependencies().forEach(id -> keysByDependency.computeIfPresent(id, (dependency, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            }));
+        }
+    }
+
+    /**
+     * Запись кэша.
+     *
+     * @param result       результат проверки
+     * @param dependencies ID комплектующих и записей справочников, от которых зависит результат
+     */
+    private record Entry(ComputerVerifyResult result, Set<UUID> dependencies) {
+    }
+}
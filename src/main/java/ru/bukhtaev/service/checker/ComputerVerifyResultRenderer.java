@@ -0,0 +1,92 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import ru.bukhtaev.i18n.MessageFormatCache;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Сервис отображения результатов проверки сборок ПК.
+ * Заполняет тексты сообщений о нарушениях в локали текущего запроса.
+ */
+@Component
+public class ComputerVerifyResultRenderer {
+
+    /**
+     * Кэш скомпилированных шаблонов сообщений.
+     */
+    private final MessageFormatCache messageFormatCache;
+
+    /**
+     * Конструктор.
+     *
+     * @param messageFormatCache кэш скомпилированных шаблонов сообщений
+     */
+    @Autowired
+    public ComputerVerifyResultRenderer(final MessageFormatCache messageFormatCache) {
+        this.messageFormatCache = messageFormatCache;
+    }
+
+    /**
+     * Возвращает результат проверки для отображения.
+     * Если требуются только коды нарушений, результат возвращается без изменений.
+     *
+     * @param result    результат проверки
+     * @param codesOnly требуются ли только коды нарушений
+     * @return результат проверки с текстами сообщений
+     */
+    public ComputerVerifyResult render(final ComputerVerifyResult result, final boolean codesOnly) {
+        if (codesOnly || result == null) {
+            return result;
+        }
+
+        final Locale locale = LocaleContextHolder.getLocale();
+        return ComputerVerifyResult.builder()
+                .completenessViolations(render(result.getCompletenessViolations(), locale))
+                .compatibilityViolations(render(result.getCompatibilityViolations(), locale))
+                .optimalityWarnings(render(result.getOptimalityWarnings(), locale))
+                .build();
+    }
+
+    /**
+     * Возвращает результат пакетной проверки для отображения.
+     *
+     * @param result    результат проверки одной сборки ПК в рамках пакетной проверки
+     * @param codesOnly требуются ли только коды нарушений
+     * @return результат проверки с текстами сообщений
+     */
+    public ComputerBatchVerifyResult render(final ComputerBatchVerifyResult result, final boolean codesOnly) {
+        if (codesOnly || result.getResult() == null) {
+            return result;
+        }
+
+        return ComputerBatchVerifyResult.builder()
+                .id(result.getId())
+                .result(render(result.getResult(), false))
+                .errorMessage(result.getErrorMessage())
+                .build();
+    }
+
+    /**
+     * Заполняет тексты сообщений о нарушениях.
+     *
+     * @param violations нарушения
+     * @param locale     локаль
+     * @return нарушения с текстами сообщений в исходном порядке
+     */
+    private Set<ComputerBuildViolation> render(
+            final Set<ComputerBuildViolation> violations,
+            final Locale locale
+    ) {
+        return violations.stream()
+                .map(violation -> violation.withMessage(
+                        messageFormatCache.format(violation.code(), violation.args(), locale)
+                ))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
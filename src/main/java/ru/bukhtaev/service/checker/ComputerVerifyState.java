@@ -0,0 +1,40 @@
+package ru.bukhtaev.service.checker;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Последний результат проверки сохраненной сборки ПК
+ * с точностью до отдельных сервисов проверки.
+ *
+ * @param fingerprint    отпечаток состава сборки ПК на момент проверки
+ * @param catalogVersion версия каталога комплектующих на момент проверки
+ * @param violations     нарушения по индексам сервисов проверки
+ *                       ({@code null}, если сервис проверки нарушений не обнаружил)
+ */
+public record ComputerVerifyState(
+        ComputerBuildFingerprint fingerprint,
+        long catalogVersion,
+        ComputerBuildViolation[] violations
+) {
+
+    /**
+     * Возвращает слоты, содержимое которых отличается
+     * от сохраненного в этом состоянии.
+     *
+     * @param current текущий отпечаток состава сборки ПК
+     * @return измененные слоты
+     */
+    public Set<ComputerBuildSlot> changedSlots(final ComputerBuildFingerprint current) {
+        final Set<ComputerBuildSlot> changed = EnumSet.noneOf(ComputerBuildSlot.class);
+
+        for (final ComputerBuildSlot slot : ComputerBuildSlot.values()) {
+            if (!Objects.equals(slot.valueOf(fingerprint), slot.valueOf(current))) {
+                changed.add(slot);
+            }
+        }
+
+        return changed;
+    }
+}
@@ -0,0 +1,105 @@
+package ru.bukhtaev.service.checker;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.bukhtaev.config.VerificationProperties;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.event.EntityChangedEvent;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Хранилище последних результатов проверки сохраненных сборок ПК
+ * для инкрементальной повторной проверки.
+ * Любое изменение комплектующих или справочников увеличивает версию каталога,
+ * после чего сохраненные ранее состояния не используются.
+ */
+@Component
+public class ComputerVerifyStateStore {
+
+    /**
+     * Последние результаты проверки по ID сборок ПК.
+     */
+    private final Cache<UUID, ComputerVerifyState> states;
+
+    /**
+     * Версия каталога комплектующих.
+     */
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    /**
+     * Используется ли инкрементальная проверка.
+     */
+    private final boolean enabled;
+
+    /**
+     * Конструктор.
+     *
+     * @param properties настройки проверки сборок ПК
+     */
+    @Autowired
+    public ComputerVerifyStateStore(final VerificationProperties properties) {
+        this.enabled = properties.getIncremental().isEnabled();
+        this.states = Caffeine.newBuilder()
+                .maximumSize(properties.getIncremental().getMaximumSize())
+                .build();
+    }
+
+    /**
+     * Возвращает текущую версию каталога комплектующих.
+     *
+     * @return версия каталога комплектующих
+     */
+    public long getCatalogVersion() {
+        return catalogVersion.get();
+    }
+
+    /**
+     * Возвращает последний результат проверки сборки ПК,
+     * если с момента его получения каталог комплектующих не изменялся.
+     *
+     * @param id ID сборки ПК
+     * @return последний результат проверки сборки ПК
+     */
+    public Optional<ComputerVerifyState> find(final UUID id) {
+        if (!enabled || id == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(states.getIfPresent(id))
+                .filter(state -> state.catalogVersion() == catalogVersion.get());
+    }
+
+    /**
+     * Сохраняет последний результат проверки сборки ПК.
+     *
+     * @param id    ID сборки ПК
+     * @param state результат проверки
+     */
+    public void save(final UUID id, final ComputerVerifyState state) {
+        if (enabled && id != null) {
+            states.put(id, state);
+        }
+    }
+
+    /**
+     * Увеличивает версию каталога комплектующих при изменении
+     * любого комплектующего или записи справочника.
+     * Изменения самих сборок ПК учитываются сравнением их состава.
+     *
+     * @param event событие изменения сущности
+     */
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (!ComputerBuild.class.equals(event.getEntityType())) {
+            catalogVersion.incrementAndGet();
+        }
+    }
+}
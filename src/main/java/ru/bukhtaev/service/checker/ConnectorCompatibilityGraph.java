@@ -0,0 +1,307 @@
+package ru.bukhtaev.service.checker;
+
+import ru.bukhtaev.model.NameableEntity;
+
+import java.util.*;
+
+/**
+ * Неизменяемый граф совместимости коннекторов.
+ * Коннекторам каждого типа назначаются плотные порядковые номера в порядке их названий,
+ * а совместимые с коннектором коннекторы хранятся в битовом наборе по этим номерам,
+ * поэтому проверка совместимости не обращается к коллекциям сущностей и базе данных.
+ * Коннектор совместим с коннектором того же типа, если тот указан в его совместимых коннекторах.
+ */
+public final class ConnectorCompatibilityGraph {
+
+    /**
+     * Версия графа.
+     */
+    private final long version;
+
+    /**
+     * Таблицы смежности по типам коннекторов.
+     */
+    private final Map<Class<? extends NameableEntity>, Adjacency> adjacencies;
+
+    /**
+     * Конструктор.
+     *
+     * @param version     версия графа
+     * @param adjacencies таблицы смежности по типам коннекторов
+     */
+    private ConnectorCompatibilityGraph(
+            final long version,
+            final Map<Class<? extends NameableEntity>, Adjacency> adjacencies
+    ) {
+        this.version = version;
+        this.adjacencies = adjacencies;
+    }
+
+    /**
+     * Создает построитель графа.
+     *
+     * @param version версия графа
+     * @return построитель графа
+     */
+    public static Builder builder(final long version) {
+        return new Builder(version);
+    }
+
+    /**
+     * Возвращает версию графа.
+     * Версия увеличивается при каждом перестроении графа.
+     *
+     * @return версия графа
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Проверяет, указан ли коннектор-кандидат среди совместимых с коннектором.
+     * Неизвестные графу коннекторы несовместимы.
+     *
+     * @param type        тип коннекторов
+     * @param connectorId ID коннектора
+     * @param candidateId ID коннектора-кандидата
+     * @return {@code true}, если коннектор-кандидат совместим с коннектором
+     */
+    public boolean isCompatible(
+            final Class<? extends NameableEntity> type,
+            final UUID connectorId,
+            final UUID candidateId
+    ) {
+        final Adjacency adjacency = adjacencies.get(type);
+        if (adjacency == null) {
+            return false;
+        }
+
+        final Integer connector = adjacency.ordinals().get(connectorId);
+        final Integer candidate = adjacency.ordinals().get(candidateId);
+        return connector != null
+                && candidate != null
+                && adjacency.compatible()[connector].get(candidate);
+    }
+
+    /**
+     * Проверяет, подходит ли коннектор-кандидат к коннектору:
+     * совпадает с ним или совместим с ним.
+     *
+     * @param type        тип коннекторов
+     * @param connectorId ID коннектора
+     * @param candidateId ID коннектора-кандидата
+     * @return {@code true}, если коннектор-кандидат подходит к коннектору
+     */
+    public boolean accepts(
+            final Class<? extends NameableEntity> type,
+            final UUID connectorId,
+            final UUID candidateId
+    ) {
+        return connectorId.equals(candidateId) || isCompatible(type, connectorId, candidateId);
+    }
+
+    /**
+     * Проверяет, подходит ли к коннектору хотя бы один из коннекторов-кандидатов.
+     *
+     * @param type         тип коннекторов
+     * @param connectorId  ID коннектора
+     * @param candidateIds ID коннекторов-кандидатов
+     * @return {@code true}, если к коннектору подходит хотя бы один коннектор-кандидат
+     */
+    public boolean acceptsAny(
+            final Class<? extends NameableEntity> type,
+            final UUID connectorId,
+            final Collection<UUID> candidateIds
+    ) {
+        for (final UUID candidateId : candidateIds) {
+            if (accepts(type, connectorId, candidateId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Возвращает ID коннекторов, совместимых с коннектором.
+     *
+     * @param type        тип коннекторов
+     * @param connectorId ID коннектора
+     * @return ID совместимых коннекторов в порядке их названий
+     */
+    public List<UUID> getCompatibleIds(
+            final Class<? extends NameableEntity> type,
+            final UUID connectorId
+    ) {
+        final Adjacency adjacency = adjacencies.get(type);
+        final Integer connector = adjacency == null ? null : adjacency.ordinals().get(connectorId);
+        if (connector == null) {
+            return Collections.emptyList();
+        }
+
+        final BitSet compatible = adjacency.compatible()[connector];
+        final List<UUID> ids = new ArrayList<>(compatible.cardinality());
+        for (int i = compatible.nextSetBit(0); i >= 0; i = compatible.nextSetBit(i + 1)) {
+            ids.add(adjacency.ids()[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * Возвращает названия коннекторов, подходящих к коннектору:
+     * его собственное название и названия совместимых с ним коннекторов.
+     *
+     * @param type      тип коннекторов
+     * @param connector коннектор
+     * @return названия подходящих коннекторов в порядке их названий
+     */
+    public Set<String> getAcceptedNames(
+            final Class<? extends NameableEntity> type,
+            final NameableEntity connector
+    ) {
+        final Set<String> names = new TreeSet<>();
+        names.add(connector.getName());
+
+        final Adjacency adjacency = adjacencies.get(type);
+        final Integer ordinal = adjacency == null ? null : adjacency.ordinals().get(connector.getId());
+        if (ordinal != null) {
+            final BitSet compatible = adjacency.compatible()[ordinal];
+            for (int i = compatible.nextSetBit(0); i >= 0; i = compatible.nextSetBit(i + 1)) {
+                names.add(adjacency.names()[i]);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Таблица смежности коннекторов одного типа.
+     *
+     * @param ordinals   порядковые номера коннекторов по их ID
+     * @param ids        ID коннекторов по порядковым номерам
+     * @param names      названия коннекторов по порядковым номерам
+     * @param compatible совместимые коннекторы по порядковым номерам
+     */
+    private record Adjacency(
+            Map<UUID, Integer> ordinals,
+            UUID[] ids,
+            String[] names,
+            BitSet[] compatible
+    ) {
+    }
+
+    /**
+     * Построитель графа совместимости коннекторов.
+     */
+    public static final class Builder {
+
+        /**
+         * Версия графа.
+         */
+        private final long version;
+
+        /**
+         * Названия коннекторов по их ID и типам.
+         */
+        private final Map<Class<? extends NameableEntity>, Map<UUID, String>> connectors = new HashMap<>();
+
+        /**
+         * Пары совместимых коннекторов по типам.
+         */
+        private final Map<Class<? extends NameableEntity>, List<UUID[]>> compatibilities = new HashMap<>();
+
+        /**
+         * Конструктор.
+         *
+         * @param version версия графа
+         */
+        private Builder(final long version) {
+            this.version = version;
+        }
+
+        /**
+         * Добавляет коннектор.
+         *
+         * @param type тип коннектора
+         * @param id   ID коннектора
+         * @param name название коннектора
+         * @return построитель графа
+         */
+        public Builder connector(
+                final Class<? extends NameableEntity> type,
+                final UUID id,
+                final String name
+        ) {
+            connectors.computeIfAbsent(type, t -> new HashMap<>()).put(id, name);
+            return this;
+        }
+
+        /**
+         * Добавляет пару совместимых коннекторов.
+         *
+         * @param type                  тип коннекторов
+         * @param connectorId           ID коннектора
+         * @param compatibleConnectorId ID совместимого с ним коннектора
+         * @return построитель графа
+         */
+        public Builder compatibility(
+                final Class<? extends NameableEntity> type,
+                final UUID connectorId,
+                final UUID compatibleConnectorId
+        ) {
+            compatibilities.computeIfAbsent(type, t -> new ArrayList<>())
+                    .add(new UUID[]{connectorId, compatibleConnectorId});
+            return this;
+        }
+
+        /**
+         * Строит граф. Пары, в которых указан не добавленный коннектор, пропускаются.
+         *
+         * @return граф совместимости коннекторов
+         */
+        public ConnectorCompatibilityGraph build() {
+            final Map<Class<? extends NameableEntity>, Adjacency> adjacencies = new HashMap<>();
+            connectors.forEach((type, names) -> adjacencies.put(
+                    type,
+                    adjacency(names, compatibilities.getOrDefault(type, Collections.emptyList()))
+            ));
+            return new ConnectorCompatibilityGraph(version, Map.copyOf(adjacencies));
+        }
+
+        /**
+         * Строит таблицу смежности коннекторов одного типа.
+         *
+         * @param names           названия коннекторов по их ID
+         * @param compatibilities пары совместимых коннекторов
+         * @return таблица смежности
+         */
+        private static Adjacency adjacency(
+                final Map<UUID, String> names,
+                final List<UUID[]> compatibilities
+        ) {
+            final List<Map.Entry<UUID, String>> sorted = new ArrayList<>(names.entrySet());
+            sorted.sort(Map.Entry.<UUID, String>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+
+            final int size = sorted.size();
+            final Map<UUID, Integer> ordinals = new HashMap<>(size * 2);
+            final UUID[] ids = new UUID[size];
+            final String[] sortedNames = new String[size];
+            final BitSet[] compatible = new BitSet[size];
+            for (int i = 0; i < size; i++) {
+                final Map.Entry<UUID, String> entry = sorted.get(i);
+                ordinals.put(entry.getKey(), i);
+                ids[i] = entry.getKey();
+                sortedNames[i] = entry.getValue();
+                compatible[i] = new BitSet(size);
+            }
+
+            for (final UUID[] pair : compatibilities) {
+                final Integer connector = ordinals.get(pair[0]);
+                final Integer compatibleConnector = ordinals.get(pair[1]);
+                if (connector != null && compatibleConnector != null) {
+                    compatible[connector].set(compatibleConnector);
+                }
+            }
+
+            return new Adjacency(Collections.unmodifiableMap(ordinals), ids, sortedNames, compatible);
+        }
+    }
+}
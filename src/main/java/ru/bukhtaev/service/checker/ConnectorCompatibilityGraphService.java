@@ -0,0 +1,201 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.bukhtaev.model.BaseEntity;
+import ru.bukhtaev.model.NameableEntity;
+import ru.bukhtaev.model.dictionary.*;
+import ru.bukhtaev.repository.dictionary.*;
+import ru.bukhtaev.service.TransactionService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Сервис, хранящий актуальный граф совместимости коннекторов.
+ * Граф строится из таблиц совместимости коннекторов при первом обращении
+ * и перестраивается целиком после фиксации транзакции, изменившей любой коннектор.
+ * Новый граф подменяет прежний атомарно, поэтому сервисы проверки
+ * всегда работают с согласованным графом одной версии.
+ */
+@Component
+public class ConnectorCompatibilityGraphService {
+
+    /**
+     * Типы коннекторов, входящих в граф.
+     */
+    private static final Set<Class<? extends BaseEntity>> CONNECTOR_TYPES = Set.of(
+            CpuPowerConnector.class,
+            MainPowerConnector.class,
+            FanPowerConnector.class,
+            GraphicsCardPowerConnector.class,
+            StorageConnector.class
+    );
+
+    /**
+     * Репозиторий коннекторов питания процессора.
+     */
+    private final ICpuPowerConnectorRepository cpuPowerConnectorRepository;
+
+    /**
+     * Репозиторий основных коннекторов питания.
+     */
+    private final IMainPowerConnectorRepository mainPowerConnectorRepository;
+
+    /**
+     * Репозиторий коннекторов питания вентиляторов.
+     */
+    private final IFanPowerConnectorRepository fanPowerConnectorRepository;
+
+    /**
+     * Репозиторий коннекторов питания видеокарт.
+     */
+    private final IGraphicsCardPowerConnectorRepository graphicsCardPowerConnectorRepository;
+
+    /**
+     * Репозиторий коннекторов подключения накопителей.
+     */
+    private final IStorageConnectorRepository storageConnectorRepository;
+
+    /**
+     * Сервис выполнения кода в транзакции.
+     */
+    private final TransactionService transactionService;
+
+    /**
+     * Счетчик версий графа.
+     */
+    private final AtomicLong versions = new AtomicLong();
+
+    /**
+     * Объект синхронизации перестроения графа.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Актуальный граф совместимости коннекторов.
+     */
+    private volatile ConnectorCompatibilityGraph graph;
+
+    /**
+     * Конструктор.
+     *
+     * @param cpuPowerConnectorRepository          репозиторий коннекторов питания процессора
+     * @param mainPowerConnectorRepository         репозиторий основных коннекторов питания
+     * @param fanPowerConnectorRepository          репозиторий коннекторов питания вентиляторов
+     * @param graphicsCardPowerConnectorRepository репозиторий коннекторов питания видеокарт
+     * @param storageConnectorRepository           репозиторий коннекторов подключения накопителей
+     * @param transactionService                   сервис выполнения кода в транзакции
+     */
+    @Autowired
+    public ConnectorCompatibilityGraphService(
+            final ICpuPowerConnectorRepository cpuPowerConnectorRepository,
+            final IMainPowerConnectorRepository mainPowerConnectorRepository,
+            final IFanPowerConnectorRepository fanPowerConnectorRepository,
+            final IGraphicsCardPowerConnectorRepository graphicsCardPowerConnectorRepository,
+            final IStorageConnectorRepository storageConnectorRepository,
+            final TransactionService transactionService
+    ) {
+        this.cpuPowerConnectorRepository = cpuPowerConnectorRepository;
+        this.mainPowerConnectorRepository = mainPowerConnectorRepository;
+        this.fanPowerConnectorRepository = fanPowerConnectorRepository;
+        this.graphicsCardPowerConnectorRepository = graphicsCardPowerConnectorRepository;
+        this.storageConnectorRepository = storageConnectorRepository;
+        this.transactionService = transactionService;
+    }
+
+    /**
+     * Возвращает актуальный граф совместимости коннекторов,
+     * при первом обращении строя его.
+     *
+     * @return граф совместимости коннекторов
+     */
+    public ConnectorCompatibilityGraph getGraph() {
+        final ConnectorCompatibilityGraph current = graph;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (lock) {
+            if (graph == null) {
+                rebuild();
+            }
+            return graph;
+        }
+    }
+
+    /**
+     * Перестраивает граф после изменения коннектора.
+     * Выполняется раньше остальных обработчиков события,
+     * чтобы сброшенные ими результаты проверки вычислялись уже по новому графу.
+     *
+     * @param event событие изменения сущности
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (CONNECTOR_TYPES.contains(event.getEntityType())) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Строит граф по текущему состоянию таблиц совместимости коннекторов
+     * и подменяет им актуальный граф.
+     */
+    public void rebuild() {
+        synchronized (lock) {
+            final var builder = ConnectorCompatibilityGraph.builder(versions.incrementAndGet());
+
+            transactionService.doInNewTransaction(true, () -> {
+                load(builder, CpuPowerConnector.class, cpuPowerConnectorRepository,
+                        cpuPowerConnectorRepository::findAllCompatibilities);
+                load(builder, MainPowerConnector.class, mainPowerConnectorRepository,
+                        mainPowerConnectorRepository::findAllCompatibilities);
+                load(builder, FanPowerConnector.class, fanPowerConnectorRepository,
+                        fanPowerConnectorRepository::findAllCompatibilities);
+                load(builder, GraphicsCardPowerConnector.class, graphicsCardPowerConnectorRepository,
+                        graphicsCardPowerConnectorRepository::findAllCompatibilities);
+                load(builder, StorageConnector.class, storageConnectorRepository,
+                        storageConnectorRepository::findAllCompatibilities);
+            });
+
+            graph = builder.build();
+        }
+    }
+
+    /**
+     * Добавляет в граф коннекторы одного типа и пары совместимых коннекторов.
+     *
+     * @param builder         построитель графа
+     * @param type            тип коннекторов
+     * @param repository      репозиторий коннекторов
+     * @param compatibilities функция получения пар совместимых коннекторов
+     * @param <C>             тип коннекторов
+     */
+    private <C extends NameableEntity> void load(
+            final ConnectorCompatibilityGraph.Builder builder,
+            final Class<C> type,
+            final JpaRepository<C, UUID> repository,
+            final Supplier<List<ConnectorCompatibility>> compatibilities
+    ) {
+        repository.findAll()
+                .forEach(connector -> builder.connector(type, connector.getId(), connector.getName()));
+        compatibilities.get()
+                .forEach(pair -> builder.compatibility(
+                        type,
+                        pair.connectorId(),
+                        pair.compatibleConnectorId()
+                ));
+    }
+}
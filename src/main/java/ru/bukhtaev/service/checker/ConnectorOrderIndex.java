@@ -0,0 +1,312 @@
+package ru.bukhtaev.service.checker;
+
+import ru.bukhtaev.model.NameableEntity;
+
+import java.util.*;
+
+/**
+ * Неизменяемый индекс частичного порядка версий и коннекторов.
+ * Хранит транзитивное замыкание отношения «не выше» в виде битовой матрицы:
+ * элементам каждого типа назначаются плотные порядковые номера, и для каждого элемента
+ * хранится битовый набор всех элементов, которые ниже него или совпадают с ним.
+ * Сравнение двух элементов выполняется за O(1) без обращения к коллекциям сущностей.
+ */
+public final class ConnectorOrderIndex {
+
+    /**
+     * Версия индекса.
+     */
+    private final long version;
+
+    /**
+     * Замыкания по типам элементов.
+     */
+    private final Map<Class<? extends NameableEntity>, Closure> closures;
+
+    /**
+     * Конструктор.
+     *
+     * @param version  версия индекса
+     * @param closures замыкания по типам элементов
+     */
+    private ConnectorOrderIndex(
+            final long version,
+            final Map<Class<? extends NameableEntity>, Closure> closures
+    ) {
+        this.version = version;
+        this.closures = closures;
+    }
+
+    /**
+     * Создает построитель индекса.
+     *
+     * @param version версия индекса
+     * @return построитель индекса
+     */
+    public static Builder builder(final long version) {
+        return new Builder(version);
+    }
+
+    /**
+     * Возвращает версию индекса.
+     * Версия увеличивается при каждом перестроении индекса.
+     *
+     * @return версия индекса
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Проверяет, что элемент совпадает с другим элементом или ниже него.
+     * Неизвестные индексу элементы сравнимы только сами с собой.
+     *
+     * @param type    тип элементов
+     * @param lowerId ID элемента, предположительно не выше
+     * @param upperId ID элемента, предположительно не ниже
+     * @return {@code true}, если первый элемент совпадает со вторым или ниже него
+     */
+    public boolean isAtOrBelow(
+            final Class<? extends NameableEntity> type,
+            final UUID lowerId,
+            final UUID upperId
+    ) {
+        if (lowerId.equals(upperId)) {
+            return true;
+        }
+
+        final Closure closure = closures.get(type);
+        if (closure == null) {
+            return false;
+        }
+
+        final Integer lower = closure.ordinals().get(lowerId);
+        final Integer upper = closure.ordinals().get(upperId);
+        return lower != null
+                && upper != null
+                && closure.atOrBelow()[upper].get(lower);
+    }
+
+    /**
+     * Проверяет, что элемент строго ниже другого элемента.
+     *
+     * @param type    тип элементов
+     * @param lowerId ID элемента, предположительно ниже
+     * @param upperId ID элемента, предположительно выше
+     * @return {@code true}, если первый элемент отличается от второго и ниже него
+     */
+    public boolean isBelow(
+            final Class<? extends NameableEntity> type,
+            final UUID lowerId,
+            final UUID upperId
+    ) {
+        return !lowerId.equals(upperId) && isAtOrBelow(type, lowerId, upperId);
+    }
+
+    /**
+     * Возвращает ID всех элементов, которые совпадают с указанным или ниже него,
+     * например, все версии не новее PCI-Express 4.0.
+     *
+     * @param type    тип элементов
+     * @param upperId ID элемента
+     * @return ID элементов в порядке их названий
+     */
+    public List<UUID> getAtOrBelowIds(
+            final Class<? extends NameableEntity> type,
+            final UUID upperId
+    ) {
+        final Closure closure = closures.get(type);
+        final Integer upper = closure == null ? null : closure.ordinals().get(upperId);
+        if (upper == null) {
+            return List.of(upperId);
+        }
+
+        return closure.ids(closure.atOrBelow()[upper]);
+    }
+
+    /**
+     * Возвращает ID всех элементов, которые совпадают с указанным или выше него,
+     * например, все версии не старше PCI-Express 4.0.
+     *
+     * @param type    тип элементов
+     * @param lowerId ID элемента
+     * @return ID элементов в порядке их названий
+     */
+    public List<UUID> getAtOrAboveIds(
+            final Class<? extends NameableEntity> type,
+            final UUID lowerId
+    ) {
+        final Closure closure = closures.get(type);
+        final Integer lower = closure == null ? null : closure.ordinals().get(lowerId);
+        if (lower == null) {
+            return List.of(lowerId);
+        }
+
+        return closure.ids(closure.atOrAbove()[lower]);
+    }
+
+    /**
+     * Транзитивное замыкание порядка элементов одного типа.
+     *
+     * @param ordinals  порядковые номера элементов по их ID
+     * @param ids       ID элементов по порядковым номерам
+     * @param atOrBelow элементы, совпадающие с элементом или ниже него, по порядковым номерам
+     * @param atOrAbove элементы, совпадающие с элементом или выше него, по порядковым номерам
+     */
+    private record Closure(
+            Map<UUID, Integer> ordinals,
+            UUID[] ids,
+            BitSet[] atOrBelow,
+            BitSet[] atOrAbove
+    ) {
+
+        /**
+         * Возвращает ID элементов, отмеченных в битовом наборе.
+         *
+         * @param ordinals битовый набор порядковых номеров
+         * @return ID элементов
+         */
+        private List<UUID> ids(final BitSet ordinals) {
+            final List<UUID> result = new ArrayList<>(ordinals.cardinality());
+            for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+                result.add(ids[i]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Построитель индекса частичного порядка.
+     */
+    public static final class Builder {
+
+        /**
+         * Версия индекса.
+         */
+        private final long version;
+
+        /**
+         * Названия элементов по их ID и типам.
+         */
+        private final Map<Class<? extends NameableEntity>, Map<UUID, String>> elements = new HashMap<>();
+
+        /**
+         * Пары «элемент — элемент ниже него» по типам.
+         */
+        private final Map<Class<? extends NameableEntity>, List<UUID[]>> relations = new HashMap<>();
+
+        /**
+         * Конструктор.
+         *
+         * @param version версия индекса
+         */
+        private Builder(final long version) {
+            this.version = version;
+        }
+
+        /**
+         * Добавляет элемент.
+         *
+         * @param type тип элемента
+         * @param id   ID элемента
+         * @param name название элемента
+         * @return построитель индекса
+         */
+        public Builder element(
+                final Class<? extends NameableEntity> type,
+                final UUID id,
+                final String name
+        ) {
+            elements.computeIfAbsent(type, t -> new HashMap<>()).put(id, name);
+            return this;
+        }
+
+        /**
+         * Добавляет пару элементов, второй из которых ниже первого.
+         *
+         * @param type    тип элементов
+         * @param upperId ID элемента
+         * @param lowerId ID элемента ниже него
+         * @return построитель индекса
+         */
+        public Builder below(
+                final Class<? extends NameableEntity> type,
+                final UUID upperId,
+                final UUID lowerId
+        ) {
+            relations.computeIfAbsent(type, t -> new ArrayList<>())
+                    .add(new UUID[]{upperId, lowerId});
+            return this;
+        }
+
+        /**
+         * Строит индекс. Пары, в которых указан не добавленный элемент, пропускаются.
+         *
+         * @return индекс частичного порядка
+         */
+        public ConnectorOrderIndex build() {
+            final Map<Class<? extends NameableEntity>, Closure> closures = new HashMap<>();
+            elements.forEach((type, names) -> closures.put(
+                    type,
+                    closure(names, relations.getOrDefault(type, Collections.emptyList()))
+            ));
+            return new ConnectorOrderIndex(version, Map.copyOf(closures));
+        }
+
+        /**
+         * Строит транзитивное замыкание порядка элементов одного типа
+         * алгоритмом Уоршелла над строками битовой матрицы.
+         *
+         * @param names     названия элементов по их ID
+         * @param relations пары «элемент — элемент ниже него»
+         * @return транзитивное замыкание
+         */
+        private static Closure closure(
+                final Map<UUID, String> names,
+                final List<UUID[]> relations
+        ) {
+            final List<Map.Entry<UUID, String>> sorted = new ArrayList<>(names.entrySet());
+            sorted.sort(Map.Entry.<UUID, String>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+
+            final int size = sorted.size();
+            final Map<UUID, Integer> ordinals = new HashMap<>(size * 2);
+            final UUID[] ids = new UUID[size];
+            final BitSet[] atOrBelow = new BitSet[size];
+            for (int i = 0; i < size; i++) {
+                ordinals.put(sorted.get(i).getKey(), i);
+                ids[i] = sorted.get(i).getKey();
+                atOrBelow[i] = new BitSet(size);
+                atOrBelow[i].set(i);
+            }
+
+            for (final UUID[] pair : relations) {
+                final Integer upper = ordinals.get(pair[0]);
+                final Integer lower = ordinals.get(pair[1]);
+                if (upper != null && lower != null) {
+                    atOrBelow[upper].set(lower);
+                }
+            }
+
+            for (int k = 0; k < size; k++) {
+                for (int i = 0; i < size; i++) {
+                    if (i != k && atOrBelow[i].get(k)) {
+                        atOrBelow[i].or(atOrBelow[k]);
+                    }
+                }
+            }
+
+            final BitSet[] atOrAbove = new BitSet[size];
+            for (int i = 0; i < size; i++) {
+                atOrAbove[i] = new BitSet(size);
+            }
+            for (int upper = 0; upper < size; upper++) {
+                final BitSet row = atOrBelow[upper];
+                for (int lower = row.nextSetBit(0); lower >= 0; lower = row.nextSetBit(lower + 1)) {
+                    atOrAbove[lower].set(upper);
+                }
+            }
+
+            return new Closure(Collections.unmodifiableMap(ordinals), ids, atOrBelow, atOrAbove);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.bukhtaev.model.BaseEntity;
+import ru.bukhtaev.model.dictionary.PciExpressConnectorVersion;
+import ru.bukhtaev.model.dictionary.StorageConnector;
+import ru.bukhtaev.repository.dictionary.IPciExpressConnectorVersionRepository;
+import ru.bukhtaev.repository.dictionary.IStorageConnectorRepository;
+import ru.bukhtaev.service.TransactionService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Сервис, хранящий актуальный индекс частичного порядка
+ * версий коннектора PCI-Express и коннекторов подключения накопителей.
+ * Для версий PCI-Express порядок задается более старыми версиями,
+ * для коннекторов подключения накопителей — совместимыми с потерями в скорости коннекторами.
+ * Индекс строится при первом обращении и перестраивается целиком после фиксации транзакции,
+ * изменившей версию PCI-Express или коннектор подключения накопителя.
+ */
+@Component
+public class ConnectorOrderIndexService {
+
+    /**
+     * Типы элементов, входящих в индекс.
+     */
+    private static final Set<Class<? extends BaseEntity>> INDEXED_TYPES = Set.of(
+            PciExpressConnectorVersion.class,
+            StorageConnector.class
+    );
+
+    /**
+     * Репозиторий версий коннектора PCI-Express.
+     */
+    private final IPciExpressConnectorVersionRepository pciExpressConnectorVersionRepository;
+
+    /**
+     * Репозиторий коннекторов подключения накопителей.
+     */
+    private final IStorageConnectorRepository storageConnectorRepository;
+
+    /**
+     * Сервис выполнения кода в транзакции.
+     */
+    private final TransactionService transactionService;
+
+    /**
+     * Счетчик версий индекса.
+     */
+    private final AtomicLong versions = new AtomicLong();
+
+    /**
+     * Объект синхронизации перестроения индекса.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Актуальный индекс частичного порядка.
+     */
+    private volatile ConnectorOrderIndex index;
+
+    /**
+     * Конструктор.
+     *
+     * @param pciExpressConnectorVersionRepository репозиторий версий коннектора PCI-Express
+     * @param storageConnectorRepository           репозиторий коннекторов подключения накопителей
+     * @param transactionService                   сервис выполнения кода в транзакции
+     */
+    @Autowired
+    public ConnectorOrderIndexService(
+            final IPciExpressConnectorVersionRepository pciExpressConnectorVersionRepository,
+            final IStorageConnectorRepository storageConnectorRepository,
+            final TransactionService transactionService
+    ) {
+        this.pciExpressConnectorVersionRepository = pciExpressConnectorVersionRepository;
+        this.storageConnectorRepository = storageConnectorRepository;
+        this.transactionService = transactionService;
+    }
+
+    /**
+     * Возвращает актуальный индекс частичного порядка,
+     * при первом обращении строя его.
+     *
+     * @return индекс частичного порядка
+     */
+    public ConnectorOrderIndex getIndex() {
+        final ConnectorOrderIndex current = index;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (lock) {
+            if (index == null) {
+                rebuild();
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Перестраивает индекс после изменения версии PCI-Express или коннектора подключения накопителя.
+     * Выполняется раньше остальных обработчиков события,
+     * чтобы сброшенные ими результаты проверки вычислялись уже по новому индексу.
+     *
+     * @param event событие изменения сущности
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (INDEXED_TYPES.contains(event.getEntityType())) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Строит индекс по текущему состоянию таблиц версий PCI-Express
+     * и коннекторов подключения накопителей и подменяет им актуальный индекс.
+     */
+    public void rebuild() {
+        synchronized (lock) {
+            final var builder = ConnectorOrderIndex.builder(versions.incrementAndGet());
+
+            transactionService.doInNewTransaction(true, () -> {
+                pciExpressConnectorVersionRepository.findAll()
+                        .forEach(version -> builder.element(
+                                PciExpressConnectorVersion.class,
+                                version.getId(),
+                                version.getName()
+                        ));
+                pciExpressConnectorVersionRepository.findAllLowerVersions()
+                        .forEach(pair -> builder.below(
+                                PciExpressConnectorVersion.class,
+                                pair.connectorId(),
+                                pair.compatibleConnectorId()
+                        ));
+
+                storageConnectorRepository.findAll()
+                        .forEach(connector -> builder.element(
+                                StorageConnector.class,
+                                connector.getId(),
+                                connector.getName()
+                        ));
+                storageConnectorRepository.findAllCompatibilities()
+                        .forEach(pair -> builder.below(
+                                StorageConnector.class,
+                                pair.connectorId(),
+                                pair.compatibleConnectorId()
+                        ));
+            });
+
+            index = builder.build();
+        }
+    }
+}
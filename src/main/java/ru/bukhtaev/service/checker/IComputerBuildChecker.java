@@ -1,9 +1,10 @@
 package ru.bukhtaev.service.checker;
 
+import org.springframework.core.annotation.AnnotationUtils;
 import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.Optional;
+import java.util.*;
 
 /**
  * Абстрактный сервис проверки сборки ПК.
@@ -15,22 +16,98 @@ public abstract class IComputerBuildChecker {
      */
     protected final Translator translator;
 
+    /**
+     * Критичность обнаруживаемых нарушений.
+     */
+    private final ViolationSeverity severity;
+
+    /**
+     * Слоты сборки ПК, которые читает сервис проверки.
+     */
+    private final Set<ComputerBuildSlot> slots;
+
     /**
      * Конструктор.
      *
      * @param translator сервис предоставления сообщений
+     * @param severity   критичность обнаруживаемых нарушений
      */
-    protected IComputerBuildChecker(final Translator translator) {
+    protected IComputerBuildChecker(final Translator translator, final ViolationSeverity severity) {
         this.translator = translator;
+        this.severity = severity;
+
+        final CheckedSlots annotation = AnnotationUtils.findAnnotation(getClass(), CheckedSlots.class);
+        final Set<ComputerBuildSlot> declared = EnumSet.noneOf(ComputerBuildSlot.class);
+        if (annotation == null) {
+            declared.addAll(EnumSet.allOf(ComputerBuildSlot.class));
+        } else {
+            declared.addAll(Arrays.asList(annotation.value()));
+        }
+        this.slots = Collections.unmodifiableSet(declared);
+    }
+
+    /**
+     * Возвращает слоты сборки ПК, которые читает сервис проверки,
+     * объявленные аннотацией {@link CheckedSlots}.
+     *
+     * @return слоты сборки ПК
+     */
+    public Set<ComputerBuildSlot> getSlots() {
+        return slots;
+    }
+
+    /**
+     * Возвращает относительную стоимость выполнения сервиса проверки:
+     * сумму стоимостей проверки читаемых им слотов сборки ПК.
+     *
+     * @return относительная стоимость выполнения сервиса проверки
+     */
+    public int getCost() {
+        return slots.stream()
+                .mapToInt(ComputerBuildSlot::getCost)
+                .sum();
+    }
+
+    /**
+     * Возвращает критичность обнаруживаемых нарушений.
+     *
+     * @return критичность обнаруживаемых нарушений
+     */
+    public ViolationSeverity getSeverity() {
+        return severity;
     }
 
     /**
      * Проверяет сборку ПК.
-     * Возвращает объект типа {@link Optional} с сообщением о нарушении, если оно обнаружено.
+     * Возвращает объект типа {@link Optional} с нарушением, если оно обнаружено.
      * В противном случае возвращает пустой объект типа {@link Optional}.
      *
      * @param computer сборка ПК
-     * @return объект типа {@link Optional} с сообщением о нарушении, если оно обнаружено
+     * @return объект типа {@link Optional} с нарушением, если оно обнаружено
+     */
+    public abstract Optional<ComputerBuildViolation> check(final ComputerBuild computer);
+
+    /**
+     * Проверяет сборку ПК по значениям, общим для всех сервисов проверки одной проверки.
+     * Сервисы, заданные правилами {@link ComputerBuildRule}, берут значения из них,
+     * остальные проверяют сборку ПК напрямую.
+     *
+     * @param facts значения сборки ПК
+     * @return объект типа {@link Optional} с нарушением, если оно обнаружено
+     */
+    public Optional<ComputerBuildViolation> check(final ComputerBuildFacts facts) {
+        return check(facts.getComputer());
+    }
+
+    /**
+     * Создает нарушение с критичностью, свойственной сервису проверки.
+     * Текст сообщения не формируется.
+     *
+     * @param code код сообщения
+     * @param args параметры сообщения
+     * @return объект типа {@link Optional} с нарушением
      */
-    public abstract Optional<String> check(final ComputerBuild computer);
+    protected Optional<ComputerBuildViolation> violation(final String code, final Object... args) {
+        return Optional.of(ComputerBuildViolation.of(code, severity, args));
+    }
 }
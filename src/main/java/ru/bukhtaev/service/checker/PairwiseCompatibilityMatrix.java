@@ -0,0 +1,360 @@
+package ru.bukhtaev.service.checker;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+
+/**
+ * Неизменяемая матрица совместимости комплектующих двух типов по одному правилу.
+ * Комплектующим каждой стороны назначаются порядковые номера, и для каждой строки
+ * хранится битовый набор совместимых с ней столбцов, поэтому проверка пары
+ * сводится к проверке одного бита.
+ * Изменение одного комплектующего порождает новую матрицу, которая разделяет
+ * с прежней все не затронутые изменением строки. Порядковые номера удаленных
+ * комплектующих не переиспользуются до полного перестроения матрицы.
+ *
+ * @param <RF> тип признака комплектующих-строк
+ * @param <CF> тип признака комплектующих-столбцов
+ */
+public final class PairwiseCompatibilityMatrix<RF, CF> {
+
+    /**
+     * Проверка совместимости по признакам.
+     */
+    private final BiPredicate<RF, CF> test;
+
+    /**
+     * Порядковые номера строк по ID комплектующих.
+     */
+    private final Map<UUID, Integer> rowOrdinals;
+
+    /**
+     * Признаки строк по порядковым номерам, {@code null} для удаленных строк.
+     */
+    private final Object[] rowFeatures;
+
+    /**
+     * Совместимые столбцы по порядковым номерам строк.
+     */
+    private final BitSet[] rows;
+
+    /**
+     * Порядковые номера столбцов по ID комплектующих.
+     */
+    private final Map<UUID, Integer> columnOrdinals;
+
+    /**
+     * Признаки столбцов по порядковым номерам, {@code null} для удаленных столбцов.
+     */
+    private final Object[] columnFeatures;
+
+    /**
+     * Конструктор.
+     *
+     * @param test           проверка совместимости по признакам
+     * @param rowOrdinals    порядковые номера строк по ID комплектующих
+     * @param rowFeatures    признаки строк по порядковым номерам
+     * @param rows           совместимые столбцы по порядковым номерам строк
+     * @param columnOrdinals порядковые номера столбцов по ID комплектующих
+     * @param columnFeatures признаки столбцов по порядковым номерам
+     */
+    private PairwiseCompatibilityMatrix(
+            final BiPredicate<RF, CF> test,
+            final Map<UUID, Integer> rowOrdinals,
+            final Object[] rowFeatures,
+            final BitSet[] rows,
+            final Map<UUID, Integer> columnOrdinals,
+            final Object[] columnFeatures
+    ) {
+        this.test = test;
+        this.rowOrdinals = rowOrdinals;
+        this.rowFeatures = rowFeatures;
+        this.rows = rows;
+        this.columnOrdinals = columnOrdinals;
+        this.columnFeatures = columnFeatures;
+    }
+
+    /**
+     * Создает построитель матрицы.
+     *
+     * @param test проверка совместимости по признакам
+     * @param <RF> тип признака комплектующих-строк
+     * @param <CF> тип признака комплектующих-столбцов
+     * @return построитель матрицы
+     */
+    public static <RF, CF> Builder<RF, CF> builder(final BiPredicate<RF, CF> test) {
+        return new Builder<>(test);
+    }
+
+    /**
+     * Проверяет, известны ли матрице оба комплектующих.
+     *
+     * @param rowId    ID комплектующего-строки
+     * @param columnId ID комплектующего-столбца
+     * @return {@code true}, если оба комплектующих есть в матрице
+     */
+    public boolean contains(final UUID rowId, final UUID columnId) {
+        return rowOrdinals.containsKey(rowId) && columnOrdinals.containsKey(columnId);
+    }
+
+    /**
+     * Проверяет совместимость двух комплектующих.
+     * Неизвестные матрице комплектующие несовместимы.
+     *
+     * @param rowId    ID комплектующего-строки
+     * @param columnId ID комплектующего-столбца
+     * @return {@code true}, если комплектующие совместимы
+     */
+    public boolean isCompatible(final UUID rowId, final UUID columnId) {
+        final Integer row = rowOrdinals.get(rowId);
+        final Integer column = columnOrdinals.get(columnId);
+        return row != null
+                && column != null
+                && rows[row].get(column);
+    }
+
+    /**
+     * Возвращает матрицу, в которой строка комплектующего
+     * добавлена или пересчитана по новому признаку.
+     *
+     * @param id      ID комплектующего-строки
+     * @param feature признак комплектующего-строки
+     * @return новая матрица
+     */
+    public PairwiseCompatibilityMatrix<RF, CF> withRow(final UUID id, final RF feature) {
+        final Integer existing = rowOrdinals.get(id);
+        final int ordinal = existing == null ? rows.length : existing;
+
+        final Map<UUID, Integer> ordinals = existing == null ? append(rowOrdinals, id, ordinal) : rowOrdinals;
+        final Object[] features = Arrays.copyOf(rowFeatures, Math.max(rowFeatures.length, ordinal + 1));
+        final BitSet[] newRows = Arrays.copyOf(rows, Math.max(rows.length, ordinal + 1));
+        features[ordinal] = feature;
+        newRows[ordinal] = row(feature);
+
+        return new PairwiseCompatibilityMatrix<>(test, ordinals, features, newRows, columnOrdinals, columnFeatures);
+    }
+
+    /**
+     * Возвращает матрицу, в которой столбец комплектующего
+     * добавлен или пересчитан по новому признаку.
+     * Копируются только строки, в которых изменился бит этого столбца.
+     *
+     * @param id      ID комплектующего-столбца
+     * @param feature признак комплектующего-столбца
+     * @return новая матрица
+     */
+    @SuppressWarnings("unchecked")
+    public PairwiseCompatibilityMatrix<RF, CF> withColumn(final UUID id, final CF feature) {
+        final Integer existing = columnOrdinals.get(id);
+        final int ordinal = existing == null ? columnFeatures.length : existing;
+
+        final Map<UUID, Integer> ordinals = existing == null ? append(columnOrdinals, id, ordinal) : columnOrdinals;
+        final Object[] features = Arrays.copyOf(columnFeatures, Math.max(columnFeatures.length, ordinal + 1));
+        features[ordinal] = feature;
+
+        final BitSet[] newRows = rows.clone();
+        for (int i = 0; i < newRows.length; i++) {
+            final boolean compatible = rowFeatures[i] != null && test.test((RF) rowFeatures[i], feature);
+            if (newRows[i].get(ordinal) != compatible) {
+                newRows[i] = (BitSet) newRows[i].clone();
+                newRows[i].set(ordinal, compatible);
+            }
+        }
+
+        return new PairwiseCompatibilityMatrix<>(test, rowOrdinals, rowFeatures, newRows, ordinals, features);
+    }
+
+    /**
+     * Возвращает матрицу без строки комплектующего.
+     *
+     * @param id ID комплектующего-строки
+     * @return новая матрица или эта же матрица, если строки нет
+     */
+    public PairwiseCompatibilityMatrix<RF, CF> withoutRow(final UUID id) {
+        final Integer ordinal = rowOrdinals.get(id);
+        if (ordinal == null) {
+            return this;
+        }
+
+        final Map<UUID, Integer> ordinals = new HashMap<>(rowOrdinals);
+        ordinals.remove(id);
+        final Object[] features = rowFeatures.clone();
+        final BitSet[] newRows = rows.clone();
+        features[ordinal] = null;
+        newRows[ordinal] = new BitSet();
+
+        return new PairwiseCompatibilityMatrix<>(
+                test,
+                Collections.unmodifiableMap(ordinals),
+                features,
+                newRows,
+                columnOrdinals,
+                columnFeatures
+        );
+    }
+
+    /**
+     * Возвращает матрицу без столбца комплектующего.
+     *
+     * @param id ID комплектующего-столбца
+     * @return новая матрица или эта же матрица, если столбца нет
+     */
+    public PairwiseCompatibilityMatrix<RF, CF> withoutColumn(final UUID id) {
+        final Integer ordinal = columnOrdinals.get(id);
+        if (ordinal == null) {
+            return this;
+        }
+
+        final Map<UUID, Integer> ordinals = new HashMap<>(columnOrdinals);
+        ordinals.remove(id);
+        final Object[] features = columnFeatures.clone();
+        features[ordinal] = null;
+
+        final BitSet[] newRows = rows.clone();
+        for (int i = 0; i < newRows.length; i++) {
+            if (newRows[i].get(ordinal)) {
+                newRows[i] = (BitSet) newRows[i].clone();
+                newRows[i].clear(ordinal);
+            }
+        }
+
+        return new PairwiseCompatibilityMatrix<>(
+                test,
+                rowOrdinals,
+                rowFeatures,
+                newRows,
+                Collections.unmodifiableMap(ordinals),
+                features
+        );
+    }
+
+    /**
+     * Вычисляет битовый набор совместимых столбцов для признака строки.
+     *
+     * @param feature признак комплектующего-строки
+     * @return битовый набор совместимых столбцов
+     */
+    @SuppressWarnings("unchecked")
+    private BitSet row(final RF feature) {
+        final BitSet row = new BitSet(columnFeatures.length);
+        for (int j = 0; j < columnFeatures.length; j++) {
+            if (columnFeatures[j] != null && test.test(feature, (CF) columnFeatures[j])) {
+                row.set(j);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Возвращает копию порядковых номеров с добавленным комплектующим.
+     *
+     * @param ordinals порядковые номера по ID комплектующих
+     * @param id       ID добавляемого комплектующего
+     * @param ordinal  порядковый номер добавляемого комплектующего
+     * @return новые порядковые номера
+     */
+    private static Map<UUID, Integer> append(
+            final Map<UUID, Integer> ordinals,
+            final UUID id,
+            final int ordinal
+    ) {
+        final Map<UUID, Integer> result = new HashMap<>(ordinals);
+        result.put(id, ordinal);
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Построитель матрицы совместимости.
+     *
+     * @param <RF> тип признака комплектующих-строк
+     * @param <CF> тип признака комплектующих-столбцов
+     */
+    public static final class Builder<RF, CF> {
+
+        /**
+         * Проверка совместимости по признакам.
+         */
+        private final BiPredicate<RF, CF> test;
+
+        /**
+         * Признаки строк по ID комплектующих.
+         */
+        private final Map<UUID, RF> rows = new LinkedHashMap<>();
+
+        /**
+         * Признаки столбцов по ID комплектующих.
+         */
+        private final Map<UUID, CF> columns = new LinkedHashMap<>();
+
+        /**
+         * Конструктор.
+         *
+         * @param test проверка совместимости по признакам
+         */
+        private Builder(final BiPredicate<RF, CF> test) {
+            this.test = test;
+        }
+
+        /**
+         * Добавляет строку.
+         *
+         * @param id      ID комплектующего-строки
+         * @param feature признак комплектующего-строки
+         * @return построитель матрицы
+         */
+        public Builder<RF, CF> row(final UUID id, final RF feature) {
+            rows.put(id, feature);
+            return this;
+        }
+
+        /**
+         * Добавляет столбец.
+         *
+         * @param id      ID комплектующего-столбца
+         * @param feature признак комплектующего-столбца
+         * @return построитель матрицы
+         */
+        public Builder<RF, CF> column(final UUID id, final CF feature) {
+            columns.put(id, feature);
+            return this;
+        }
+
+        /**
+         * Строит матрицу, проверяя все пары строк и столбцов.
+         *
+         * @return матрица совместимости
+         */
+        public PairwiseCompatibilityMatrix<RF, CF> build() {
+            final List<CF> columnList = new ArrayList<>(columns.values());
+            final Map<UUID, Integer> columnOrdinals = new HashMap<>(columns.size() * 2);
+            int column = 0;
+            for (final UUID id : columns.keySet()) {
+                columnOrdinals.put(id, column++);
+            }
+
+            final Map<UUID, Integer> rowOrdinals = new HashMap<>(rows.size() * 2);
+            final Object[] rowFeatures = new Object[rows.size()];
+            final BitSet[] bits = new BitSet[rows.size()];
+            int row = 0;
+            for (final Map.Entry<UUID, RF> entry : rows.entrySet()) {
+                rowOrdinals.put(entry.getKey(), row);
+                rowFeatures[row] = entry.getValue();
+                bits[row] = new BitSet(columnList.size());
+                for (int j = 0; j < columnList.size(); j++) {
+                    if (test.test(entry.getValue(), columnList.get(j))) {
+                        bits[row].set(j);
+                    }
+                }
+                row++;
+            }
+
+            return new PairwiseCompatibilityMatrix<>(
+                    test,
+                    Collections.unmodifiableMap(rowOrdinals),
+                    rowFeatures,
+                    bits,
+                    Collections.unmodifiableMap(columnOrdinals),
+                    columnList.toArray()
+            );
+        }
+    }
+}
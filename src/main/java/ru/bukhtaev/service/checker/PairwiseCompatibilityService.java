@@ -0,0 +1,258 @@
+package ru.bukhtaev.service.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.repository.*;
+import ru.bukhtaev.service.TransactionService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
+
+import java.util.*;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Сервис, хранящий матрицы совместимости комплектующих по правилам {@link PairwiseRule}.
+ * Матрицы строятся по всему каталогу при первом обращении. После фиксации транзакции,
+ * создавшей, изменившей или удалившей комплектующее, пересчитываются только строка
+ * или столбец этого комплектующего; изменение чипсета, от которого зависит
+ * признак материнской платы, приводит к полному перестроению матриц.
+ */
+@Component
+public class PairwiseCompatibilityService {
+
+    /**
+     * Типы сущностей, изменение которых требует полного перестроения матриц.
+     */
+    private static final Set<Class<?>> REBUILD_TYPES = Set.of(Chipset.class);
+
+    /**
+     * Репозитории комплектующих по их типам.
+     */
+    private final Map<Class<?>, JpaRepository<? extends BaseEntity, UUID>> repositories;
+
+    /**
+     * Сервис выполнения кода в транзакции.
+     */
+    private final TransactionService transactionService;
+
+    /**
+     * Объект синхронизации изменения матриц.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Актуальные матрицы совместимости по правилам.
+     */
+    private volatile Map<PairwiseRule<?, ?, ?, ?>, PairwiseCompatibilityMatrix<?, ?>> matrices;
+
+    /**
+     * Конструктор.
+     *
+     * @param cpuRepository          репозиторий процессоров
+     * @param motherboardRepository  репозиторий материнских плат
+     * @param coolerRepository       репозиторий процессорных кулеров
+     * @param computerCaseRepository репозиторий корпусов
+     * @param psuRepository          репозиторий блоков питания
+     * @param graphicsCardRepository репозиторий видеокарт
+     * @param transactionService     сервис выполнения кода в транзакции
+     */
+    @Autowired
+    public PairwiseCompatibilityService(
+            final ICpuRepository cpuRepository,
+            final IMotherboardRepository motherboardRepository,
+            final ICoolerRepository coolerRepository,
+            final IComputerCaseRepository computerCaseRepository,
+            final IPsuRepository psuRepository,
+            final IGraphicsCardRepository graphicsCardRepository,
+            final TransactionService transactionService
+    ) {
+        final Map<Class<?>, JpaRepository<? extends BaseEntity, UUID>> map = new HashMap<>();
+        map.put(Cpu.class, cpuRepository);
+        map.put(Motherboard.class, motherboardRepository);
+        map.put(Cooler.class, coolerRepository);
+        map.put(ComputerCase.class, computerCaseRepository);
+        map.put(Psu.class, psuRepository);
+        map.put(GraphicsCard.class, graphicsCardRepository);
+        this.repositories = map;
+        this.transactionService = transactionService;
+    }
+
+    /**
+     * Проверяет совместимость двух комплектующих по правилу.
+     * Если оба комплектующих есть в матрице, результат берется из нее,
+     * иначе правило проверяется напрямую.
+     *
+     * @param rule   правило совместимости
+     * @param row    комплектующее-строка
+     * @param column комплектующее-столбец
+     * @param <R>    тип комплектующего-строки
+     * @param <C>    тип комплектующего-столбца
+     * @return {@code true}, если комплектующие совместимы
+     */
+    public <R extends BaseEntity, C extends BaseEntity> boolean isCompatible(
+            final PairwiseRule<R, C, ?, ?> rule,
+            final R row,
+            final C column
+    ) {
+        if (row.getId() != null && column.getId() != null) {
+            final PairwiseCompatibilityMatrix<?, ?> matrix = getMatrix(rule);
+            if (matrix.contains(row.getId(), column.getId())) {
+                return matrix.isCompatible(row.getId(), column.getId());
+            }
+        }
+
+        return rule.test(row, column);
+    }
+
+    /**
+     * Возвращает актуальную матрицу совместимости по правилу,
+     * при первом обращении строя все матрицы.
+     *
+     * @param rule правило совместимости
+     * @param <RF> тип признака комплектующих-строк
+     * @param <CF> тип признака комплектующих-столбцов
+     * @return матрица совместимости
+     */
+    @SuppressWarnings("unchecked")
+    public <RF, CF> PairwiseCompatibilityMatrix<RF, CF> getMatrix(final PairwiseRule<?, ?, RF, CF> rule) {
+        Map<PairwiseRule<?, ?, ?, ?>, PairwiseCompatibilityMatrix<?, ?>> current = matrices;
+        if (current == null) {
+            synchronized (lock) {
+                if (matrices == null) {
+                    rebuild();
+                }
+                current = matrices;
+            }
+        }
+
+        return (PairwiseCompatibilityMatrix<RF, CF>) current.get(rule);
+    }
+
+    /**
+     * Обновляет матрицы после изменения комплектующего или чипсета.
+     * Выполняется раньше остальных обработчиков события,
+     * чтобы сброшенные ими результаты проверки вычислялись уже по новым матрицам.
+     *
+     * @param event событие изменения сущности
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (REBUILD_TYPES.contains(event.getEntityType())) {
+            rebuild();
+        } else if (repositories.containsKey(event.getEntityType())) {
+            update(event.getEntityType(), event.getId());
+        }
+    }
+
+    /**
+     * Строит все матрицы по текущему состоянию каталога и подменяет ими актуальные.
+     * Комплектующие каждого типа загружаются один раз для всех правил.
+     */
+    public void rebuild() {
+        synchronized (lock) {
+            final Map<PairwiseRule<?, ?, ?, ?>, PairwiseCompatibilityMatrix<?, ?>> built = new HashMap<>();
+
+            transactionService.doInNewTransaction(true, () -> {
+                final Map<Class<?>, List<? extends BaseEntity>> catalog = new HashMap<>();
+                repositories.forEach((type, repository) -> catalog.put(type, repository.findAll()));
+                PairwiseRule.ALL.forEach(rule -> built.put(rule, build(rule, catalog)));
+            });
+
+            matrices = Map.copyOf(built);
+        }
+    }
+
+    /**
+     * Пересчитывает строки и столбцы комплектующего во всех матрицах.
+     * Если матрицы еще не построены, ничего не делает:
+     * они будут построены по актуальному каталогу при первом обращении.
+     *
+     * @param type тип комплектующего
+     * @param id   ID комплектующего
+     */
+    private void update(final Class<?> type, final UUID id) {
+        synchronized (lock) {
+            if (matrices == null) {
+                return;
+            }
+
+            final Map<PairwiseRule<?, ?, ?, ?>, PairwiseCompatibilityMatrix<?, ?>> updated = new HashMap<>(matrices);
+
+            transactionService.doInNewTransaction(true, () -> {
+                final BaseEntity entity = repositories.get(type)
+                        .findById(id)
+                        .orElse(null);
+                PairwiseRule.ALL.forEach(rule -> updated.put(rule, update(rule, updated.get(rule), type, id, entity)));
+            });
+
+            matrices = Map.copyOf(updated);
+        }
+    }
+
+    /**
+     * Строит матрицу по правилу из загруженного каталога.
+     *
+     * @param rule    правило совместимости
+     * @param catalog комплектующие по их типам
+     * @param <R>     тип комплектующих-строк
+     * @param <C>     тип комплектующих-столбцов
+     * @param <RF>    тип признака комплектующих-строк
+     * @param <CF>    тип признака комплектующих-столбцов
+     * @return матрица совместимости
+     */
+    private static <R extends BaseEntity, C extends BaseEntity, RF, CF> PairwiseCompatibilityMatrix<RF, CF> build(
+            final PairwiseRule<R, C, RF, CF> rule,
+            final Map<Class<?>, List<? extends BaseEntity>> catalog
+    ) {
+        final var builder = PairwiseCompatibilityMatrix.builder(rule.getTest());
+        for (final BaseEntity entity : catalog.get(rule.getRowType())) {
+            builder.row(entity.getId(), rule.rowFeature(rule.getRowType().cast(entity)));
+        }
+        for (final BaseEntity entity : catalog.get(rule.getColumnType())) {
+            builder.column(entity.getId(), rule.columnFeature(rule.getColumnType().cast(entity)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Пересчитывает строку или столбец комплектующего в матрице по правилу.
+     *
+     * @param rule   правило совместимости
+     * @param matrix матрица совместимости
+     * @param type   тип комплектующего
+     * @param id     ID комплектующего
+     * @param entity комплектующее или {@code null}, если оно удалено
+     * @param <R>    тип комплектующих-строк
+     * @param <C>    тип комплектующих-столбцов
+     * @param <RF>   тип признака комплектующих-строк
+     * @param <CF>   тип признака комплектующих-столбцов
+     * @return новая матрица или прежняя, если правило не зависит от комплектующих этого типа
+     */
+    @SuppressWarnings("unchecked")
+    private static <R extends BaseEntity, C extends BaseEntity, RF, CF> PairwiseCompatibilityMatrix<RF, CF> update(
+            final PairwiseRule<R, C, RF, CF> rule,
+            final PairwiseCompatibilityMatrix<?, ?> matrix,
+            final Class<?> type,
+            final UUID id,
+            final BaseEntity entity
+    ) {
+        PairwiseCompatibilityMatrix<RF, CF> result = (PairwiseCompatibilityMatrix<RF, CF>) matrix;
+        if (rule.getRowType().equals(type)) {
+            result = entity == null
+                    ? result.withoutRow(id)
+                    : result.withRow(id, rule.rowFeature(rule.getRowType().cast(entity)));
+        }
+        if (rule.getColumnType().equals(type)) {
+            result = entity == null
+                    ? result.withoutColumn(id)
+                    : result.withColumn(id, rule.columnFeature(rule.getColumnType().cast(entity)));
+        }
+        return result;
+    }
+}
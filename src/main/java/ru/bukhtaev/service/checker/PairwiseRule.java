@@ -0,0 +1,242 @@
+package ru.bukhtaev.service.checker;
+
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.model.dictionary.MotherboardFormFactor;
+import ru.bukhtaev.model.dictionary.PsuFormFactor;
+import ru.bukhtaev.model.dictionary.Socket;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Правило совместимости двух комплектующих разных типов.
+ * Комплектующие каждой стороны правила сводятся к признакам - значениям,
+ * от которых зависит результат проверки, а сама проверка выполняется над признаками.
+ * Благодаря этому матрицу совместимости можно обновить при изменении одного комплектующего,
+ * не загружая комплектующие другой стороны повторно.
+ *
+ * @param <R>  тип комплектующих-строк
+ * @param <C>  тип комплектующих-столбцов
+ * @param <RF> тип признака комплектующих-строк
+ * @param <CF> тип признака комплектующих-столбцов
+ */
+public final class PairwiseRule<R extends BaseEntity, C extends BaseEntity, RF, CF> {
+
+    /**
+     * Сокет процессора совпадает с сокетом чипсета материнской платы.
+     */
+    public static final PairwiseRule<Cpu, Motherboard, UUID, UUID> CPU_MOTHERBOARD_SOCKET = new PairwiseRule<>(
+            "cpu-motherboard-socket",
+            Cpu.class,
+            Motherboard.class,
+            cpu -> cpu.getSocket().getId(),
+            motherboard -> motherboard.getChipset().getSocket().getId(),
+            UUID::equals
+    );
+
+    /**
+     * Сокет процессора входит в поддерживаемые процессорным кулером сокеты.
+     */
+    public static final PairwiseRule<Cpu, Cooler, UUID, Set<UUID>> CPU_COOLER_SOCKET = new PairwiseRule<>(
+            "cpu-cooler-socket",
+            Cpu.class,
+            Cooler.class,
+            cpu -> cpu.getSocket().getId(),
+            cooler -> cooler.getSupportedSockets()
+                    .stream()
+                    .map(Socket::getId)
+                    .collect(Collectors.toUnmodifiableSet()),
+            (socketId, socketIds) -> socketIds.contains(socketId)
+    );
+
+    /**
+     * Рассеиваемая мощность процессорного кулера не меньше максимального тепловыделения процессора.
+     */
+    public static final PairwiseRule<Cpu, Cooler, Integer, Integer> CPU_COOLER_POWER_DISSIPATION = new PairwiseRule<>(
+            "cpu-cooler-power-dissipation",
+            Cpu.class,
+            Cooler.class,
+            Cpu::getMaxTdp,
+            Cooler::getPowerDissipation,
+            (maxTdp, powerDissipation) -> maxTdp <= powerDissipation
+    );
+
+    /**
+     * Форм-фактор материнской платы поддерживается корпусом.
+     */
+    public static final PairwiseRule<ComputerCase, Motherboard, Set<UUID>, UUID> CASE_MOTHERBOARD_FORM_FACTOR =
+            new PairwiseRule<>(
+                    "case-motherboard-form-factor",
+                    ComputerCase.class,
+                    Motherboard.class,
+                    computerCase -> computerCase.getMotherboardFormFactors()
+                            .stream()
+                            .map(MotherboardFormFactor::getId)
+                            .collect(Collectors.toUnmodifiableSet()),
+                    motherboard -> motherboard.getFormFactor().getId(),
+                    Set::contains
+            );
+
+    /**
+     * Форм-фактор блока питания поддерживается корпусом.
+     */
+    public static final PairwiseRule<ComputerCase, Psu, Set<UUID>, UUID> CASE_PSU_FORM_FACTOR = new PairwiseRule<>(
+            "case-psu-form-factor",
+            ComputerCase.class,
+            Psu.class,
+            computerCase -> computerCase.getPsuFormFactors()
+                    .stream()
+                    .map(PsuFormFactor::getId)
+                    .collect(Collectors.toUnmodifiableSet()),
+            psu -> psu.getFormFactor().getId(),
+            Set::contains
+    );
+
+    /**
+     * Длина видеокарты не превышает максимальную длину видеокарты, допустимую корпусом.
+     */
+    public static final PairwiseRule<ComputerCase, GraphicsCard, Integer, Integer> CASE_GRAPHICS_CARD_LENGTH =
+            new PairwiseRule<>(
+                    "case-graphics-card-length",
+                    ComputerCase.class,
+                    GraphicsCard.class,
+                    ComputerCase::getMaxGraphicsCardLength,
+                    GraphicsCard::getLength,
+                    (maxLength, length) -> length <= maxLength
+            );
+
+    /**
+     * Все правила.
+     */
+    public static final List<PairwiseRule<?, ?, ?, ?>> ALL = List.of(
+            CPU_MOTHERBOARD_SOCKET,
+            CPU_COOLER_SOCKET,
+            CPU_COOLER_POWER_DISSIPATION,
+            CASE_MOTHERBOARD_FORM_FACTOR,
+            CASE_PSU_FORM_FACTOR,
+            CASE_GRAPHICS_CARD_LENGTH
+    );
+
+    /**
+     * Название правила.
+     */
+    private final String name;
+
+    /**
+     * Тип комплектующих-строк.
+     */
+    private final Class<R> rowType;
+
+    /**
+     * Тип комплектующих-столбцов.
+     */
+    private final Class<C> columnType;
+
+    /**
+     * Функция получения признака комплектующего-строки.
+     */
+    private final Function<R, RF> rowFeature;
+
+    /**
+     * Функция получения признака комплектующего-столбца.
+     */
+    private final Function<C, CF> columnFeature;
+
+    /**
+     * Проверка совместимости по признакам.
+     */
+    private final BiPredicate<RF, CF> test;
+
+    /**
+     * Конструктор.
+     *
+     * @param name          название правила
+     * @param rowType       тип комплектующих-строк
+     * @param columnType    тип комплектующих-столбцов
+     * @param rowFeature    функция получения признака комплектующего-строки
+     * @param columnFeature функция получения признака комплектующего-столбца
+     * @param test          проверка совместимости по признакам
+     */
+    private PairwiseRule(
+            final String name,
+            final Class<R> rowType,
+            final Class<C> columnType,
+            final Function<R, RF> rowFeature,
+            final Function<C, CF> columnFeature,
+            final BiPredicate<RF, CF> test
+    ) {
+        this.name = name;
+        this.rowType = rowType;
+        this.columnType = columnType;
+        this.rowFeature = rowFeature;
+        this.columnFeature = columnFeature;
+        this.test = test;
+    }
+
+    /**
+     * Возвращает тип комплектующих-строк.
+     *
+     * @return тип комплектующих-строк
+     */
+    public Class<R> getRowType() {
+        return rowType;
+    }
+
+    /**
+     * Возвращает тип комплектующих-столбцов.
+     *
+     * @return тип комплектующих-столбцов
+     */
+    public Class<C> getColumnType() {
+        return columnType;
+    }
+
+    /**
+     * Возвращает проверку совместимости по признакам.
+     *
+     * @return проверка совместимости по признакам
+     */
+    public BiPredicate<RF, CF> getTest() {
+        return test;
+    }
+
+    /**
+     * Возвращает признак комплектующего-строки.
+     *
+     * @param row комплектующее-строка
+     * @return признак
+     */
+    public RF rowFeature(final R row) {
+        return rowFeature.apply(row);
+    }
+
+    /**
+     * Возвращает признак комплектующего-столбца.
+     *
+     * @param column комплектующее-столбец
+     * @return признак
+     */
+    public CF columnFeature(final C column) {
+        return columnFeature.apply(column);
+    }
+
+    /**
+     * Проверяет совместимость двух комплектующих напрямую, без матрицы совместимости.
+     *
+     * @param row    комплектующее-строка
+     * @param column комплектующее-столбец
+     * @return {@code true}, если комплектующие совместимы
+     */
+    public boolean test(final R row, final C column) {
+        return test.test(rowFeature(row), columnFeature(column));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,316 @@
+package ru.bukhtaev.service.checker;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Сопоставление необходимых ресурсов доступным: коннекторов, отсеков расширения,
+ * посадочных мест вентиляторов и т.п. Каждый вид ресурса задается ID и количеством.
+ * <p>
+ * Видам ресурсов назначаются плотные порядковые номера в порядке их добавления,
+ * количества хранятся в массивах примитивов, а совместимость необходимого вида
+ * с доступным вычисляется один раз для каждой пары. Если доступный ресурс может
+ * заменять необходимый ресурс другого вида, задача сводится к поиску максимального
+ * потока в двудольном графе «необходимые - доступные»: ресурсы распределяются
+ * увеличивающими путями, которые при необходимости перераспределяют уже выполненные
+ * бронирования, поэтому результат не зависит от порядка видов ресурсов.
+ * <p>
+ * Экземпляр переиспользуется потоком: {@link #acquire()} возвращает очищенный экземпляр
+ * текущего потока, массивы которого растут только при появлении большего числа видов
+ * ресурсов, чем встречалось в этом потоке ранее. Экземпляр не потокобезопасен
+ * и не должен использоваться после повторного вызова {@link #acquire()} в том же потоке.
+ */
+public final class ResourceMatcher {
+
+    /**
+     * Начальная вместимость массивов.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Экземпляры потоков.
+     */
+    private static final ThreadLocal<ResourceMatcher> INSTANCES = ThreadLocal.withInitial(ResourceMatcher::new);
+
+    /**
+     * ID необходимых видов ресурсов по порядковым номерам.
+     */
+    private UUID[] demandIds = new UUID[INITIAL_CAPACITY];
+
+    /**
+     * Остаток необходимого количества по порядковым номерам.
+     */
+    private int[] demandCounts = new int[INITIAL_CAPACITY];
+
+    /**
+     * Количество необходимых видов ресурсов.
+     */
+    private int demandSize;
+
+    /**
+     * ID доступных видов ресурсов по порядковым номерам.
+     */
+    private UUID[] supplyIds = new UUID[INITIAL_CAPACITY];
+
+    /**
+     * Остаток доступного количества по порядковым номерам.
+     */
+    private int[] supplyCounts = new int[INITIAL_CAPACITY];
+
+    /**
+     * Количество доступных видов ресурсов.
+     */
+    private int supplySize;
+
+    /**
+     * Совместимость пар «необходимый - доступный» в порядке строк.
+     */
+    private boolean[] compatible = new boolean[INITIAL_CAPACITY * INITIAL_CAPACITY];
+
+    /**
+     * Забронированное количество пар «необходимый - доступный» в порядке строк.
+     */
+    private int[] flow = new int[INITIAL_CAPACITY * INITIAL_CAPACITY];
+
+    /**
+     * Метки посещения доступных видов ресурсов в текущем поиске пути.
+     */
+    private int[] visited = new int[INITIAL_CAPACITY];
+
+    /**
+     * Номер текущего поиска пути.
+     */
+    private int stamp;
+
+    /**
+     * Только через {@link #acquire()}.
+     */
+    private ResourceMatcher() {
+    }
+
+    /**
+     * Возвращает очищенный экземпляр текущего потока.
+     *
+     * @return экземпляр текущего потока
+     */
+    public static ResourceMatcher acquire() {
+        final ResourceMatcher matcher = INSTANCES.get();
+        matcher.demandSize = 0;
+        matcher.supplySize = 0;
+        return matcher;
+    }
+
+    /**
+     * Добавляет необходимые ресурсы.
+     * Ресурсы без вида не подходят ни к одному доступному ресурсу.
+     *
+     * @param id    ID вида ресурса
+     * @param count количество
+     * @return этот же экземпляр
+     */
+    public ResourceMatcher demand(final UUID id, final int count) {
+        if (count <= 0) {
+            return this;
+        }
+
+        final int ordinal = indexOf(demandIds, demandSize, id);
+        if (ordinal >= 0) {
+            demandCounts[ordinal] += count;
+            return this;
+        }
+
+        if (demandSize == demandIds.length) {
+            demandIds = Arrays.copyOf(demandIds, demandSize * 2);
+            demandCounts = Arrays.copyOf(demandCounts, demandSize * 2);
+        }
+        demandIds[demandSize] = id;
+        demandCounts[demandSize++] = count;
+        return this;
+    }
+
+    /**
+     * Добавляет доступные ресурсы.
+     *
+     * @param id    ID вида ресурса
+     * @param count количество
+     * @return этот же экземпляр
+     */
+    public ResourceMatcher supply(final UUID id, final int count) {
+        if (count <= 0 || id == null) {
+            return this;
+        }
+
+        final int ordinal = indexOf(supplyIds, supplySize, id);
+        if (ordinal >= 0) {
+            supplyCounts[ordinal] += count;
+            return this;
+        }
+
+        if (supplySize == supplyIds.length) {
+            supplyIds = Arrays.copyOf(supplyIds, supplySize * 2);
+            supplyCounts = Arrays.copyOf(supplyCounts, supplySize * 2);
+            visited = Arrays.copyOf(visited, supplySize * 2);
+        }
+        supplyIds[supplySize] = id;
+        supplyCounts[supplySize++] = count;
+        return this;
+    }
+
+    /**
+     * Проверяет, что все необходимые ресурсы обеспечены доступными ресурсами того же вида.
+     *
+     * @return {@code true}, если все необходимые ресурсы обеспечены
+     */
+    public boolean matchesExactly() {
+        for (int i = 0; i < demandSize; i++) {
+            final int j = indexOf(supplyIds, supplySize, demandIds[i]);
+            if (demandIds[i] == null || j < 0 || supplyCounts[j] < demandCounts[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет, что все необходимые ресурсы обеспечены доступными ресурсами того же вида
+     * или совместимых с ними видов.
+     *
+     * @param context       контекст проверки совместимости, например, граф совместимости коннекторов
+     * @param compatibility проверка совместимости видов ресурсов
+     * @param <C>           тип контекста
+     * @return {@code true}, если все необходимые ресурсы обеспечены
+     */
+    public <C> boolean matches(final C context, final Compatibility<C> compatibility) {
+        long needed = 0;
+        long available = 0;
+        for (int i = 0; i < demandSize; i++) {
+            needed += demandCounts[i];
+        }
+        for (int j = 0; j < supplySize; j++) {
+            available += supplyCounts[j];
+        }
+        if (needed > available) {
+            return false;
+        }
+
+        prepare(context, compatibility);
+
+        for (int i = 0; i < demandSize; i++) {
+            while (demandCounts[i] > 0) {
+                stamp++;
+                final int pushed = augment(i, demandCounts[i]);
+                if (pushed == 0) {
+                    return false;
+                }
+                demandCounts[i] -= pushed;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Вычисляет совместимость всех пар видов ресурсов и обнуляет бронирования.
+     *
+     * @param context       контекст проверки совместимости
+     * @param compatibility проверка совместимости видов ресурсов
+     * @param <C>           тип контекста
+     */
+    private <C> void prepare(final C context, final Compatibility<C> compatibility) {
+        final int pairs = demandSize * supplySize;
+        if (compatible.length < pairs) {
+            compatible = new boolean[pairs];
+            flow = new int[pairs];
+        }
+        Arrays.fill(flow, 0, pairs, 0);
+
+        for (int i = 0; i < demandSize; i++) {
+            final UUID demandId = demandIds[i];
+            for (int j = 0; j < supplySize; j++) {
+                compatible[i * supplySize + j] = demandId != null
+                        && (demandId.equals(supplyIds[j]) || compatibility.test(context, demandId, supplyIds[j]));
+            }
+        }
+    }
+
+    /**
+     * Ищет увеличивающий путь от необходимого вида ресурса поиском в глубину и бронирует по нему ресурсы.
+     * Путь проходит по совместимому доступному виду и, если тот исчерпан,
+     * перераспределяет его бронирование другим необходимым видом.
+     *
+     * @param demand порядковый номер необходимого вида
+     * @param limit  максимальное бронируемое количество
+     * @return забронированное количество
+     */
+    private int augment(final int demand, final int limit) {
+        final int row = demand * supplySize;
+        for (int j = 0; j < supplySize; j++) {
+            if (!compatible[row + j] || visited[j] == stamp) {
+                continue;
+            }
+            visited[j] = stamp;
+
+            if (supplyCounts[j] > 0) {
+                final int pushed = Math.min(limit, supplyCounts[j]);
+                supplyCounts[j] -= pushed;
+                flow[row + j] += pushed;
+                return pushed;
+            }
+
+            for (int other = 0; other < demandSize; other++) {
+                final int booked = flow[other * supplySize + j];
+                if (other == demand || booked == 0) {
+                    continue;
+                }
+
+                final int pushed = augment(other, Math.min(limit, booked));
+                if (pushed > 0) {
+                    flow[other * supplySize + j] -= pushed;
+                    flow[row + j] += pushed;
+                    return pushed;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Возвращает порядковый номер вида ресурса.
+     * Видов ресурсов в одной сборке ПК единицы, поэтому линейный поиск
+     * быстрее хеширования и не требует дополнительных структур.
+     *
+     * @param ids  ID видов ресурсов по порядковым номерам
+     * @param size количество видов ресурсов
+     * @param id   ID вида ресурса
+     * @return порядковый номер или -1, если вид ресурса не добавлен
+     */
+    private static int indexOf(final UUID[] ids, final int size, final UUID id) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(ids[i], id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверка совместимости видов ресурсов.
+     * Контекст передается явно, чтобы проверку можно было хранить в константе,
+     * не создавая замыкание при каждом сопоставлении.
+     *
+     * @param <C> тип контекста
+     */
+    @FunctionalInterface
+    public interface Compatibility<C> {
+
+        /**
+         * Проверяет, может ли доступный ресурс заменить необходимый ресурс другого вида.
+         *
+         * @param context  контекст проверки совместимости
+         * @param demandId ID необходимого вида ресурса
+         * @param supplyId ID доступного вида ресурса
+         * @return {@code true}, если доступный ресурс подходит
+         */
+        boolean test(C context, UUID demandId, UUID supplyId);
+    }
+}
@@ -0,0 +1,143 @@
+package ru.bukhtaev.service.checker;
+
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.service.checker.compatibility.ICompatibilityChecker;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.*;
+
+/**
+ * Комплектующее, назначаемое слоту сборки ПК при переборе вариантов.
+ * Назначение подставляется в изменяемую сборку ПК и снимается с нее,
+ * поэтому один экземпляр сборки ПК используется для проверки многих вариантов.
+ *
+ * @param slot      слот сборки ПК
+ * @param component комплектующее
+ * @param count     количество комплектующих для слотов, содержащих несколько комплектующих
+ */
+record SlotAssignment(
+        ComputerBuildSlot slot,
+        BaseEntity component,
+        int count
+) {
+
+    /**
+     * Слоты, которым можно назначить комплектующее, и типы их комплектующих.
+     * Модули оперативной памяти назначаются одной моделью в заданном количестве.
+     */
+    static final Map<ComputerBuildSlot, Class<? extends BaseEntity>> ASSIGNABLE_SLOTS = new EnumMap<>(Map.of(
+            CPU, Cpu.class,
+            MOTHERBOARD, Motherboard.class,
+            RAM_MODULES, RamModule.class,
+            COOLER, Cooler.class,
+            GRAPHICS_CARD, GraphicsCard.class,
+            PSU, Psu.class,
+            COMPUTER_CASE, ComputerCase.class
+    ));
+
+    /**
+     * Подставляет комплектующее в сборку ПК.
+     *
+     * @param computer сборка ПК
+     */
+    void place(final ComputerBuild computer) {
+        switch (slot) {
+            case CPU -> computer.setCpu((Cpu) component);
+            case PSU -> computer.setPsu((Psu) component);
+            case COOLER -> computer.setCooler((Cooler) component);
+            case MOTHERBOARD -> computer.setMotherboard((Motherboard) component);
+            case GRAPHICS_CARD -> computer.setGraphicsCard((GraphicsCard) component);
+            case COMPUTER_CASE -> computer.setComputerCase((ComputerCase) component);
+            case RAM_MODULES -> computer.addRamModule((RamModule) component, count);
+            default -> throw new IllegalStateException("Slot " + slot + " is not assignable");
+        }
+    }
+
+    /**
+     * Освобождает слот сборки ПК.
+     *
+     * @param computer сборка ПК
+     */
+    void remove(final ComputerBuild computer) {
+        clear(computer, slot);
+    }
+
+    /**
+     * Проверяет комплектующее, временно подставляя его в сборку ПК.
+     *
+     * @param computer сборка ПК
+     * @param checkers сервисы проверки совместимости
+     * @return {@code true}, если ни один сервис проверки не обнаружил нарушений
+     */
+    boolean isCompatible(final ComputerBuild computer, final List<ICompatibilityChecker> checkers) {
+        place(computer);
+        try {
+            return passes(computer, checkers);
+        } finally {
+            remove(computer);
+        }
+    }
+
+    /**
+     * Проверяет сборку ПК сервисами проверки совместимости.
+     *
+     * @param computer сборка ПК
+     * @param checkers сервисы проверки совместимости
+     * @return {@code true}, если ни один сервис проверки не обнаружил нарушений
+     */
+    static boolean passes(final ComputerBuild computer, final List<ICompatibilityChecker> checkers) {
+        final ComputerBuildFacts facts = ComputerBuildFacts.of(computer);
+        for (final ICompatibilityChecker checker : checkers) {
+            if (checker.check(facts).isPresent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет, заполнен ли слот сборки ПК.
+     *
+     * @param computer сборка ПК
+     * @param slot     слот сборки ПК
+     * @return {@code true}, если слот заполнен
+     */
+    static boolean isFilled(final ComputerBuild computer, final ComputerBuildSlot slot) {
+        return switch (slot) {
+            case CPU -> computer.getCpu() != null;
+            case PSU -> computer.getPsu() != null;
+            case COOLER -> computer.getCooler() != null;
+            case MOTHERBOARD -> computer.getMotherboard() != null;
+            case GRAPHICS_CARD -> computer.getGraphicsCard() != null;
+            case COMPUTER_CASE -> computer.getComputerCase() != null;
+            case RAM_MODULES -> !computer.getRamModules().isEmpty();
+            case FANS -> !computer.getFans().isEmpty();
+            case HDDS -> !computer.getHdds().isEmpty();
+            case SSDS -> !computer.getSsds().isEmpty();
+        };
+    }
+
+    /**
+     * Освобождает слот сборки ПК.
+     *
+     * @param computer сборка ПК
+     * @param slot     слот сборки ПК
+     */
+    static void clear(final ComputerBuild computer, final ComputerBuildSlot slot) {
+        switch (slot) {
+            case CPU -> computer.setCpu(null);
+            case PSU -> computer.setPsu(null);
+            case COOLER -> computer.setCooler(null);
+            case MOTHERBOARD -> computer.setMotherboard(null);
+            case GRAPHICS_CARD -> computer.setGraphicsCard(null);
+            case COMPUTER_CASE -> computer.setComputerCase(null);
+            case RAM_MODULES -> computer.getRamModules().clear();
+            case FANS -> computer.getFans().clear();
+            case HDDS -> computer.getHdds().clear();
+            case SSDS -> computer.getSsds().clear();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package ru.bukhtaev.service.checker;
+
+import ru.bukhtaev.model.*;
+
+/**
+ * Оценка сходства характеристик двух комплектующих одного типа.
+ * Комплектующее сводится к набору числовых характеристик, для каждой характеристики
+ * вычисляется относительное расхождение, а сходство равно единице минус среднее расхождение.
+ */
+final class SpecSimilarity {
+
+    /**
+     * Только для статического использования.
+     */
+    private SpecSimilarity() {
+    }
+
+    /**
+     * Вычисляет сходство характеристик комплектующих.
+     *
+     * @param original    исходное комплектующее
+     * @param replacement комплектующее-замена
+     * @return сходство от 0 (характеристики сильно различаются) до 1 (совпадают)
+     */
+    static double of(final BaseEntity original, final BaseEntity replacement) {
+        final int[] originalSpecs = specs(original);
+        final int[] replacementSpecs = specs(replacement);
+        if (originalSpecs.length == 0 || originalSpecs.length != replacementSpecs.length) {
+            return 0;
+        }
+
+        double distance = 0;
+        for (int i = 0; i < originalSpecs.length; i++) {
+            final int scale = Math.max(1, Math.max(Math.abs(originalSpecs[i]), Math.abs(replacementSpecs[i])));
+            distance += Math.abs(originalSpecs[i] - replacementSpecs[i]) / (double) scale;
+        }
+        return 1 - distance / originalSpecs.length;
+    }
+
+    /**
+     * Возвращает числовые характеристики комплектующего.
+     *
+     * @param component комплектующее
+     * @return числовые характеристики или пустой массив для комплектующих других типов
+     */
+    private static int[] specs(final BaseEntity component) {
+        if (component instanceof Cpu cpu) {
+            return new int[]{
+                    cpu.getCoreCount(),
+                    cpu.getThreadCount(),
+                    cpu.getBaseClock(),
+                    cpu.getMaxClock(),
+                    cpu.getL3CacheSize(),
+                    cpu.getMaxTdp()
+            };
+        }
+        if (component instanceof Motherboard motherboard) {
+            return new int[]{
+                    motherboard.getMaxMemoryClock(),
+                    motherboard.getMaxMemoryOverClock(),
+                    motherboard.getMaxMemorySize(),
+                    motherboard.getSlotsCount()
+            };
+        }
+        if (component instanceof RamModule module) {
+            return new int[]{
+                    module.getCapacity(),
+                    module.getClock()
+            };
+        }
+        if (component instanceof Cooler cooler) {
+            return new int[]{
+                    cooler.getPowerDissipation(),
+                    cooler.getHeight()
+            };
+        }
+        if (component instanceof GraphicsCard graphicsCard) {
+            return new int[]{
+                    graphicsCard.getLength(),
+                    graphicsCard.getGpu().getMemorySize(),
+                    graphicsCard.getGpu().getPowerConsumption()
+            };
+        }
+        if (component instanceof Psu psu) {
+            return new int[]{
+                    psu.getPower(),
+                    psu.getPower12V(),
+                    psu.getLength()
+            };
+        }
+        if (component instanceof ComputerCase computerCase) {
+            return new int[]{
+                    computerCase.getMaxPsuLength(),
+                    computerCase.getMaxGraphicsCardLength(),
+                    computerCase.getMaxCoolerHeight()
+            };
+        }
+        return new int[0];
+    }
+}
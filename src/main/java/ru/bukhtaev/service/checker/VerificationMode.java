@@ -0,0 +1,27 @@
+package ru.bukhtaev.service.checker;
+
+/**
+ * Режим проверки сборки ПК.
+ */
+public enum VerificationMode {
+
+    /**
+     * Выполняются все сервисы проверки:
+     * на законченность, совместимость комплектующих и оптимальность.
+     */
+    FULL,
+
+    /**
+     * Выполняются только сервисы проверки, обнаруживающие блокирующие нарушения
+     * (на законченность и совместимость комплектующих).
+     * Предупреждения об оптимальности не формируются.
+     */
+    BLOCKING_ONLY,
+
+    /**
+     * Сервисы проверки, обнаруживающие блокирующие нарушения, выполняются
+     * последовательно в порядке возрастания стоимости до первого нарушения.
+     * Результат содержит не более одного нарушения.
+     */
+    FIRST_VIOLATION
+}
@@ -0,0 +1,17 @@
+package ru.bukhtaev.service.checker;
+
+/**
+ * Критичность нарушения, обнаруженного при проверке сборки ПК.
+ */
+public enum ViolationSeverity {
+
+    /**
+     * Ошибка: сборка ПК не законченна или комплектующие несовместимы.
+     */
+    ERROR,
+
+    /**
+     * Предупреждение: сборка ПК работоспособна, но не оптимальна.
+     */
+    WARNING
+}
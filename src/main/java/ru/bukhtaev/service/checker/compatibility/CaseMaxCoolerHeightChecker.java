@@ -2,14 +2,15 @@ package ru.bukhtaev.service.checker.compatibility;
 
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import ru.bukhtaev.model.ComputerBuild;
-import ru.bukhtaev.model.ComputerCase;
-import ru.bukhtaev.model.Cooler;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildRule;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.Optional;
+import java.util.EnumSet;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CASE_MAX_COOLER_HEIGHT_EXCEEDING;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COOLER;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COMPUTER_CASE;
 
 /**
  * Сервис проверки корпуса.
@@ -17,8 +18,23 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CASE_MAX_COOLER_HEIGHT_
  * не превышает максимальной высоты устанавливаемого процессорного кулера корпуса.
  */
 @Order(1150)
+@CheckedSlots({COOLER, COMPUTER_CASE})
 @Component
-public class CaseMaxCoolerHeightChecker extends ICompatibilityChecker {
+public class CaseMaxCoolerHeightChecker extends IRuleCompatibilityChecker {
+
+    /**
+     * Правило проверки.
+     */
+    private static final ComputerBuildRule RULE = ComputerBuildRule.of(
+            MESSAGE_CODE_CASE_MAX_COOLER_HEIGHT_EXCEEDING,
+            EnumSet.of(COOLER, COMPUTER_CASE),
+            facts -> facts.getComputer().getCooler().getHeight()
+                    > facts.getComputer().getComputerCase().getMaxCoolerHeight(),
+            facts -> new Object[]{
+                    facts.getComputer().getCooler().getHeight(),
+                    facts.getComputer().getComputerCase().getMaxCoolerHeight()
+            }
+    );
 
     /**
      * Конструктор.
@@ -26,31 +42,6 @@ public class CaseMaxCoolerHeightChecker extends ICompatibilityChecker {
      * @param translator сервис предоставления сообщений
      */
     protected CaseMaxCoolerHeightChecker(final Translator translator) {
-        super(translator);
-    }
-
-    @Override
-    public Optional<String> check(final ComputerBuild computer) {
-
-        final Cooler cooler = computer.getCooler();
-        final ComputerCase computerCase = computer.getComputerCase();
-
-        if (cooler == null
-                || computerCase == null) {
-            return Optional.empty();
-        }
-
-        final int coolerHeight = cooler.getHeight();
-        final int caseMaxCoolerHeight = computerCase.getMaxCoolerHeight();
-
-        if (coolerHeight > caseMaxCoolerHeight) {
-            return Optional.of(translator.getMessage(
-                    MESSAGE_CODE_CASE_MAX_COOLER_HEIGHT_EXCEEDING,
-                    coolerHeight,
-                    caseMaxCoolerHeight
-            ));
-        }
-
-        return Optional.empty();
+        super(translator, RULE);
     }
 }
@@ -5,11 +5,17 @@ import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.ComputerCase;
 import ru.bukhtaev.model.GraphicsCard;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.PairwiseCompatibilityService;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CASE_MAX_GRAPHICS_CARD_LENGTH_EXCEEDING;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.GRAPHICS_CARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COMPUTER_CASE;
+import static ru.bukhtaev.service.checker.PairwiseRule.CASE_GRAPHICS_CARD_LENGTH;
 
 /**
  * Сервис проверки корпуса.
@@ -17,20 +23,31 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CASE_MAX_GRAPHICS_CARD_
  * не превышает максимальной длины устанавливаемой видеокарты корпуса.
  */
 @Order(950)
+@CheckedSlots({GRAPHICS_CARD, COMPUTER_CASE})
 @Component
 public class CaseMaxGraphicsCardLengthChecker extends ICompatibilityChecker {
 
+    /**
+     * Сервис матриц попарной совместимости комплектующих.
+     */
+    private final PairwiseCompatibilityService pairwiseService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator      сервис предоставления сообщений
+     * @param pairwiseService сервис матриц попарной совместимости комплектующих
      */
-    protected CaseMaxGraphicsCardLengthChecker(final Translator translator) {
+    protected CaseMaxGraphicsCardLengthChecker(
+            final Translator translator,
+            final PairwiseCompatibilityService pairwiseService
+    ) {
         super(translator);
+        this.pairwiseService = pairwiseService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final GraphicsCard graphicsCard = computer.getGraphicsCard();
         final ComputerCase computerCase = computer.getComputerCase();
@@ -43,12 +60,12 @@ public class CaseMaxGraphicsCardLengthChecker extends ICompatibilityChecker {
         final int graphicsCardLength = graphicsCard.getLength();
         final int caseMaxGraphicsCardLength = computerCase.getMaxGraphicsCardLength();
 
-        if (graphicsCardLength > caseMaxGraphicsCardLength) {
-            return Optional.of(translator.getMessage(
+        if (!pairwiseService.isCompatible(CASE_GRAPHICS_CARD_LENGTH, computerCase, graphicsCard)) {
+            return violation(
                     MESSAGE_CODE_CASE_MAX_GRAPHICS_CARD_LENGTH_EXCEEDING,
                     graphicsCardLength,
                     caseMaxGraphicsCardLength
-            ));
+            );
         }
 
         return Optional.empty();
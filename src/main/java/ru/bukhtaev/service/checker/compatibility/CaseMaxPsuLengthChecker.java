@@ -2,14 +2,15 @@ package ru.bukhtaev.service.checker.compatibility;
 
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import ru.bukhtaev.model.ComputerBuild;
-import ru.bukhtaev.model.ComputerCase;
-import ru.bukhtaev.model.Psu;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildRule;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.Optional;
+import java.util.EnumSet;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CASE_MAX_PSU_LENGTH_EXCEEDING;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.PSU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COMPUTER_CASE;
 
 /**
  * Сервис проверки корпуса.
@@ -17,8 +18,23 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CASE_MAX_PSU_LENGTH_EXC
  * максимальной длины устанавливаемого блока питания корпуса.
  */
 @Order(1100)
+@CheckedSlots({PSU, COMPUTER_CASE})
 @Component
-public class CaseMaxPsuLengthChecker extends ICompatibilityChecker {
+public class CaseMaxPsuLengthChecker extends IRuleCompatibilityChecker {
+
+    /**
+     * Правило проверки.
+     */
+    private static final ComputerBuildRule RULE = ComputerBuildRule.of(
+            MESSAGE_CODE_CASE_MAX_PSU_LENGTH_EXCEEDING,
+            EnumSet.of(PSU, COMPUTER_CASE),
+            facts -> facts.getComputer().getPsu().getLength()
+                    > facts.getComputer().getComputerCase().getMaxPsuLength(),
+            facts -> new Object[]{
+                    facts.getComputer().getPsu().getLength(),
+                    facts.getComputer().getComputerCase().getMaxPsuLength()
+            }
+    );
 
     /**
      * Конструктор.
@@ -26,31 +42,6 @@ public class CaseMaxPsuLengthChecker extends ICompatibilityChecker {
      * @param translator сервис предоставления сообщений
      */
     protected CaseMaxPsuLengthChecker(final Translator translator) {
-        super(translator);
-    }
-
-    @Override
-    public Optional<String> check(final ComputerBuild computer) {
-
-        final Psu psu = computer.getPsu();
-        final ComputerCase computerCase = computer.getComputerCase();
-
-        if (psu == null
-                || computerCase == null) {
-            return Optional.empty();
-        }
-
-        final int psuLength = psu.getLength();
-        final int caseMaxPsuLength = computerCase.getMaxPsuLength();
-
-        if (psuLength > caseMaxPsuLength) {
-            return Optional.of(translator.getMessage(
-                    MESSAGE_CODE_CASE_MAX_PSU_LENGTH_EXCEEDING,
-                    psuLength,
-                    caseMaxPsuLength
-            ));
-        }
-
-        return Optional.empty();
+        super(translator, RULE);
     }
 }
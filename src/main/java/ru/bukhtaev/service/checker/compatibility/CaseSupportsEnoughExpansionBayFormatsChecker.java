@@ -8,17 +8,19 @@ import ru.bukhtaev.model.cross.ComputerBuildToHdd;
 import ru.bukhtaev.model.cross.ComputerBuildToSsd;
 import ru.bukhtaev.model.cross.ComputerCaseToExpansionBayFormat;
 import ru.bukhtaev.model.dictionary.ExpansionBayFormat;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.ResourceMatcher;
 import ru.bukhtaev.i18n.Translator;
 
 import java.text.MessageFormat;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_NOT_ENOUGH_EXPANSION_BAY_FORMATS;
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_TWO_PART_NAME;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COMPUTER_CASE;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.HDDS;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.SSDS;
 
 /**
  * Сервис проверки корпуса.
@@ -26,6 +28,7 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_TWO_PART_NAME;
  * для всех включенных в сборку жестких дисков и SSD-накопителей.
  */
 @Order(1250)
+@CheckedSlots({COMPUTER_CASE, HDDS, SSDS})
 @Component
 public class CaseSupportsEnoughExpansionBayFormatsChecker extends ICompatibilityChecker {
 
@@ -39,7 +42,7 @@ public class CaseSupportsEnoughExpansionBayFormatsChecker extends ICompatibility
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final ComputerCase computerCase = computer.getComputerCase();
         final var computerToHdds = computer.getHdds();
@@ -54,96 +57,35 @@ public class CaseSupportsEnoughExpansionBayFormatsChecker extends ICompatibility
             return Optional.empty();
         }
 
-        final var availableFormats = computerCase.getExpansionBayFormats()
-                .stream()
-                .collect(Collectors.toMap(
-                        ComputerCaseToExpansionBayFormat::getExpansionBayFormat,
-                        ComputerCaseToExpansionBayFormat::getCount,
-                        Integer::sum
-                ));
-
-        final var hddFormats = computerToHdds
-                .stream()
-                .collect(Collectors.toMap(
-                        mtc -> mtc.getHdd().getExpansionBayFormat(),
-                        ComputerBuildToHdd::getCount,
-                        Integer::sum
-                ));
-
-        final var ssdFormats = computerToSsds
-                .stream()
-                .filter(cts -> cts.getSsd().getExpansionBayFormat() != null)
-                .collect(Collectors.toMap(
-                        mtc -> mtc.getSsd().getExpansionBayFormat(),
-                        ComputerBuildToSsd::getCount,
-                        Integer::sum
-                ));
-
-        final Map<ExpansionBayFormat, Integer> neededFormats = new HashMap<>(hddFormats);
-
-        for (final var entry : ssdFormats.entrySet()) {
-            final ExpansionBayFormat format = entry.getKey();
-            final Integer count = entry.getValue();
-
-            neededFormats.merge(
-                    format,
-                    count,
-                    Integer::sum
-            );
+        final ResourceMatcher matcher = ResourceMatcher.acquire();
+        for (final ComputerCaseToExpansionBayFormat item : computerCase.getExpansionBayFormats()) {
+            matcher.supply(item.getExpansionBayFormat().getId(), item.getCount());
+        }
+        for (final ComputerBuildToHdd item : computerToHdds) {
+            matcher.demand(item.getHdd().getExpansionBayFormat().getId(), item.getCount());
+        }
+        for (final ComputerBuildToSsd item : computerToSsds) {
+            final ExpansionBayFormat format = item.getSsd().getExpansionBayFormat();
+            if (format != null) {
+                matcher.demand(format.getId(), item.getCount());
+            }
         }
 
-        bookMatchingFormats(neededFormats, availableFormats);
+        final boolean matched = matcher.matchesExactly();
 
-        if (!neededFormats.isEmpty()) {
+        if (!matched) {
             final String caseName = MessageFormat.format(
                     MESSAGE_TEMPLATE_TWO_PART_NAME,
                     computerCase.getVendor().getName(),
                     computerCase.getName()
             );
 
-            return Optional.of(translator.getMessage(
+            return violation(
                     MESSAGE_CODE_NOT_ENOUGH_EXPANSION_BAY_FORMATS,
                     caseName
-            ));
+            );
         }
 
         return Optional.empty();
     }
-
-    /**
-     * Бронирует доступные форматы отсеков расширения.
-     *
-     * @param neededFormats    необходимые форматы отсеков расширения
-     * @param availableFormats доступные форматы отсеков расширения
-     */
-    private void bookMatchingFormats(
-            final Map<ExpansionBayFormat, Integer> neededFormats,
-            final Map<ExpansionBayFormat, Integer> availableFormats
-    ) {
-        Set.copyOf(neededFormats.entrySet()).forEach(entry -> {
-            final ExpansionBayFormat neededFormat = entry.getKey();
-            final int neededCount = entry.getValue();
-
-            final int availableCount = availableFormats.getOrDefault(neededFormat, 0);
-
-            if (neededCount == availableCount) {
-                neededFormats.remove(neededFormat);
-                availableFormats.remove(neededFormat);
-
-            } else if (neededCount > availableCount) {
-                availableFormats.remove(neededFormat);
-                neededFormats.put(
-                        neededFormat,
-                        neededCount - availableCount
-                );
-
-            } else {
-                availableFormats.put(
-                        neededFormat,
-                        availableCount - neededCount
-                );
-                neededFormats.remove(neededFormat);
-            }
-        });
-    }
-}
\ No newline at end of file
+}
@@ -6,17 +6,18 @@ import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.ComputerCase;
 import ru.bukhtaev.model.cross.ComputerBuildToFan;
 import ru.bukhtaev.model.cross.ComputerCaseToFanSize;
-import ru.bukhtaev.model.dictionary.FanSize;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.ResourceMatcher;
 import ru.bukhtaev.i18n.Translator;
 
 import java.text.MessageFormat;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_NOT_ENOUGH_FAN_SIZES;
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_TWO_PART_NAME;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COMPUTER_CASE;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.FANS;
 
 /**
  * Сервис проверки корпуса.
@@ -24,6 +25,7 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_TWO_PART_NAME;
  * для всех включенных в сборку вентиляторов.
  */
 @Order(1200)
+@CheckedSlots({COMPUTER_CASE, FANS})
 @Component
 public class CaseSupportsEnoughFanSizesChecker extends ICompatibilityChecker {
 
@@ -37,7 +39,7 @@ public class CaseSupportsEnoughFanSizesChecker extends ICompatibilityChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final ComputerCase computerCase = computer.getComputerCase();
         final var computerToFans = computer.getFans();
@@ -49,74 +51,29 @@ public class CaseSupportsEnoughFanSizesChecker extends ICompatibilityChecker {
             return Optional.empty();
         }
 
-        final var availableSizes = computerCase.getFanSizes()
-                .stream()
-                .collect(Collectors.toMap(
-                        ComputerCaseToFanSize::getFanSize,
-                        ComputerCaseToFanSize::getCount,
-                        Integer::sum
-                ));
-
-        final var neededSizes = computerToFans
-                .stream()
-                .collect(Collectors.toMap(
-                        ctf -> ctf.getFan().getSize(),
-                        ComputerBuildToFan::getCount,
-                        Integer::sum
-                ));
+        final ResourceMatcher matcher = ResourceMatcher.acquire();
+        for (final ComputerCaseToFanSize item : computerCase.getFanSizes()) {
+            matcher.supply(item.getFanSize().getId(), item.getCount());
+        }
+        for (final ComputerBuildToFan item : computerToFans) {
+            matcher.demand(item.getFan().getSize().getId(), item.getCount());
+        }
 
-        bookMatchingSizes(neededSizes, availableSizes);
+        final boolean matched = matcher.matchesExactly();
 
-        if (!neededSizes.isEmpty()) {
+        if (!matched) {
             final String caseName = MessageFormat.format(
                     MESSAGE_TEMPLATE_TWO_PART_NAME,
                     computerCase.getVendor().getName(),
                     computerCase.getName()
             );
 
-            return Optional.of(translator.getMessage(
+            return violation(
                     MESSAGE_CODE_NOT_ENOUGH_FAN_SIZES,
                     caseName
-            ));
+            );
         }
 
         return Optional.empty();
     }
-
-    /**
-     * Бронирует доступные размеры вентиляторов.
-     *
-     * @param neededSizes    необходимые размеры вентиляторов
-     * @param availableSizes доступные размеры вентиляторов
-     */
-    private void bookMatchingSizes(
-            final Map<FanSize, Integer> neededSizes,
-            final Map<FanSize, Integer> availableSizes
-    ) {
-        Set.copyOf(neededSizes.entrySet()).forEach(entry -> {
-            final FanSize neededSize = entry.getKey();
-            final int neededCount = entry.getValue();
-
-            final int availableCount = availableSizes.getOrDefault(neededSize, 0);
-
-            if (neededCount == availableCount) {
-                neededSizes.remove(neededSize);
-                availableSizes.remove(neededSize);
-
-            } else if (neededCount > availableCount) {
-                availableSizes.remove(neededSize);
-                neededSizes.put(
-                        neededSize,
-                        neededCount - availableCount
-                );
-
-            } else {
-                availableSizes.put(
-                        neededSize,
-                        availableCount - neededCount
-                );
-                neededSizes.remove(neededSize);
-            }
-        });
-    }
 }
@@ -5,14 +5,18 @@ import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.Cooler;
 import ru.bukhtaev.model.Motherboard;
-import ru.bukhtaev.model.NameableEntity;
+import ru.bukhtaev.model.dictionary.FanPowerConnector;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.ConnectorCompatibilityGraph;
+import ru.bukhtaev.service.checker.ConnectorCompatibilityGraphService;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.HashSet;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_COOLER_POWER_CONNECTOR;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COOLER;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
 
 /**
  * Сервис проверки материнской платы.
@@ -20,20 +24,31 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_COOLER_POW
  * коннектору питания процессорного кулера на материнской плате.
  */
 @Order(600)
+@CheckedSlots({COOLER, MOTHERBOARD})
 @Component
 public class CoolerPowerConnectorChecker extends ICompatibilityChecker {
 
+    /**
+     * Сервис графа совместимости коннекторов.
+     */
+    private final ConnectorCompatibilityGraphService graphService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator   сервис предоставления сообщений
+     * @param graphService сервис графа совместимости коннекторов
      */
-    protected CoolerPowerConnectorChecker(final Translator translator) {
+    protected CoolerPowerConnectorChecker(
+            final Translator translator,
+            final ConnectorCompatibilityGraphService graphService
+    ) {
         super(translator);
+        this.graphService = graphService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final Motherboard motherboard = computer.getMotherboard();
         final Cooler cooler = computer.getCooler();
@@ -45,21 +60,13 @@ public class CoolerPowerConnectorChecker extends ICompatibilityChecker {
         final var motherboardConnector = motherboard.getCoolerPowerConnector();
         final var coolerConnector = cooler.getPowerConnector();
 
-        final var compatibleConnectors = motherboardConnector.getCompatibleConnectors();
-        if (!motherboardConnector.equals(coolerConnector)
-                && !compatibleConnectors.contains(coolerConnector)
-        ) {
-            final var motherboardConnectors = new HashSet<>(compatibleConnectors)
-                    .stream()
-                    .map(NameableEntity::getName)
-                    .collect(Collectors.toSet());
-            motherboardConnectors.add(motherboardConnector.getName());
-
-            return Optional.of(translator.getMessage(
+        final ConnectorCompatibilityGraph graph = graphService.getGraph();
+        if (!graph.accepts(FanPowerConnector.class, motherboardConnector.getId(), coolerConnector.getId())) {
+            return violation(
                     MESSAGE_CODE_INCOMPATIBLE_COOLER_POWER_CONNECTOR,
-                    motherboardConnectors.toString(),
+                    graph.getAcceptedNames(FanPowerConnector.class, motherboardConnector).toString(),
                     coolerConnector.getName()
-            ));
+            );
         }
 
         return Optional.empty();
@@ -5,31 +5,48 @@ import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.Cooler;
 import ru.bukhtaev.model.Cpu;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.PairwiseCompatibilityService;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CPU_OVERHEAT;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COOLER;
+import static ru.bukhtaev.service.checker.PairwiseRule.CPU_COOLER_POWER_DISSIPATION;
 
 /**
  * Сервис проверки процессорного кулера.
  * Проверяет, что процессорный кулер способен охладить процессор.
  */
 @Order(500)
+@CheckedSlots({CPU, COOLER})
 @Component
 public class CoolerPowerDissipationChecker extends ICompatibilityChecker {
 
+    /**
+     * Сервис матриц попарной совместимости комплектующих.
+     */
+    private final PairwiseCompatibilityService pairwiseService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator      сервис предоставления сообщений
+     * @param pairwiseService сервис матриц попарной совместимости комплектующих
      */
-    protected CoolerPowerDissipationChecker(final Translator translator) {
+    protected CoolerPowerDissipationChecker(
+            final Translator translator,
+            final PairwiseCompatibilityService pairwiseService
+    ) {
         super(translator);
+        this.pairwiseService = pairwiseService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final Cpu cpu = computer.getCpu();
         final Cooler cooler = computer.getCooler();
@@ -41,12 +58,12 @@ public class CoolerPowerDissipationChecker extends ICompatibilityChecker {
         final int cpuMaxTdp = cpu.getMaxTdp();
         final int coolerPowerDissipation = cooler.getPowerDissipation();
 
-        if (cpuMaxTdp > coolerPowerDissipation) {
-            return Optional.of(translator.getMessage(
+        if (!pairwiseService.isCompatible(CPU_COOLER_POWER_DISSIPATION, cpu, cooler)) {
+            return violation(
                     MESSAGE_CODE_CPU_OVERHEAT,
                     coolerPowerDissipation,
                     cpuMaxTdp
-            ));
+            );
         }
 
         return Optional.empty();
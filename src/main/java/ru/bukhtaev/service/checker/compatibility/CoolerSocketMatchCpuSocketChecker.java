@@ -6,12 +6,18 @@ import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.Cooler;
 import ru.bukhtaev.model.Cpu;
 import ru.bukhtaev.model.NameableEntity;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.PairwiseCompatibilityService;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_COOLER_SOCKETS;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COOLER;
+import static ru.bukhtaev.service.checker.PairwiseRule.CPU_COOLER_SOCKET;
 
 /**
  * Сервис проверки процессорного кулера.
@@ -19,20 +25,31 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_COOLER_SOC
  * содержат сокет процессора.
  */
 @Order(250)
+@CheckedSlots({CPU, COOLER})
 @Component
 public class CoolerSocketMatchCpuSocketChecker extends ICompatibilityChecker {
 
+    /**
+     * Сервис матриц попарной совместимости комплектующих.
+     */
+    private final PairwiseCompatibilityService pairwiseService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator      сервис предоставления сообщений
+     * @param pairwiseService сервис матриц попарной совместимости комплектующих
      */
-    protected CoolerSocketMatchCpuSocketChecker(final Translator translator) {
+    protected CoolerSocketMatchCpuSocketChecker(
+            final Translator translator,
+            final PairwiseCompatibilityService pairwiseService
+    ) {
         super(translator);
+        this.pairwiseService = pairwiseService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final Cpu cpu = computer.getCpu();
         final Cooler cooler = computer.getCooler();
@@ -46,16 +63,16 @@ public class CoolerSocketMatchCpuSocketChecker extends ICompatibilityChecker {
         final var cpuSocket = cpu.getSocket();
         final var coolerSockets = cooler.getSupportedSockets();
 
-        if (!coolerSockets.contains(cpuSocket)) {
+        if (!pairwiseService.isCompatible(CPU_COOLER_SOCKET, cpu, cooler)) {
             final var coolerSocketNames = coolerSockets.stream()
                     .map(NameableEntity::getName)
                     .collect(Collectors.toSet());
 
-            return Optional.of(translator.getMessage(
+            return violation(
                     MESSAGE_CODE_INCOMPATIBLE_COOLER_SOCKETS,
                     coolerSocketNames.toString(),
                     cpuSocket.getName()
-            ));
+            );
         }
 
         return Optional.empty();
@@ -7,14 +7,20 @@ import ru.bukhtaev.model.Motherboard;
 import ru.bukhtaev.model.NameableEntity;
 import ru.bukhtaev.model.Psu;
 import ru.bukhtaev.model.cross.PsuToCpuPowerConnector;
+import ru.bukhtaev.model.dictionary.CpuPowerConnector;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.ConnectorCompatibilityGraph;
+import ru.bukhtaev.service.checker.ConnectorCompatibilityGraphService;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.HashSet;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
-import static org.springframework.util.CollectionUtils.containsAny;
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_CPU_POWER_CONNECTOR;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.PSU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
 
 /**
  * Сервис проверки блока питания.
@@ -22,20 +28,31 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_CPU_POWER_
  * одному из поддерживаемых блоком питания коннекторов питания процессора.
  */
 @Order(750)
+@CheckedSlots({PSU, MOTHERBOARD})
 @Component
 public class CpuPowerConnectorChecker extends ICompatibilityChecker {
 
+    /**
+     * Сервис графа совместимости коннекторов.
+     */
+    private final ConnectorCompatibilityGraphService graphService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator   сервис предоставления сообщений
+     * @param graphService сервис графа совместимости коннекторов
      */
-    protected CpuPowerConnectorChecker(final Translator translator) {
+    protected CpuPowerConnectorChecker(
+            final Translator translator,
+            final ConnectorCompatibilityGraphService graphService
+    ) {
         super(translator);
+        this.graphService = graphService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final Motherboard motherboard = computer.getMotherboard();
         final Psu psu = computer.getPsu();
@@ -44,34 +61,29 @@ public class CpuPowerConnectorChecker extends ICompatibilityChecker {
             return Optional.empty();
         }
 
+        final ConnectorCompatibilityGraph graph = graphService.getGraph();
         final var motherboardConnector = motherboard.getCpuPowerConnector();
 
-        final var psuConnectors = psu.getCpuPowerConnectors()
+        for (final PsuToCpuPowerConnector psuToConnector : psu.getCpuPowerConnectors()) {
+            if (graph.accepts(
+                    CpuPowerConnector.class,
+                    motherboardConnector.getId(),
+                    psuToConnector.getCpuPowerConnector().getId()
+            )) {
+                return Optional.empty();
+            }
+        }
+
+        final var psuConnectorNames = psu.getCpuPowerConnectors()
                 .stream()
                 .map(PsuToCpuPowerConnector::getCpuPowerConnector)
-                .collect(Collectors.toSet());
-
-        final var compatibleConnectors = motherboardConnector.getCompatibleConnectors();
-        if (!psuConnectors.contains(motherboardConnector)
-                && !containsAny(compatibleConnectors, psuConnectors)
-        ) {
-            final var motherboardConnectors = new HashSet<>(compatibleConnectors)
-                    .stream()
-                    .map(NameableEntity::getName)
-                    .collect(Collectors.toSet());
-            motherboardConnectors.add(motherboardConnector.getName());
-
-            final var psuConnectorNames = psuConnectors.stream()
-                    .map(NameableEntity::getName)
-                    .collect(Collectors.toSet());
-
-            return Optional.of(translator.getMessage(
-                    MESSAGE_CODE_INCOMPATIBLE_CPU_POWER_CONNECTOR,
-                    psuConnectorNames.toString(),
-                    motherboardConnectors.toString()
-            ));
-        }
+                .map(NameableEntity::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
 
-        return Optional.empty();
+        return violation(
+                MESSAGE_CODE_INCOMPATIBLE_CPU_POWER_CONNECTOR,
+                psuConnectorNames.toString(),
+                graph.getAcceptedNames(CpuPowerConnector.class, motherboardConnector).toString()
+        );
     }
 }
@@ -0,0 +1,57 @@
+package ru.bukhtaev.service.checker.compatibility;
+
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildFacts;
+import ru.bukhtaev.service.checker.ComputerBuildRule;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+
+import java.util.Optional;
+
+/**
+ * Абстрактный сервис проверки сборки ПК на совместимость комплектующих,
+ * заданный декларативным правилом {@link ComputerBuildRule}.
+ * Правило пропускается, если не заполнен хотя бы один из объявленных им обязательных слотов,
+ * а значения сборки ПК берутся из общих для всех правил {@link ComputerBuildFacts}.
+ * Обязательные слоты правила должны входить в читаемые слоты {@link CheckedSlots} сервиса.
+ */
+public abstract class IRuleCompatibilityChecker extends ICompatibilityChecker {
+
+    /**
+     * Правило проверки.
+     */
+    private final ComputerBuildRule rule;
+
+    /**
+     * Конструктор.
+     *
+     * @param translator сервис предоставления сообщений
+     * @param rule       правило проверки
+     */
+    protected IRuleCompatibilityChecker(final Translator translator, final ComputerBuildRule rule) {
+        super(translator);
+        this.rule = rule;
+
+        if (!getSlots().containsAll(rule.getRequiredSlots())) {
+            throw new IllegalStateException(
+                    "Required slots " + rule.getRequiredSlots() + " of " + getClass().getSimpleName()
+                            + " are not declared in @CheckedSlots " + getSlots()
+            );
+        }
+    }
+
+    @Override
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
+        return check(ComputerBuildFacts.of(computer));
+    }
+
+    @Override
+    public Optional<ComputerBuildViolation> check(final ComputerBuildFacts facts) {
+        if (!rule.isApplicable(facts) || !rule.isViolated(facts)) {
+            return Optional.empty();
+        }
+
+        return violation(rule.getCode(), rule.args(facts));
+    }
+}
@@ -4,15 +4,19 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.Motherboard;
-import ru.bukhtaev.model.NameableEntity;
 import ru.bukhtaev.model.Psu;
+import ru.bukhtaev.model.dictionary.MainPowerConnector;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.ConnectorCompatibilityGraph;
+import ru.bukhtaev.service.checker.ConnectorCompatibilityGraphService;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.HashSet;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_MAIN_POWER_CONNECTOR;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.PSU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
 
 /**
  * Сервис проверки блока питания.
@@ -20,20 +24,31 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_MAIN_POWER
  * соответствует основному коннектору питания в блоке питания.
  */
 @Order(700)
+@CheckedSlots({PSU, MOTHERBOARD})
 @Component
 public class MainPowerConnectorChecker extends ICompatibilityChecker {
 
+    /**
+     * Сервис графа совместимости коннекторов.
+     */
+    private final ConnectorCompatibilityGraphService graphService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator   сервис предоставления сообщений
+     * @param graphService сервис графа совместимости коннекторов
      */
-    protected MainPowerConnectorChecker(final Translator translator) {
+    protected MainPowerConnectorChecker(
+            final Translator translator,
+            final ConnectorCompatibilityGraphService graphService
+    ) {
         super(translator);
+        this.graphService = graphService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final Motherboard motherboard = computer.getMotherboard();
         final Psu psu = computer.getPsu();
@@ -45,21 +60,13 @@ public class MainPowerConnectorChecker extends ICompatibilityChecker {
         final var motherboardConnector = motherboard.getMainPowerConnector();
         final var psuConnector = psu.getMainPowerConnector();
 
-        final var compatibleConnectors = motherboardConnector.getCompatibleConnectors();
-        if (!motherboardConnector.equals(psuConnector)
-                && !compatibleConnectors.contains(psuConnector)
-        ) {
-            final var motherboardConnectors = new HashSet<>(compatibleConnectors)
-                    .stream()
-                    .map(NameableEntity::getName)
-                    .collect(Collectors.toSet());
-            motherboardConnectors.add(motherboardConnector.getName());
-
-            return Optional.of(translator.getMessage(
+        final ConnectorCompatibilityGraph graph = graphService.getGraph();
+        if (!graph.accepts(MainPowerConnector.class, motherboardConnector.getId(), psuConnector.getId())) {
+            return violation(
                     MESSAGE_CODE_INCOMPATIBLE_MAIN_POWER_CONNECTOR,
-                    motherboardConnectors.toString(),
+                    graph.getAcceptedNames(MainPowerConnector.class, motherboardConnector).toString(),
                     psuConnector.getName()
-            ));
+            );
         }
 
         return Optional.empty();
@@ -6,12 +6,18 @@ import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.ComputerCase;
 import ru.bukhtaev.model.Motherboard;
 import ru.bukhtaev.model.NameableEntity;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.PairwiseCompatibilityService;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_FORM_FACTOR;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COMPUTER_CASE;
+import static ru.bukhtaev.service.checker.PairwiseRule.CASE_MOTHERBOARD_FORM_FACTOR;
 
 /**
  * Сервис проверки материнской платы.
@@ -19,20 +25,31 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_MOTHERBOAR
  * одному из поддерживаемых корпусом форм-факторов материнских плат.
  */
 @Order(550)
+@CheckedSlots({MOTHERBOARD, COMPUTER_CASE})
 @Component
 public class MotherboardFormFactorChecker extends ICompatibilityChecker {
 
+    /**
+     * Сервис матриц попарной совместимости комплектующих.
+     */
+    private final PairwiseCompatibilityService pairwiseService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator      сервис предоставления сообщений
+     * @param pairwiseService сервис матриц попарной совместимости комплектующих
      */
-    protected MotherboardFormFactorChecker(final Translator translator) {
+    protected MotherboardFormFactorChecker(
+            final Translator translator,
+            final PairwiseCompatibilityService pairwiseService
+    ) {
         super(translator);
+        this.pairwiseService = pairwiseService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final ComputerCase computerCase = computer.getComputerCase();
         final Motherboard motherboard = computer.getMotherboard();
@@ -46,16 +63,16 @@ public class MotherboardFormFactorChecker extends ICompatibilityChecker {
         final var caseFormFactors = computerCase.getMotherboardFormFactors();
         final var motherboardFormFactor = motherboard.getFormFactor();
 
-        if (!caseFormFactors.contains(motherboardFormFactor)) {
+        if (!pairwiseService.isCompatible(CASE_MOTHERBOARD_FORM_FACTOR, computerCase, motherboard)) {
             final var caseFormFactorNames = caseFormFactors.stream()
                     .map(NameableEntity::getName)
                     .collect(Collectors.toSet());
 
-            return Optional.of(translator.getMessage(
+            return violation(
                     MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_FORM_FACTOR,
                     caseFormFactorNames,
                     motherboardFormFactor.getName()
-            ));
+            );
         }
 
         return Optional.empty();
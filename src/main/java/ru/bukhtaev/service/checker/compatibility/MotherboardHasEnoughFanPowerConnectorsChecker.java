@@ -7,16 +7,20 @@ import ru.bukhtaev.model.Motherboard;
 import ru.bukhtaev.model.cross.ComputerBuildToFan;
 import ru.bukhtaev.model.cross.MotherboardToFanPowerConnector;
 import ru.bukhtaev.model.dictionary.FanPowerConnector;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.ConnectorCompatibilityGraph;
+import ru.bukhtaev.service.checker.ConnectorCompatibilityGraphService;
+import ru.bukhtaev.service.checker.ResourceMatcher;
 import ru.bukhtaev.i18n.Translator;
 
 import java.text.MessageFormat;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_NOT_ENOUGH_FAN_POWER_CONNECTORS;
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_THREE_PART_NAME;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.FANS;
 
 /**
  * Сервис проверки материнской платы.
@@ -24,20 +28,38 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_THREE_PART_NAME;
  * для всех включенных в сборку вентиляторов.
  */
 @Order(650)
+@CheckedSlots({MOTHERBOARD, FANS})
 @Component
 public class MotherboardHasEnoughFanPowerConnectorsChecker extends ICompatibilityChecker {
 
+    /**
+     * Совместимость коннекторов: доступный коннектор подходит к необходимому,
+     * если необходимый указан среди совместимых с ним, то есть подключение без потерь функциональности.
+     */
+    private static final ResourceMatcher.Compatibility<ConnectorCompatibilityGraph> COMPATIBILITY =
+            (graph, neededId, availableId) -> graph.isCompatible(FanPowerConnector.class, availableId, neededId);
+
+    /**
+     * Сервис графа совместимости коннекторов.
+     */
+    private final ConnectorCompatibilityGraphService graphService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator   сервис предоставления сообщений
+     * @param graphService сервис графа совместимости коннекторов
      */
-    protected MotherboardHasEnoughFanPowerConnectorsChecker(final Translator translator) {
+    protected MotherboardHasEnoughFanPowerConnectorsChecker(
+            final Translator translator,
+            final ConnectorCompatibilityGraphService graphService
+    ) {
         super(translator);
+        this.graphService = graphService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final Motherboard motherboard = computer.getMotherboard();
         final var computerToFans = computer.getFans();
@@ -49,26 +71,17 @@ public class MotherboardHasEnoughFanPowerConnectorsChecker extends ICompatibilit
             return Optional.empty();
         }
 
-        final var availableConnectors = motherboard.getFanPowerConnectors()
-                .stream()
-                .collect(Collectors.toMap(
-                        MotherboardToFanPowerConnector::getFanPowerConnector,
-                        MotherboardToFanPowerConnector::getCount,
-                        Integer::sum
-                ));
-
-        final var neededConnectors = computerToFans
-                .stream()
-                .collect(Collectors.toMap(
-                        ctf -> ctf.getFan().getPowerConnector(),
-                        ComputerBuildToFan::getCount,
-                        Integer::sum
-                ));
+        final ResourceMatcher matcher = ResourceMatcher.acquire();
+        for (final MotherboardToFanPowerConnector item : motherboard.getFanPowerConnectors()) {
+            matcher.supply(item.getFanPowerConnector().getId(), item.getCount());
+        }
+        for (final ComputerBuildToFan item : computerToFans) {
+            matcher.demand(item.getFan().getPowerConnector().getId(), item.getCount());
+        }
 
-        bookMatchingConnectors(neededConnectors, availableConnectors);
-        bookUpperConnectors(neededConnectors, availableConnectors);
+        final boolean matched = matcher.matches(graphService.getGraph(), COMPATIBILITY);
 
-        if (!neededConnectors.isEmpty()) {
+        if (!matched) {
             final String motherboardName = MessageFormat.format(
                     MESSAGE_TEMPLATE_THREE_PART_NAME,
                     motherboard.getDesign().getVendor().getName(),
@@ -76,94 +89,12 @@ public class MotherboardHasEnoughFanPowerConnectorsChecker extends ICompatibilit
                     motherboard.getName()
             );
 
-            return Optional.of(translator.getMessage(
+            return violation(
                     MESSAGE_CODE_NOT_ENOUGH_FAN_POWER_CONNECTORS,
                     motherboardName
-            ));
+            );
         }
 
         return Optional.empty();
     }
-
-    /**
-     * Бронирует те из доступных коннекторов питания вентиляторов,
-     * что не совпадают с необходимыми, но совместимы без потерь функциональности.
-     *
-     * @param neededConnectors    необходимые коннекторы питания вентиляторов
-     * @param availableConnectors доступные коннекторы питания вентиляторов
-     */
-    private void bookUpperConnectors(
-            final Map<FanPowerConnector, Integer> neededConnectors,
-            final Map<FanPowerConnector, Integer> availableConnectors
-    ) {
-        Set.copyOf(neededConnectors.entrySet()).forEach(entry -> {
-            final FanPowerConnector neededConnector = entry.getKey();
-            final int neededCount = entry.getValue();
-
-            // без потерь скорости
-            final var upperConnectors = availableConnectors.entrySet()
-                    .stream()
-                    .filter(e -> e.getValue() > 0)
-                    .filter(e -> e.getKey().getCompatibleConnectors().contains(neededConnector))
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            Map.Entry::getValue,
-                            Integer::sum
-                    ));
-
-            for (final var upper : Map.copyOf(upperConnectors).entrySet()) {
-                final FanPowerConnector upperConnector = upper.getKey();
-                final int upperCount = upper.getValue();
-
-                if (neededCount == upperCount) {
-                    upperConnectors.remove(upperConnector);
-                    neededConnectors.remove(neededConnector);
-                } else if (neededCount > upperCount) {
-                    upperConnectors.remove(upperConnector);
-                    neededConnectors.put(neededConnector, neededCount - upperCount);
-                } else {
-                    upperConnectors.put(upperConnector, upperCount - neededCount);
-                    neededConnectors.remove(neededConnector);
-                }
-            }
-        });
-    }
-
-    /**
-     * Бронирует те из доступных коннекторов питания вентиляторов,
-     * что полностью совпадают с необходимыми.
-     *
-     * @param neededConnectors    необходимые коннекторы питания вентиляторов
-     * @param availableConnectors доступные коннекторы питания вентиляторов
-     */
-    private void bookMatchingConnectors(
-            final Map<FanPowerConnector, Integer> neededConnectors,
-            final Map<FanPowerConnector, Integer> availableConnectors
-    ) {
-        Set.copyOf(neededConnectors.entrySet()).forEach(entry -> {
-            final FanPowerConnector neededConnector = entry.getKey();
-            final int neededCount = entry.getValue();
-
-            final int availableCount = availableConnectors.getOrDefault(neededConnector, 0);
-
-            if (neededCount == availableCount) {
-                neededConnectors.remove(neededConnector);
-                availableConnectors.remove(neededConnector);
-
-            } else if (neededCount > availableCount) {
-                availableConnectors.remove(neededConnector);
-                neededConnectors.put(
-                        neededConnector,
-                        neededCount - availableCount
-                );
-
-            } else {
-                availableConnectors.put(
-                        neededConnector,
-                        availableCount - neededCount
-                );
-                neededConnectors.remove(neededConnector);
-            }
-        });
-    }
 }
@@ -5,11 +5,15 @@ import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.Motherboard;
 import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_NOT_ENOUGH_RAM_SLOTS;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
 
 /**
  * Сервис проверки материнской платы.
@@ -17,6 +21,7 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_NOT_ENOUGH_RAM_SLOTS;
  * для всех включенных в сборку модулей оперативной памяти.
  */
 @Order(800)
+@CheckedSlots({MOTHERBOARD, RAM_MODULES})
 @Component
 public class MotherboardHasEnoughSlotsChecker extends ICompatibilityChecker {
 
@@ -30,7 +35,7 @@ public class MotherboardHasEnoughSlotsChecker extends ICompatibilityChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final var computerToModules = computer.getRamModules();
         final Motherboard motherboard = computer.getMotherboard();
@@ -49,11 +54,11 @@ public class MotherboardHasEnoughSlotsChecker extends ICompatibilityChecker {
         final int slotsCount = motherboard.getSlotsCount();
 
         if (modulesCount > slotsCount) {
-            return Optional.of(translator.getMessage(
+            return violation(
                     MESSAGE_CODE_NOT_ENOUGH_RAM_SLOTS,
                     slotsCount,
                     modulesCount
-            ));
+            );
         }
 
         return Optional.empty();
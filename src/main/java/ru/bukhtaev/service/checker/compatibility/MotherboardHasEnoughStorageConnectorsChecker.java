@@ -8,17 +8,21 @@ import ru.bukhtaev.model.cross.ComputerBuildToHdd;
 import ru.bukhtaev.model.cross.ComputerBuildToSsd;
 import ru.bukhtaev.model.cross.MotherboardToStorageConnector;
 import ru.bukhtaev.model.dictionary.StorageConnector;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.ConnectorOrderIndex;
+import ru.bukhtaev.service.checker.ConnectorOrderIndexService;
+import ru.bukhtaev.service.checker.ResourceMatcher;
 import ru.bukhtaev.i18n.Translator;
 
 import java.text.MessageFormat;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_NOT_ENOUGH_STORAGE_CONNECTORS;
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_THREE_PART_NAME;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.HDDS;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.SSDS;
 
 /**
  * Сервис проверки материнской платы.
@@ -26,20 +30,40 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_THREE_PART_NAME;
  * для всех включенных в сборку жестких дисков и SSD-накопителей.
  */
 @Order(50)
+@CheckedSlots({MOTHERBOARD, HDDS, SSDS})
 @Component
 public class MotherboardHasEnoughStorageConnectorsChecker extends ICompatibilityChecker {
 
+    /**
+     * Совместимость коннекторов: доступный коннектор подходит к необходимому,
+     * если сравним с ним в порядке коннекторов, то есть выше него (без потерь в скорости)
+     * или ниже него (с потерями в скорости).
+     */
+    private static final ResourceMatcher.Compatibility<ConnectorOrderIndex> COMPATIBILITY =
+            (index, neededId, availableId) -> index.isAtOrBelow(StorageConnector.class, neededId, availableId)
+                    || index.isAtOrBelow(StorageConnector.class, availableId, neededId);
+
+    /**
+     * Сервис индекса порядка коннекторов.
+     */
+    private final ConnectorOrderIndexService orderIndexService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator        сервис предоставления сообщений
+     * @param orderIndexService сервис индекса порядка коннекторов
      */
-    protected MotherboardHasEnoughStorageConnectorsChecker(final Translator translator) {
+    protected MotherboardHasEnoughStorageConnectorsChecker(
+            final Translator translator,
+            final ConnectorOrderIndexService orderIndexService
+    ) {
         super(translator);
+        this.orderIndexService = orderIndexService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final Motherboard motherboard = computer.getMotherboard();
         final var computerToHdds = computer.getHdds();
@@ -54,48 +78,20 @@ public class MotherboardHasEnoughStorageConnectorsChecker extends ICompatibility
             return Optional.empty();
         }
 
-        final var availableConnectors = motherboard.getStorageConnectors()
-                .stream()
-                .collect(Collectors.toMap(
-                        MotherboardToStorageConnector::getStorageConnector,
-                        MotherboardToStorageConnector::getCount,
-                        Integer::sum
-                ));
-
-        final var hddsConnectors = computerToHdds
-                .stream()
-                .collect(Collectors.toMap(
-                        mtc -> mtc.getHdd().getConnector(),
-                        ComputerBuildToHdd::getCount,
-                        Integer::sum
-                ));
-
-        final var ssdsConnectors = computerToSsds
-                .stream()
-                .collect(Collectors.toMap(
-                        mtc -> mtc.getSsd().getConnector(),
-                        ComputerBuildToSsd::getCount,
-                        Integer::sum
-                ));
-
-        final Map<StorageConnector, Integer> neededConnectors = new HashMap<>(hddsConnectors);
-
-        for (final var entry : ssdsConnectors.entrySet()) {
-            final StorageConnector connector = entry.getKey();
-            final Integer count = entry.getValue();
-
-            neededConnectors.merge(
-                    connector,
-                    count,
-                    Integer::sum
-            );
+        final ResourceMatcher matcher = ResourceMatcher.acquire();
+        for (final MotherboardToStorageConnector item : motherboard.getStorageConnectors()) {
+            matcher.supply(item.getStorageConnector().getId(), item.getCount());
+        }
+        for (final ComputerBuildToHdd item : computerToHdds) {
+            matcher.demand(item.getHdd().getConnector().getId(), item.getCount());
+        }
+        for (final ComputerBuildToSsd item : computerToSsds) {
+            matcher.demand(item.getSsd().getConnector().getId(), item.getCount());
         }
 
-        bookMatchingConnectors(neededConnectors, availableConnectors);
-        bookUpperConnectors(neededConnectors, availableConnectors);
-        bookLowerConnectors(neededConnectors, availableConnectors);
+        final boolean matched = matcher.matches(orderIndexService.getIndex(), COMPATIBILITY);
 
-        if (!neededConnectors.isEmpty()) {
+        if (!matched) {
             final String motherboardName = MessageFormat.format(
                     MESSAGE_TEMPLATE_THREE_PART_NAME,
                     motherboard.getDesign().getVendor().getName(),
@@ -103,136 +99,12 @@ public class MotherboardHasEnoughStorageConnectorsChecker extends ICompatibility
                     motherboard.getName()
             );
 
-            return Optional.of(translator.getMessage(
+            return violation(
                     MESSAGE_CODE_NOT_ENOUGH_STORAGE_CONNECTORS,
                     motherboardName
-            ));
+            );
         }
 
         return Optional.empty();
     }
-
-    /**
-     * Бронирует те из доступных коннекторов подключения накопителей,
-     * что не совпадают с необходимыми, но совместимы с потерями в скорости.
-     *
-     * @param neededConnectors    необходимые коннекторы подключения накопителей
-     * @param availableConnectors доступные коннекторы подключения накопителей
-     */
-    private void bookLowerConnectors(
-            final Map<StorageConnector, Integer> neededConnectors,
-            final Map<StorageConnector, Integer> availableConnectors
-    ) {
-        Set.copyOf(neededConnectors.entrySet()).forEach(entry -> {
-            final StorageConnector neededConnector = entry.getKey();
-            final int neededCount = entry.getValue();
-
-            final var lowerConnectors = availableConnectors.entrySet()
-                    .stream()
-                    .filter(e -> e.getValue() > 0)
-                    .filter(e -> neededConnector.getCompatibleConnectors().contains(e.getKey()))
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            Map.Entry::getValue
-                    ));
-
-            for (final var lower : Map.copyOf(lowerConnectors).entrySet()) {
-                final StorageConnector lowerConnector = lower.getKey();
-                final int lowerCount = lower.getValue();
-
-                if (neededCount == lowerCount) {
-                    lowerConnectors.remove(lowerConnector);
-                    neededConnectors.remove(neededConnector);
-                } else if (neededCount > lowerCount) {
-                    lowerConnectors.remove(lowerConnector);
-                    neededConnectors.put(neededConnector, neededCount - lowerCount);
-                } else {
-                    lowerConnectors.put(lowerConnector, lowerCount - neededCount);
-                    neededConnectors.remove(neededConnector);
-                }
-            }
-        });
-    }
-
-    /**
-     * Бронирует те из доступных коннекторов подключения накопителей,
-     * что не совпадают с необходимыми, но совместимы без потерь в скорости.
-     *
-     * @param neededConnectors    необходимые коннекторы подключения накопителей
-     * @param availableConnectors доступные коннекторы подключения накопителей
-     */
-    private void bookUpperConnectors(
-            final Map<StorageConnector, Integer> neededConnectors,
-            final Map<StorageConnector, Integer> availableConnectors
-    ) {
-        Set.copyOf(neededConnectors.entrySet()).forEach(entry -> {
-            final StorageConnector neededConnector = entry.getKey();
-            final int neededCount = entry.getValue();
-
-            // без потерь скорости
-            final var upperConnectors = availableConnectors.entrySet()
-                    .stream()
-                    .filter(e -> e.getValue() > 0)
-                    .filter(e -> e.getKey().getCompatibleConnectors().contains(neededConnector))
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            Map.Entry::getValue,
-                            Integer::sum
-                    ));
-
-            for (final var upper : Map.copyOf(upperConnectors).entrySet()) {
-                final StorageConnector upperConnector = upper.getKey();
-                final int upperCount = upper.getValue();
-
-                if (neededCount == upperCount) {
-                    upperConnectors.remove(upperConnector);
-                    neededConnectors.remove(neededConnector);
-                } else if (neededCount > upperCount) {
-                    upperConnectors.remove(upperConnector);
-                    neededConnectors.put(neededConnector, neededCount - upperCount);
-                } else {
-                    upperConnectors.put(upperConnector, upperCount - neededCount);
-                    neededConnectors.remove(neededConnector);
-                }
-            }
-        });
-    }
-
-    /**
-     * Бронирует те из доступных коннекторов подключения накопителей,
-     * что полностью совпадают с необходимыми.
-     *
-     * @param neededConnectors    необходимые коннекторы подключения накопителей
-     * @param availableConnectors доступные коннекторы подключения накопителей
-     */
-    private void bookMatchingConnectors(
-            final Map<StorageConnector, Integer> neededConnectors,
-            final Map<StorageConnector, Integer> availableConnectors
-    ) {
-        Set.copyOf(neededConnectors.entrySet()).forEach(entry -> {
-            final StorageConnector neededConnector = entry.getKey();
-            final int neededCount = entry.getValue();
-
-            final int availableCount = availableConnectors.getOrDefault(neededConnector, 0);
-
-            if (neededCount == availableCount) {
-                neededConnectors.remove(neededConnector);
-                availableConnectors.remove(neededConnector);
-
-            } else if (neededCount > availableCount) {
-                availableConnectors.remove(neededConnector);
-                neededConnectors.put(
-                        neededConnector,
-                        neededCount - availableCount
-                );
-
-            } else {
-                availableConnectors.put(
-                        neededConnector,
-                        availableCount - neededCount
-                );
-                neededConnectors.remove(neededConnector);
-            }
-        });
-    }
 }
@@ -2,13 +2,16 @@ package ru.bukhtaev.service.checker.compatibility;
 
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import ru.bukhtaev.model.ComputerBuild;
-import ru.bukhtaev.model.Motherboard;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildRule;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.Optional;
+import java.util.EnumSet;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_MOTHERBOARD_MAX_RAM_SIZE_EXCEEDING;
+import static ru.bukhtaev.service.checker.ComputerBuildFacts.RAM_TOTAL_CAPACITY;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
 
 /**
  * Сервис проверки модулей оперативной памяти.
@@ -16,8 +19,22 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_MOTHERBOARD_MAX_RAM_SIZ
  * максимальный объем оперативной памяти материнской платы.
  */
 @Order(400)
+@CheckedSlots({MOTHERBOARD, RAM_MODULES})
 @Component
-public class MotherboardMaxRamSizeChecker extends ICompatibilityChecker {
+public class MotherboardMaxRamSizeChecker extends IRuleCompatibilityChecker {
+
+    /**
+     * Правило проверки.
+     */
+    private static final ComputerBuildRule RULE = ComputerBuildRule.of(
+            MESSAGE_CODE_MOTHERBOARD_MAX_RAM_SIZE_EXCEEDING,
+            EnumSet.of(MOTHERBOARD, RAM_MODULES),
+            facts -> facts.get(RAM_TOTAL_CAPACITY) > facts.getComputer().getMotherboard().getMaxMemorySize(),
+            facts -> new Object[]{
+                    facts.get(RAM_TOTAL_CAPACITY) / 1024,
+                    facts.getComputer().getMotherboard().getMaxMemorySize() / 1024
+            }
+    );
 
     /**
      * Конструктор.
@@ -25,35 +42,6 @@ public class MotherboardMaxRamSizeChecker extends ICompatibilityChecker {
      * @param translator сервис предоставления сообщений
      */
     protected MotherboardMaxRamSizeChecker(final Translator translator) {
-        super(translator);
-    }
-
-    @Override
-    public Optional<String> check(final ComputerBuild computer) {
-
-        final var computerToModules = computer.getRamModules();
-        final Motherboard motherboard = computer.getMotherboard();
-
-        if (motherboard == null
-                || computerToModules == null
-                || computerToModules.isEmpty()) {
-            return Optional.empty();
-        }
-
-        final int modulesSize = computerToModules.stream()
-                .mapToInt(ctm -> ctm.getRamModule().getCapacity() * ctm.getCount())
-                .sum();
-
-        final int maxMemorySize = motherboard.getMaxMemorySize();
-
-        if (modulesSize > maxMemorySize) {
-            return Optional.of(translator.getMessage(
-                    MESSAGE_CODE_MOTHERBOARD_MAX_RAM_SIZE_EXCEEDING,
-                    modulesSize / 1024,
-                    maxMemorySize / 1024
-            ));
-        }
-
-        return Optional.empty();
+        super(translator, RULE);
     }
 }
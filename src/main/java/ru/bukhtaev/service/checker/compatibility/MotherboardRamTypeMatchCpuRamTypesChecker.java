@@ -2,17 +2,17 @@ package ru.bukhtaev.service.checker.compatibility;
 
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import ru.bukhtaev.model.ComputerBuild;
-import ru.bukhtaev.model.Cpu;
-import ru.bukhtaev.model.Motherboard;
-import ru.bukhtaev.model.NameableEntity;
-import ru.bukhtaev.model.cross.CpuToRamType;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildRule;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.EnumSet;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_RAM_TYPE;
+import static ru.bukhtaev.service.checker.ComputerBuildFacts.CPU_RAM_TYPES;
+import static ru.bukhtaev.service.checker.ComputerBuildFacts.CPU_RAM_TYPE_NAMES;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
 
 /**
  * Сервис проверки материнской платы.
@@ -20,8 +20,22 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_MOTHERBOAR
  * соответствует одному из поддерживаемых процессором типов оперативной памяти.
  */
 @Order(150)
+@CheckedSlots({CPU, MOTHERBOARD})
 @Component
-public class MotherboardRamTypeMatchCpuRamTypesChecker extends ICompatibilityChecker {
+public class MotherboardRamTypeMatchCpuRamTypesChecker extends IRuleCompatibilityChecker {
+
+    /**
+     * Правило проверки.
+     */
+    private static final ComputerBuildRule RULE = ComputerBuildRule.of(
+            MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_RAM_TYPE,
+            EnumSet.of(CPU, MOTHERBOARD),
+            facts -> !facts.get(CPU_RAM_TYPES).contains(facts.getComputer().getMotherboard().getRamType()),
+            facts -> new Object[]{
+                    facts.getComputer().getMotherboard().getRamType(),
+                    facts.get(CPU_RAM_TYPE_NAMES).toString()
+            }
+    );
 
     /**
      * Конструктор.
@@ -29,40 +43,6 @@ public class MotherboardRamTypeMatchCpuRamTypesChecker extends ICompatibilityChe
      * @param translator сервис предоставления сообщений
      */
     protected MotherboardRamTypeMatchCpuRamTypesChecker(final Translator translator) {
-        super(translator);
-    }
-
-    @Override
-    public Optional<String> check(final ComputerBuild computer) {
-
-        final Cpu cpu = computer.getCpu();
-        final Motherboard motherboard = computer.getMotherboard();
-
-        if (cpu == null
-                || motherboard == null
-        ) {
-            return Optional.empty();
-        }
-
-        final var cpuRamTypes = cpu.getSupportedRamTypes()
-                .stream()
-                .map(CpuToRamType::getRamType)
-                .collect(Collectors.toSet());
-
-        final var motherboardRamType = motherboard.getRamType();
-
-        if (!cpuRamTypes.contains(motherboardRamType)) {
-            final var cpuRamTypeNames = cpuRamTypes.stream()
-                    .map(NameableEntity::getName)
-                    .collect(Collectors.toSet());
-
-            return Optional.of(translator.getMessage(
-                    MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_RAM_TYPE,
-                    motherboardRamType,
-                    cpuRamTypeNames.toString()
-            ));
-        }
-
-        return Optional.empty();
+        super(translator, RULE);
     }
 }
@@ -5,31 +5,48 @@ import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.Cpu;
 import ru.bukhtaev.model.Motherboard;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.PairwiseCompatibilityService;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_SOCKET;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+import static ru.bukhtaev.service.checker.PairwiseRule.CPU_MOTHERBOARD_SOCKET;
 
 /**
  * Сервис проверки материнской платы.
  * Проверяет, что сокет материнской платы соответствует сокету процессора.
  */
 @Order(100)
+@CheckedSlots({CPU, MOTHERBOARD})
 @Component
 public class MotherboardSocketMatchCpuSocketChecker extends ICompatibilityChecker {
 
+    /**
+     * Сервис матриц попарной совместимости комплектующих.
+     */
+    private final PairwiseCompatibilityService pairwiseService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator      сервис предоставления сообщений
+     * @param pairwiseService сервис матриц попарной совместимости комплектующих
      */
-    protected MotherboardSocketMatchCpuSocketChecker(final Translator translator) {
+    protected MotherboardSocketMatchCpuSocketChecker(
+            final Translator translator,
+            final PairwiseCompatibilityService pairwiseService
+    ) {
         super(translator);
+        this.pairwiseService = pairwiseService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final Cpu cpu = computer.getCpu();
         final Motherboard motherboard = computer.getMotherboard();
@@ -43,12 +60,12 @@ public class MotherboardSocketMatchCpuSocketChecker extends ICompatibilityChecke
         final var cpuSocket = cpu.getSocket();
         final var motherboardSocket = motherboard.getChipset().getSocket();
 
-        if (!cpuSocket.equals(motherboardSocket)) {
-            return Optional.of(translator.getMessage(
+        if (!pairwiseService.isCompatible(CPU_MOTHERBOARD_SOCKET, cpu, motherboard)) {
+            return violation(
                     MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_SOCKET,
                     motherboardSocket.getName(),
                     cpuSocket.getName()
-            ));
+            );
         }
 
         return Optional.empty();
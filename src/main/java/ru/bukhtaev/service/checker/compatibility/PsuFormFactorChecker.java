@@ -6,12 +6,18 @@ import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.ComputerCase;
 import ru.bukhtaev.model.NameableEntity;
 import ru.bukhtaev.model.Psu;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.PairwiseCompatibilityService;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_PSU_FORM_FACTOR;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.PSU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COMPUTER_CASE;
+import static ru.bukhtaev.service.checker.PairwiseRule.CASE_PSU_FORM_FACTOR;
 
 /**
  * Сервис проверки блока питания.
@@ -19,20 +25,31 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_PSU_FORM_F
  * одному из поддерживаемых корпусом форм-факторов блоков питания.
  */
 @Order(1000)
+@CheckedSlots({PSU, COMPUTER_CASE})
 @Component
 public class PsuFormFactorChecker extends ICompatibilityChecker {
 
+    /**
+     * Сервис матриц попарной совместимости комплектующих.
+     */
+    private final PairwiseCompatibilityService pairwiseService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator      сервис предоставления сообщений
+     * @param pairwiseService сервис матриц попарной совместимости комплектующих
      */
-    protected PsuFormFactorChecker(final Translator translator) {
+    protected PsuFormFactorChecker(
+            final Translator translator,
+            final PairwiseCompatibilityService pairwiseService
+    ) {
         super(translator);
+        this.pairwiseService = pairwiseService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final ComputerCase computerCase = computer.getComputerCase();
         final Psu psu = computer.getPsu();
@@ -44,16 +61,16 @@ public class PsuFormFactorChecker extends ICompatibilityChecker {
         final var caseFormFactors = computerCase.getPsuFormFactors();
         final var psuFormFactor = psu.getFormFactor();
 
-        if (!caseFormFactors.contains(psuFormFactor)) {
+        if (!pairwiseService.isCompatible(CASE_PSU_FORM_FACTOR, computerCase, psu)) {
             final var caseFormFactorNames = caseFormFactors.stream()
                     .map(NameableEntity::getName)
                     .collect(Collectors.toSet());
 
-            return Optional.of(translator.getMessage(
+            return violation(
                     MESSAGE_CODE_INCOMPATIBLE_PSU_FORM_FACTOR,
                     caseFormFactorNames,
                     psuFormFactor.getName()
-            ));
+            );
         }
 
         return Optional.empty();
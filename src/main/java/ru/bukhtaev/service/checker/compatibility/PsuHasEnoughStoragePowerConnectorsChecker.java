@@ -8,17 +8,19 @@ import ru.bukhtaev.model.cross.ComputerBuildToHdd;
 import ru.bukhtaev.model.cross.ComputerBuildToSsd;
 import ru.bukhtaev.model.cross.PsuToStoragePowerConnector;
 import ru.bukhtaev.model.dictionary.StoragePowerConnector;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.ResourceMatcher;
 import ru.bukhtaev.i18n.Translator;
 
 import java.text.MessageFormat;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_NOT_ENOUGH_STORAGE_POWER_CONNECTORS;
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_TWO_PART_NAME;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.PSU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.HDDS;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.SSDS;
 
 /**
  * Сервис проверки блока питания.
@@ -26,6 +28,7 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_TWO_PART_NAME;
  * коннекторами для питания жестких дисков и SSD-накопителей.
  */
 @Order(1050)
+@CheckedSlots({PSU, HDDS, SSDS})
 @Component
 public class PsuHasEnoughStoragePowerConnectorsChecker extends ICompatibilityChecker {
 
@@ -39,7 +42,7 @@ public class PsuHasEnoughStoragePowerConnectorsChecker extends ICompatibilityChe
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final Psu psu = computer.getPsu();
         final var computerToHdds = computer.getHdds();
@@ -54,97 +57,35 @@ public class PsuHasEnoughStoragePowerConnectorsChecker extends ICompatibilityChe
             return Optional.empty();
         }
 
-        final var availableConnectors = psu.getStoragePowerConnectors()
-                .stream()
-                .collect(Collectors.toMap(
-                        PsuToStoragePowerConnector::getStoragePowerConnector,
-                        PsuToStoragePowerConnector::getCount,
-                        Integer::sum
-                ));
-
-        final var hddsConnectors = computerToHdds
-                .stream()
-                .collect(Collectors.toMap(
-                        cth -> cth.getHdd().getPowerConnector(),
-                        ComputerBuildToHdd::getCount,
-                        Integer::sum
-                ));
-
-        final var ssdsConnectors = computerToSsds
-                .stream()
-                .filter(cts -> cts.getSsd().getPowerConnector() != null)
-                .collect(Collectors.toMap(
-                        mtc -> mtc.getSsd().getPowerConnector(),
-                        ComputerBuildToSsd::getCount,
-                        Integer::sum
-                ));
-
-        final var neededConnectors = new HashMap<>(hddsConnectors);
-
-        for (final var entry : ssdsConnectors.entrySet()) {
-            final StoragePowerConnector connector = entry.getKey();
-            final Integer count = entry.getValue();
-
-            neededConnectors.merge(
-                    connector,
-                    count,
-                    Integer::sum
-            );
+        final ResourceMatcher matcher = ResourceMatcher.acquire();
+        for (final PsuToStoragePowerConnector item : psu.getStoragePowerConnectors()) {
+            matcher.supply(item.getStoragePowerConnector().getId(), item.getCount());
+        }
+        for (final ComputerBuildToHdd item : computerToHdds) {
+            matcher.demand(item.getHdd().getPowerConnector().getId(), item.getCount());
+        }
+        for (final ComputerBuildToSsd item : computerToSsds) {
+            final StoragePowerConnector connector = item.getSsd().getPowerConnector();
+            if (connector != null) {
+                matcher.demand(connector.getId(), item.getCount());
+            }
         }
 
-        bookMatchingConnectors(neededConnectors, availableConnectors);
+        final boolean matched = matcher.matchesExactly();
 
-        if (!neededConnectors.isEmpty()) {
+        if (!matched) {
             final String psuName = MessageFormat.format(
                     MESSAGE_TEMPLATE_TWO_PART_NAME,
                     psu.getVendor().getName(),
                     psu.getName()
             );
 
-            return Optional.of(translator.getMessage(
+            return violation(
                     MESSAGE_CODE_NOT_ENOUGH_STORAGE_POWER_CONNECTORS,
                     psuName
-            ));
+            );
         }
 
         return Optional.empty();
     }
-
-    /**
-     * Бронирует те из доступных коннекторов подключения накопителей,
-     * что полностью совпадают с необходимыми.
-     *
-     * @param neededConnectors    необходимые коннекторы подключения накопителей
-     * @param availableConnectors доступные коннекторы подключения накопителей
-     */
-    private void bookMatchingConnectors(
-            final Map<StoragePowerConnector, Integer> neededConnectors,
-            final Map<StoragePowerConnector, Integer> availableConnectors
-    ) {
-        Set.copyOf(neededConnectors.entrySet()).forEach(entry -> {
-            final StoragePowerConnector neededConnector = entry.getKey();
-            final int neededCount = entry.getValue();
-
-            final int availableCount = availableConnectors.getOrDefault(neededConnector, 0);
-
-            if (neededCount == availableCount) {
-                neededConnectors.remove(neededConnector);
-                availableConnectors.remove(neededConnector);
-
-            } else if (neededCount > availableCount) {
-                availableConnectors.remove(neededConnector);
-                neededConnectors.put(
-                        neededConnector,
-                        neededCount - availableCount
-                );
-
-            } else {
-                availableConnectors.put(
-                        neededConnector,
-                        availableCount - neededCount
-                );
-                neededConnectors.remove(neededConnector);
-            }
-        });
-    }
-}
\ No newline at end of file
+}
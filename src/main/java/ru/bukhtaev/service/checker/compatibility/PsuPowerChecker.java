@@ -3,14 +3,16 @@ package ru.bukhtaev.service.checker.compatibility;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
-import ru.bukhtaev.model.Cpu;
-import ru.bukhtaev.model.GraphicsCard;
-import ru.bukhtaev.model.Psu;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildRule;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.Optional;
+import java.util.EnumSet;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_PSU_POWER_EXCEEDING;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.PSU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.GRAPHICS_CARD;
 
 /**
  * Сервис проверки блока питания.
@@ -18,8 +20,22 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_PSU_POWER_EXCEEDING;
  * достаточно для питания компьютера
  */
 @Order(900)
+@CheckedSlots({CPU, PSU, GRAPHICS_CARD})
 @Component
-public class PsuPowerChecker extends ICompatibilityChecker {
+public class PsuPowerChecker extends IRuleCompatibilityChecker {
+
+    /**
+     * Правило проверки.
+     */
+    private static final ComputerBuildRule RULE = ComputerBuildRule.of(
+            MESSAGE_CODE_PSU_POWER_EXCEEDING,
+            EnumSet.of(CPU, PSU, GRAPHICS_CARD),
+            facts -> neededPower(facts.getComputer()) > facts.getComputer().getPsu().getPower12V(),
+            facts -> new Object[]{
+                    Integer.toString(facts.getComputer().getPsu().getPower12V()),
+                    Integer.toString(neededPower(facts.getComputer()))
+            }
+    );
 
     /**
      * Конструктор.
@@ -27,38 +43,21 @@ public class PsuPowerChecker extends ICompatibilityChecker {
      * @param translator сервис предоставления сообщений
      */
     protected PsuPowerChecker(final Translator translator) {
-        super(translator);
+        super(translator, RULE);
     }
 
-    @Override
-    public Optional<String> check(final ComputerBuild computer) {
-
-        final Psu psu = computer.getPsu();
-        final Cpu cpu = computer.getCpu();
-        final GraphicsCard graphicsCard = computer.getGraphicsCard();
-
-        if (psu == null
-                || cpu == null
-                || graphicsCard == null) {
-            return Optional.empty();
-        }
-
-        final int psuPower12V = psu.getPower12V();
-        final int cpuMaxTdp = cpu.getMaxTdp();
-        final int cardPowerConsumption = graphicsCard.getGpu().getPowerConsumption();
+    /**
+     * Вычисляет мощность по линии 12V, необходимую процессору и видеокарте, с запасом в 50%.
+     *
+     * @param computer сборка ПК
+     * @return необходимая мощность
+     */
+    private static int neededPower(final ComputerBuild computer) {
+        final int cpuMaxTdp = computer.getCpu().getMaxTdp();
+        final int cardPowerConsumption = computer.getGraphicsCard().getGpu().getPowerConsumption();
 
-        final int neededPower = Math.toIntExact(Math.round(
+        return Math.toIntExact(Math.round(
                 (cpuMaxTdp + cardPowerConsumption) * 1.5
         ));
-
-        if (neededPower > psuPower12V) {
-            return Optional.of(translator.getMessage(
-                    MESSAGE_CODE_PSU_POWER_EXCEEDING,
-                    Integer.toString(psuPower12V),
-                    Integer.toString(neededPower)
-            ));
-        }
-
-        return Optional.empty();
     }
 }
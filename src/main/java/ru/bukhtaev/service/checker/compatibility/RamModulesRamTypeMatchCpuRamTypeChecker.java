@@ -2,18 +2,19 @@ package ru.bukhtaev.service.checker.compatibility;
 
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import ru.bukhtaev.model.ComputerBuild;
-import ru.bukhtaev.model.Cpu;
-import ru.bukhtaev.model.NameableEntity;
-import ru.bukhtaev.model.cross.CpuToRamType;
-import ru.bukhtaev.model.dictionary.RamType;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildRule;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.EnumSet;
+import java.util.HashSet;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CPU_DOES_NOT_SUPPORT_RAM_MODULES_RAM_TYPE;
+import static ru.bukhtaev.service.checker.ComputerBuildFacts.CPU_RAM_TYPES;
+import static ru.bukhtaev.service.checker.ComputerBuildFacts.CPU_RAM_TYPE_NAMES;
+import static ru.bukhtaev.service.checker.ComputerBuildFacts.RAM_TYPES;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
 
 /**
  * Сервис проверки модулей оперативной памяти.
@@ -21,8 +22,23 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CPU_DOES_NOT_SUPPORT_RA
  * совпадает с одним из поддерживаемых процессором типов оперативной памяти.
  */
 @Order(300)
+@CheckedSlots({CPU, RAM_MODULES})
 @Component
-public class RamModulesRamTypeMatchCpuRamTypeChecker extends ICompatibilityChecker {
+public class RamModulesRamTypeMatchCpuRamTypeChecker extends IRuleCompatibilityChecker {
+
+    /**
+     * Правило проверки.
+     */
+    private static final ComputerBuildRule RULE = ComputerBuildRule.of(
+            MESSAGE_CODE_CPU_DOES_NOT_SUPPORT_RAM_MODULES_RAM_TYPE,
+            EnumSet.of(CPU, RAM_MODULES),
+            facts -> !facts.get(CPU_RAM_TYPES).containsAll(facts.get(RAM_TYPES)),
+            facts -> new Object[]{
+                    facts.get(CPU_RAM_TYPE_NAMES).toString(),
+                    // Как и прежде, называется первый тип из неупорядоченного множества типов модулей
+                    new HashSet<>(facts.get(RAM_TYPES)).iterator().next().getName()
+            }
+    );
 
     /**
      * Конструктор.
@@ -30,49 +46,6 @@ public class RamModulesRamTypeMatchCpuRamTypeChecker extends ICompatibilityCheck
      * @param translator сервис предоставления сообщений
      */
     protected RamModulesRamTypeMatchCpuRamTypeChecker(final Translator translator) {
-        super(translator);
-    }
-
-    @Override
-    public Optional<String> check(final ComputerBuild computer) {
-
-        final Cpu cpu = computer.getCpu();
-        final var computerToModules = computer.getRamModules();
-
-        if (cpu == null
-                || computerToModules == null
-                || computerToModules.isEmpty()
-        ) {
-            return Optional.empty();
-        }
-
-        final Set<RamType> modulesRamTypes = computerToModules.stream()
-                .map(ctm -> ctm.getRamModule().getType())
-                .collect(Collectors.toSet());
-
-        final Set<RamType> cpuRamTypes = cpu.getSupportedRamTypes()
-                .stream()
-                .map(CpuToRamType::getRamType)
-                .collect(Collectors.toSet());
-
-        if (!cpuRamTypes.containsAll(modulesRamTypes)) {
-            final var cpuRamTypeNames = cpuRamTypes.stream()
-                    .map(NameableEntity::getName)
-                    .collect(Collectors.toSet());
-
-            final var optModulesRamType = modulesRamTypes.stream()
-                    .map(NameableEntity::getName)
-                    .findFirst();
-
-            if (optModulesRamType.isPresent()) {
-                return Optional.of(translator.getMessage(
-                        MESSAGE_CODE_CPU_DOES_NOT_SUPPORT_RAM_MODULES_RAM_TYPE,
-                        cpuRamTypeNames.toString(),
-                        optModulesRamType.get()
-                ));
-            }
-        }
-
-        return Optional.empty();
+        super(translator, RULE);
     }
 }
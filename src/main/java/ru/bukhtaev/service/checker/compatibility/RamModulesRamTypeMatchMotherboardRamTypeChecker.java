@@ -2,14 +2,16 @@ package ru.bukhtaev.service.checker.compatibility;
 
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import ru.bukhtaev.model.ComputerBuild;
-import ru.bukhtaev.model.Motherboard;
-import ru.bukhtaev.model.dictionary.RamType;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildRule;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.Optional;
+import java.util.EnumSet;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_MOTHERBOARD_DOES_NOT_SUPPORT_RAM_MODULES_RAM_TYPE;
+import static ru.bukhtaev.service.checker.ComputerBuildFacts.RAM_TYPES;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
 
 /**
  * Сервис проверки модулей оперативной памяти.
@@ -17,8 +19,24 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_MOTHERBOARD_DOES_NOT_SU
  * совпадает с типом оперативной памяти материнской платы.
  */
 @Order(450)
+@CheckedSlots({MOTHERBOARD, RAM_MODULES})
 @Component
-public class RamModulesRamTypeMatchMotherboardRamTypeChecker extends ICompatibilityChecker {
+public class RamModulesRamTypeMatchMotherboardRamTypeChecker extends IRuleCompatibilityChecker {
+
+    /**
+     * Правило проверки: сравнивается тип первого модуля оперативной памяти,
+     * несовпадение типов модулей между собой проверяет {@link RamModulesTheSameRamTypeChecker}.
+     */
+    private static final ComputerBuildRule RULE = ComputerBuildRule.of(
+            MESSAGE_CODE_MOTHERBOARD_DOES_NOT_SUPPORT_RAM_MODULES_RAM_TYPE,
+            EnumSet.of(MOTHERBOARD, RAM_MODULES),
+            facts -> !facts.getComputer().getMotherboard().getRamType()
+                    .equals(facts.get(RAM_TYPES).iterator().next()),
+            facts -> new Object[]{
+                    facts.getComputer().getMotherboard().getRamType().getName(),
+                    facts.get(RAM_TYPES).iterator().next().getName()
+            }
+    );
 
     /**
      * Конструктор.
@@ -26,41 +44,6 @@ public class RamModulesRamTypeMatchMotherboardRamTypeChecker extends ICompatibil
      * @param translator сервис предоставления сообщений
      */
     protected RamModulesRamTypeMatchMotherboardRamTypeChecker(final Translator translator) {
-        super(translator);
-    }
-
-    @Override
-    public Optional<String> check(final ComputerBuild computer) {
-
-        final Motherboard motherboard = computer.getMotherboard();
-        final var computerToModules = computer.getRamModules();
-
-        if (motherboard == null
-                || computerToModules == null
-                || computerToModules.isEmpty()
-        ) {
-            return Optional.empty();
-        }
-
-        final Optional<RamType> optModulesRamType = computerToModules.stream()
-                .map(ctm -> ctm.getRamModule().getType())
-                .distinct()
-                .findFirst();
-
-        if (optModulesRamType.isPresent()) {
-
-            final RamType motherboardRamType = motherboard.getRamType();
-            final RamType modulesRamType = optModulesRamType.get();
-
-            if (!motherboardRamType.equals(modulesRamType)) {
-                return Optional.of(translator.getMessage(
-                        MESSAGE_CODE_MOTHERBOARD_DOES_NOT_SUPPORT_RAM_MODULES_RAM_TYPE,
-                        motherboardRamType.getName(),
-                        modulesRamType.getName()
-                ));
-            }
-        }
-
-        return Optional.empty();
+        super(translator, RULE);
     }
 }
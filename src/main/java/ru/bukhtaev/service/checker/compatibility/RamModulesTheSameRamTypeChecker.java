@@ -2,16 +2,16 @@ package ru.bukhtaev.service.checker.compatibility;
 
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import ru.bukhtaev.model.ComputerBuild;
-import ru.bukhtaev.model.NameableEntity;
-import ru.bukhtaev.model.dictionary.RamType;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildRule;
 import ru.bukhtaev.i18n.Translator;
 
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.EnumSet;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_RAM_MODULES;
+import static ru.bukhtaev.service.checker.ComputerBuildFacts.RAM_TYPES;
+import static ru.bukhtaev.service.checker.ComputerBuildFacts.names;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
 
 /**
  * Сервис проверки модулей оперативной памяти.
@@ -19,8 +19,21 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_RAM_MODULE
  * имеют один и тот же тип памяти.
  */
 @Order(200)
+@CheckedSlots(RAM_MODULES)
 @Component
-public class RamModulesTheSameRamTypeChecker extends ICompatibilityChecker {
+public class RamModulesTheSameRamTypeChecker extends IRuleCompatibilityChecker {
+
+    /**
+     * Правило проверки.
+     */
+    private static final ComputerBuildRule RULE = ComputerBuildRule.of(
+            MESSAGE_CODE_INCOMPATIBLE_RAM_MODULES,
+            EnumSet.of(RAM_MODULES),
+            facts -> facts.get(RAM_TYPES).size() > 1,
+            facts -> new Object[]{
+                    names(facts.get(RAM_TYPES)).toString()
+            }
+    );
 
     /**
      * Конструктор.
@@ -28,35 +41,6 @@ public class RamModulesTheSameRamTypeChecker extends ICompatibilityChecker {
      * @param translator сервис предоставления сообщений
      */
     protected RamModulesTheSameRamTypeChecker(final Translator translator) {
-        super(translator);
-    }
-
-    @Override
-    public Optional<String> check(final ComputerBuild computer) {
-
-        final var computerToModules = computer.getRamModules();
-
-        if (computerToModules == null
-                || computerToModules.isEmpty()
-        ) {
-            return Optional.empty();
-        }
-
-        final Set<RamType> typeSet = computerToModules.stream()
-                .map(ctm -> ctm.getRamModule().getType())
-                .collect(Collectors.toSet());
-
-        if (typeSet.size() > 1) {
-            final var typeNameSet = typeSet.stream()
-                    .map(NameableEntity::getName)
-                    .collect(Collectors.toSet());
-
-            return Optional.of(translator.getMessage(
-                    MESSAGE_CODE_INCOMPATIBLE_RAM_MODULES,
-                    typeNameSet.toString()
-            ));
-        }
-
-        return Optional.empty();
+        super(translator, RULE);
     }
 }
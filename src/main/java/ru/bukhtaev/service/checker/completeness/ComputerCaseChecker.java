@@ -4,17 +4,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_NO_COMPUTER_CASE;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.COMPUTER_CASE;
 
 /**
  * Сервис проверки сборки ПК
  * на наличие корпуса.
  */
 @Order(300)
+@CheckedSlots(COMPUTER_CASE)
 @Component
 public class ComputerCaseChecker extends ICompletenessChecker {
 
@@ -29,12 +33,10 @@ public class ComputerCaseChecker extends ICompletenessChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         if (computer.getComputerCase() == null) {
-            return Optional.of(
-                    translator.getMessage(MESSAGE_CODE_NO_COMPUTER_CASE)
-            );
+            return violation(MESSAGE_CODE_NO_COMPUTER_CASE);
         }
 
         return Optional.empty();
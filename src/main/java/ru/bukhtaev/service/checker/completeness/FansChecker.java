@@ -4,17 +4,21 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.cross.ComputerBuildToFan;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_THERE_ARE_AT_LEAST_TWO_FANS;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.FANS;
 
 /**
  * Сервис проверки сборки ПК
  * на наличие как минимум 2 вентиляторов.
  */
 @Order(450)
+@CheckedSlots(FANS)
 @Component
 public class FansChecker extends ICompletenessChecker {
 
@@ -28,13 +32,13 @@ public class FansChecker extends ICompletenessChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final var fans = computer.getFans();
 
-        final Optional<String> message = Optional.of(translator.getMessage(
+        final Optional<ComputerBuildViolation> message = violation(
                 MESSAGE_CODE_THERE_ARE_AT_LEAST_TWO_FANS
-        ));
+        );
 
         if (fans == null || fans.isEmpty()) {
             return message;
@@ -4,17 +4,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_NO_GRAPHICS_CARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.GRAPHICS_CARD;
 
 /**
  * Сервис проверки сборки ПК
  * на наличие видеокарты.
  */
 @Order(250)
+@CheckedSlots(GRAPHICS_CARD)
 @Component
 public class GraphicsCardChecker extends ICompletenessChecker {
 
@@ -29,12 +33,10 @@ public class GraphicsCardChecker extends ICompletenessChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         if (computer.getGraphicsCard() == null) {
-            return Optional.of(
-                    translator.getMessage(MESSAGE_CODE_NO_GRAPHICS_CARD)
-            );
+            return violation(MESSAGE_CODE_NO_GRAPHICS_CARD);
         }
 
         return Optional.empty();
@@ -1,6 +1,7 @@
 package ru.bukhtaev.service.checker.completeness;
 
 import ru.bukhtaev.service.checker.IComputerBuildChecker;
+import ru.bukhtaev.service.checker.ViolationSeverity;
 import ru.bukhtaev.i18n.Translator;
 
 /**
@@ -15,6 +16,6 @@ public abstract class ICompletenessChecker extends IComputerBuildChecker {
      * @param translator сервис предоставления сообщений
      */
     protected ICompletenessChecker(final Translator translator) {
-        super(translator);
+        super(translator, ViolationSeverity.ERROR);
     }
 }
@@ -4,17 +4,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_COMPUTER_BUILD_NO_MOTHERBOARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
 
 /**
  * Сервис проверки сборки ПК
  * на наличие материнской платы.
  */
 @Order(200)
+@CheckedSlots(MOTHERBOARD)
 @Component
 public class MotherboardChecker extends ICompletenessChecker {
 
@@ -29,12 +33,10 @@ public class MotherboardChecker extends ICompletenessChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         if (computer.getMotherboard() == null) {
-            return Optional.of(
-                    translator.getMessage(MESSAGE_CODE_COMPUTER_BUILD_NO_MOTHERBOARD)
-            );
+            return violation(MESSAGE_CODE_COMPUTER_BUILD_NO_MOTHERBOARD);
         }
 
         return Optional.empty();
@@ -4,17 +4,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_NO_RAM_MODULES;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
 
 /**
  * Сервис проверки сборки ПК
  * на наличие модулей оперативной памяти.
  */
 @Order(350)
+@CheckedSlots(RAM_MODULES)
 @Component
 public class RamModulesChecker extends ICompletenessChecker {
 
@@ -29,13 +33,11 @@ public class RamModulesChecker extends ICompletenessChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final var computerToModules = computer.getRamModules();
         if (computerToModules == null || computerToModules.isEmpty()) {
-            return Optional.of(
-                    translator.getMessage(MESSAGE_CODE_NO_RAM_MODULES)
-            );
+            return violation(MESSAGE_CODE_NO_RAM_MODULES);
         }
 
         return Optional.empty();
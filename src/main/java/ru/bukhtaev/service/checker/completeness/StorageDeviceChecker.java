@@ -4,17 +4,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_NO_STORAGE_DEVICES;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.HDDS;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.SSDS;
 
 /**
  * Сервис проверки сборки ПК
  * на наличие устройств хранения данных.
  */
 @Order(400)
+@CheckedSlots({HDDS, SSDS})
 @Component
 public class StorageDeviceChecker extends ICompletenessChecker {
 
@@ -29,12 +34,10 @@ public class StorageDeviceChecker extends ICompletenessChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         if ((computer.getHdds().size() + computer.getSsds().size()) < 1) {
-            return Optional.of(
-                    translator.getMessage(MESSAGE_CODE_NO_STORAGE_DEVICES)
-            );
+            return violation(MESSAGE_CODE_NO_STORAGE_DEVICES);
         }
 
         return Optional.empty();
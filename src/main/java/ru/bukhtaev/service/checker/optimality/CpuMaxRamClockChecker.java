@@ -7,6 +7,8 @@ import ru.bukhtaev.model.Cpu;
 import ru.bukhtaev.model.RamModule;
 import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
 import ru.bukhtaev.model.dictionary.RamType;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.List;
@@ -16,6 +18,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CPU_MAX_RAM_CLOCK_EXCEEDING;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
 
 /**
  * Сервис проверки модулей оперативной памяти.
@@ -23,6 +27,7 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CPU_MAX_RAM_CLOCK_EXCEE
  * максимальную частоту оперативной памяти процессора.
  */
 @Order(200)
+@CheckedSlots({CPU, RAM_MODULES})
 @Component
 public class CpuMaxRamClockChecker extends IOptimalityChecker {
 
@@ -36,7 +41,7 @@ public class CpuMaxRamClockChecker extends IOptimalityChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final var computerToModules = computer.getRamModules();
         final Cpu cpu = computer.getCpu();
@@ -72,11 +77,11 @@ public class CpuMaxRamClockChecker extends IOptimalityChecker {
                     return Optional.empty();
                 }
 
-                return Optional.of(translator.getMessage(
+                return violation(
                         MESSAGE_CODE_CPU_MAX_RAM_CLOCK_EXCEEDING,
                         exceedingClockSet.toString(),
                         cpuToType.getMaxMemoryClock().toString()
-                ));
+                );
             }
         }
 
@@ -7,6 +7,8 @@ import ru.bukhtaev.model.Motherboard;
 import ru.bukhtaev.model.RamModule;
 import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
 import ru.bukhtaev.model.dictionary.RamType;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.List;
@@ -15,6 +17,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_MOTHERBOARD_MAX_RAM_CLOCK_EXCEEDING;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
 
 /**
  * Сервис проверки модулей оперативной памяти.
@@ -22,6 +26,7 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_MOTHERBOARD_MAX_RAM_CLO
  * максимальную частоту оперативной памяти материнской платы.
  */
 @Order(250)
+@CheckedSlots({MOTHERBOARD, RAM_MODULES})
 @Component
 public class MotherboardMaxRamClockChecker extends IOptimalityChecker {
 
@@ -35,7 +40,7 @@ public class MotherboardMaxRamClockChecker extends IOptimalityChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final var computerToModules = computer.getRamModules();
         final Motherboard motherboard = computer.getMotherboard();
@@ -63,10 +68,10 @@ public class MotherboardMaxRamClockChecker extends IOptimalityChecker {
                 .map(RamModule::getClock)
                 .collect(Collectors.toSet());
 
-        return Optional.of(translator.getMessage(
+        return violation(
                 MESSAGE_CODE_MOTHERBOARD_MAX_RAM_CLOCK_EXCEEDING,
                 exceedingClockSet.toString(),
                 motherboardMaxMemoryClock.toString()
-        ));
+        );
     }
 }
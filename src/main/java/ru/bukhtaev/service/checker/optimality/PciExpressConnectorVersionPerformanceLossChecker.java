@@ -5,11 +5,17 @@ import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.GraphicsCard;
 import ru.bukhtaev.model.Motherboard;
+import ru.bukhtaev.model.dictionary.PciExpressConnectorVersion;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.ConnectorOrderIndexService;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.Optional;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_PCI_EXPRESS_CONNECTOR_VERSION;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.GRAPHICS_CARD;
 
 /**
  * Сервис проверки версии коннектора PCI-Express.
@@ -17,20 +23,31 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_PCI_EXPRESS_CONNECTOR_V
  * ниже или равна версии этого коннектора на материнской плате.
  */
 @Order(50)
+@CheckedSlots({MOTHERBOARD, GRAPHICS_CARD})
 @Component
 public class PciExpressConnectorVersionPerformanceLossChecker extends IOptimalityChecker {
 
+    /**
+     * Сервис индекса порядка коннекторов.
+     */
+    private final ConnectorOrderIndexService orderIndexService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator        сервис предоставления сообщений
+     * @param orderIndexService сервис индекса порядка коннекторов
      */
-    protected PciExpressConnectorVersionPerformanceLossChecker(final Translator translator) {
+    protected PciExpressConnectorVersionPerformanceLossChecker(
+            final Translator translator,
+            final ConnectorOrderIndexService orderIndexService
+    ) {
         super(translator);
+        this.orderIndexService = orderIndexService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final GraphicsCard graphicsCard = computer.getGraphicsCard();
         final Motherboard motherboard = computer.getMotherboard();
@@ -42,14 +59,16 @@ public class PciExpressConnectorVersionPerformanceLossChecker extends IOptimalit
         final var graphicsCardPciVersion = graphicsCard.getPciExpressConnectorVersion();
         final var motherboardPciVersion = motherboard.getPciExpressConnectorVersion();
 
-        if (!motherboardPciVersion.equals(graphicsCardPciVersion)
-                && (!motherboardPciVersion.getLowerVersions().contains(graphicsCardPciVersion))
-        ) {
-            return Optional.of(translator.getMessage(
+        if (!orderIndexService.getIndex().isAtOrBelow(
+                PciExpressConnectorVersion.class,
+                graphicsCardPciVersion.getId(),
+                motherboardPciVersion.getId()
+        )) {
+            return violation(
                     MESSAGE_CODE_PCI_EXPRESS_CONNECTOR_VERSION,
                     motherboardPciVersion.getName(),
                     graphicsCardPciVersion.getName()
-            ));
+            );
         }
 
         return Optional.empty();
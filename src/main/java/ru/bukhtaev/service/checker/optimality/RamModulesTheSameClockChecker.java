@@ -6,12 +6,15 @@ import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.RamModule;
 import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
 import ru.bukhtaev.model.dictionary.RamType;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_RAM_MODULES_DIFFERENT_CLOCK;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
 
 /**
  * Сервис проверки модулей оперативной памяти.
@@ -19,6 +22,7 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_RAM_MODULES_DIFFERENT_C
  * имеют одинаковую частоту.
  */
 @Order(150)
+@CheckedSlots(RAM_MODULES)
 @Component
 public class RamModulesTheSameClockChecker extends IOptimalityChecker {
 
@@ -32,7 +36,7 @@ public class RamModulesTheSameClockChecker extends IOptimalityChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final var computerToModules = computer.getRamModules();
 
@@ -54,11 +58,11 @@ public class RamModulesTheSameClockChecker extends IOptimalityChecker {
                             .min(Comparator.comparingInt(clock -> clock))
                             .get();
 
-                    return Optional.of(translator.getMessage(
+                    return violation(
                             MESSAGE_CODE_RAM_MODULES_DIFFERENT_CLOCK,
                             clockSet,
                             minClock.toString()
-                    ));
+                    );
                 }
             }
         }
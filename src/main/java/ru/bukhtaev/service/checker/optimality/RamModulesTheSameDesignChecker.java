@@ -4,6 +4,8 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import ru.bukhtaev.model.ComputerBuild;
 import ru.bukhtaev.model.Design;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
 import ru.bukhtaev.i18n.Translator;
 
 import java.text.MessageFormat;
@@ -13,6 +15,7 @@ import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_RAM_MODULES_WITH_DIFFERENT_DESIGN;
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_TWO_PART_NAME;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
 
 /**
  * Сервис проверки модулей оперативной памяти.
@@ -20,6 +23,7 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_TWO_PART_NAME;
  * имеют одинаковый вариант исполнения.
  */
 @Order(100)
+@CheckedSlots(RAM_MODULES)
 @Component
 public class RamModulesTheSameDesignChecker extends IOptimalityChecker {
 
@@ -33,7 +37,7 @@ public class RamModulesTheSameDesignChecker extends IOptimalityChecker {
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final var computerToModules = computer.getRamModules();
 
@@ -53,10 +57,10 @@ public class RamModulesTheSameDesignChecker extends IOptimalityChecker {
                             design.getName()
                     )).collect(Collectors.toSet());
 
-            return Optional.of(translator.getMessage(
+            return violation(
                     MESSAGE_CODE_RAM_MODULES_WITH_DIFFERENT_DESIGN,
                     designNames
-            ));
+            );
         }
 
         return Optional.empty();
@@ -8,6 +8,10 @@ import ru.bukhtaev.model.cross.ComputerBuildToHdd;
 import ru.bukhtaev.model.cross.ComputerBuildToSsd;
 import ru.bukhtaev.model.cross.MotherboardToStorageConnector;
 import ru.bukhtaev.model.dictionary.StorageConnector;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.ConnectorOrderIndex;
+import ru.bukhtaev.service.checker.ConnectorOrderIndexService;
 import ru.bukhtaev.i18n.Translator;
 
 import java.text.MessageFormat;
@@ -19,6 +23,9 @@ import java.util.stream.Collectors;
 
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_STORAGE_DEVICE_SPEED_LOSSES;
 import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_THREE_PART_NAME;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.HDDS;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.SSDS;
 
 /**
  * Сервис проверки устройств хранения данных.
@@ -27,20 +34,31 @@ import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_TEMPLATE_THREE_PART_NAME;
  * не ухудшающий производительность этого устройства хранения данных.
  */
 @Order(300)
+@CheckedSlots({MOTHERBOARD, HDDS, SSDS})
 @Component
 public class StorageConnectorPerformanceLossChecker extends IOptimalityChecker {
 
+    /**
+     * Сервис индекса порядка коннекторов.
+     */
+    private final ConnectorOrderIndexService orderIndexService;
+
     /**
      * Конструктор.
      *
-     * @param translator сервис предоставления сообщений
+     * @param translator        сервис предоставления сообщений
+     * @param orderIndexService сервис индекса порядка коннекторов
      */
-    protected StorageConnectorPerformanceLossChecker(final Translator translator) {
+    protected StorageConnectorPerformanceLossChecker(
+            final Translator translator,
+            final ConnectorOrderIndexService orderIndexService
+    ) {
         super(translator);
+        this.orderIndexService = orderIndexService;
     }
 
     @Override
-    public Optional<String> check(final ComputerBuild computer) {
+    public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
 
         final Motherboard motherboard = computer.getMotherboard();
         final var computerToHdds = computer.getHdds();
@@ -92,16 +110,18 @@ public class StorageConnectorPerformanceLossChecker extends IOptimalityChecker {
             );
         }
 
+        final ConnectorOrderIndex index = orderIndexService.getIndex();
+
         // сначала бронируем полностью совпадающие
         bookMatchingConnectors(neededConnectors, availableConnectors);
 
         // теперь бронируем совместимые для не совпавших без потерь скорости
-        bookUpperConnectors(neededConnectors, availableConnectors);
+        bookUpperConnectors(neededConnectors, availableConnectors, index);
 
         final var perfLossConnectors = Map.copyOf(neededConnectors);
 
         // теперь бронируем совместимые для не совпавших с потерями скорости
-        bookLowerConnectors(neededConnectors, availableConnectors);
+        bookLowerConnectors(neededConnectors, availableConnectors, index);
 
         if (neededConnectors.isEmpty() && !perfLossConnectors.isEmpty()) {
             final String motherboardName = MessageFormat.format(
@@ -111,10 +131,10 @@ public class StorageConnectorPerformanceLossChecker extends IOptimalityChecker {
                     motherboard.getName()
             );
 
-            return Optional.of(translator.getMessage(
+            return violation(
                     MESSAGE_CODE_STORAGE_DEVICE_SPEED_LOSSES,
                     motherboardName
-            ));
+            );
         }
 
         return Optional.empty();
@@ -126,10 +146,12 @@ public class StorageConnectorPerformanceLossChecker extends IOptimalityChecker {
      *
      * @param neededConnectors    необходимые коннекторы подключения накопителей
      * @param availableConnectors доступные коннекторы подключения накопителей
+     * @param index               индекс порядка коннекторов
      */
     private void bookLowerConnectors(
             final Map<StorageConnector, Integer> neededConnectors,
-            final Map<StorageConnector, Integer> availableConnectors
+            final Map<StorageConnector, Integer> availableConnectors,
+            final ConnectorOrderIndex index
     ) {
         Set.copyOf(neededConnectors.entrySet()).forEach(entry -> {
             final StorageConnector neededConnector = entry.getKey();
@@ -138,7 +160,11 @@ public class StorageConnectorPerformanceLossChecker extends IOptimalityChecker {
             final var lowerConnectors = availableConnectors.entrySet()
                     .stream()
                     .filter(e -> e.getValue() > 0)
-                    .filter(e -> neededConnector.getCompatibleConnectors().contains(e.getKey()))
+                    .filter(e -> index.isBelow(
+                            StorageConnector.class,
+                            e.getKey().getId(),
+                            neededConnector.getId()
+                    ))
                     .collect(Collectors.toMap(
                             Map.Entry::getKey,
                             Map.Entry::getValue,
@@ -169,10 +195,12 @@ public class StorageConnectorPerformanceLossChecker extends IOptimalityChecker {
      *
      * @param neededConnectors    необходимые коннекторы подключения накопителей
      * @param availableConnectors доступные коннекторы подключения накопителей
+     * @param index               индекс порядка коннекторов
      */
     private void bookUpperConnectors(
             final Map<StorageConnector, Integer> neededConnectors,
-            final Map<StorageConnector, Integer> availableConnectors
+            final Map<StorageConnector, Integer> availableConnectors,
+            final ConnectorOrderIndex index
     ) {
         Set.copyOf(neededConnectors.entrySet()).forEach(entry -> {
             final StorageConnector neededConnector = entry.getKey();
@@ -182,7 +210,11 @@ public class StorageConnectorPerformanceLossChecker extends IOptimalityChecker {
             final var upperConnectors = availableConnectors.entrySet()
                     .stream()
                     .filter(e -> e.getValue() > 0)
-                    .filter(e -> e.getKey().getCompatibleConnectors().contains(neededConnector))
+                    .filter(e -> index.isBelow(
+                            StorageConnector.class,
+                            neededConnector.getId(),
+                            e.getKey().getId()
+                    ))
                     .collect(Collectors.toMap(
                             Map.Entry::getKey,
                             Map.Entry::getValue
@@ -1,8 +1,10 @@
 package ru.bukhtaev.service.crud;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -12,7 +14,10 @@ import ru.bukhtaev.model.Chipset;
 import ru.bukhtaev.model.dictionary.Socket;
 import ru.bukhtaev.repository.IChipsetRepository;
 import ru.bukhtaev.repository.dictionary.ISocketRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.List;
 import java.util.Optional;
@@ -49,22 +54,38 @@ public class ChipsetCrudService implements IPagingCrudService<Chipset, UUID> {
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Конструктор.
      *
      * @param chipsetRepository репозиторий чипсетов
      * @param socketRepository  репозиторий сокетов
      * @param translator        сервис предоставления сообщений
+     * @param eventPublisher    публикатор событий приложения
+     * @param tokenCodec        сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public ChipsetCrudService(
             final IChipsetRepository chipsetRepository,
             final ISocketRepository socketRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.chipsetRepository = chipsetRepository;
         this.socketRepository = socketRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -82,6 +103,13 @@ public class ChipsetCrudService implements IPagingCrudService<Chipset, UUID> {
         return chipsetRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<Chipset> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                chipsetRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public Chipset create(final Chipset newChipset) {
@@ -114,6 +142,7 @@ public class ChipsetCrudService implements IPagingCrudService<Chipset, UUID> {
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         chipsetRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Chipset.class, id));
     }
 
     @Override
@@ -143,6 +172,8 @@ public class ChipsetCrudService implements IPagingCrudService<Chipset, UUID> {
             toBeUpdated.setSocket(found);
         }
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Chipset.class, id));
+
         return chipsetRepository.save(toBeUpdated);
     }
 
@@ -177,6 +208,8 @@ public class ChipsetCrudService implements IPagingCrudService<Chipset, UUID> {
         final Socket foundSocket = findSocketById(socket.getId());
         existent.setSocket(foundSocket);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Chipset.class, id));
+
         return chipsetRepository.save(existent);
     }
 
@@ -3,8 +3,10 @@ package ru.bukhtaev.service.crud;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -16,13 +18,17 @@ import ru.bukhtaev.model.cross.ComputerBuildToHdd;
 import ru.bukhtaev.model.cross.ComputerBuildToRamModule;
 import ru.bukhtaev.model.cross.ComputerBuildToSsd;
 import ru.bukhtaev.repository.*;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.*;
 
 import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
 import static ru.bukhtaev.model.BaseEntity.FIELD_ID;
 import static ru.bukhtaev.model.ComputerBuild.*;
+import static ru.bukhtaev.repository.ComputerBuildFetchPlan.DETAIL;
 import static ru.bukhtaev.i18n.MessageUtils.*;
 
 /**
@@ -95,6 +101,16 @@ public class ComputerBuildCrudService implements IPagingCrudService<ComputerBuil
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Менеджер сущностей.
      */
@@ -116,6 +132,8 @@ public class ComputerBuildCrudService implements IPagingCrudService<ComputerBuil
      * @param hddRepository           репозиторий жестких дисков
      * @param ssdRepository           репозиторий SSD-накопителей
      * @param translator              сервис предоставления сообщений
+     * @param eventPublisher          публикатор событий приложения
+     * @param tokenCodec              сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public ComputerBuildCrudService(
@@ -130,7 +148,9 @@ public class ComputerBuildCrudService implements IPagingCrudService<ComputerBuil
             final IFanRepository fanRepository,
             final IHddRepository hddRepository,
             final ISsdRepository ssdRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.computerBuildRepository = computerBuildRepository;
         this.graphicsCardRepository = graphicsCardRepository;
@@ -144,6 +164,8 @@ public class ComputerBuildCrudService implements IPagingCrudService<ComputerBuil
         this.hddRepository = hddRepository;
         this.ssdRepository = ssdRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -161,6 +183,13 @@ public class ComputerBuildCrudService implements IPagingCrudService<ComputerBuil
         return computerBuildRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<ComputerBuild> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                computerBuildRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public ComputerBuild create(final ComputerBuild newBuild) {
@@ -283,13 +312,17 @@ public class ComputerBuildCrudService implements IPagingCrudService<ComputerBuil
                     );
                 });
 
-        return computerBuildRepository.save(newBuild);
+        final ComputerBuild saved = computerBuildRepository.save(newBuild);
+        eventPublisher.publishEvent(new EntityChangedEvent(ComputerBuild.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         computerBuildRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(ComputerBuild.class, id));
     }
 
     @Override
@@ -414,6 +447,8 @@ public class ComputerBuildCrudService implements IPagingCrudService<ComputerBuil
         toBeUpdated.setGraphicsCard(foundGraphicsCard);
         toBeUpdated.setComputerCase(foundComputerCase);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(ComputerBuild.class, id));
+
         return computerBuildRepository.save(toBeUpdated);
     }
 
@@ -534,18 +569,21 @@ public class ComputerBuildCrudService implements IPagingCrudService<ComputerBuil
         existent.setGraphicsCard(foundGraphicsCard);
         existent.setComputerCase(foundComputerCase);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(ComputerBuild.class, id));
+
         return computerBuildRepository.save(existent);
     }
 
     /**
      * Возвращает сборку ПК с указанным ID, если она существует.
      * В противном случае выбрасывает {@link DataNotFoundException}.
+     * Сборка ПК загружается по плану {@link ComputerBuildFetchPlan#DETAIL}.
      *
      * @param id ID
      * @return сборку ПК с указанным ID, если она существует
      */
     private ComputerBuild findComputerBuildById(final UUID id) {
-        return computerBuildRepository.findById(id)
+        return computerBuildRepository.findById(id, DETAIL)
                 .orElseThrow(() -> new DataNotFoundException(
                         translator.getMessage(
                                 MESSAGE_CODE_COMPUTER_BUILD_NOT_FOUND,
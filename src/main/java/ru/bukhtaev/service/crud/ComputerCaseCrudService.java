@@ -3,8 +3,10 @@ package ru.bukhtaev.service.crud;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -16,7 +18,10 @@ import ru.bukhtaev.model.cross.ComputerCaseToFanSize;
 import ru.bukhtaev.model.dictionary.*;
 import ru.bukhtaev.repository.IComputerCaseRepository;
 import ru.bukhtaev.repository.dictionary.*;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -71,6 +76,16 @@ public class ComputerCaseCrudService implements IPagingCrudService<ComputerCase,
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Менеджер сущностей.
      */
@@ -87,6 +102,8 @@ public class ComputerCaseCrudService implements IPagingCrudService<ComputerCase,
      * @param expansionBayFormatRepository    репозиторий форматов отсеков расширения
      * @param fanSizeRepository               репозиторий размеров вентиляторов
      * @param translator                      сервис предоставления сообщений
+     * @param eventPublisher                  публикатор событий приложения
+     * @param tokenCodec                      сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public ComputerCaseCrudService(
@@ -96,7 +113,9 @@ public class ComputerCaseCrudService implements IPagingCrudService<ComputerCase,
             final IPsuFormFactorRepository psuFormFactorRepository,
             final IExpansionBayFormatRepository expansionBayFormatRepository,
             final IFanSizeRepository fanSizeRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.computerCaseRepository = computerCaseRepository;
         this.vendorRepository = vendorRepository;
@@ -105,6 +124,8 @@ public class ComputerCaseCrudService implements IPagingCrudService<ComputerCase,
         this.expansionBayFormatRepository = expansionBayFormatRepository;
         this.fanSizeRepository = fanSizeRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -122,6 +143,13 @@ public class ComputerCaseCrudService implements IPagingCrudService<ComputerCase,
         return computerCaseRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<ComputerCase> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                computerCaseRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public ComputerCase create(final ComputerCase newCase) {
@@ -185,13 +213,17 @@ public class ComputerCaseCrudService implements IPagingCrudService<ComputerCase,
                     );
                 });
 
-        return computerCaseRepository.save(newCase);
+        final ComputerCase saved = computerCaseRepository.save(newCase);
+        eventPublisher.publishEvent(new EntityChangedEvent(ComputerCase.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         computerCaseRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(ComputerCase.class, id));
     }
 
     @Override
@@ -294,6 +326,8 @@ public class ComputerCaseCrudService implements IPagingCrudService<ComputerCase,
 
         toBeUpdated.setVendor(foundVendor);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(ComputerCase.class, id));
+
         return computerCaseRepository.save(toBeUpdated);
     }
 
@@ -373,6 +407,8 @@ public class ComputerCaseCrudService implements IPagingCrudService<ComputerCase,
         existent.setMotherboardFormFactors(foundMotherboardFormFactors);
         existent.setPsuFormFactors(foundPsuFormFactors);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(ComputerCase.class, id));
+
         return computerCaseRepository.save(existent);
     }
 
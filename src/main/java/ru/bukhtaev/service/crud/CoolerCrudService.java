@@ -1,8 +1,10 @@
 package ru.bukhtaev.service.crud;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -18,7 +20,10 @@ import ru.bukhtaev.repository.dictionary.IFanPowerConnectorRepository;
 import ru.bukhtaev.repository.dictionary.IFanSizeRepository;
 import ru.bukhtaev.repository.dictionary.ISocketRepository;
 import ru.bukhtaev.repository.dictionary.IVendorRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -69,6 +74,16 @@ public class CoolerCrudService implements IPagingCrudService<Cooler, UUID> {
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Конструктор.
      *
@@ -78,6 +93,8 @@ public class CoolerCrudService implements IPagingCrudService<Cooler, UUID> {
      * @param powerConnectorRepository репозиторий коннекторов питания вентиляторов
      * @param socketRepository         репозиторий сокетов
      * @param translator               сервис предоставления сообщений
+     * @param eventPublisher           публикатор событий приложения
+     * @param tokenCodec               сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public CoolerCrudService(
@@ -86,7 +103,9 @@ public class CoolerCrudService implements IPagingCrudService<Cooler, UUID> {
             final IFanSizeRepository fanSizeRepository,
             final IFanPowerConnectorRepository powerConnectorRepository,
             final ISocketRepository socketRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.coolerRepository = coolerRepository;
         this.vendorRepository = vendorRepository;
@@ -94,6 +113,8 @@ public class CoolerCrudService implements IPagingCrudService<Cooler, UUID> {
         this.powerConnectorRepository = powerConnectorRepository;
         this.socketRepository = socketRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -111,6 +132,13 @@ public class CoolerCrudService implements IPagingCrudService<Cooler, UUID> {
         return coolerRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<Cooler> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                coolerRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public Cooler create(final Cooler newCooler) {
@@ -175,13 +203,17 @@ public class CoolerCrudService implements IPagingCrudService<Cooler, UUID> {
                     );
                 });
 
-        return coolerRepository.save(newCooler);
+        final Cooler saved = coolerRepository.save(newCooler);
+        eventPublisher.publishEvent(new EntityChangedEvent(Cooler.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         coolerRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Cooler.class, id));
     }
 
     @Override
@@ -245,6 +277,8 @@ public class CoolerCrudService implements IPagingCrudService<Cooler, UUID> {
         toBeUpdated.setFanSize(foundFanSize);
         toBeUpdated.setPowerConnector(foundPowerConnector);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Cooler.class, id));
+
         return coolerRepository.save(toBeUpdated);
     }
 
@@ -317,6 +351,8 @@ public class CoolerCrudService implements IPagingCrudService<Cooler, UUID> {
         existent.setPowerConnector(foundPowerConnector);
         existent.setSupportedSockets(foundSupportedSockets);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Cooler.class, id));
+
         return coolerRepository.save(existent);
     }
 
@@ -3,8 +3,10 @@ package ru.bukhtaev.service.crud;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -19,7 +21,10 @@ import ru.bukhtaev.repository.ICpuRepository;
 import ru.bukhtaev.repository.dictionary.IManufacturerRepository;
 import ru.bukhtaev.repository.dictionary.IRamTypeRepository;
 import ru.bukhtaev.repository.dictionary.ISocketRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.*;
 
@@ -64,6 +69,16 @@ public class CpuCrudService implements IPagingCrudService<Cpu, UUID> {
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Менеджер сущностей.
      */
@@ -78,6 +93,8 @@ public class CpuCrudService implements IPagingCrudService<Cpu, UUID> {
      * @param ramTypeRepository      репозиторий типов оперативной памяти
      * @param socketRepository       репозиторий сокетов
      * @param translator             сервис предоставления сообщений
+     * @param eventPublisher         публикатор событий приложения
+     * @param tokenCodec             сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public CpuCrudService(
@@ -85,13 +102,17 @@ public class CpuCrudService implements IPagingCrudService<Cpu, UUID> {
             final IManufacturerRepository manufacturerRepository,
             final IRamTypeRepository ramTypeRepository,
             final ISocketRepository socketRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.cpuRepository = cpuRepository;
         this.manufacturerRepository = manufacturerRepository;
         this.ramTypeRepository = ramTypeRepository;
         this.socketRepository = socketRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -109,6 +130,13 @@ public class CpuCrudService implements IPagingCrudService<Cpu, UUID> {
         return cpuRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<Cpu> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                cpuRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public Cpu create(final Cpu newCpu) {
@@ -156,13 +184,17 @@ public class CpuCrudService implements IPagingCrudService<Cpu, UUID> {
                     );
                 });
 
-        return cpuRepository.save(newCpu);
+        final Cpu saved = cpuRepository.save(newCpu);
+        eventPublisher.publishEvent(new EntityChangedEvent(Cpu.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         cpuRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Cpu.class, id));
     }
 
     @Override
@@ -257,6 +289,8 @@ public class CpuCrudService implements IPagingCrudService<Cpu, UUID> {
         toBeUpdated.setManufacturer(foundManufacturer);
         toBeUpdated.setSocket(foundSocket);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Cpu.class, id));
+
         return cpuRepository.save(toBeUpdated);
     }
 
@@ -322,6 +356,8 @@ public class CpuCrudService implements IPagingCrudService<Cpu, UUID> {
         existent.setManufacturer(foundManufacturer);
         existent.setSocket(foundSocket);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Cpu.class, id));
+
         return cpuRepository.save(existent);
     }
 
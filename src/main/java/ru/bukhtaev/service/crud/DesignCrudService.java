@@ -1,8 +1,10 @@
 package ru.bukhtaev.service.crud;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -12,7 +14,10 @@ import ru.bukhtaev.model.Design;
 import ru.bukhtaev.model.dictionary.Vendor;
 import ru.bukhtaev.repository.IDesignRepository;
 import ru.bukhtaev.repository.dictionary.IVendorRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.List;
 import java.util.Optional;
@@ -49,22 +54,38 @@ public class DesignCrudService implements IPagingCrudService<Design, UUID> {
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Конструктор.
      *
      * @param designRepository репозиторий вариантов исполнения
      * @param vendorRepository репозиторий вендоров
      * @param translator       сервис предоставления сообщений
+     * @param eventPublisher   публикатор событий приложения
+     * @param tokenCodec       сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public DesignCrudService(
             final IDesignRepository designRepository,
             final IVendorRepository vendorRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.designRepository = designRepository;
         this.vendorRepository = vendorRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -82,6 +103,13 @@ public class DesignCrudService implements IPagingCrudService<Design, UUID> {
         return designRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<Design> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                designRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public Design create(final Design newDesign) {
@@ -114,6 +142,7 @@ public class DesignCrudService implements IPagingCrudService<Design, UUID> {
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         designRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Design.class, id));
     }
 
     @Override
@@ -143,6 +172,8 @@ public class DesignCrudService implements IPagingCrudService<Design, UUID> {
             toBeUpdated.setVendor(found);
         }
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Design.class, id));
+
         return designRepository.save(toBeUpdated);
     }
 
@@ -177,6 +208,8 @@ public class DesignCrudService implements IPagingCrudService<Design, UUID> {
         final Vendor foundVendor = findVendorById(vendor.getId());
         existent.setVendor(foundVendor);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Design.class, id));
+
         return designRepository.save(existent);
     }
 
@@ -1,8 +1,10 @@
 package ru.bukhtaev.service.crud;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -16,7 +18,10 @@ import ru.bukhtaev.repository.dictionary.IFanPowerConnectorRepository;
 import ru.bukhtaev.repository.IFanRepository;
 import ru.bukhtaev.repository.dictionary.IFanSizeRepository;
 import ru.bukhtaev.repository.dictionary.IVendorRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.List;
 import java.util.Objects;
@@ -64,6 +69,16 @@ public class FanCrudService implements IPagingCrudService<Fan, UUID> {
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Конструктор.
      *
@@ -72,6 +87,8 @@ public class FanCrudService implements IPagingCrudService<Fan, UUID> {
      * @param vendorRepository         репозиторий вендоров
      * @param powerConnectorRepository репозиторий коннекторов питания вентиляторов
      * @param translator               сервис предоставления сообщений
+     * @param eventPublisher           публикатор событий приложения
+     * @param tokenCodec               сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public FanCrudService(
@@ -79,13 +96,17 @@ public class FanCrudService implements IPagingCrudService<Fan, UUID> {
             final IFanSizeRepository sizeRepository,
             final IVendorRepository vendorRepository,
             final IFanPowerConnectorRepository powerConnectorRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.fanRepository = fanRepository;
         this.sizeRepository = sizeRepository;
         this.vendorRepository = vendorRepository;
         this.powerConnectorRepository = powerConnectorRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -103,6 +124,13 @@ public class FanCrudService implements IPagingCrudService<Fan, UUID> {
         return fanRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<Fan> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                fanRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public Fan create(final Fan newFan) {
@@ -156,13 +184,17 @@ public class FanCrudService implements IPagingCrudService<Fan, UUID> {
             );
         });
 
-        return fanRepository.save(newFan);
+        final Fan saved = fanRepository.save(newFan);
+        eventPublisher.publishEvent(new EntityChangedEvent(Fan.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         fanRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Fan.class, id));
     }
 
     @Override
@@ -213,6 +245,8 @@ public class FanCrudService implements IPagingCrudService<Fan, UUID> {
             toBeUpdated.setVendor(foundVendor);
             toBeUpdated.setPowerConnector(foundPowerConnector);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Fan.class, id));
+
         return fanRepository.save(toBeUpdated);
     }
 
@@ -272,6 +306,8 @@ public class FanCrudService implements IPagingCrudService<Fan, UUID> {
         existent.setSize(foundSize);
         existent.setPowerConnector(foundPowerConnector);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Fan.class, id));
+
         return fanRepository.save(existent);
     }
 
@@ -1,8 +1,10 @@
 package ru.bukhtaev.service.crud;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -14,7 +16,10 @@ import ru.bukhtaev.model.dictionary.VideoMemoryType;
 import ru.bukhtaev.repository.IGpuRepository;
 import ru.bukhtaev.repository.dictionary.IManufacturerRepository;
 import ru.bukhtaev.repository.dictionary.IVideoMemoryTypeRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.List;
 import java.util.Objects;
@@ -57,6 +62,16 @@ public class GpuCrudService implements IPagingCrudService<Gpu, UUID> {
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Конструктор.
      *
@@ -64,18 +79,24 @@ public class GpuCrudService implements IPagingCrudService<Gpu, UUID> {
      * @param manufacturerRepository репозиторий производителей
      * @param memoryTypeRepository   репозиторий типов видеопамяти
      * @param translator             сервис предоставления сообщений
+     * @param eventPublisher         публикатор событий приложения
+     * @param tokenCodec             сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public GpuCrudService(
             final IGpuRepository gpuRepository,
             final IManufacturerRepository manufacturerRepository,
             final IVideoMemoryTypeRepository memoryTypeRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.gpuRepository = gpuRepository;
         this.manufacturerRepository = manufacturerRepository;
         this.memoryTypeRepository = memoryTypeRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -93,6 +114,13 @@ public class GpuCrudService implements IPagingCrudService<Gpu, UUID> {
         return gpuRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<Gpu> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                gpuRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public Gpu create(final Gpu newGpu) {
@@ -143,6 +171,7 @@ public class GpuCrudService implements IPagingCrudService<Gpu, UUID> {
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         gpuRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Gpu.class, id));
     }
 
     @Override
@@ -200,6 +229,8 @@ public class GpuCrudService implements IPagingCrudService<Gpu, UUID> {
         toBeUpdated.setManufacturer(foundManufacturer);
         toBeUpdated.setMemoryType(foundMemoryType);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Gpu.class, id));
+
         return gpuRepository.save(toBeUpdated);
     }
 
@@ -252,6 +283,8 @@ public class GpuCrudService implements IPagingCrudService<Gpu, UUID> {
         existent.setManufacturer(foundManufacturer);
         existent.setMemoryType(foundMemoryType);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Gpu.class, id));
+
         return gpuRepository.save(existent);
     }
 
@@ -3,8 +3,10 @@ package ru.bukhtaev.service.crud;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -19,7 +21,10 @@ import ru.bukhtaev.model.dictionary.PciExpressConnectorVersion;
 import ru.bukhtaev.repository.*;
 import ru.bukhtaev.repository.dictionary.IGraphicsCardPowerConnectorRepository;
 import ru.bukhtaev.repository.dictionary.IPciExpressConnectorVersionRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.*;
 
@@ -68,6 +73,16 @@ public class GraphicsCardCrudService implements IPagingCrudService<GraphicsCard,
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Менеджер сущностей.
      */
@@ -83,6 +98,8 @@ public class GraphicsCardCrudService implements IPagingCrudService<GraphicsCard,
      * @param pciExpressConnectorVersionRepository репозиторий версий коннектора PCI-Express
      * @param powerConnectorRepository             репозиторий коннекторов питания видеокарт
      * @param translator                           сервис предоставления сообщений
+     * @param eventPublisher                       публикатор событий приложения
+     * @param tokenCodec                           сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public GraphicsCardCrudService(
@@ -91,7 +108,9 @@ public class GraphicsCardCrudService implements IPagingCrudService<GraphicsCard,
             final IDesignRepository designRepository,
             final IPciExpressConnectorVersionRepository pciExpressConnectorVersionRepository,
             final IGraphicsCardPowerConnectorRepository powerConnectorRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.cardRepository = cardRepository;
         this.gpuRepository = gpuRepository;
@@ -99,6 +118,8 @@ public class GraphicsCardCrudService implements IPagingCrudService<GraphicsCard,
         this.pciExpressConnectorVersionRepository = pciExpressConnectorVersionRepository;
         this.powerConnectorRepository = powerConnectorRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -116,6 +137,13 @@ public class GraphicsCardCrudService implements IPagingCrudService<GraphicsCard,
         return cardRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<GraphicsCard> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                cardRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public GraphicsCard create(final GraphicsCard newCard) {
@@ -178,13 +206,17 @@ public class GraphicsCardCrudService implements IPagingCrudService<GraphicsCard,
             );
         });
 
-        return cardRepository.save(newCard);
+        final GraphicsCard saved = cardRepository.save(newCard);
+        eventPublisher.publishEvent(new EntityChangedEvent(GraphicsCard.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         cardRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(GraphicsCard.class, id));
     }
 
     @Override
@@ -248,6 +280,8 @@ public class GraphicsCardCrudService implements IPagingCrudService<GraphicsCard,
         toBeUpdated.setDesign(foundDesign);
         toBeUpdated.setPciExpressConnectorVersion(foundVersion);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(GraphicsCard.class, id));
+
         return cardRepository.save(toBeUpdated);
     }
 
@@ -318,6 +352,8 @@ public class GraphicsCardCrudService implements IPagingCrudService<GraphicsCard,
         existent.setDesign(foundDesign);
         existent.setPciExpressConnectorVersion(foundVersion);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(GraphicsCard.class, id));
+
         return cardRepository.save(existent);
     }
 
@@ -1,8 +1,10 @@
 package ru.bukhtaev.service.crud;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -18,7 +20,10 @@ import ru.bukhtaev.repository.dictionary.IExpansionBayFormatRepository;
 import ru.bukhtaev.repository.dictionary.IStorageConnectorRepository;
 import ru.bukhtaev.repository.dictionary.IStoragePowerConnectorRepository;
 import ru.bukhtaev.repository.dictionary.IVendorRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.List;
 import java.util.Objects;
@@ -73,6 +78,16 @@ public class HddCrudService implements IPagingCrudService<Hdd, UUID> {
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Конструктор.
      *
@@ -82,6 +97,8 @@ public class HddCrudService implements IPagingCrudService<Hdd, UUID> {
      * @param powerConnectorRepository     репозиторий коннекторов питания накопителей
      * @param expansionBayFormatRepository репозиторий форматов отсеков расширения
      * @param translator                   сервис предоставления сообщений
+     * @param eventPublisher               публикатор событий приложения
+     * @param tokenCodec                   сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public HddCrudService(
@@ -90,7 +107,9 @@ public class HddCrudService implements IPagingCrudService<Hdd, UUID> {
             final IStorageConnectorRepository connectorRepository,
             final IStoragePowerConnectorRepository powerConnectorRepository,
             final IExpansionBayFormatRepository expansionBayFormatRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.hddRepository = hddRepository;
         this.vendorRepository = vendorRepository;
@@ -98,6 +117,8 @@ public class HddCrudService implements IPagingCrudService<Hdd, UUID> {
         this.powerConnectorRepository = powerConnectorRepository;
         this.expansionBayFormatRepository = expansionBayFormatRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -115,6 +136,13 @@ public class HddCrudService implements IPagingCrudService<Hdd, UUID> {
         return hddRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<Hdd> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                hddRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public Hdd create(final Hdd newHdd) {
@@ -183,13 +211,17 @@ public class HddCrudService implements IPagingCrudService<Hdd, UUID> {
             );
         });
 
-        return hddRepository.save(newHdd);
+        final Hdd saved = hddRepository.save(newHdd);
+        eventPublisher.publishEvent(new EntityChangedEvent(Hdd.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         hddRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Hdd.class, id));
     }
 
     @Override
@@ -280,6 +312,8 @@ public class HddCrudService implements IPagingCrudService<Hdd, UUID> {
         toBeUpdated.setPowerConnector(foundPowerConnector);
         toBeUpdated.setExpansionBayFormat(foundFormat);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Hdd.class, id));
+
         return hddRepository.save(toBeUpdated);
     }
 
@@ -358,6 +392,8 @@ public class HddCrudService implements IPagingCrudService<Hdd, UUID> {
         existent.setPowerConnector(foundPowerConnector);
         existent.setExpansionBayFormat(foundFormat);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Hdd.class, id));
+
         return hddRepository.save(existent);
     }
 
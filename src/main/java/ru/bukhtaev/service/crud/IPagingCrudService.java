@@ -2,6 +2,8 @@ package ru.bukhtaev.service.crud;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import ru.bukhtaev.util.KeysetSlice;
 
 /**
  * Сервис CRUD операций над сущностями с поддержкой пагинации.
@@ -18,4 +20,16 @@ public interface IPagingCrudService<T, ID> extends ICrudService<T, ID> {
      * @return сущности типа {@link T} постранично
      */
     Slice<T> getAll(final Pageable pageable);
+
+    /**
+     * Возвращает порцию сущностей типа {@link T}, следующую за позицией из токена.
+     * В отличие от {@link #getAll(Pageable)} не пропускает предшествующие сущности смещением,
+     * поэтому время получения порции не зависит от ее удаленности от начала.
+     *
+     * @param sort  сортировка, ID добавляется к ней последним ключом
+     * @param limit максимальное количество сущностей в порции
+     * @param token токен предыдущей порции или {@code null} для первой порции
+     * @return порция сущностей типа {@link T} с токеном следующей порции
+     */
+    KeysetSlice<T> getAll(final Sort sort, final int limit, final String token);
 }
@@ -3,8 +3,10 @@ package ru.bukhtaev.service.crud;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -20,7 +22,10 @@ import ru.bukhtaev.repository.IChipsetRepository;
 import ru.bukhtaev.repository.IDesignRepository;
 import ru.bukhtaev.repository.IMotherboardRepository;
 import ru.bukhtaev.repository.dictionary.*;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.*;
 
@@ -94,6 +99,16 @@ public class MotherboardCrudService implements IPagingCrudService<Motherboard, U
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Менеджер сущностей.
      */
@@ -114,6 +129,8 @@ public class MotherboardCrudService implements IPagingCrudService<Motherboard, U
      * @param pciExpressConnectorVersionRepository репозиторий версий коннектора PCI_Express
      * @param storageConnectorRepository           репозиторий коннекторов подключения накопителей
      * @param translator                           сервис предоставления сообщений
+     * @param eventPublisher                       публикатор событий приложения
+     * @param tokenCodec                           сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public MotherboardCrudService(
@@ -127,7 +144,9 @@ public class MotherboardCrudService implements IPagingCrudService<Motherboard, U
             final ICpuPowerConnectorRepository cpuPowerConnectorRepository,
             final IMainPowerConnectorRepository mainPowerConnectorRepository,
             final IPciExpressConnectorVersionRepository pciExpressConnectorVersionRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.designRepository = designRepository;
         this.chipsetRepository = chipsetRepository;
@@ -140,6 +159,8 @@ public class MotherboardCrudService implements IPagingCrudService<Motherboard, U
         this.mainPowerConnectorRepository = mainPowerConnectorRepository;
         this.pciExpressConnectorVersionRepository = pciExpressConnectorVersionRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -157,6 +178,13 @@ public class MotherboardCrudService implements IPagingCrudService<Motherboard, U
         return motherboardRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<Motherboard> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                motherboardRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public Motherboard create(final Motherboard newMotherboard) {
@@ -291,13 +319,17 @@ public class MotherboardCrudService implements IPagingCrudService<Motherboard, U
             );
         });
 
-        return motherboardRepository.save(newMotherboard);
+        final Motherboard saved = motherboardRepository.save(newMotherboard);
+        eventPublisher.publishEvent(new EntityChangedEvent(Motherboard.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         motherboardRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Motherboard.class, id));
     }
 
     @Override
@@ -437,6 +469,8 @@ public class MotherboardCrudService implements IPagingCrudService<Motherboard, U
         toBeUpdated.setCoolerPowerConnector(foundCoolerPowerConnector);
         toBeUpdated.setPciExpressConnectorVersion(foundVersion);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Motherboard.class, id));
+
         return motherboardRepository.save(toBeUpdated);
     }
 
@@ -579,6 +613,8 @@ public class MotherboardCrudService implements IPagingCrudService<Motherboard, U
         existent.setCoolerPowerConnector(foundCoolerPowerConnector);
         existent.setPciExpressConnectorVersion(foundVersion);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Motherboard.class, id));
+
         return motherboardRepository.save(existent);
     }
 
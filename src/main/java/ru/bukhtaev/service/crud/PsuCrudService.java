@@ -3,8 +3,10 @@ package ru.bukhtaev.service.crud;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -17,7 +19,10 @@ import ru.bukhtaev.model.cross.PsuToStoragePowerConnector;
 import ru.bukhtaev.model.dictionary.*;
 import ru.bukhtaev.repository.IPsuRepository;
 import ru.bukhtaev.repository.dictionary.*;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.*;
 
@@ -81,6 +86,16 @@ public class PsuCrudService implements IPagingCrudService<Psu, UUID> {
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Менеджер сущностей.
      */
@@ -99,6 +114,8 @@ public class PsuCrudService implements IPagingCrudService<Psu, UUID> {
      * @param storagePowerConnectorRepository      репозиторий коннекторов питания накопителей
      * @param graphicsCardPowerConnectorRepository репозиторий коннекторов питания видеокарт
      * @param translator                           сервис предоставления сообщений
+     * @param eventPublisher                       публикатор событий приложения
+     * @param tokenCodec                           сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public PsuCrudService(
@@ -110,7 +127,9 @@ public class PsuCrudService implements IPagingCrudService<Psu, UUID> {
             final ICpuPowerConnectorRepository cpuPowerConnectorRepository,
             final IStoragePowerConnectorRepository storagePowerConnectorRepository,
             final IGraphicsCardPowerConnectorRepository graphicsCardPowerConnectorRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.psuRepository = psuRepository;
         this.vendorRepository = vendorRepository;
@@ -121,6 +140,8 @@ public class PsuCrudService implements IPagingCrudService<Psu, UUID> {
         this.storagePowerConnectorRepository = storagePowerConnectorRepository;
         this.graphicsCardPowerConnectorRepository = graphicsCardPowerConnectorRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -138,6 +159,13 @@ public class PsuCrudService implements IPagingCrudService<Psu, UUID> {
         return psuRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<Psu> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                psuRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public Psu create(final Psu newPsu) {
@@ -226,13 +254,17 @@ public class PsuCrudService implements IPagingCrudService<Psu, UUID> {
                     );
                 });
 
-        return psuRepository.save(newPsu);
+        final Psu saved = psuRepository.save(newPsu);
+        eventPublisher.publishEvent(new EntityChangedEvent(Psu.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         psuRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Psu.class, id));
     }
 
     @Override
@@ -348,6 +380,8 @@ public class PsuCrudService implements IPagingCrudService<Psu, UUID> {
         toBeUpdated.setCertificate(foundCertificate);
         toBeUpdated.setMainPowerConnector(foundMainPowerConnector);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Psu.class, id));
+
         return psuRepository.save(toBeUpdated);
     }
 
@@ -451,6 +485,8 @@ public class PsuCrudService implements IPagingCrudService<Psu, UUID> {
         existent.setCertificate(foundCertificate);
         existent.setMainPowerConnector(foundMainPowerConnector);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Psu.class, id));
+
         return psuRepository.save(existent);
     }
 
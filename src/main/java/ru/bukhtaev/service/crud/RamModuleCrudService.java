@@ -1,8 +1,10 @@
 package ru.bukhtaev.service.crud;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -14,7 +16,10 @@ import ru.bukhtaev.model.dictionary.RamType;
 import ru.bukhtaev.repository.IDesignRepository;
 import ru.bukhtaev.repository.IRamModuleRepository;
 import ru.bukhtaev.repository.dictionary.IRamTypeRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.List;
 import java.util.Objects;
@@ -56,6 +61,16 @@ public class RamModuleCrudService implements IPagingCrudService<RamModule, UUID>
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Конструктор.
      *
@@ -63,18 +78,24 @@ public class RamModuleCrudService implements IPagingCrudService<RamModule, UUID>
      * @param designRepository репозиторий вариантов исполнения
      * @param typeRepository   репозиторий типов оперативной памяти
      * @param translator       сервис предоставления сообщений
+     * @param eventPublisher   публикатор событий приложения
+     * @param tokenCodec       сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public RamModuleCrudService(
             final IRamModuleRepository moduleRepository,
             final IDesignRepository designRepository,
             final IRamTypeRepository typeRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.moduleRepository = moduleRepository;
         this.designRepository = designRepository;
         this.typeRepository = typeRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -92,6 +113,13 @@ public class RamModuleCrudService implements IPagingCrudService<RamModule, UUID>
         return moduleRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<RamModule> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                moduleRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public RamModule create(final RamModule newModule) {
@@ -138,13 +166,17 @@ public class RamModuleCrudService implements IPagingCrudService<RamModule, UUID>
             );
         });
 
-        return moduleRepository.save(newModule);
+        final RamModule saved = moduleRepository.save(newModule);
+        eventPublisher.publishEvent(new EntityChangedEvent(RamModule.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         moduleRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(RamModule.class, id));
     }
 
     @Override
@@ -199,6 +231,8 @@ public class RamModuleCrudService implements IPagingCrudService<RamModule, UUID>
         toBeUpdated.setDesign(foundDesign);
         toBeUpdated.setType(foundType);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(RamModule.class, id));
+
         return moduleRepository.save(toBeUpdated);
     }
 
@@ -253,6 +287,8 @@ public class RamModuleCrudService implements IPagingCrudService<RamModule, UUID>
         existent.setDesign(foundDesign);
         existent.setType(foundType);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(RamModule.class, id));
+
         return moduleRepository.save(existent);
     }
 
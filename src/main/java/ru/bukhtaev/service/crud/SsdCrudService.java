@@ -1,8 +1,10 @@
 package ru.bukhtaev.service.crud;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -18,7 +20,10 @@ import ru.bukhtaev.repository.dictionary.IExpansionBayFormatRepository;
 import ru.bukhtaev.repository.dictionary.IStorageConnectorRepository;
 import ru.bukhtaev.repository.dictionary.IStoragePowerConnectorRepository;
 import ru.bukhtaev.repository.dictionary.IVendorRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.List;
 import java.util.Objects;
@@ -72,6 +77,16 @@ public class SsdCrudService implements IPagingCrudService<Ssd, UUID> {
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Конструктор.
      *
@@ -81,6 +96,8 @@ public class SsdCrudService implements IPagingCrudService<Ssd, UUID> {
      * @param powerConnectorRepository     репозиторий коннекторов питания накопителей
      * @param expansionBayFormatRepository репозиторий форматов отсеков расширения
      * @param translator                   сервис предоставления сообщений
+     * @param eventPublisher               публикатор событий приложения
+     * @param tokenCodec                   сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public SsdCrudService(
@@ -89,7 +106,9 @@ public class SsdCrudService implements IPagingCrudService<Ssd, UUID> {
             final IStorageConnectorRepository connectorRepository,
             final IStoragePowerConnectorRepository powerConnectorRepository,
             final IExpansionBayFormatRepository expansionBayFormatRepository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.ssdRepository = ssdRepository;
         this.vendorRepository = vendorRepository;
@@ -97,6 +116,8 @@ public class SsdCrudService implements IPagingCrudService<Ssd, UUID> {
         this.powerConnectorRepository = powerConnectorRepository;
         this.expansionBayFormatRepository = expansionBayFormatRepository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -114,6 +135,13 @@ public class SsdCrudService implements IPagingCrudService<Ssd, UUID> {
         return ssdRepository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<Ssd> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                ssdRepository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public Ssd create(final Ssd newSsd) {
@@ -168,13 +196,17 @@ public class SsdCrudService implements IPagingCrudService<Ssd, UUID> {
             );
         });
 
-        return ssdRepository.save(newSsd);
+        final Ssd saved = ssdRepository.save(newSsd);
+        eventPublisher.publishEvent(new EntityChangedEvent(Ssd.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         ssdRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Ssd.class, id));
     }
 
     @Override
@@ -247,6 +279,8 @@ public class SsdCrudService implements IPagingCrudService<Ssd, UUID> {
         toBeUpdated.setPowerConnector(foundPowerConnector);
         toBeUpdated.setExpansionBayFormat(foundFormat);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Ssd.class, id));
+
         return ssdRepository.save(toBeUpdated);
     }
 
@@ -311,6 +345,8 @@ public class SsdCrudService implements IPagingCrudService<Ssd, UUID> {
         existent.setPowerConnector(foundPowerConnector);
         existent.setExpansionBayFormat(foundFormat);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Ssd.class, id));
+
         return ssdRepository.save(existent);
     }
 
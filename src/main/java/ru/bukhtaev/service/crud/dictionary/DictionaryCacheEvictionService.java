@@ -0,0 +1,56 @@
+package ru.bukhtaev.service.crud.dictionary;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.bukhtaev.model.dictionary.DictionaryCacheRegions;
+import ru.bukhtaev.service.event.EntityChangedEvent;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Сервис сброса кэша справочных значений после их изменения
+ * через сервисы CRUD операций над справочниками.
+ * Hibernate сам обновляет измененное справочное значение и его коллекции в кэше,
+ * но не коллекции других справочных значений, ссылающиеся на удаленное значение,
+ * поэтому после изменения сбрасываются значение, все коллекции справочников
+ * и результаты запросов всех справочных значений.
+ */
+@Component
+public class DictionaryCacheEvictionService {
+
+    /**
+     * Кэш второго уровня Hibernate.
+     */
+    private final Cache cache;
+
+    /**
+     * Конструктор.
+     *
+     * @param entityManagerFactory фабрика менеджеров сущностей
+     */
+    @Autowired
+    public DictionaryCacheEvictionService(final EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Сбрасывает кэш после фиксации транзакции, изменившей справочное значение.
+     *
+     * @param event событие изменения сущности
+     */
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (AnnotationUtils.findAnnotation(event.getEntityType(), org.hibernate.annotations.Cache.class) == null) {
+            return;
+        }
+
+        cache.evictEntityData(event.getEntityType(), event.getId());
+        cache.evictRegion(DictionaryCacheRegions.COLLECTIONS);
+        cache.evictQueryRegion(DictionaryCacheRegions.QUERIES);
+    }
+}
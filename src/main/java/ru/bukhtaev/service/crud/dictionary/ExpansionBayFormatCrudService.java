@@ -1,6 +1,7 @@
 package ru.bukhtaev.service.crud.dictionary;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -8,6 +9,7 @@ import ru.bukhtaev.exception.UniqueNameException;
 import ru.bukhtaev.model.dictionary.ExpansionBayFormat;
 import ru.bukhtaev.repository.dictionary.IExpansionBayFormatRepository;
 import ru.bukhtaev.service.crud.ICrudService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.List;
@@ -40,19 +42,27 @@ public class ExpansionBayFormatCrudService implements ICrudService<ExpansionBayF
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Конструктор.
      *
-     * @param repository репозиторий
-     * @param translator сервис предоставления сообщений
+     * @param repository     репозиторий
+     * @param translator     сервис предоставления сообщений
+     * @param eventPublisher публикатор событий приложения
      */
     @Autowired
     public ExpansionBayFormatCrudService(
             final IExpansionBayFormatRepository repository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher
     ) {
         this.repository = repository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -86,6 +96,7 @@ public class ExpansionBayFormatCrudService implements ICrudService<ExpansionBayF
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         repository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(ExpansionBayFormat.class, id));
     }
 
     @Override
@@ -108,6 +119,8 @@ public class ExpansionBayFormatCrudService implements ICrudService<ExpansionBayF
         Optional.ofNullable(changedFormat.getName())
                 .ifPresent(toBeUpdated::setName);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(ExpansionBayFormat.class, id));
+
         return repository.save(toBeUpdated);
     }
 
@@ -130,6 +143,8 @@ public class ExpansionBayFormatCrudService implements ICrudService<ExpansionBayF
         final ExpansionBayFormat existent = findById(id);
         existent.setName(newFormat.getName());
 
+        eventPublisher.publishEvent(new EntityChangedEvent(ExpansionBayFormat.class, id));
+
         return repository.save(existent);
     }
 
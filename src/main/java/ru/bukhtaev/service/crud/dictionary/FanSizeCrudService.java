@@ -1,6 +1,7 @@
 package ru.bukhtaev.service.crud.dictionary;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -8,6 +9,7 @@ import ru.bukhtaev.exception.UniqueNameException;
 import ru.bukhtaev.model.dictionary.FanSize;
 import ru.bukhtaev.repository.dictionary.IFanSizeRepository;
 import ru.bukhtaev.service.crud.ICrudService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.List;
@@ -40,19 +42,27 @@ public class FanSizeCrudService implements ICrudService<FanSize, UUID> {
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Конструктор.
      *
-     * @param repository репозиторий
-     * @param translator сервис предоставления сообщений
+     * @param repository     репозиторий
+     * @param translator     сервис предоставления сообщений
+     * @param eventPublisher публикатор событий приложения
      */
     @Autowired
     public FanSizeCrudService(
             final IFanSizeRepository repository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher
     ) {
         this.repository = repository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -93,6 +103,7 @@ public class FanSizeCrudService implements ICrudService<FanSize, UUID> {
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         repository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(FanSize.class, id));
     }
 
     @Override
@@ -125,6 +136,8 @@ public class FanSizeCrudService implements ICrudService<FanSize, UUID> {
         Optional.ofNullable(changedSize.getHeight())
                 .ifPresent(toBeUpdated::setHeight);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(FanSize.class, id));
+
         return repository.save(toBeUpdated);
     }
 
@@ -155,6 +168,8 @@ public class FanSizeCrudService implements ICrudService<FanSize, UUID> {
         existent.setWidth(newSize.getWidth());
         existent.setHeight(newSize.getHeight());
 
+        eventPublisher.publishEvent(new EntityChangedEvent(FanSize.class, id));
+
         return repository.save(existent);
     }
 
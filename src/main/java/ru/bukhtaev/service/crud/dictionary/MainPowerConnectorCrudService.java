@@ -1,6 +1,7 @@
 package ru.bukhtaev.service.crud.dictionary;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
@@ -9,6 +10,7 @@ import ru.bukhtaev.exception.UniqueNameException;
 import ru.bukhtaev.model.dictionary.MainPowerConnector;
 import ru.bukhtaev.repository.dictionary.IMainPowerConnectorRepository;
 import ru.bukhtaev.service.crud.ICrudService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
 
 import java.util.List;
@@ -43,19 +45,27 @@ public class MainPowerConnectorCrudService implements ICrudService<MainPowerConn
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Конструктор.
      *
-     * @param repository репозиторий
-     * @param translator сервис предоставления сообщений
+     * @param repository     репозиторий
+     * @param translator     сервис предоставления сообщений
+     * @param eventPublisher публикатор событий приложения
      */
     @Autowired
     public MainPowerConnectorCrudService(
             final IMainPowerConnectorRepository repository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher
     ) {
         this.repository = repository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -98,13 +108,17 @@ public class MainPowerConnectorCrudService implements ICrudService<MainPowerConn
                     );
                 });
 
-        return repository.save(newConnector);
+        final MainPowerConnector saved = repository.save(newConnector);
+        eventPublisher.publishEvent(new EntityChangedEvent(MainPowerConnector.class, saved.getId()));
+
+        return saved;
     }
 
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         repository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(MainPowerConnector.class, id));
     }
 
     @Override
@@ -136,6 +150,8 @@ public class MainPowerConnectorCrudService implements ICrudService<MainPowerConn
         Optional.ofNullable(changedConnector.getName())
                 .ifPresent(toBeUpdated::setName);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(MainPowerConnector.class, id));
+
         return repository.save(toBeUpdated);
     }
 
@@ -174,6 +190,8 @@ public class MainPowerConnectorCrudService implements ICrudService<MainPowerConn
         existent.setName(newConnector.getName());
         existent.setCompatibleConnectors(foundCompatibleConnectors);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(MainPowerConnector.class, id));
+
         return repository.save(existent);
     }
 
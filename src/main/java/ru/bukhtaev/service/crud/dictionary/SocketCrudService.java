@@ -1,16 +1,21 @@
 package ru.bukhtaev.service.crud.dictionary;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.bukhtaev.exception.DataNotFoundException;
 import ru.bukhtaev.exception.UniqueNameException;
 import ru.bukhtaev.model.dictionary.Socket;
 import ru.bukhtaev.repository.dictionary.ISocketRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
 import ru.bukhtaev.service.crud.IPagingCrudService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
 import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.util.KeysetSlice;
 
 import java.util.List;
 import java.util.Optional;
@@ -42,19 +47,35 @@ public class SocketCrudService implements IPagingCrudService<Socket, UUID> {
      */
     private final Translator translator;
 
+    /**
+     * Публикатор событий приложения.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Сервис преобразования позиции keyset-пагинации в токен.
+     */
+    private final KeysetTokenCodec tokenCodec;
+
     /**
      * Конструктор.
      *
-     * @param repository репозиторий
-     * @param translator сервис предоставления сообщений
+     * @param repository     репозиторий
+     * @param translator     сервис предоставления сообщений
+     * @param eventPublisher публикатор событий приложения
+     * @param tokenCodec     сервис преобразования позиции keyset-пагинации в токен
      */
     @Autowired
     public SocketCrudService(
             final ISocketRepository repository,
-            final Translator translator
+            final Translator translator,
+            final ApplicationEventPublisher eventPublisher,
+            final KeysetTokenCodec tokenCodec
     ) {
         this.repository = repository;
         this.translator = translator;
+        this.eventPublisher = eventPublisher;
+        this.tokenCodec = tokenCodec;
     }
 
     @Override
@@ -72,6 +93,13 @@ public class SocketCrudService implements IPagingCrudService<Socket, UUID> {
         return repository.findAllBy(pageable);
     }
 
+    @Override
+    public KeysetSlice<Socket> getAll(final Sort sort, final int limit, final String token) {
+        return tokenCodec.toSlice(
+                repository.findAllBy(tokenCodec.decode(token, sort), sort, limit)
+        );
+    }
+
     @Override
     @Transactional(isolation = READ_COMMITTED)
     public Socket create(final Socket newSocket) {
@@ -93,6 +121,7 @@ public class SocketCrudService implements IPagingCrudService<Socket, UUID> {
     @Transactional(isolation = READ_COMMITTED)
     public void delete(final UUID id) {
         repository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Socket.class, id));
     }
 
     @Override
@@ -115,6 +144,8 @@ public class SocketCrudService implements IPagingCrudService<Socket, UUID> {
         Optional.ofNullable(changedSocket.getName())
                 .ifPresent(toBeUpdated::setName);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Socket.class, id));
+
         return repository.save(toBeUpdated);
     }
 
@@ -137,6 +168,8 @@ public class SocketCrudService implements IPagingCrudService<Socket, UUID> {
         final Socket existent = findById(id);
         existent.setName(newSocket.getName());
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Socket.class, id));
+
         return repository.save(existent);
     }
 
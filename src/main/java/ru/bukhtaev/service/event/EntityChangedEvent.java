@@ -0,0 +1,28 @@
+package ru.bukhtaev.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import ru.bukhtaev.model.BaseEntity;
+
+import java.util.UUID;
+
+/**
+ * Событие изменения или удаления сущности через сервис CRUD операций.
+ * Публикуется в транзакции, в которой произошло изменение.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class EntityChangedEvent {
+
+    /**
+     * Тип сущности.
+     */
+    private final Class<? extends BaseEntity> entityType;
+
+    /**
+     * ID сущности.
+     */
+    private final UUID id;
+}
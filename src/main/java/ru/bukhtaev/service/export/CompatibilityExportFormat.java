@@ -0,0 +1,42 @@
+package ru.bukhtaev.service.export;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Формат выгрузки отношений совместимости.
+ */
+public enum CompatibilityExportFormat {
+
+    /**
+     * Один JSON-объект на строку.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON),
+
+    /**
+     * CSV с заголовком.
+     */
+    CSV(new MediaType("text", "csv"));
+
+    /**
+     * Тип содержимого ответа.
+     */
+    private final MediaType mediaType;
+
+    /**
+     * Конструктор.
+     *
+     * @param mediaType тип содержимого ответа
+     */
+    CompatibilityExportFormat(final MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Возвращает тип содержимого ответа.
+     *
+     * @return тип содержимого ответа
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,144 @@
+package ru.bukhtaev.service.export;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.bukhtaev.repository.ComponentCompatibility;
+import ru.bukhtaev.repository.IComputerCaseRepository;
+import ru.bukhtaev.repository.ICpuRepository;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.springframework.transaction.annotation.Isolation.REPEATABLE_READ;
+
+/**
+ * Сервис потоковой выгрузки отношений совместимости комплектующих.
+ * Пары совместимых комплектующих вычисляются запросами к базе данных,
+ * читаются порциями и сразу записываются в выходной поток,
+ * поэтому объем занимаемой памяти не зависит от размера каталога.
+ * Все отношения читаются в одной транзакции и согласованы между собой.
+ */
+@Service
+@Transactional(
+        isolation = REPEATABLE_READ,
+        readOnly = true
+)
+public class CompatibilityExportService {
+
+    /**
+     * Заголовок CSV.
+     */
+    private static final String CSV_HEADER = "relation,first_type,first_id,second_type,second_id";
+
+    /**
+     * Размер буфера записи.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Репозиторий процессоров.
+     */
+    private final ICpuRepository cpuRepository;
+
+    /**
+     * Репозиторий корпусов.
+     */
+    private final IComputerCaseRepository computerCaseRepository;
+
+    /**
+     * Конструктор.
+     *
+     * @param cpuRepository          репозиторий процессоров
+     * @param computerCaseRepository репозиторий корпусов
+     */
+    @Autowired
+    public CompatibilityExportService(
+            final ICpuRepository cpuRepository,
+            final IComputerCaseRepository computerCaseRepository
+    ) {
+        this.cpuRepository = cpuRepository;
+        this.computerCaseRepository = computerCaseRepository;
+    }
+
+    /**
+     * Записывает пары совместимых комплектующих указанных отношений в выходной поток.
+     * Поток не закрывается.
+     *
+     * @param relations    выгружаемые отношения
+     * @param format       формат выгрузки
+     * @param outputStream выходной поток
+     * @throws IOException при ошибке записи
+     */
+    public void export(
+            final Collection<CompatibilityRelation> relations,
+            final CompatibilityExportFormat format,
+            final OutputStream outputStream
+    ) throws IOException {
+        final Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                BUFFER_SIZE
+        );
+
+        if (format == CompatibilityExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        for (final CompatibilityRelation relation : relations) {
+            try (final Stream<ComponentCompatibility> pairs = relation.stream(cpuRepository, computerCaseRepository)) {
+                final Iterator<ComponentCompatibility> iterator = pairs.iterator();
+                while (iterator.hasNext()) {
+                    writeLine(writer, format, relation, iterator.next());
+                }
+            }
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * Записывает пару совместимых комплектующих отдельной строкой.
+     * ID и названия отношений не содержат символов, требующих экранирования.
+     *
+     * @param writer   поток записи
+     * @param format   формат выгрузки
+     * @param relation отношение
+     * @param pair     пара совместимых комплектующих
+     * @throws IOException при ошибке записи
+     */
+    private static void writeLine(
+            final Writer writer,
+            final CompatibilityExportFormat format,
+            final CompatibilityRelation relation,
+            final ComponentCompatibility pair
+    ) throws IOException {
+        if (format == CompatibilityExportFormat.CSV) {
+            writer.write(relation.name());
+            writer.write(',');
+            writer.write(relation.getFirstType());
+            writer.write(',');
+            writer.write(pair.firstId().toString());
+            writer.write(',');
+            writer.write(relation.getSecondType());
+            writer.write(',');
+            writer.write(pair.secondId().toString());
+        } else {
+            writer.write("{\"relation\":\"");
+            writer.write(relation.name());
+            writer.write("\",\"firstType\":\"");
+            writer.write(relation.getFirstType());
+            writer.write("\",\"firstId\":\"");
+            writer.write(pair.firstId().toString());
+            writer.write("\",\"secondType\":\"");
+            writer.write(relation.getSecondType());
+            writer.write("\",\"secondId\":\"");
+            writer.write(pair.secondId().toString());
+            writer.write("\"}");
+        }
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,123 @@
+package ru.bukhtaev.service.export;
+
+import ru.bukhtaev.repository.ComponentCompatibility;
+import ru.bukhtaev.repository.IComputerCaseRepository;
+import ru.bukhtaev.repository.ICpuRepository;
+
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Выгружаемое отношение совместимости комплектующих двух типов.
+ */
+public enum CompatibilityRelation {
+
+    /**
+     * Процессор и материнская плата с совпадающим сокетом.
+     */
+    CPU_MOTHERBOARD(
+            "cpu",
+            "motherboard",
+            (cpus, cases) -> cpus.streamMotherboardCompatibilities()
+    ),
+
+    /**
+     * Процессор и процессорный кулер, поддерживающий его сокет и тепловыделение.
+     */
+    CPU_COOLER(
+            "cpu",
+            "cooler",
+            (cpus, cases) -> cpus.streamCoolerCompatibilities()
+    ),
+
+    /**
+     * Корпус и материнская плата поддерживаемого им форм-фактора.
+     */
+    COMPUTER_CASE_MOTHERBOARD(
+            "computer_case",
+            "motherboard",
+            (cpus, cases) -> cases.streamMotherboardCompatibilities()
+    ),
+
+    /**
+     * Корпус и видеокарта допустимой им длины.
+     */
+    COMPUTER_CASE_GRAPHICS_CARD(
+            "computer_case",
+            "graphics_card",
+            (cpus, cases) -> cases.streamGraphicsCardCompatibilities()
+    ),
+
+    /**
+     * Корпус и блок питания поддерживаемого им форм-фактора.
+     */
+    COMPUTER_CASE_PSU(
+            "computer_case",
+            "psu",
+            (cpus, cases) -> cases.streamPsuCompatibilities()
+    );
+
+    /**
+     * Тип первого комплектующего пары.
+     */
+    private final String firstType;
+
+    /**
+     * Тип второго комплектующего пары.
+     */
+    private final String secondType;
+
+    /**
+     * Запрос пар совместимых комплектующих.
+     */
+    private final BiFunction<ICpuRepository, IComputerCaseRepository, Stream<ComponentCompatibility>> query;
+
+    /**
+     * Конструктор.
+     *
+     * @param firstType  тип первого комплектующего пары
+     * @param secondType тип второго комплектующего пары
+     * @param query      запрос пар совместимых комплектующих
+     */
+    CompatibilityRelation(
+            final String firstType,
+            final String secondType,
+            final BiFunction<ICpuRepository, IComputerCaseRepository, Stream<ComponentCompatibility>> query
+    ) {
+        this.firstType = firstType;
+        this.secondType = secondType;
+        this.query = query;
+    }
+
+    /**
+     * Возвращает тип первого комплектующего пары.
+     *
+     * @return тип первого комплектующего пары
+     */
+    public String getFirstType() {
+        return firstType;
+    }
+
+    /**
+     * Возвращает тип второго комплектующего пары.
+     *
+     * @return тип второго комплектующего пары
+     */
+    public String getSecondType() {
+        return secondType;
+    }
+
+    /**
+     * Открывает поток пар совместимых комплектующих.
+     *
+     * @param cpuRepository          репозиторий процессоров
+     * @param computerCaseRepository репозиторий корпусов
+     * @return поток пар совместимых комплектующих
+     */
+    Stream<ComponentCompatibility> stream(
+            final ICpuRepository cpuRepository,
+            final IComputerCaseRepository computerCaseRepository
+    ) {
+        return query.apply(cpuRepository, computerCaseRepository);
+    }
+}
@@ -0,0 +1,67 @@
+package ru.bukhtaev.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Порция данных, полученная keyset-пагинацией.
+ * Вместо номера страницы содержит непрозрачный токен,
+ * по которому запрашивается следующая порция.
+ *
+ * @param <T> тип элементов
+ */
+@Schema(description = "Порция данных")
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KeysetSlice<T> {
+
+    /**
+     * Элементы порции.
+     */
+    @Schema(description = "Элементы порции")
+    private final List<T> content;
+
+    /**
+     * Токен следующей порции или {@code null}, если порция последняя.
+     */
+    @Schema(description = "Токен следующей порции")
+    private final String nextToken;
+
+    /**
+     * Есть ли следующая порция.
+     */
+    @Schema(description = "Есть ли следующая порция")
+    private final boolean hasNext;
+
+    /**
+     * Конструктор.
+     *
+     * @param content   элементы порции
+     * @param nextToken токен следующей порции или {@code null}, если порция последняя
+     */
+    public KeysetSlice(final List<T> content, final String nextToken) {
+        this.content = List.copyOf(content);
+        this.nextToken = nextToken;
+        this.hasNext = nextToken != null;
+    }
+
+    /**
+     * Преобразует элементы порции, сохраняя токен следующей порции.
+     *
+     * @param converter функция преобразования элементов
+     * @param <R>       тип преобразованных элементов
+     * @return порция преобразованных элементов
+     */
+    public <R> KeysetSlice<R> map(final Function<? super T, ? extends R> converter) {
+        return new KeysetSlice<>(
+                content.stream()
+                        .<R>map(converter)
+                        .toList(),
+                nextToken
+        );
+    }
+}
@@ -0,0 +1,207 @@
+package ru.bukhtaev.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import ru.bukhtaev.repository.ComponentCompatibility;
+import ru.bukhtaev.repository.IComputerCaseRepository;
+import ru.bukhtaev.repository.ICpuRepository;
+import ru.bukhtaev.service.export.CompatibilityExportService;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static ru.bukhtaev.controller.CompatibilityExportRestController.URL_API_V1_COMPATIBILITY_EXPORT;
+
+/**
+ * Тесты выгрузки отношений совместимости комплектующих на уровне веб-слоя.
+ * Репозитории заменены заглушками, строки выгрузки формируются настоящим сервисом выгрузки.
+ */
+@WebMvcTest(CompatibilityExportRestController.class)
+@Import(CompatibilityExportService.class)
+class CompatibilityExportRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ICpuRepository cpuRepository;
+
+    @MockBean
+    private IComputerCaseRepository computerCaseRepository;
+
+    private ComponentCompatibility cpuMotherboard;
+    private ComponentCompatibility cpuCooler;
+    private ComponentCompatibility caseMotherboard;
+    private ComponentCompatibility caseGraphicsCard;
+    private ComponentCompatibility casePsu;
+
+    @BeforeEach
+    void setUp() {
+        cpuMotherboard = pair();
+        cpuCooler = pair();
+        caseMotherboard = pair();
+        caseGraphicsCard = pair();
+        casePsu = pair();
+
+        when(cpuRepository.streamMotherboardCompatibilities())
+                .thenAnswer(invocation -> Stream.of(cpuMotherboard));
+        when(cpuRepository.streamCoolerCompatibilities())
+                .thenAnswer(invocation -> Stream.of(cpuCooler));
+        when(computerCaseRepository.streamMotherboardCompatibilities())
+                .thenAnswer(invocation -> Stream.of(caseMotherboard));
+        when(computerCaseRepository.streamGraphicsCardCompatibilities())
+                .thenAnswer(invocation -> Stream.of(caseGraphicsCard));
+        when(computerCaseRepository.streamPsuCompatibilities())
+                .thenAnswer(invocation -> Stream.of(casePsu));
+    }
+
+    @Test
+    void handleExport_withoutParameters_shouldStreamAllRelationsAsNdjson() throws Exception {
+        // when
+        final String content = export(get(URL_API_V1_COMPATIBILITY_EXPORT), MediaType.APPLICATION_NDJSON);
+
+        // then
+        final List<JsonNode> lines = Arrays.stream(content.split("\n"))
+                .map(this::readTree)
+                .toList();
+        assertThat(lines)
+                .extracting(
+                        line -> line.get("relation").asText(),
+                        line -> line.get("firstType").asText(),
+                        line -> line.get("firstId").asText(),
+                        line -> line.get("secondType").asText(),
+                        line -> line.get("secondId").asText()
+                )
+                .containsExactly(
+                        row("CPU_MOTHERBOARD", "cpu", "motherboard", cpuMotherboard),
+                        row("CPU_COOLER", "cpu", "cooler", cpuCooler),
+                        row("COMPUTER_CASE_MOTHERBOARD", "computer_case", "motherboard", caseMotherboard),
+                        row("COMPUTER_CASE_GRAPHICS_CARD", "computer_case", "graphics_card", caseGraphicsCard),
+                        row("COMPUTER_CASE_PSU", "computer_case", "psu", casePsu)
+                );
+    }
+
+    @Test
+    void handleExport_withCsvFormat_shouldStreamHeaderAndRows() throws Exception {
+        // when
+        final String content = export(
+                get(URL_API_V1_COMPATIBILITY_EXPORT)
+                        .param("format", "CSV")
+                        .param("relations", "COMPUTER_CASE_PSU"),
+                new MediaType("text", "csv")
+        );
+
+        // then
+        assertThat(content.split("\n"))
+                .containsExactly(
+                        "relation,first_type,first_id,second_type,second_id",
+                        "COMPUTER_CASE_PSU,computer_case," + casePsu.firstId() + ",psu," + casePsu.secondId()
+                );
+    }
+
+    @Test
+    void handleExport_withRelations_shouldStreamOnlyRequestedRelations() throws Exception {
+        // when
+        final String content = export(
+                get(URL_API_V1_COMPATIBILITY_EXPORT)
+                        .param("relations", "COMPUTER_CASE_GRAPHICS_CARD", "CPU_COOLER"),
+                MediaType.APPLICATION_NDJSON
+        );
+
+        // then
+        assertThat(Arrays.stream(content.split("\n"))
+                .map(this::readTree)
+                .map(line -> line.get("relation").asText())
+                .toList())
+                .containsExactly("CPU_COOLER", "COMPUTER_CASE_GRAPHICS_CARD");
+        verify(cpuRepository).streamCoolerCompatibilities();
+        verify(computerCaseRepository).streamGraphicsCardCompatibilities();
+        verifyNoMoreInteractions(cpuRepository, computerCaseRepository);
+    }
+
+    @Test
+    void handleExport_withUnknownRelation_shouldReturnBadRequest() throws Exception {
+        // when
+        mockMvc.perform(get(URL_API_V1_COMPATIBILITY_EXPORT)
+                        .param("relations", "CPU_RAM_MODULE"))
+
+                // then
+                .andExpectAll(
+                        status().isBadRequest(),
+                        request().asyncNotStarted()
+                );
+        verifyNoInteractions(cpuRepository, computerCaseRepository);
+    }
+
+    /**
+     * Выполняет запрос выгрузки и возвращает переданное содержимое.
+     *
+     * @param requestBuilder запрос
+     * @param mediaType      ожидаемый тип содержимого
+     * @return содержимое ответа
+     * @throws Exception при ошибке выполнения запроса
+     */
+    private String export(final RequestBuilder requestBuilder, final MediaType mediaType) throws Exception {
+        final MvcResult asyncResult = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(mediaType)
+                )
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private JsonNode readTree(final String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (final Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static Tuple row(
+            final String relation,
+            final String firstType,
+            final String secondType,
+            final ComponentCompatibility pair
+    ) {
+        return tuple(
+                relation,
+                firstType,
+                pair.firstId().toString(),
+                secondType,
+                pair.secondId().toString()
+        );
+    }
+
+    private static ComponentCompatibility pair() {
+        return new ComponentCompatibility(UUID.randomUUID(), UUID.randomUUID());
+    }
+}
@@ -0,0 +1,287 @@
+package ru.bukhtaev.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import ru.bukhtaev.dto.request.ComputerBuildRequestDto;
+import ru.bukhtaev.dto.request.CoolerRequestDto;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.model.Cooler;
+import ru.bukhtaev.model.Cpu;
+import ru.bukhtaev.model.dictionary.*;
+import ru.bukhtaev.repository.IComputerBuildRepository;
+import ru.bukhtaev.repository.ICoolerRepository;
+import ru.bukhtaev.repository.ICpuRepository;
+import ru.bukhtaev.repository.dictionary.*;
+import ru.bukhtaev.service.checker.ComputerVerifyStateStore;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.bukhtaev.controller.ComputerBuildRestController.URL_API_V1_COMPUTER_BUILDS;
+import static ru.bukhtaev.controller.CoolerRestController.URL_API_V1_COOLERS;
+import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_CPU_OVERHEAT;
+import static ru.bukhtaev.service.checker.ComputerVerifyResultCache.CACHE_NAME;
+
+/**
+ * Интеграционные тесты проверки сохраненных сборок ПК.
+ * Проверяют, что после фиксации изменения комплектующего или сборки ПК
+ * следующая проверка учитывает это изменение, а не возвращает сохраненный ранее результат.
+ */
+class ComputerBuildRestControllerIT extends AbstractIntegrationTest {
+
+    /**
+     * URL проверки сохраненной сборки ПК.
+     */
+    private static final String URL_COMPATIBILITY = URL_API_V1_COMPUTER_BUILDS + "/compatibility/{id}";
+
+    /**
+     * Путь к кодам нарушений совместимости в результате проверки.
+     */
+    private static final String COMPATIBILITY_CODES = "$.compatibilityViolations[*].code";
+
+    @Autowired
+    private IComputerBuildRepository computerBuildRepository;
+
+    @Autowired
+    private ICpuRepository cpuRepository;
+
+    @Autowired
+    private ICoolerRepository coolerRepository;
+
+    @Autowired
+    private IManufacturerRepository manufacturerRepository;
+
+    @Autowired
+    private ISocketRepository socketRepository;
+
+    @Autowired
+    private IRamTypeRepository ramTypeRepository;
+
+    @Autowired
+    private IVendorRepository vendorRepository;
+
+    @Autowired
+    private IFanSizeRepository fanSizeRepository;
+
+    @Autowired
+    private IFanPowerConnectorRepository fanPowerConnectorRepository;
+
+    /**
+     * Реестр метрик, в том числе метрик кэша результатов проверки.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Хранилище последних результатов проверки сохраненных сборок ПК.
+     */
+    @Autowired
+    private ComputerVerifyStateStore stateStore;
+
+    private Vendor vendor;
+    private FanSize fanSize;
+    private FanPowerConnector fanPowerConnector;
+    private Socket socket;
+
+    private Cpu cpu;
+    private Cooler coolerPowerful;
+    private ComputerBuild computerWithCooler;
+    private ComputerBuild computerWithoutCooler;
+
+    @BeforeEach
+    void setUp() {
+        final Manufacturer manufacturer = manufacturerRepository.save(
+                Manufacturer.builder()
+                        .name("Intel")
+                        .build()
+        );
+        socket = socketRepository.save(
+                Socket.builder()
+                        .name("LGA 1700")
+                        .build()
+        );
+        final RamType ramType = ramTypeRepository.save(
+                RamType.builder()
+                        .name("DDR5")
+                        .build()
+        );
+        vendor = vendorRepository.save(
+                Vendor.builder()
+                        .name("DEEPCOOL")
+                        .build()
+        );
+        fanSize = fanSizeRepository.save(
+                FanSize.builder()
+                        .length(120)
+                        .width(120)
+                        .height(25)
+                        .build()
+        );
+        fanPowerConnector = fanPowerConnectorRepository.save(
+                FanPowerConnector.builder()
+                        .name("4 pin")
+                        .build()
+        );
+
+        cpu = Cpu.builder()
+                .name("i5 12400F")
+                .coreCount(6)
+                .threadCount(12)
+                .baseClock(2500)
+                .maxClock(4000)
+                .l3CacheSize(18)
+                .maxTdp(125)
+                .maxMemorySize(131072)
+                .manufacturer(manufacturer)
+                .socket(socket)
+                .build();
+        cpu.addRamType(ramType, 4800);
+        cpu = cpuRepository.save(cpu);
+        coolerPowerful = coolerRepository.save(cooler("AK620", 260));
+
+        computerWithCooler = computerBuildRepository.save(
+                ComputerBuild.builder()
+                        .name("With cooler")
+                        .cpu(cpu)
+                        .cooler(coolerPowerful)
+                        .build()
+        );
+        computerWithoutCooler = computerBuildRepository.save(
+                ComputerBuild.builder()
+                        .name("Without cooler")
+                        .cpu(cpu)
+                        .build()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        computerBuildRepository.deleteAll();
+        coolerRepository.deleteAll();
+        cpuRepository.deleteAll();
+        fanPowerConnectorRepository.deleteAll();
+        fanSizeRepository.deleteAll();
+        vendorRepository.deleteAll();
+        socketRepository.deleteAll();
+        ramTypeRepository.deleteAll();
+        manufacturerRepository.deleteAll();
+    }
+
+    @Test
+    void check_afterComponentChange_shouldEvictDependentResultsAndReturnNewViolation() throws Exception {
+        // given
+        mockMvc.perform(get(URL_COMPATIBILITY, computerWithCooler.getId()))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath(COMPATIBILITY_CODES, not(hasItem(MESSAGE_CODE_CPU_OVERHEAT)))
+                );
+        mockMvc.perform(get(URL_COMPATIBILITY, computerWithoutCooler.getId()))
+                .andExpect(status().isOk());
+        assertThat(stateStore.find(computerWithCooler.getId()))
+                .isPresent();
+
+        final CoolerRequestDto dto = CoolerRequestDto.builder()
+                .powerDissipation(100)
+                .build();
+
+        // when
+        mockMvc.perform(patch(URL_API_V1_COOLERS + "/{id}", coolerPowerful.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(stateStore.find(computerWithCooler.getId()))
+                .isEmpty();
+
+        final double hits = cacheHits();
+        mockMvc.perform(get(URL_COMPATIBILITY, computerWithoutCooler.getId()))
+                .andExpect(status().isOk());
+        assertThat(cacheHits())
+                .isEqualTo(hits + 1);
+
+        mockMvc.perform(get(URL_COMPATIBILITY, computerWithCooler.getId()))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath(COMPATIBILITY_CODES, hasItem(MESSAGE_CODE_CPU_OVERHEAT))
+                );
+        assertThat(cacheHits())
+                .isEqualTo(hits + 1);
+    }
+
+    @Test
+    void check_afterBuildComponentReplaced_shouldReverifyChangedSlots() throws Exception {
+        // given
+        mockMvc.perform(get(URL_COMPATIBILITY, computerWithCooler.getId()))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath(COMPATIBILITY_CODES, not(hasItem(MESSAGE_CODE_CPU_OVERHEAT)))
+                );
+        final long catalogVersion = stateStore.getCatalogVersion();
+
+        final Cooler coolerWeak = coolerRepository.save(cooler("AG200", 100));
+        final ComputerBuildRequestDto dto = ComputerBuildRequestDto.builder()
+                .coolerId(coolerWeak.getId())
+                .build();
+
+        // when
+        mockMvc.perform(patch(URL_API_V1_COMPUTER_BUILDS + "/{id}", computerWithCooler.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(stateStore.getCatalogVersion())
+                .isEqualTo(catalogVersion);
+        assertThat(stateStore.find(computerWithCooler.getId()))
+                .isPresent();
+
+        mockMvc.perform(get(URL_COMPATIBILITY, computerWithCooler.getId()))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath(COMPATIBILITY_CODES, hasItem(MESSAGE_CODE_CPU_OVERHEAT))
+                );
+    }
+
+    /**
+     * Возвращает количество попаданий в кэш результатов проверки.
+     *
+     * @return количество попаданий в кэш
+     */
+    private double cacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+
+    /**
+     * Создает процессорный кулер с сокетом процессора.
+     *
+     * @param name             название
+     * @param powerDissipation рассеиваемая мощность (Вт)
+     * @return процессорный кулер
+     */
+    private Cooler cooler(final String name, final int powerDissipation) {
+        return Cooler.builder()
+                .name(name)
+                .height(160)
+                .powerDissipation(powerDissipation)
+                .vendor(vendor)
+                .fanSize(fanSize)
+                .powerConnector(fanPowerConnector)
+                .supportedSockets(Set.of(socket))
+                .build();
+    }
+}
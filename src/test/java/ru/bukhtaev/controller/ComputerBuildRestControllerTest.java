@@ -0,0 +1,329 @@
+package ru.bukhtaev.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.bukhtaev.dto.mapper.IComputerBuildMapper;
+import ru.bukhtaev.dto.request.ComputerBuildRequestDto;
+import ru.bukhtaev.dto.request.ComputerBuildToRamModuleRequestDto;
+import ru.bukhtaev.exception.DataNotFoundException;
+import ru.bukhtaev.i18n.MessageFormatCache;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.service.checker.*;
+import ru.bukhtaev.service.crud.IPagingCrudService;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static ru.bukhtaev.controller.ComputerBuildRestController.URL_API_V1_COMPUTER_BUILDS;
+import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_SOCKET;
+
+/**
+ * Тесты пакетной проверки сборок ПК и проверки не сохраненной сборки ПК
+ * на уровне веб-слоя. Сервисы проверки заменены заглушками,
+ * тексты сообщений о нарушениях заполняются настоящим сервисом отображения.
+ */
+@WebMvcTest(ComputerBuildRestController.class)
+@Import({ComputerVerifyResultRenderer.class, MessageFormatCache.class})
+class ComputerBuildRestControllerTest {
+
+    /**
+     * URL проверки не сохраненной сборки ПК.
+     */
+    private static final String URL_COMPATIBILITY = URL_API_V1_COMPUTER_BUILDS + "/compatibility";
+
+    /**
+     * URL пакетной проверки сборок ПК.
+     */
+    private static final String URL_COMPATIBILITY_BATCH = URL_COMPATIBILITY + "/batch";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private IPagingCrudService<ComputerBuild, UUID> crudService;
+
+    @MockBean
+    private ComputerBuildVerifyingService checkingService;
+
+    @MockBean
+    private ComputerBuildCompletionService completionService;
+
+    @MockBean
+    private ComputerBuildRepairService repairService;
+
+    @MockBean
+    private CatalogAvailabilityService availabilityService;
+
+    @MockBean
+    private CatalogOrdinalService ordinalService;
+
+    @MockBean
+    private IComputerBuildMapper mapper;
+
+    private ComputerBuildRequestDto requestDto;
+    private ComputerBuild draft;
+    private ComputerVerifyResult incompatible;
+
+    @BeforeEach
+    void setUp() {
+        requestDto = ComputerBuildRequestDto.builder()
+                .name("Draft")
+                .cpuId(UUID.randomUUID())
+                .motherboardId(UUID.randomUUID())
+                .build();
+        requestDto.addRamModule(UUID.randomUUID(), 2);
+
+        draft = ComputerBuild.builder()
+                .name(requestDto.getName())
+                .build();
+        when(mapper.convertFromDto(any())).thenReturn(draft);
+
+        final ComputerBuildViolation violation = ComputerBuildViolation.of(
+                MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_SOCKET,
+                ViolationSeverity.ERROR,
+                "AM5",
+                "LGA 1700"
+        );
+        incompatible = ComputerVerifyResult.builder()
+                .completenessViolations(Collections.emptySet())
+                .compatibilityViolations(Set.of(violation))
+                .optimalityWarnings(Collections.emptySet())
+                .firstBlockingViolation(violation)
+                .build();
+    }
+
+    @Test
+    void checkUnsaved_shouldReturnResultWithMessages() throws Exception {
+        // given
+        when(checkingService.verifyUnsaved(draft, VerificationMode.BLOCKING_ONLY)).thenReturn(incompatible);
+        final var requestBuilder = post(URL_COMPATIBILITY)
+                .param("mode", VerificationMode.BLOCKING_ONLY.name())
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "en")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto));
+
+        // when
+        mockMvc.perform(requestBuilder)
+
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentType(MediaType.APPLICATION_JSON),
+                        jsonPath("$.completenessViolations", empty()),
+                        jsonPath("$.optimalityWarnings", empty()),
+                        jsonPath("$.compatibilityViolations", hasSize(1)),
+                        jsonPath("$.compatibilityViolations[0].code", is(
+                                MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_SOCKET
+                        )),
+                        jsonPath("$.compatibilityViolations[0].args", contains("AM5", "LGA 1700")),
+                        jsonPath("$.compatibilityViolations[0].severity", is(ViolationSeverity.ERROR.name())),
+                        jsonPath("$.compatibilityViolations[0].message", is(
+                                "Motherboard socket <AM5> does not match processor socket <LGA 1700>!"
+                        )),
+                        jsonPath("$.firstBlockingViolation").doesNotExist()
+                );
+
+        final ArgumentCaptor<ComputerBuildRequestDto> captor =
+                ArgumentCaptor.forClass(ComputerBuildRequestDto.class);
+        verify(mapper).convertFromDto(captor.capture());
+        assertThat(captor.getValue().getCpuId())
+                .isEqualTo(requestDto.getCpuId());
+        assertThat(captor.getValue().getMotherboardId())
+                .isEqualTo(requestDto.getMotherboardId());
+        assertThat(captor.getValue().getRamModules())
+                .extracting(
+                        ComputerBuildToRamModuleRequestDto::getRamModuleId,
+                        ComputerBuildToRamModuleRequestDto::getCount
+                )
+                .containsExactlyElementsOf(requestDto.getRamModules()
+                        .stream()
+                        .map(module -> tuple(module.getRamModuleId(), module.getCount()))
+                        .toList());
+    }
+
+    @Test
+    void checkUnsaved_withCodesOnly_shouldReturnResultWithoutMessages() throws Exception {
+        // given
+        when(checkingService.verifyUnsaved(draft, VerificationMode.FULL)).thenReturn(incompatible);
+        final var requestBuilder = post(URL_COMPATIBILITY)
+                .param("codesOnly", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto));
+
+        // when
+        mockMvc.perform(requestBuilder)
+
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.compatibilityViolations", hasSize(1)),
+                        jsonPath("$.compatibilityViolations[0].code", is(
+                                MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_SOCKET
+                        )),
+                        jsonPath("$.compatibilityViolations[0].message").doesNotExist()
+                );
+    }
+
+    @Test
+    void checkUnsaved_withNonExistentComponent_shouldReturnError() throws Exception {
+        // given
+        final String message = "CPU with ID = <" + requestDto.getCpuId() + "> not found!";
+        when(checkingService.verifyUnsaved(draft, VerificationMode.FULL))
+                .thenThrow(new DataNotFoundException(message, "cpuId"));
+        final var requestBuilder = post(URL_COMPATIBILITY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto));
+
+        // when
+        mockMvc.perform(requestBuilder)
+
+                // then
+                .andExpectAll(
+                        status().isNotFound(),
+                        content().contentType(MediaType.APPLICATION_JSON),
+                        jsonPath("$.violations", hasSize(1)),
+                        jsonPath("$.violations[0].paramNames", contains("cpuId")),
+                        jsonPath("$.violations[0].message", is(message))
+                );
+    }
+
+    @Test
+    void checkUnsaved_withInvalidMode_shouldReturnBadRequest() throws Exception {
+        // given
+        final var requestBuilder = post(URL_COMPATIBILITY)
+                .param("mode", "UNKNOWN")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto));
+
+        // when
+        mockMvc.perform(requestBuilder)
+
+                // then
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(checkingService);
+    }
+
+    @Test
+    void checkUnsaved_withMalformedComponentId_shouldReturnBadRequest() throws Exception {
+        // given
+        final var requestBuilder = post(URL_COMPATIBILITY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Draft\", \"cpuId\": \"not-a-uuid\"}");
+
+        // when
+        mockMvc.perform(requestBuilder)
+
+                // then
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(checkingService);
+    }
+
+    @Test
+    void checkAll_shouldStreamOneLinePerBuild() throws Exception {
+        // given
+        final UUID verifiedId = UUID.randomUUID();
+        final UUID missingId = UUID.randomUUID();
+        final String message = "Computer build with ID = <" + missingId + "> not found!";
+        doAnswer(invocation -> {
+            final Consumer<ComputerBatchVerifyResult> consumer = invocation.getArgument(2);
+            consumer.accept(ComputerBatchVerifyResult.builder()
+                    .id(verifiedId)
+                    .result(incompatible)
+                    .build());
+            consumer.accept(ComputerBatchVerifyResult.builder()
+                    .id(missingId)
+                    .errorMessage(message)
+                    .build());
+            return null;
+        }).when(checkingService).verifyAll(any(), eq(VerificationMode.FIRST_VIOLATION), any());
+
+        final var requestBuilder = post(URL_COMPATIBILITY_BATCH)
+                .param("mode", VerificationMode.FIRST_VIOLATION.name())
+                .param("codesOnly", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(verifiedId, missingId)));
+
+        // when
+        final MvcResult asyncResult = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentType(MediaType.APPLICATION_NDJSON)
+                )
+                .andReturn();
+
+        final String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines)
+                .hasSize(2);
+
+        final JsonNode verified = objectMapper.readTree(lines[0]);
+        assertThat(verified.get("id").asText())
+                .isEqualTo(verifiedId.toString());
+        assertThat(verified.at("/result/compatibilityViolations/0/code").asText())
+                .isEqualTo(MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_SOCKET);
+        assertThat(verified.has("errorMessage"))
+                .isFalse();
+
+        final JsonNode missing = objectMapper.readTree(lines[1]);
+        assertThat(missing.get("id").asText())
+                .isEqualTo(missingId.toString());
+        assertThat(missing.get("errorMessage").asText())
+                .isEqualTo(message);
+        assertThat(missing.has("result"))
+                .isFalse();
+
+        verify(checkingService).verifyAll(
+                eq(List.of(verifiedId, missingId)),
+                eq(VerificationMode.FIRST_VIOLATION),
+                any()
+        );
+    }
+
+    @Test
+    void checkAll_withMalformedId_shouldReturnBadRequest() throws Exception {
+        // given
+        final var requestBuilder = post(URL_COMPATIBILITY_BATCH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[\"not-a-uuid\"]");
+
+        // when
+        mockMvc.perform(requestBuilder)
+
+                // then
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(checkingService);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import ru.bukhtaev.dto.mapper.ICoolerMapper;
+import ru.bukhtaev.dto.request.ComputerBuildRequestDto;
 import ru.bukhtaev.dto.request.CoolerRequestDto;
 import ru.bukhtaev.model.*;
 import ru.bukhtaev.model.dictionary.FanPowerConnector;
@@ -19,6 +20,7 @@ import ru.bukhtaev.repository.dictionary.IFanSizeRepository;
 import ru.bukhtaev.repository.dictionary.ISocketRepository;
 import ru.bukhtaev.repository.dictionary.IVendorRepository;
 import ru.bukhtaev.service.TransactionService;
+import ru.bukhtaev.util.CoolerSort;
 
 import java.text.MessageFormat;
 import java.util.List;
@@ -316,6 +318,89 @@ class CoolerRestControllerIT extends AbstractIntegrationTest {
                 );
     }
 
+    @Test
+    void getCompatible_withEmptyBuild_shouldReturnAllEntitiesByToken() throws Exception {
+        // given
+        coolerRepository.save(
+                mapper.convertFromDto(coolerGammaxx400)
+        );
+        coolerRepository.save(
+                mapper.convertFromDto(coolerNhd15)
+        );
+        assertThat(coolerRepository.findAll()).hasSize(2);
+        final String jsonRequest = objectMapper.writeValueAsString(ComputerBuildRequestDto.builder().build());
+        final var firstRequestBuilder = post(URL_API_V1_COOLERS + "/compatible")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonRequest)
+                .param("limit", "1")
+                .param("sort", CoolerSort.NAME_ASC.toString());
+
+        // when
+        final String firstResponse = mockMvc.perform(firstRequestBuilder)
+
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentType(MediaType.APPLICATION_JSON),
+                        jsonPath("$.content", hasSize(1)),
+                        jsonPath("$.content[0].name", is(coolerGammaxx400.getName())),
+                        jsonPath("$.hasNext", is(true)),
+                        jsonPath("$.nextToken", notNullValue())
+                )
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // given
+        final String token = objectMapper.readTree(firstResponse).get("nextToken").asText();
+        final var secondRequestBuilder = post(URL_API_V1_COOLERS + "/compatible")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonRequest)
+                .param("limit", "1")
+                .param("sort", CoolerSort.NAME_ASC.toString())
+                .param("token", token);
+
+        // when
+        mockMvc.perform(secondRequestBuilder)
+
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentType(MediaType.APPLICATION_JSON),
+                        jsonPath("$.content", hasSize(1)),
+                        jsonPath("$.content[0].name", is(coolerNhd15.getName())),
+                        jsonPath("$.hasNext", is(false)),
+                        jsonPath("$.nextToken").doesNotExist()
+                );
+    }
+
+    @Test
+    void getCompatible_withIncorrectToken_shouldReturnError() throws Exception {
+        // given
+        coolerRepository.save(
+                mapper.convertFromDto(coolerGammaxx400)
+        );
+        assertThat(coolerRepository.findAll()).hasSize(1);
+        final String jsonRequest = objectMapper.writeValueAsString(ComputerBuildRequestDto.builder().build());
+        final var requestBuilder = post(URL_API_V1_COOLERS + "/compatible")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonRequest)
+                .param("sort", CoolerSort.NAME_ASC.toString())
+                .param("token", "not-a-token");
+
+        // when
+        mockMvc.perform(requestBuilder)
+
+                // then
+                .andExpectAll(
+                        status().isBadRequest(),
+                        content().contentType(MediaType.APPLICATION_JSON),
+                        jsonPath("$.violations", hasSize(1)),
+                        jsonPath("$.violations[0].paramNames", contains("token")),
+                        jsonPath("$.violations[0].message", is("Invalid page token!"))
+                );
+    }
+
     @Test
     void getById_withExistentId_shouldReturnFoundEntity() throws Exception {
         // given
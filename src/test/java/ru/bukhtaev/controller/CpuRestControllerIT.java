@@ -17,6 +17,7 @@ import ru.bukhtaev.repository.dictionary.IManufacturerRepository;
 import ru.bukhtaev.repository.dictionary.IRamTypeRepository;
 import ru.bukhtaev.repository.dictionary.ISocketRepository;
 import ru.bukhtaev.service.TransactionService;
+import ru.bukhtaev.util.CpuSort;
 
 import java.text.MessageFormat;
 import java.util.List;
@@ -331,6 +332,87 @@ class CpuRestControllerIT extends AbstractIntegrationTest {
                         ))
                 );
     }
+    @Test
+    void scroll_withMaxClockSort_shouldReturnAllEntitiesByToken() throws Exception {
+        // given
+        cpuRepository.save(cpuI512400F);
+        cpuRepository.save(cpuR55600X);
+        assertThat(cpuRepository.findAll()).hasSize(2);
+        final var firstRequestBuilder = get(URL_API_V1_CPUS + "/scroll")
+                .param("limit", "1")
+                .param("sort", CpuSort.MAX_CLOCK_DESC.toString());
+
+        // when
+        final String firstResponse = mockMvc.perform(firstRequestBuilder)
+
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentType(MediaType.APPLICATION_JSON),
+                        jsonPath("$.content", hasSize(1)),
+                        jsonPath("$.content[0].name", is(cpuR55600X.getName())),
+                        jsonPath("$.content[0].manufacturer.name", is(manufacturerAmd.getName())),
+                        jsonPath("$.content[0].socket.name", is(socketAm4.getName())),
+                        jsonPath("$.content[0].supportedRamTypes", hasSize(2)),
+                        jsonPath("$.hasNext", is(true)),
+                        jsonPath("$.nextToken", notNullValue())
+                )
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // given
+        final String token = objectMapper.readTree(firstResponse).get("nextToken").asText();
+        final var secondRequestBuilder = get(URL_API_V1_CPUS + "/scroll")
+                .param("limit", "1")
+                .param("sort", CpuSort.MAX_CLOCK_DESC.toString())
+                .param("token", token);
+
+        // when
+        mockMvc.perform(secondRequestBuilder)
+
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentType(MediaType.APPLICATION_JSON),
+                        jsonPath("$.content", hasSize(1)),
+                        jsonPath("$.content[0].name", is(cpuI512400F.getName())),
+                        jsonPath("$.content[0].manufacturer.name", is(manufacturerIntel.getName())),
+                        jsonPath("$.hasNext", is(false)),
+                        jsonPath("$.nextToken").doesNotExist()
+                );
+    }
+
+    @Test
+    void scroll_withTokenOfOtherSort_shouldReturnError() throws Exception {
+        // given
+        cpuRepository.save(cpuI512400F);
+        cpuRepository.save(cpuR55600X);
+        assertThat(cpuRepository.findAll()).hasSize(2);
+        final String response = mockMvc.perform(get(URL_API_V1_CPUS + "/scroll")
+                        .param("limit", "1")
+                        .param("sort", CpuSort.NAME_ASC.toString()))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        final String token = objectMapper.readTree(response).get("nextToken").asText();
+        final var requestBuilder = get(URL_API_V1_CPUS + "/scroll")
+                .param("limit", "1")
+                .param("sort", CpuSort.MAX_CLOCK_DESC.toString())
+                .param("token", token);
+
+        // when
+        mockMvc.perform(requestBuilder)
+
+                // then
+                .andExpectAll(
+                        status().isBadRequest(),
+                        content().contentType(MediaType.APPLICATION_JSON),
+                        jsonPath("$.violations", hasSize(1)),
+                        jsonPath("$.violations[0].paramNames", contains("token")),
+                        jsonPath("$.violations[0].message", is("Invalid page token!"))
+                );
+    }
 
     @Test
     void getById_withExistentId_shouldReturnFoundEntity() throws Exception {
@@ -0,0 +1,567 @@
+package ru.bukhtaev.repository;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.model.dictionary.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Каталог для тестов запросов репозиториев: по одному комплектующему каждого типа
+ * со всеми справочными значениями и коллекциями.
+ * Также обходит загруженные данные, чтобы тесты могли проверить отсутствие дополнительных запросов.
+ */
+final class CatalogFixture {
+
+    /**
+     * Менеджер сущностей.
+     */
+    private final TestEntityManager entityManager;
+
+    /**
+     * Вариант исполнения.
+     */
+    final Design design;
+
+    /**
+     * Чипсет.
+     */
+    final Chipset chipset;
+
+    /**
+     * Графический процессор.
+     */
+    final Gpu gpu;
+
+    /**
+     * Процессор.
+     */
+    final Cpu cpu;
+
+    /**
+     * Блок питания.
+     */
+    final Psu psu;
+
+    /**
+     * Процессорный кулер.
+     */
+    final Cooler cooler;
+
+    /**
+     * Материнская плата.
+     */
+    final Motherboard motherboard;
+
+    /**
+     * Видеокарта.
+     */
+    final GraphicsCard graphicsCard;
+
+    /**
+     * Корпус.
+     */
+    final ComputerCase computerCase;
+
+    /**
+     * Вентилятор.
+     */
+    final Fan fan;
+
+    /**
+     * Модуль оперативной памяти.
+     */
+    final RamModule ramModule;
+
+    /**
+     * Жесткий диск.
+     */
+    final Hdd hdd;
+
+    /**
+     * SSD-накопитель.
+     */
+    final Ssd ssd;
+
+    /**
+     * Конструктор. Сохраняет каталог в контексте персистентности.
+     *
+     * @param entityManager менеджер сущностей
+     */
+    CatalogFixture(final TestEntityManager entityManager) {
+        this.entityManager = entityManager;
+
+        final Vendor vendor = persist(Vendor.builder().name("ASUS").build());
+        final Manufacturer manufacturer = persist(Manufacturer.builder().name("Intel").build());
+        final Socket socket = persist(Socket.builder().name("LGA 1700").build());
+        final RamType ramType = persist(RamType.builder().name("DDR5").build());
+        final VideoMemoryType memoryType = persist(VideoMemoryType.builder().name("GDDR6").build());
+        final PciExpressConnectorVersion pcie = persist(PciExpressConnectorVersion.builder().name("4.0").build());
+        final PsuFormFactor psuFormFactor = persist(PsuFormFactor.builder().name("ATX").build());
+        final PsuCertificate certificate = persist(PsuCertificate.builder().name("80 PLUS Gold").build());
+        final MotherboardFormFactor motherboardFormFactor = persist(
+                MotherboardFormFactor.builder().name("ATX").build()
+        );
+        final MainPowerConnector mainPowerConnector = persist(MainPowerConnector.builder().name("24 pin").build());
+        final CpuPowerConnector cpuPowerConnector = persist(CpuPowerConnector.builder().name("8 pin").build());
+        final FanPowerConnector fanPowerConnector = persist(FanPowerConnector.builder().name("4 pin").build());
+        final GraphicsCardPowerConnector graphicsCardPowerConnector = persist(
+                GraphicsCardPowerConnector.builder().name("8 pin").build()
+        );
+        final StorageConnector storageConnector = persist(StorageConnector.builder().name("SATA 3").build());
+        final StoragePowerConnector storagePowerConnector = persist(
+                StoragePowerConnector.builder().name("SATA 15 pin").build()
+        );
+        final ExpansionBayFormat expansionBayFormat = persist(ExpansionBayFormat.builder().name("3.5\"").build());
+        final FanSize fanSize = persist(FanSize.builder().length(120).width(120).height(25).build());
+
+        this.design = persist(Design.builder().name("ROG").vendor(vendor).build());
+        this.chipset = persist(Chipset.builder().name("Z790").socket(socket).build());
+        this.gpu = persist(Gpu.builder()
+                .name("GeForce RTX 4070")
+                .memorySize(12288)
+                .powerConsumption(200)
+                .memoryType(memoryType)
+                .manufacturer(manufacturer)
+                .build());
+
+        this.cpu = Cpu.builder()
+                .name("Core i5-13600K")
+                .coreCount(14)
+                .threadCount(20)
+                .baseClock(3500)
+                .maxClock(5100)
+                .l3CacheSize(24)
+                .maxTdp(181)
+                .maxMemorySize(196608)
+                .manufacturer(manufacturer)
+                .socket(socket)
+                .build();
+        cpu.addRamType(ramType, 5600);
+        persist(cpu);
+
+        this.psu = Psu.builder()
+                .name("ROG STRIX 850W")
+                .power(850)
+                .power12V(840)
+                .length(150)
+                .vendor(vendor)
+                .formFactor(psuFormFactor)
+                .certificate(certificate)
+                .mainPowerConnector(mainPowerConnector)
+                .build();
+        psu.addCpuPowerConnector(cpuPowerConnector, 2);
+        psu.addStoragePowerConnector(storagePowerConnector, 4);
+        psu.addGraphicsCardPowerConnector(graphicsCardPowerConnector, 3);
+        persist(psu);
+
+        this.cooler = persist(Cooler.builder()
+                .name("ROG RYUO III")
+                .height(30)
+                .powerDissipation(250)
+                .vendor(vendor)
+                .fanSize(fanSize)
+                .powerConnector(fanPowerConnector)
+                .supportedSockets(Set.of(socket))
+                .build());
+
+        this.motherboard = Motherboard.builder()
+                .name("ROG STRIX Z790-F")
+                .maxMemoryClock(5600)
+                .maxMemoryOverClock(7800)
+                .maxMemorySize(196608)
+                .slotsCount(4)
+                .design(design)
+                .chipset(chipset)
+                .ramType(ramType)
+                .formFactor(motherboardFormFactor)
+                .cpuPowerConnector(cpuPowerConnector)
+                .mainPowerConnector(mainPowerConnector)
+                .coolerPowerConnector(fanPowerConnector)
+                .pciExpressConnectorVersion(pcie)
+                .build();
+        motherboard.addFanPowerConnector(fanPowerConnector, 4);
+        motherboard.addStorageConnector(storageConnector, 4);
+        persist(motherboard);
+
+        this.graphicsCard = GraphicsCard.builder()
+                .length(300)
+                .gpu(gpu)
+                .design(design)
+                .pciExpressConnectorVersion(pcie)
+                .build();
+        graphicsCard.addPowerConnector(graphicsCardPowerConnector, 1);
+        persist(graphicsCard);
+
+        this.computerCase = ComputerCase.builder()
+                .name("ROG STRIX HELIOS")
+                .maxPsuLength(220)
+                .maxGraphicsCardLength(450)
+                .maxCoolerHeight(190)
+                .vendor(vendor)
+                .motherboardFormFactors(Set.of(motherboardFormFactor))
+                .psuFormFactors(Set.of(psuFormFactor))
+                .build();
+        computerCase.addExpansionBayFormat(expansionBayFormat, 2);
+        computerCase.addFanSize(fanSize, 6);
+        persist(computerCase);
+
+        this.fan = persist(Fan.builder()
+                .name("ROG STRIX XF120")
+                .vendor(vendor)
+                .size(fanSize)
+                .powerConnector(fanPowerConnector)
+                .build());
+        this.ramModule = persist(RamModule.builder()
+                .clock(5600)
+                .capacity(16384)
+                .type(ramType)
+                .design(design)
+                .build());
+        this.hdd = persist(Hdd.builder()
+                .name("FireCuda")
+                .capacity(2000000)
+                .readingSpeed(190)
+                .writingSpeed(190)
+                .spindleSpeed(7200)
+                .cacheSize(256)
+                .vendor(vendor)
+                .connector(storageConnector)
+                .powerConnector(storagePowerConnector)
+                .expansionBayFormat(expansionBayFormat)
+                .build());
+        this.ssd = persist(Ssd.builder()
+                .name("BarraCuda Q1")
+                .capacity(960000)
+                .readingSpeed(550)
+                .writingSpeed(500)
+                .vendor(vendor)
+                .connector(storageConnector)
+                .powerConnector(storagePowerConnector)
+                .expansionBayFormat(expansionBayFormat)
+                .build());
+    }
+
+    /**
+     * Сохраняет копии процессора, блока питания, процессорного кулера, материнской платы,
+     * видеокарты и корпуса с теми же справочными значениями и коллекциями.
+     *
+     * @param count количество копий каждого комплектующего
+     */
+    void persistCopies(final int count) {
+        for (int i = 1; i <= count; i++) {
+            final String suffix = " #" + i;
+
+            final Cpu cpuCopy = Cpu.builder()
+                    .name(cpu.getName() + suffix)
+                    .coreCount(cpu.getCoreCount())
+                    .threadCount(cpu.getThreadCount())
+                    .baseClock(cpu.getBaseClock())
+                    .maxClock(cpu.getMaxClock())
+                    .l3CacheSize(cpu.getL3CacheSize())
+                    .maxTdp(cpu.getMaxTdp())
+                    .maxMemorySize(cpu.getMaxMemorySize())
+                    .manufacturer(cpu.getManufacturer())
+                    .socket(cpu.getSocket())
+                    .build();
+            cpu.getSupportedRamTypes()
+                    .forEach(cpuToType -> cpuCopy.addRamType(cpuToType.getRamType(), cpuToType.getMaxMemoryClock()));
+            persist(cpuCopy);
+
+            final Psu psuCopy = Psu.builder()
+                    .name(psu.getName() + suffix)
+                    .power(psu.getPower())
+                    .power12V(psu.getPower12V())
+                    .length(psu.getLength())
+                    .vendor(psu.getVendor())
+                    .formFactor(psu.getFormFactor())
+                    .certificate(psu.getCertificate())
+                    .mainPowerConnector(psu.getMainPowerConnector())
+                    .build();
+            psu.getCpuPowerConnectors().forEach(psuToConnector ->
+                    psuCopy.addCpuPowerConnector(psuToConnector.getCpuPowerConnector(), psuToConnector.getCount()));
+            psu.getStoragePowerConnectors().forEach(psuToConnector ->
+                    psuCopy.addStoragePowerConnector(
+                            psuToConnector.getStoragePowerConnector(),
+                            psuToConnector.getCount()
+                    ));
+            psu.getGraphicsCardPowerConnectors().forEach(psuToConnector ->
+                    psuCopy.addGraphicsCardPowerConnector(
+                            psuToConnector.getGraphicsCardPowerConnector(),
+                            psuToConnector.getCount()
+                    ));
+            persist(psuCopy);
+
+            persist(Cooler.builder()
+                    .name(cooler.getName() + suffix)
+                    .height(cooler.getHeight())
+                    .powerDissipation(cooler.getPowerDissipation())
+                    .vendor(cooler.getVendor())
+                    .fanSize(cooler.getFanSize())
+                    .powerConnector(cooler.getPowerConnector())
+                    .supportedSockets(new HashSet<>(cooler.getSupportedSockets()))
+                    .build());
+
+            final Motherboard motherboardCopy = Motherboard.builder()
+                    .name(motherboard.getName() + suffix)
+                    .maxMemoryClock(motherboard.getMaxMemoryClock())
+                    .maxMemoryOverClock(motherboard.getMaxMemoryOverClock())
+                    .maxMemorySize(motherboard.getMaxMemorySize())
+                    .slotsCount(motherboard.getSlotsCount())
+                    .design(motherboard.getDesign())
+                    .chipset(motherboard.getChipset())
+                    .ramType(motherboard.getRamType())
+                    .formFactor(motherboard.getFormFactor())
+                    .cpuPowerConnector(motherboard.getCpuPowerConnector())
+                    .mainPowerConnector(motherboard.getMainPowerConnector())
+                    .coolerPowerConnector(motherboard.getCoolerPowerConnector())
+                    .pciExpressConnectorVersion(motherboard.getPciExpressConnectorVersion())
+                    .build();
+            motherboard.getFanPowerConnectors().forEach(boardToConnector ->
+                    motherboardCopy.addFanPowerConnector(
+                            boardToConnector.getFanPowerConnector(),
+                            boardToConnector.getCount()
+                    ));
+            motherboard.getStorageConnectors().forEach(boardToConnector ->
+                    motherboardCopy.addStorageConnector(
+                            boardToConnector.getStorageConnector(),
+                            boardToConnector.getCount()
+                    ));
+            persist(motherboardCopy);
+
+            final Gpu gpuCopy = persist(Gpu.builder()
+                    .name(gpu.getName() + suffix)
+                    .memorySize(gpu.getMemorySize())
+                    .powerConsumption(gpu.getPowerConsumption())
+                    .memoryType(gpu.getMemoryType())
+                    .manufacturer(gpu.getManufacturer())
+                    .build());
+            final GraphicsCard graphicsCardCopy = GraphicsCard.builder()
+                    .length(graphicsCard.getLength())
+                    .gpu(gpuCopy)
+                    .design(graphicsCard.getDesign())
+                    .pciExpressConnectorVersion(graphicsCard.getPciExpressConnectorVersion())
+                    .build();
+            graphicsCard.getPowerConnectors().forEach(cardToConnector ->
+                    graphicsCardCopy.addPowerConnector(
+                            cardToConnector.getPowerConnector(),
+                            cardToConnector.getCount()
+                    ));
+            persist(graphicsCardCopy);
+
+            final ComputerCase computerCaseCopy = ComputerCase.builder()
+                    .name(computerCase.getName() + suffix)
+                    .maxPsuLength(computerCase.getMaxPsuLength())
+                    .maxGraphicsCardLength(computerCase.getMaxGraphicsCardLength())
+                    .maxCoolerHeight(computerCase.getMaxCoolerHeight())
+                    .vendor(computerCase.getVendor())
+                    .motherboardFormFactors(new HashSet<>(computerCase.getMotherboardFormFactors()))
+                    .psuFormFactors(new HashSet<>(computerCase.getPsuFormFactors()))
+                    .build();
+            computerCase.getExpansionBayFormats().forEach(caseToFormat ->
+                    computerCaseCopy.addExpansionBayFormat(
+                            caseToFormat.getExpansionBayFormat(),
+                            caseToFormat.getCount()
+                    ));
+            computerCase.getFanSizes().forEach(caseToSize ->
+                    computerCaseCopy.addFanSize(caseToSize.getFanSize(), caseToSize.getCount()));
+            persist(computerCaseCopy);
+        }
+    }
+
+    /**
+     * Обходит справочные значения процессора.
+     *
+     * @param cpu процессор
+     */
+    static void touchReferences(final Cpu cpu) {
+        assertThat(cpu.getManufacturer().getName()).isNotNull();
+        assertThat(cpu.getSocket().getName()).isNotNull();
+    }
+
+    /**
+     * Обходит справочные значения блока питания.
+     *
+     * @param psu блок питания
+     */
+    static void touchReferences(final Psu psu) {
+        assertThat(psu.getVendor().getName()).isNotNull();
+        assertThat(psu.getFormFactor().getName()).isNotNull();
+        assertThat(psu.getCertificate().getName()).isNotNull();
+        assertThat(psu.getMainPowerConnector().getName()).isNotNull();
+    }
+
+    /**
+     * Обходит справочные значения процессорного кулера.
+     *
+     * @param cooler процессорный кулер
+     */
+    static void touchReferences(final Cooler cooler) {
+        assertThat(cooler.getVendor().getName()).isNotNull();
+        assertThat(cooler.getFanSize().getLength()).isNotNull();
+        assertThat(cooler.getPowerConnector().getName()).isNotNull();
+    }
+
+    /**
+     * Обходит справочные значения материнской платы.
+     *
+     * @param motherboard материнская плата
+     */
+    static void touchReferences(final Motherboard motherboard) {
+        assertThat(motherboard.getDesign().getVendor().getName()).isNotNull();
+        assertThat(motherboard.getChipset().getSocket().getName()).isNotNull();
+        assertThat(motherboard.getRamType().getName()).isNotNull();
+        assertThat(motherboard.getFormFactor().getName()).isNotNull();
+        assertThat(motherboard.getCpuPowerConnector().getName()).isNotNull();
+        assertThat(motherboard.getMainPowerConnector().getName()).isNotNull();
+        assertThat(motherboard.getCoolerPowerConnector().getName()).isNotNull();
+        assertThat(motherboard.getPciExpressConnectorVersion().getName()).isNotNull();
+    }
+
+    /**
+     * Обходит справочные значения видеокарты.
+     *
+     * @param graphicsCard видеокарта
+     */
+    static void touchReferences(final GraphicsCard graphicsCard) {
+        assertThat(graphicsCard.getGpu().getMemoryType().getName()).isNotNull();
+        assertThat(graphicsCard.getGpu().getManufacturer().getName()).isNotNull();
+        assertThat(graphicsCard.getDesign().getVendor().getName()).isNotNull();
+        assertThat(graphicsCard.getPciExpressConnectorVersion().getName()).isNotNull();
+    }
+
+    /**
+     * Обходит справочные значения корпуса.
+     *
+     * @param computerCase корпус
+     */
+    static void touchReferences(final ComputerCase computerCase) {
+        assertThat(computerCase.getVendor().getName()).isNotNull();
+    }
+
+    /**
+     * Обходит справочные значения вентилятора.
+     *
+     * @param fan вентилятор
+     */
+    static void touchReferences(final Fan fan) {
+        assertThat(fan.getVendor().getName()).isNotNull();
+        assertThat(fan.getSize().getLength()).isNotNull();
+        assertThat(fan.getPowerConnector().getName()).isNotNull();
+    }
+
+    /**
+     * Обходит справочные значения модуля оперативной памяти.
+     *
+     * @param ramModule модуль оперативной памяти
+     */
+    static void touchReferences(final RamModule ramModule) {
+        assertThat(ramModule.getType().getName()).isNotNull();
+        assertThat(ramModule.getDesign().getVendor().getName()).isNotNull();
+    }
+
+    /**
+     * Обходит справочные значения накопителя.
+     *
+     * @param device накопитель
+     */
+    static void touchReferences(final StorageDevice device) {
+        assertThat(device.getVendor().getName()).isNotNull();
+        assertThat(device.getConnector().getName()).isNotNull();
+        assertThat(device.getPowerConnector().getName()).isNotNull();
+        assertThat(device.getExpansionBayFormat().getName()).isNotNull();
+    }
+
+    /**
+     * Обходит коллекции процессора.
+     *
+     * @param cpu процессор
+     */
+    static void touchCollections(final Cpu cpu) {
+        assertThat(cpu.getSupportedRamTypes()).isNotEmpty();
+        cpu.getSupportedRamTypes()
+                .forEach(cpuToType -> assertThat(cpuToType.getRamType().getName()).isNotNull());
+    }
+
+    /**
+     * Обходит коллекции блока питания.
+     *
+     * @param psu блок питания
+     */
+    static void touchCollections(final Psu psu) {
+        assertThat(psu.getCpuPowerConnectors()).isNotEmpty();
+        psu.getCpuPowerConnectors()
+                .forEach(psuToConnector -> assertThat(psuToConnector.getCpuPowerConnector().getName()).isNotNull());
+        psu.getStoragePowerConnectors()
+                .forEach(psuToConnector -> assertThat(psuToConnector.getStoragePowerConnector().getName()).isNotNull());
+        psu.getGraphicsCardPowerConnectors()
+                .forEach(psuToConnector -> assertThat(psuToConnector.getGraphicsCardPowerConnector().getName())
+                        .isNotNull());
+    }
+
+    /**
+     * Обходит коллекции процессорного кулера.
+     *
+     * @param cooler процессорный кулер
+     */
+    static void touchCollections(final Cooler cooler) {
+        assertThat(cooler.getSupportedSockets()).isNotEmpty();
+        cooler.getSupportedSockets()
+                .forEach(socket -> assertThat(socket.getName()).isNotNull());
+    }
+
+    /**
+     * Обходит коллекции материнской платы.
+     *
+     * @param motherboard материнская плата
+     */
+    static void touchCollections(final Motherboard motherboard) {
+        assertThat(motherboard.getFanPowerConnectors()).isNotEmpty();
+        motherboard.getFanPowerConnectors()
+                .forEach(boardToConnector -> assertThat(boardToConnector.getFanPowerConnector().getName()).isNotNull());
+        motherboard.getStorageConnectors()
+                .forEach(boardToConnector -> assertThat(boardToConnector.getStorageConnector().getName()).isNotNull());
+    }
+
+    /**
+     * Обходит коллекции видеокарты.
+     *
+     * @param graphicsCard видеокарта
+     */
+    static void touchCollections(final GraphicsCard graphicsCard) {
+        assertThat(graphicsCard.getPowerConnectors()).isNotEmpty();
+        graphicsCard.getPowerConnectors()
+                .forEach(cardToConnector -> assertThat(cardToConnector.getPowerConnector().getName()).isNotNull());
+    }
+
+    /**
+     * Обходит коллекции корпуса.
+     *
+     * @param computerCase корпус
+     */
+    static void touchCollections(final ComputerCase computerCase) {
+        assertThat(computerCase.getFanSizes()).isNotEmpty();
+        computerCase.getMotherboardFormFactors()
+                .forEach(formFactor -> assertThat(formFactor.getName()).isNotNull());
+        computerCase.getPsuFormFactors()
+                .forEach(formFactor -> assertThat(formFactor.getName()).isNotNull());
+        computerCase.getExpansionBayFormats()
+                .forEach(caseToFormat -> assertThat(caseToFormat.getExpansionBayFormat().getName()).isNotNull());
+        computerCase.getFanSizes()
+                .forEach(caseToSize -> assertThat(caseToSize.getFanSize().getLength()).isNotNull());
+    }
+
+    /**
+     * Сохраняет сущность в контексте персистентности.
+     *
+     * @param entity сущность
+     * @param <T>    тип сущности
+     * @return сохраненная сущность
+     */
+    private <T> T persist(final T entity) {
+        return entityManager.persist(entity);
+    }
+}
@@ -0,0 +1,275 @@
+package ru.bukhtaev.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import ru.bukhtaev.AbstractContainerizedTest;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.model.dictionary.MotherboardFormFactor;
+import ru.bukhtaev.model.dictionary.PsuFormFactor;
+import ru.bukhtaev.model.dictionary.Socket;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Модульные тесты запросов выгрузки отношений совместимости комплектующих.
+ * Каталог содержит совместимые комплектующие {@link CatalogFixture}, а также по одному
+ * несовместимому с ними комплектующему каждого типа и корпус, совместимый со всеми комплектующими.
+ */
+@DataJpaTest
+class CompatibilityExportQueryTest extends AbstractContainerizedTest {
+
+    /**
+     * Репозиторий процессоров.
+     */
+    @Autowired
+    private ICpuRepository cpuRepository;
+
+    /**
+     * Репозиторий корпусов.
+     */
+    @Autowired
+    private IComputerCaseRepository computerCaseRepository;
+
+    /**
+     * Менеджер сущностей.
+     */
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CatalogFixture catalog;
+
+    /**
+     * Процессор с сокетом AM5.
+     */
+    private Cpu cpuAm5;
+
+    /**
+     * Материнская плата с сокетом AM5 форм-фактора Micro-ATX.
+     */
+    private Motherboard motherboardAm5;
+
+    /**
+     * Видеокарта длиннее, чем допускает корпус каталога.
+     */
+    private GraphicsCard graphicsCardLong;
+
+    /**
+     * Блок питания форм-фактора SFX.
+     */
+    private Psu psuSfx;
+
+    /**
+     * Корпус, поддерживающий все комплектующие каталога.
+     */
+    private ComputerCase computerCaseLarge;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(entityManager);
+
+        final Socket socketAm5 = entityManager.persist(
+                Socket.builder()
+                        .name("AM5")
+                        .build()
+        );
+        final Chipset chipsetAm5 = entityManager.persist(
+                Chipset.builder()
+                        .name("B650")
+                        .socket(socketAm5)
+                        .build()
+        );
+        final MotherboardFormFactor formFactorMicroAtx = entityManager.persist(
+                MotherboardFormFactor.builder()
+                        .name("Micro-ATX")
+                        .build()
+        );
+        final PsuFormFactor formFactorSfx = entityManager.persist(
+                PsuFormFactor.builder()
+                        .name("SFX")
+                        .build()
+        );
+
+        cpuAm5 = Cpu.builder()
+                .name("Ryzen 5 7600")
+                .coreCount(6)
+                .threadCount(12)
+                .baseClock(3800)
+                .maxClock(5100)
+                .l3CacheSize(32)
+                .maxTdp(88)
+                .maxMemorySize(131072)
+                .manufacturer(catalog.cpu.getManufacturer())
+                .socket(socketAm5)
+                .build();
+        catalog.cpu.getSupportedRamTypes()
+                .forEach(cpuToType -> cpuAm5.addRamType(cpuToType.getRamType(), cpuToType.getMaxMemoryClock()));
+        entityManager.persist(cpuAm5);
+
+        final Motherboard motherboard = catalog.motherboard;
+        motherboardAm5 = Motherboard.builder()
+                .name("ROG STRIX B650M-A")
+                .maxMemoryClock(motherboard.getMaxMemoryClock())
+                .maxMemoryOverClock(motherboard.getMaxMemoryOverClock())
+                .maxMemorySize(motherboard.getMaxMemorySize())
+                .slotsCount(motherboard.getSlotsCount())
+                .design(motherboard.getDesign())
+                .chipset(chipsetAm5)
+                .ramType(motherboard.getRamType())
+                .formFactor(formFactorMicroAtx)
+                .cpuPowerConnector(motherboard.getCpuPowerConnector())
+                .mainPowerConnector(motherboard.getMainPowerConnector())
+                .coolerPowerConnector(motherboard.getCoolerPowerConnector())
+                .pciExpressConnectorVersion(motherboard.getPciExpressConnectorVersion())
+                .build();
+        motherboard.getFanPowerConnectors().forEach(boardToConnector ->
+                motherboardAm5.addFanPowerConnector(
+                        boardToConnector.getFanPowerConnector(),
+                        boardToConnector.getCount()
+                ));
+        motherboard.getStorageConnectors().forEach(boardToConnector ->
+                motherboardAm5.addStorageConnector(
+                        boardToConnector.getStorageConnector(),
+                        boardToConnector.getCount()
+                ));
+        entityManager.persist(motherboardAm5);
+
+        final Gpu gpu = catalog.gpu;
+        final Gpu gpuLong = entityManager.persist(
+                Gpu.builder()
+                        .name("GeForce RTX 4090")
+                        .memorySize(24576)
+                        .powerConsumption(450)
+                        .memoryType(gpu.getMemoryType())
+                        .manufacturer(gpu.getManufacturer())
+                        .build()
+        );
+        final GraphicsCard graphicsCard = catalog.graphicsCard;
+        graphicsCardLong = GraphicsCard.builder()
+                .length(catalog.computerCase.getMaxGraphicsCardLength() + 10)
+                .gpu(gpuLong)
+                .design(graphicsCard.getDesign())
+                .pciExpressConnectorVersion(graphicsCard.getPciExpressConnectorVersion())
+                .build();
+        graphicsCard.getPowerConnectors().forEach(cardToConnector ->
+                graphicsCardLong.addPowerConnector(cardToConnector.getPowerConnector(), cardToConnector.getCount()));
+        entityManager.persist(graphicsCardLong);
+
+        final Psu psu = catalog.psu;
+        psuSfx = Psu.builder()
+                .name("ROG LOKI 850W")
+                .power(psu.getPower())
+                .power12V(psu.getPower12V())
+                .length(100)
+                .vendor(psu.getVendor())
+                .formFactor(formFactorSfx)
+                .certificate(psu.getCertificate())
+                .mainPowerConnector(psu.getMainPowerConnector())
+                .build();
+        psu.getCpuPowerConnectors().forEach(psuToConnector ->
+                psuSfx.addCpuPowerConnector(psuToConnector.getCpuPowerConnector(), psuToConnector.getCount()));
+        psu.getStoragePowerConnectors().forEach(psuToConnector ->
+                psuSfx.addStoragePowerConnector(psuToConnector.getStoragePowerConnector(), psuToConnector.getCount()));
+        psu.getGraphicsCardPowerConnectors().forEach(psuToConnector ->
+                psuSfx.addGraphicsCardPowerConnector(
+                        psuToConnector.getGraphicsCardPowerConnector(),
+                        psuToConnector.getCount()
+                ));
+        entityManager.persist(psuSfx);
+
+        final ComputerCase computerCase = catalog.computerCase;
+        computerCaseLarge = ComputerCase.builder()
+                .name("ROG HYPERION")
+                .maxPsuLength(computerCase.getMaxPsuLength())
+                .maxGraphicsCardLength(graphicsCardLong.getLength())
+                .maxCoolerHeight(computerCase.getMaxCoolerHeight())
+                .vendor(computerCase.getVendor())
+                .motherboardFormFactors(Set.of(motherboard.getFormFactor(), formFactorMicroAtx))
+                .psuFormFactors(Set.of(psu.getFormFactor(), formFactorSfx))
+                .build();
+        computerCase.getExpansionBayFormats().forEach(caseToFormat ->
+                computerCaseLarge.addExpansionBayFormat(caseToFormat.getExpansionBayFormat(), caseToFormat.getCount()));
+        computerCase.getFanSizes().forEach(caseToSize ->
+                computerCaseLarge.addFanSize(caseToSize.getFanSize(), caseToSize.getCount()));
+        entityManager.persist(computerCaseLarge);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void streamMotherboardCompatibilities_ofCpus_shouldReturnMotherboardsWithSameSocket() {
+        // when
+        final List<ComponentCompatibility> compatibilities = read(cpuRepository::streamMotherboardCompatibilities);
+
+        // then
+        assertThat(compatibilities)
+                .containsExactlyInAnyOrder(
+                        new ComponentCompatibility(catalog.cpu.getId(), catalog.motherboard.getId()),
+                        new ComponentCompatibility(cpuAm5.getId(), motherboardAm5.getId())
+                );
+    }
+
+    @Test
+    void streamMotherboardCompatibilities_ofCases_shouldReturnMotherboardsOfSupportedFormFactors() {
+        // when
+        final List<ComponentCompatibility> compatibilities =
+                read(computerCaseRepository::streamMotherboardCompatibilities);
+
+        // then
+        assertThat(compatibilities)
+                .containsExactlyInAnyOrder(
+                        new ComponentCompatibility(catalog.computerCase.getId(), catalog.motherboard.getId()),
+                        new ComponentCompatibility(computerCaseLarge.getId(), catalog.motherboard.getId()),
+                        new ComponentCompatibility(computerCaseLarge.getId(), motherboardAm5.getId())
+                );
+    }
+
+    @Test
+    void streamGraphicsCardCompatibilities_shouldReturnGraphicsCardsNotLongerThanAllowed() {
+        // when
+        final List<ComponentCompatibility> compatibilities =
+                read(computerCaseRepository::streamGraphicsCardCompatibilities);
+
+        // then
+        assertThat(compatibilities)
+                .containsExactlyInAnyOrder(
+                        new ComponentCompatibility(catalog.computerCase.getId(), catalog.graphicsCard.getId()),
+                        new ComponentCompatibility(computerCaseLarge.getId(), catalog.graphicsCard.getId()),
+                        new ComponentCompatibility(computerCaseLarge.getId(), graphicsCardLong.getId())
+                );
+    }
+
+    @Test
+    void streamPsuCompatibilities_shouldReturnPsusOfSupportedFormFactors() {
+        // when
+        final List<ComponentCompatibility> compatibilities = read(computerCaseRepository::streamPsuCompatibilities);
+
+        // then
+        assertThat(compatibilities)
+                .containsExactlyInAnyOrder(
+                        new ComponentCompatibility(catalog.computerCase.getId(), catalog.psu.getId()),
+                        new ComponentCompatibility(computerCaseLarge.getId(), catalog.psu.getId()),
+                        new ComponentCompatibility(computerCaseLarge.getId(), psuSfx.getId())
+                );
+    }
+
+    /**
+     * Читает поток пар совместимых комплектующих и закрывает его.
+     *
+     * @param query запрос пар совместимых комплектующих
+     * @return пары совместимых комплектующих
+     */
+    private static List<ComponentCompatibility> read(final Supplier<Stream<ComponentCompatibility>> query) {
+        try (final Stream<ComponentCompatibility> stream = query.get()) {
+            return stream.toList();
+        }
+    }
+}
@@ -0,0 +1,592 @@
+package ru.bukhtaev.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import ru.bukhtaev.AbstractContainerizedTest;
+import ru.bukhtaev.model.*;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.bukhtaev.repository.CatalogFixture.touchCollections;
+import static ru.bukhtaev.repository.CatalogFixture.touchReferences;
+
+/**
+ * Модульные тесты планов загрузки репозиториев комплектующих.
+ * Проверяют, что страница комплектующих загружается со справочными значениями одним запросом,
+ * а комплектующее по ID - вместе с коллекциями одним запросом,
+ * и что обход загруженных данных не выполняет дополнительных запросов.
+ * Для страниц комплектующих с коллекциями проверяют, что коллекции загружаются пакетами
+ * и количество запросов не зависит от размера страницы.
+ * Кэш второго уровня отключен, чтобы справочные значения всегда загружались запросами.
+ * Тесты выполняются на базе данных PostgreSQL из контейнера, а не на встроенной базе данных,
+ * так как пакетная загрузка коллекций передает ID владельцев параметром-массивом.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+class ComponentRepositoryFetchPlanTest extends AbstractContainerizedTest {
+
+    /**
+     * Размер проверяемой страницы комплектующих.
+     */
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * Наибольшее количество запросов при обходе страницы процессоров:
+     * страница, коллекция поддерживаемых типов оперативной памяти и типы оперативной памяти.
+     */
+    private static final long CPU_PAGE_STATEMENTS = 3;
+
+    /**
+     * Наибольшее количество запросов при обходе страницы блоков питания:
+     * страница, три коллекции коннекторов питания и три типа коннекторов питания.
+     */
+    private static final long PSU_PAGE_STATEMENTS = 7;
+
+    /**
+     * Наибольшее количество запросов при обходе страницы процессорных кулеров:
+     * страница и коллекция поддерживаемых сокетов.
+     */
+    private static final long COOLER_PAGE_STATEMENTS = 2;
+
+    /**
+     * Наибольшее количество запросов при обходе страницы материнских плат:
+     * страница, две коллекции коннекторов и два типа коннекторов.
+     */
+    private static final long MOTHERBOARD_PAGE_STATEMENTS = 5;
+
+    /**
+     * Наибольшее количество запросов при обходе страницы видеокарт:
+     * страница, коллекция коннекторов питания и коннекторы питания.
+     */
+    private static final long GRAPHICS_CARD_PAGE_STATEMENTS = 3;
+
+    /**
+     * Наибольшее количество запросов при обходе страницы корпусов:
+     * страница, четыре коллекции форм-факторов и размеров и два вида их справочных значений.
+     */
+    private static final long COMPUTER_CASE_PAGE_STATEMENTS = 7;
+
+    /**
+     * Репозиторий процессоров.
+     */
+    @Autowired
+    private ICpuRepository cpuRepository;
+
+    /**
+     * Репозиторий блоков питания.
+     */
+    @Autowired
+    private IPsuRepository psuRepository;
+
+    /**
+     * Репозиторий процессорных кулеров.
+     */
+    @Autowired
+    private ICoolerRepository coolerRepository;
+
+    /**
+     * Репозиторий материнских плат.
+     */
+    @Autowired
+    private IMotherboardRepository motherboardRepository;
+
+    /**
+     * Репозиторий видеокарт.
+     */
+    @Autowired
+    private IGraphicsCardRepository graphicsCardRepository;
+
+    /**
+     * Репозиторий корпусов.
+     */
+    @Autowired
+    private IComputerCaseRepository computerCaseRepository;
+
+    /**
+     * Репозиторий вентиляторов.
+     */
+    @Autowired
+    private IFanRepository fanRepository;
+
+    /**
+     * Репозиторий модулей оперативной памяти.
+     */
+    @Autowired
+    private IRamModuleRepository ramModuleRepository;
+
+    /**
+     * Репозиторий жестких дисков.
+     */
+    @Autowired
+    private IHddRepository hddRepository;
+
+    /**
+     * Репозиторий SSD-накопителей.
+     */
+    @Autowired
+    private ISsdRepository ssdRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogFixture(entityManager);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllBy_cpus_shouldLoadReferencesWithSingleStatement() {
+        // when
+        final Slice<Cpu> cpus = cpuRepository.findAllBy(PageRequest.of(0, 10));
+
+        // then
+        assertThat(cpus.getNumberOfElements())
+                .isEqualTo(1);
+        cpus.forEach(CatalogFixture::touchReferences);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findById_cpu_shouldLoadWholeComponentWithSingleStatement() {
+        // when
+        final Cpu cpu = cpuRepository.findById(catalog.cpu.getId()).orElseThrow();
+
+        // then
+        touchReferences(cpu);
+        touchCollections(cpu);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findAllBy_psus_shouldLoadReferencesWithSingleStatement() {
+        // when
+        final Slice<Psu> psus = psuRepository.findAllBy(PageRequest.of(0, 10));
+
+        // then
+        assertThat(psus.getNumberOfElements())
+                .isEqualTo(1);
+        psus.forEach(CatalogFixture::touchReferences);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findById_psu_shouldLoadWholeComponentWithSingleStatement() {
+        // when
+        final Psu psu = psuRepository.findById(catalog.psu.getId()).orElseThrow();
+
+        // then
+        touchReferences(psu);
+        touchCollections(psu);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findAllBy_coolers_shouldLoadReferencesWithSingleStatement() {
+        // when
+        final Slice<Cooler> coolers = coolerRepository.findAllBy(PageRequest.of(0, 10));
+
+        // then
+        assertThat(coolers.getNumberOfElements())
+                .isEqualTo(1);
+        coolers.forEach(CatalogFixture::touchReferences);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findById_cooler_shouldLoadWholeComponentWithSingleStatement() {
+        // when
+        final Cooler cooler = coolerRepository.findById(catalog.cooler.getId()).orElseThrow();
+
+        // then
+        touchReferences(cooler);
+        touchCollections(cooler);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findAllBy_motherboards_shouldLoadReferencesWithSingleStatement() {
+        // when
+        final Slice<Motherboard> motherboards = motherboardRepository.findAllBy(PageRequest.of(0, 10));
+
+        // then
+        assertThat(motherboards.getNumberOfElements())
+                .isEqualTo(1);
+        motherboards.forEach(CatalogFixture::touchReferences);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findById_motherboard_shouldLoadWholeComponentWithSingleStatement() {
+        // when
+        final Motherboard motherboard = motherboardRepository.findById(catalog.motherboard.getId()).orElseThrow();
+
+        // then
+        touchReferences(motherboard);
+        touchCollections(motherboard);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findAllBy_graphicsCards_shouldLoadReferencesWithSingleStatement() {
+        // when
+        final Slice<GraphicsCard> graphicsCards = graphicsCardRepository.findAllBy(PageRequest.of(0, 10));
+
+        // then
+        assertThat(graphicsCards.getNumberOfElements())
+                .isEqualTo(1);
+        graphicsCards.forEach(CatalogFixture::touchReferences);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findById_graphicsCard_shouldLoadWholeComponentWithSingleStatement() {
+        // when
+        final GraphicsCard graphicsCard = graphicsCardRepository.findById(catalog.graphicsCard.getId()).orElseThrow();
+
+        // then
+        touchReferences(graphicsCard);
+        touchCollections(graphicsCard);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findAllBy_computerCases_shouldLoadReferencesWithSingleStatement() {
+        // when
+        final Slice<ComputerCase> computerCases = computerCaseRepository.findAllBy(PageRequest.of(0, 10));
+
+        // then
+        assertThat(computerCases.getNumberOfElements())
+                .isEqualTo(1);
+        computerCases.forEach(CatalogFixture::touchReferences);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findById_computerCase_shouldLoadWholeComponentWithSingleStatement() {
+        // when
+        final ComputerCase computerCase = computerCaseRepository.findById(catalog.computerCase.getId()).orElseThrow();
+
+        // then
+        touchReferences(computerCase);
+        touchCollections(computerCase);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findAllBy_fans_shouldLoadReferencesWithSingleStatement() {
+        // when
+        final Slice<Fan> fans = fanRepository.findAllBy(PageRequest.of(0, 10));
+
+        // then
+        assertThat(fans.getNumberOfElements())
+                .isEqualTo(1);
+        fans.forEach(CatalogFixture::touchReferences);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findById_fan_shouldLoadWholeComponentWithSingleStatement() {
+        // when
+        final Fan fan = fanRepository.findById(catalog.fan.getId()).orElseThrow();
+
+        // then
+        touchReferences(fan);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findAllBy_ramModules_shouldLoadReferencesWithSingleStatement() {
+        // when
+        final Slice<RamModule> ramModules = ramModuleRepository.findAllBy(PageRequest.of(0, 10));
+
+        // then
+        assertThat(ramModules.getNumberOfElements())
+                .isEqualTo(1);
+        ramModules.forEach(CatalogFixture::touchReferences);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findById_ramModule_shouldLoadWholeComponentWithSingleStatement() {
+        // when
+        final RamModule ramModule = ramModuleRepository.findById(catalog.ramModule.getId()).orElseThrow();
+
+        // then
+        touchReferences(ramModule);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findAllBy_hdds_shouldLoadReferencesWithSingleStatement() {
+        // when
+        final Slice<Hdd> hdds = hddRepository.findAllBy(PageRequest.of(0, 10));
+
+        // then
+        assertThat(hdds.getNumberOfElements())
+                .isEqualTo(1);
+        hdds.forEach(CatalogFixture::touchReferences);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findById_hdd_shouldLoadWholeComponentWithSingleStatement() {
+        // when
+        final Hdd hdd = hddRepository.findById(catalog.hdd.getId()).orElseThrow();
+
+        // then
+        touchReferences(hdd);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findAllBy_ssds_shouldLoadReferencesWithSingleStatement() {
+        // when
+        final Slice<Ssd> ssds = ssdRepository.findAllBy(PageRequest.of(0, 10));
+
+        // then
+        assertThat(ssds.getNumberOfElements())
+                .isEqualTo(1);
+        ssds.forEach(CatalogFixture::touchReferences);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findById_ssd_shouldLoadWholeComponentWithSingleStatement() {
+        // when
+        final Ssd ssd = ssdRepository.findById(catalog.ssd.getId()).orElseThrow();
+
+        // then
+        touchReferences(ssd);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void findAllBy_cpuPages_shouldLoadCollectionsInBatches() {
+        // given
+        persistPage();
+
+        // when
+        final long single = countPageStatements(cpuRepository::findAllBy, this::touch, 1);
+        final long page = countPageStatements(cpuRepository::findAllBy, this::touch, PAGE_SIZE);
+
+        // then
+        assertThat(page)
+                .isEqualTo(single)
+                .isLessThanOrEqualTo(CPU_PAGE_STATEMENTS);
+    }
+
+    @Test
+    void findAllBy_psuPages_shouldLoadCollectionsInBatches() {
+        // given
+        persistPage();
+
+        // when
+        final long single = countPageStatements(psuRepository::findAllBy, this::touch, 1);
+        final long page = countPageStatements(psuRepository::findAllBy, this::touch, PAGE_SIZE);
+
+        // then
+        assertThat(page)
+                .isEqualTo(single)
+                .isLessThanOrEqualTo(PSU_PAGE_STATEMENTS);
+    }
+
+    @Test
+    void findAllBy_coolerPages_shouldLoadCollectionsInBatches() {
+        // given
+        persistPage();
+
+        // when
+        final long single = countPageStatements(coolerRepository::findAllBy, this::touch, 1);
+        final long page = countPageStatements(coolerRepository::findAllBy, this::touch, PAGE_SIZE);
+
+        // then
+        assertThat(page)
+                .isEqualTo(single)
+                .isLessThanOrEqualTo(COOLER_PAGE_STATEMENTS);
+    }
+
+    @Test
+    void findAllBy_motherboardPages_shouldLoadCollectionsInBatches() {
+        // given
+        persistPage();
+
+        // when
+        final long single = countPageStatements(motherboardRepository::findAllBy, this::touch, 1);
+        final long page = countPageStatements(motherboardRepository::findAllBy, this::touch, PAGE_SIZE);
+
+        // then
+        assertThat(page)
+                .isEqualTo(single)
+                .isLessThanOrEqualTo(MOTHERBOARD_PAGE_STATEMENTS);
+    }
+
+    @Test
+    void findAllBy_graphicsCardPages_shouldLoadCollectionsInBatches() {
+        // given
+        persistPage();
+
+        // when
+        final long single = countPageStatements(graphicsCardRepository::findAllBy, this::touch, 1);
+        final long page = countPageStatements(graphicsCardRepository::findAllBy, this::touch, PAGE_SIZE);
+
+        // then
+        assertThat(page)
+                .isEqualTo(single)
+                .isLessThanOrEqualTo(GRAPHICS_CARD_PAGE_STATEMENTS);
+    }
+
+    @Test
+    void findAllBy_computerCasePages_shouldLoadCollectionsInBatches() {
+        // given
+        persistPage();
+
+        // when
+        final long single = countPageStatements(computerCaseRepository::findAllBy, this::touch, 1);
+        final long page = countPageStatements(computerCaseRepository::findAllBy, this::touch, PAGE_SIZE);
+
+        // then
+        assertThat(page)
+                .isEqualTo(single)
+                .isLessThanOrEqualTo(COMPUTER_CASE_PAGE_STATEMENTS);
+    }
+
+    /**
+     * Дополняет каталог копиями комплектующих до размера проверяемой страницы.
+     */
+    private void persistPage() {
+        catalog.persistCopies(PAGE_SIZE - 1);
+        entityManager.flush();
+    }
+
+    /**
+     * Загружает первую страницу комплектующих в пустой контекст персистентности,
+     * обходит ее и возвращает количество выполненных запросов.
+     *
+     * @param finder   метод загрузки страницы
+     * @param touch    обход комплектующего
+     * @param pageSize размер страницы
+     * @param <T>      тип комплектующего
+     * @return количество выполненных запросов
+     */
+    private <T> long countPageStatements(
+            final Function<Pageable, Slice<T>> finder,
+            final Consumer<T> touch,
+            final int pageSize
+    ) {
+        entityManager.clear();
+        statistics.clear();
+
+        final Slice<T> components = finder.apply(PageRequest.of(0, pageSize));
+        assertThat(components.getNumberOfElements())
+                .isEqualTo(pageSize);
+        components.forEach(touch);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Обходит справочные значения и коллекции комплектующего.
+     *
+     * @param cpu комплектующее
+     */
+    private void touch(final Cpu cpu) {
+        touchReferences(cpu);
+        touchCollections(cpu);
+    }
+
+    /**
+     * Обходит справочные значения и коллекции комплектующего.
+     *
+     * @param psu комплектующее
+     */
+    private void touch(final Psu psu) {
+        touchReferences(psu);
+        touchCollections(psu);
+    }
+
+    /**
+     * Обходит справочные значения и коллекции комплектующего.
+     *
+     * @param cooler комплектующее
+     */
+    private void touch(final Cooler cooler) {
+        touchReferences(cooler);
+        touchCollections(cooler);
+    }
+
+    /**
+     * Обходит справочные значения и коллекции комплектующего.
+     *
+     * @param motherboard комплектующее
+     */
+    private void touch(final Motherboard motherboard) {
+        touchReferences(motherboard);
+        touchCollections(motherboard);
+    }
+
+    /**
+     * Обходит справочные значения и коллекции комплектующего.
+     *
+     * @param graphicsCard комплектующее
+     */
+    private void touch(final GraphicsCard graphicsCard) {
+        touchReferences(graphicsCard);
+        touchCollections(graphicsCard);
+    }
+
+    /**
+     * Обходит справочные значения и коллекции комплектующего.
+     *
+     * @param computerCase комплектующее
+     */
+    private void touch(final ComputerCase computerCase) {
+        touchReferences(computerCase);
+        touchCollections(computerCase);
+    }
+}
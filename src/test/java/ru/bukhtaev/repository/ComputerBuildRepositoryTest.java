@@ -0,0 +1,248 @@
+package ru.bukhtaev.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import ru.bukhtaev.AbstractContainerizedTest;
+import ru.bukhtaev.model.ComputerBuild;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.bukhtaev.repository.CatalogFixture.touchCollections;
+import static ru.bukhtaev.repository.CatalogFixture.touchReferences;
+import static ru.bukhtaev.repository.ComputerBuildFetchPlan.*;
+
+/**
+ * Модульные тесты планов загрузки репозитория сборок ПК.
+ * Проверяют точное количество запросов каждого плана
+ * и отсутствие дополнительных запросов при обходе загруженных данных.
+ * Кэш второго уровня отключен, чтобы справочные значения всегда загружались запросами.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+class ComputerBuildRepositoryTest extends AbstractContainerizedTest {
+
+    /**
+     * Количество запросов плана {@link ComputerBuildFetchPlan#LIST}.
+     */
+    private static final long LIST_STATEMENTS = 1;
+
+    /**
+     * Количество запросов планов {@link ComputerBuildFetchPlan#DETAIL}
+     * и {@link ComputerBuildFetchPlan#VERIFY}: сборки ПК с основными комплектующими,
+     * четыре коллекции сборки ПК и двенадцать коллекций основных комплектующих.
+     */
+    private static final long FULL_STATEMENTS = 1 + 4 + 12;
+
+    /**
+     * Тестируемый репозиторий сборок ПК.
+     */
+    @Autowired
+    private IComputerBuildRepository underTest;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private ComputerBuild computerGaming;
+    private ComputerBuild computerOffice;
+
+    @BeforeEach
+    void setUp() {
+        final CatalogFixture catalog = new CatalogFixture(entityManager);
+
+        computerGaming = ComputerBuild.builder()
+                .name("Gaming")
+                .cpu(catalog.cpu)
+                .psu(catalog.psu)
+                .cooler(catalog.cooler)
+                .motherboard(catalog.motherboard)
+                .graphicsCard(catalog.graphicsCard)
+                .computerCase(catalog.computerCase)
+                .build();
+        computerGaming.addFan(catalog.fan, 3);
+        computerGaming.addRamModule(catalog.ramModule, 2);
+        computerGaming.addHdd(catalog.hdd, 1);
+        computerGaming.addSsd(catalog.ssd, 1);
+        persist(computerGaming);
+
+        computerOffice = ComputerBuild.builder()
+                .name("Office")
+                .cpu(catalog.cpu)
+                .psu(catalog.psu)
+                .motherboard(catalog.motherboard)
+                .computerCase(catalog.computerCase)
+                .build();
+        computerOffice.addRamModule(catalog.ramModule, 1);
+        computerOffice.addSsd(catalog.ssd, 1);
+        persist(computerOffice);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllBy_withListPlan_shouldLoadComponentsWithSingleStatement() {
+        // when
+        final Slice<ComputerBuild> computers = underTest.findAllBy(PageRequest.of(0, 10));
+
+        // then
+        assertThat(computers.getNumberOfElements())
+                .isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(LIST_STATEMENTS);
+
+        computers.forEach(this::touchComponents);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(LIST_STATEMENTS);
+    }
+
+    @Test
+    void findAllByIdIn_withListPlan_shouldLoadComponentsWithSingleStatement() {
+        // when
+        final List<ComputerBuild> computers = underTest.findAllByIdIn(
+                List.of(computerGaming.getId(), computerOffice.getId()),
+                LIST
+        );
+
+        // then
+        assertThat(computers)
+                .hasSize(2);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(LIST_STATEMENTS);
+
+        computers.forEach(this::touchComponents);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(LIST_STATEMENTS);
+    }
+
+    @Test
+    void findById_withDetailPlan_shouldLoadWholeBuildWithConstantStatements() {
+        // when
+        final Optional<ComputerBuild> computer = underTest.findById(computerGaming.getId(), DETAIL);
+
+        // then
+        assertThat(computer)
+                .isPresent();
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(FULL_STATEMENTS);
+
+        touchAll(computer.get());
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(FULL_STATEMENTS);
+        assertThat(computer.get().getFans())
+                .hasSize(1);
+        assertThat(computer.get().getRamModules())
+                .hasSize(1);
+    }
+
+    @Test
+    void findAllByIdIn_withVerifyPlan_shouldLoadWholeBuildsWithConstantStatements() {
+        // when
+        final List<ComputerBuild> computers = underTest.findAllByIdIn(
+                List.of(computerGaming.getId(), computerOffice.getId()),
+                VERIFY
+        );
+
+        // then
+        assertThat(computers)
+                .hasSize(2);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(FULL_STATEMENTS);
+
+        computers.forEach(this::touchAll);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(FULL_STATEMENTS);
+    }
+
+    @Test
+    void findById_withVerifyPlanAndUnknownId_shouldIssueSingleStatement() {
+        // when
+        final Optional<ComputerBuild> computer = underTest.findById(
+                UUID.randomUUID(),
+                VERIFY
+        );
+
+        // then
+        assertThat(computer)
+                .isEmpty();
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+    }
+
+    /**
+     * Сохраняет сущность в контексте персистентности.
+     *
+     * @param entity сущность
+     * @param <T>    тип сущности
+     * @return сохраненная сущность
+     */
+    private <T> T persist(final T entity) {
+        return entityManager.persist(entity);
+    }
+
+    /**
+     * Обходит основные комплектующие сборки ПК и их справочные значения.
+     *
+     * @param computer сборка ПК
+     */
+    private void touchComponents(final ComputerBuild computer) {
+        touchReferences(computer.getCpu());
+        touchReferences(computer.getPsu());
+        touchReferences(computer.getMotherboard());
+        touchReferences(computer.getComputerCase());
+
+        if (computer.getCooler() != null) {
+            touchReferences(computer.getCooler());
+        }
+
+        if (computer.getGraphicsCard() != null) {
+            touchReferences(computer.getGraphicsCard());
+        }
+    }
+
+    /**
+     * Обходит все данные сборки ПК, передаваемые в ответе и используемые сервисами проверки.
+     *
+     * @param computer сборка ПК
+     */
+    private void touchAll(final ComputerBuild computer) {
+        touchComponents(computer);
+
+        touchCollections(computer.getCpu());
+        touchCollections(computer.getPsu());
+        touchCollections(computer.getMotherboard());
+        touchCollections(computer.getComputerCase());
+
+        if (computer.getCooler() != null) {
+            touchCollections(computer.getCooler());
+        }
+
+        if (computer.getGraphicsCard() != null) {
+            touchCollections(computer.getGraphicsCard());
+        }
+
+        computer.getFans().forEach(buildToFan -> touchReferences(buildToFan.getFan()));
+        computer.getRamModules().forEach(buildToModule -> touchReferences(buildToModule.getRamModule()));
+        computer.getHdds().forEach(buildToHdd -> touchReferences(buildToHdd.getHdd()));
+        computer.getSsds().forEach(buildToSsd -> touchReferences(buildToSsd.getSsd()));
+    }
+}
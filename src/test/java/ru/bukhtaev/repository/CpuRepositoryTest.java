@@ -9,18 +9,27 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import ru.bukhtaev.AbstractContainerizedTest;
+import ru.bukhtaev.model.Cooler;
 import ru.bukhtaev.model.Cpu;
 import ru.bukhtaev.model.cross.CpuToRamType;
+import ru.bukhtaev.model.dictionary.FanPowerConnector;
+import ru.bukhtaev.model.dictionary.FanSize;
 import ru.bukhtaev.model.dictionary.Manufacturer;
 import ru.bukhtaev.model.dictionary.RamType;
 import ru.bukhtaev.model.dictionary.Socket;
+import ru.bukhtaev.model.dictionary.Vendor;
+import ru.bukhtaev.repository.dictionary.IFanPowerConnectorRepository;
+import ru.bukhtaev.repository.dictionary.IFanSizeRepository;
 import ru.bukhtaev.repository.dictionary.IManufacturerRepository;
 import ru.bukhtaev.repository.dictionary.IRamTypeRepository;
 import ru.bukhtaev.repository.dictionary.ISocketRepository;
+import ru.bukhtaev.repository.dictionary.IVendorRepository;
 import ru.bukhtaev.util.CpuSort;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static ru.bukhtaev.TestUtils.CPU_PAGEABLE;
@@ -55,6 +64,30 @@ class CpuRepositoryTest extends AbstractContainerizedTest {
     @Autowired
     private ISocketRepository socketRepository;
 
+    /**
+     * Репозиторий процессорных кулеров.
+     */
+    @Autowired
+    private ICoolerRepository coolerRepository;
+
+    /**
+     * Репозиторий вендоров.
+     */
+    @Autowired
+    private IVendorRepository vendorRepository;
+
+    /**
+     * Репозиторий размеров вентиляторов.
+     */
+    @Autowired
+    private IFanSizeRepository fanSizeRepository;
+
+    /**
+     * Репозиторий коннекторов питания вентиляторов.
+     */
+    @Autowired
+    private IFanPowerConnectorRepository fanPowerConnectorRepository;
+
     private Cpu cpuI512400F;
     private Cpu cpuR55600X;
 
@@ -133,6 +166,10 @@ class CpuRepositoryTest extends AbstractContainerizedTest {
 
     @AfterEach
     void tearDown() {
+        coolerRepository.deleteAll();
+        fanPowerConnectorRepository.deleteAll();
+        fanSizeRepository.deleteAll();
+        vendorRepository.deleteAll();
         underTest.deleteAll();
         socketRepository.deleteAll();
         ramTypeRepository.deleteAll();
@@ -393,4 +430,65 @@ class CpuRepositoryTest extends AbstractContainerizedTest {
         // then
         assertThat(optCpu).isNotPresent();
     }
+
+    @Test
+    void streamCoolerCompatibilities_shouldReturnCoolersSupportingSocketAndTdp() {
+        // given
+        underTest.save(cpuI512400F);
+        underTest.save(cpuR55600X);
+
+        final Vendor vendor = vendorRepository.save(
+                Vendor.builder()
+                        .name("DEEPCOOL")
+                        .build()
+        );
+        final FanSize size = fanSizeRepository.save(
+                FanSize.builder()
+                        .length(120)
+                        .width(120)
+                        .height(25)
+                        .build()
+        );
+        final FanPowerConnector connector = fanPowerConnectorRepository.save(
+                FanPowerConnector.builder()
+                        .name("4 pin")
+                        .build()
+        );
+
+        final Cooler coolerLga1700 = coolerRepository.save(
+                Cooler.builder()
+                        .name("AK400")
+                        .height(155)
+                        .powerDissipation(180)
+                        .vendor(vendor)
+                        .fanSize(size)
+                        .powerConnector(connector)
+                        .supportedSockets(Set.of(cpuI512400F.getSocket()))
+                        .build()
+        );
+        final Cooler coolerLowTdp = coolerRepository.save(
+                Cooler.builder()
+                        .name("AG300")
+                        .height(150)
+                        .powerDissipation(100)
+                        .vendor(vendor)
+                        .fanSize(size)
+                        .powerConnector(connector)
+                        .supportedSockets(Set.of(cpuI512400F.getSocket(), cpuR55600X.getSocket()))
+                        .build()
+        );
+
+        // when
+        final List<ComponentCompatibility> compatibilities;
+        try (final Stream<ComponentCompatibility> stream = underTest.streamCoolerCompatibilities()) {
+            compatibilities = stream.toList();
+        }
+
+        // then
+        assertThat(compatibilities)
+                .containsExactlyInAnyOrder(
+                        new ComponentCompatibility(cpuI512400F.getId(), coolerLga1700.getId()),
+                        new ComponentCompatibility(cpuR55600X.getId(), coolerLowTdp.getId())
+                );
+    }
 }
@@ -167,4 +167,34 @@ class CpuPowerConnectorRepositoryTest extends AbstractContainerizedTest {
         // then
         assertThat(optConnector).isNotPresent();
     }
+
+    @Test
+    void findAllCompatibilities_withCompatibleConnectors_shouldReturnCompatibilityPairs() {
+        // given
+        final var savedConnector4Plus4Pin = underTest.save(connector4Plus4Pin);
+        connector8Pin.getCompatibleConnectors().add(savedConnector4Plus4Pin);
+        final var savedConnector8Pin = underTest.save(connector8Pin);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var compatibilities = underTest.findAllCompatibilities();
+
+        // then
+        assertThat(compatibilities)
+                .containsExactly(new ConnectorCompatibility(savedConnector8Pin.getId(), savedConnector4Plus4Pin.getId()));
+    }
+
+    @Test
+    void findAllCompatibilities_withoutCompatibleConnectors_shouldReturnEmptyList() {
+        // given
+        underTest.save(connector4Plus4Pin);
+        underTest.save(connector8Pin);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var compatibilities = underTest.findAllCompatibilities();
+
+        // then
+        assertThat(compatibilities).isEmpty();
+    }
 }
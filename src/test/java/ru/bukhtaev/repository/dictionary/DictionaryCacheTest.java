@@ -0,0 +1,164 @@
+package ru.bukhtaev.repository.dictionary;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.bukhtaev.AbstractContainerizedTest;
+import ru.bukhtaev.config.DictionaryCacheConfig;
+import ru.bukhtaev.model.dictionary.DictionaryCacheRegions;
+import ru.bukhtaev.model.dictionary.Socket;
+import ru.bukhtaev.service.crud.dictionary.DictionaryCacheEvictionService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Модульные тесты кэша справочных значений.
+ * Каждое обращение к репозиторию выполняется в отдельной транзакции,
+ * поэтому повторное чтение без запроса к базе данных возможно только из кэша второго уровня.
+ * Кэш второго уровня включается явно, так же как в приложении.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "pc-configurator.dictionary-cache.enabled=true"
+})
+@Import({DictionaryCacheConfig.class, DictionaryCacheEvictionService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DictionaryCacheTest extends AbstractContainerizedTest {
+
+    /**
+     * Репозиторий сокетов.
+     */
+    @Autowired
+    private ISocketRepository socketRepository;
+
+    /**
+     * Сервис сброса кэша справочных значений.
+     */
+    @Autowired
+    private DictionaryCacheEvictionService evictionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Cache cache;
+
+    private Socket socketLga1700;
+
+    @BeforeEach
+    void setUp() {
+        socketLga1700 = socketRepository.save(
+                Socket.builder()
+                        .name("LGA 1700")
+                        .build()
+        );
+        socketRepository.save(
+                Socket.builder()
+                        .name("AM5")
+                        .build()
+        );
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        cache = entityManagerFactory.getCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        socketRepository.deleteAll();
+    }
+
+    @Test
+    void findById_withSavedDictionary_shouldReadFromCacheWithoutStatements() {
+        // when
+        final Optional<Socket> first = socketRepository.findById(socketLga1700.getId());
+        final Optional<Socket> second = socketRepository.findById(socketLga1700.getId());
+
+        // then
+        assertThat(first)
+                .isPresent();
+        assertThat(second.map(Socket::getName))
+                .contains(socketLga1700.getName());
+        assertThat(statistics.getPrepareStatementCount())
+                .isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount())
+                .isEqualTo(2);
+        assertThat(statistics.getDomainDataRegionStatistics(DictionaryCacheRegions.ENTITIES).getHitCount())
+                .isEqualTo(2);
+        assertThat(cache.contains(Socket.class, socketLga1700.getId()))
+                .isTrue();
+    }
+
+    @Test
+    void findAll_calledTwice_shouldReadSecondResultFromQueryCache() {
+        // when
+        final List<Socket> first = socketRepository.findAll();
+        final List<Socket> second = socketRepository.findAll();
+
+        // then
+        assertThat(first)
+                .hasSize(2);
+        assertThat(second)
+                .hasSize(2);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void onEntityChanged_withDictionary_shouldEvictDictionaryFromCache() {
+        // given
+        socketRepository.findAll();
+        statistics.clear();
+
+        // when
+        evictionService.onEntityChanged(new EntityChangedEvent(Socket.class, socketLga1700.getId()));
+
+        // then
+        assertThat(socketRepository.findById(socketLga1700.getId()))
+                .isPresent();
+        assertThat(socketRepository.findAll())
+                .hasSize(2);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void onEntityChanged_afterUpdate_shouldEvictDictionaryAndReadUpdatedValue() {
+        // given
+        socketRepository.findById(socketLga1700.getId());
+        assertThat(cache.contains(Socket.class, socketLga1700.getId()))
+                .isTrue();
+        socketLga1700.setName("LGA 1851");
+        socketRepository.save(socketLga1700);
+
+        // when
+        evictionService.onEntityChanged(new EntityChangedEvent(Socket.class, socketLga1700.getId()));
+
+        // then
+        assertThat(cache.contains(Socket.class, socketLga1700.getId()))
+                .isFalse();
+        statistics.clear();
+        assertThat(socketRepository.findById(socketLga1700.getId()).map(Socket::getName))
+                .contains("LGA 1851");
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(DictionaryCacheRegions.ENTITIES).getMissCount())
+                .isEqualTo(1);
+    }
+}
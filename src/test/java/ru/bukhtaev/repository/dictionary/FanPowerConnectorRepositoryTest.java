@@ -167,4 +167,34 @@ class FanPowerConnectorRepositoryTest extends AbstractContainerizedTest {
         // then
         assertThat(optConnector).isNotPresent();
     }
+
+    @Test
+    void findAllCompatibilities_withCompatibleConnectors_shouldReturnCompatibilityPairs() {
+        // given
+        final var savedConnector2Pin = underTest.save(connector2Pin);
+        connector3Pin.getCompatibleConnectors().add(savedConnector2Pin);
+        final var savedConnector3Pin = underTest.save(connector3Pin);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var compatibilities = underTest.findAllCompatibilities();
+
+        // then
+        assertThat(compatibilities)
+                .containsExactly(new ConnectorCompatibility(savedConnector3Pin.getId(), savedConnector2Pin.getId()));
+    }
+
+    @Test
+    void findAllCompatibilities_withoutCompatibleConnectors_shouldReturnEmptyList() {
+        // given
+        underTest.save(connector2Pin);
+        underTest.save(connector3Pin);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var compatibilities = underTest.findAllCompatibilities();
+
+        // then
+        assertThat(compatibilities).isEmpty();
+    }
 }
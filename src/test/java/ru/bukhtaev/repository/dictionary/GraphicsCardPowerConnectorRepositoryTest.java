@@ -167,4 +167,34 @@ class GraphicsCardPowerConnectorRepositoryTest extends AbstractContainerizedTest
         // then
         assertThat(optConnector).isNotPresent();
     }
+
+    @Test
+    void findAllCompatibilities_withCompatibleConnectors_shouldReturnCompatibilityPairs() {
+        // given
+        final var savedConnector6Plus2Pin = underTest.save(connector6Plus2Pin);
+        connector8Pin.getCompatibleConnectors().add(savedConnector6Plus2Pin);
+        final var savedConnector8Pin = underTest.save(connector8Pin);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var compatibilities = underTest.findAllCompatibilities();
+
+        // then
+        assertThat(compatibilities)
+                .containsExactly(new ConnectorCompatibility(savedConnector8Pin.getId(), savedConnector6Plus2Pin.getId()));
+    }
+
+    @Test
+    void findAllCompatibilities_withoutCompatibleConnectors_shouldReturnEmptyList() {
+        // given
+        underTest.save(connector6Plus2Pin);
+        underTest.save(connector8Pin);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var compatibilities = underTest.findAllCompatibilities();
+
+        // then
+        assertThat(compatibilities).isEmpty();
+    }
 }
@@ -167,4 +167,34 @@ class MainPowerConnectorRepositoryTest extends AbstractContainerizedTest {
         // then
         assertThat(optConnector).isNotPresent();
     }
+
+    @Test
+    void findAllCompatibilities_withCompatibleConnectors_shouldReturnCompatibilityPairs() {
+        // given
+        final var savedConnector20Plus4Pin = underTest.save(connector20Plus4Pin);
+        connector24Pin.getCompatibleConnectors().add(savedConnector20Plus4Pin);
+        final var savedConnector24Pin = underTest.save(connector24Pin);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var compatibilities = underTest.findAllCompatibilities();
+
+        // then
+        assertThat(compatibilities)
+                .containsExactly(new ConnectorCompatibility(savedConnector24Pin.getId(), savedConnector20Plus4Pin.getId()));
+    }
+
+    @Test
+    void findAllCompatibilities_withoutCompatibleConnectors_shouldReturnEmptyList() {
+        // given
+        underTest.save(connector20Plus4Pin);
+        underTest.save(connector24Pin);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var compatibilities = underTest.findAllCompatibilities();
+
+        // then
+        assertThat(compatibilities).isEmpty();
+    }
 }
@@ -167,4 +167,34 @@ class PciExpressConnectorVersionRepositoryTest extends AbstractContainerizedTest
         // then
         assertThat(optVersion).isNotPresent();
     }
+
+    @Test
+    void findAllLowerVersions_withLowerVersions_shouldReturnVersionPairs() {
+        // given
+        final var savedVersion3 = underTest.save(version3);
+        version4.getLowerVersions().add(savedVersion3);
+        final var savedVersion4 = underTest.save(version4);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var pairs = underTest.findAllLowerVersions();
+
+        // then
+        assertThat(pairs)
+                .containsExactly(new ConnectorCompatibility(savedVersion4.getId(), savedVersion3.getId()));
+    }
+
+    @Test
+    void findAllLowerVersions_withoutLowerVersions_shouldReturnEmptyList() {
+        // given
+        underTest.save(version3);
+        underTest.save(version4);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var pairs = underTest.findAllLowerVersions();
+
+        // then
+        assertThat(pairs).isEmpty();
+    }
 }
@@ -167,4 +167,34 @@ class StorageConnectorRepositoryTest extends AbstractContainerizedTest {
         // then
         assertThat(optConnector).isNotPresent();
     }
+
+    @Test
+    void findAllCompatibilities_withCompatibleConnectors_shouldReturnCompatibilityPairs() {
+        // given
+        final var savedConnectorSata1 = underTest.save(connectorSata1);
+        connectorSata2.getCompatibleConnectors().add(savedConnectorSata1);
+        final var savedConnectorSata2 = underTest.save(connectorSata2);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var compatibilities = underTest.findAllCompatibilities();
+
+        // then
+        assertThat(compatibilities)
+                .containsExactly(new ConnectorCompatibility(savedConnectorSata2.getId(), savedConnectorSata1.getId()));
+    }
+
+    @Test
+    void findAllCompatibilities_withoutCompatibleConnectors_shouldReturnEmptyList() {
+        // given
+        underTest.save(connectorSata1);
+        underTest.save(connectorSata2);
+        assertThat(underTest.findAll()).hasSize(2);
+
+        // when
+        final var compatibilities = underTest.findAllCompatibilities();
+
+        // then
+        assertThat(compatibilities).isEmpty();
+    }
 }
@@ -0,0 +1,196 @@
+package ru.bukhtaev.service.checker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.bukhtaev.model.*;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.RAM_MODULES;
+
+/**
+ * Модульные тесты сервиса вычисления доступности комплектующих каталога.
+ * Каталог комплектующих заменен заглушкой сервиса подбора совместимых комплектующих,
+ * а таблицы порядковых номеров - заглушкой сервиса таблиц.
+ */
+class CatalogAvailabilityServiceTest {
+
+    private CompatibleCandidateService candidateService;
+    private CatalogOrdinalService ordinalService;
+
+    /**
+     * Тестируемый сервис вычисления доступности комплектующих каталога.
+     */
+    private CatalogAvailabilityService underTest;
+
+    /**
+     * Совместимые кандидаты по типам комплектующих в порядке просмотра каталога.
+     */
+    private final Map<Class<?>, List<BaseEntity>> compatible = new HashMap<>();
+
+    /**
+     * Таблицы порядковых номеров по слотам сборки ПК.
+     */
+    private final Map<ComputerBuildSlot, CatalogOrdinalTable> tables = new EnumMap<>(ComputerBuildSlot.class);
+
+    private ComputerBuild draft;
+    private ComputerBuild computer;
+
+    @BeforeEach
+    void setUp() {
+        final ComputerBuildResolver resolver = mock(ComputerBuildResolver.class);
+        candidateService = mock(CompatibleCandidateService.class);
+        ordinalService = mock(CatalogOrdinalService.class);
+
+        doAnswer(invocation -> {
+            final Consumer<BaseEntity> action = invocation.getArgument(4);
+            compatible.getOrDefault(invocation.<Class<?>>getArgument(0), List.of()).forEach(action);
+            return null;
+        }).when(candidateService).forEachCompatible(any(), any(), any(), anyInt(), any());
+        when(ordinalService.getTables()).thenReturn(tables);
+        doReturn(Cpu.class).when(ordinalService).getType(CPU);
+        doReturn(RamModule.class).when(ordinalService).getType(RAM_MODULES);
+
+        underTest = new CatalogAvailabilityService(
+                resolver,
+                candidateService,
+                ordinalService,
+                new ComputerBuildInitializer()
+        );
+
+        draft = ComputerBuild.builder()
+                .name("Draft")
+                .build();
+        computer = ComputerBuild.builder()
+                .name("Draft")
+                .build();
+        when(resolver.resolve(draft)).thenReturn(computer);
+    }
+
+    @Test
+    void getAvailability_shouldMarkCompatibleComponentsByOrdinals() {
+        // given
+        final List<Cpu> cpus = cpus(5);
+        tables.put(CPU, CatalogOrdinalTable.of(7, ids(cpus)));
+        final CatalogOrdinalTable table = tables.get(CPU);
+        compatible.put(Cpu.class, List.of(cpus.get(4), cpus.get(1)));
+
+        // when
+        final CatalogAvailability availability = underTest.getAvailability(draft);
+
+        // then
+        final CatalogAvailability.Category category = availability.getCategories().get(CPU);
+        assertThat(category.getVersion())
+                .isEqualTo(7);
+        assertThat(category.getAvailable())
+                .isEqualTo(2);
+        assertThat(bits(category).stream().boxed().toList())
+                .containsExactlyInAnyOrder(
+                        table.ordinalOf(cpus.get(4).getId()),
+                        table.ordinalOf(cpus.get(1).getId())
+                );
+        verify(candidateService).forEachCompatible(eq(Cpu.class), eq(computer), any(), anyInt(), any());
+    }
+
+    @Test
+    void getAvailability_shouldReturnCategoryForEverySlotWithTable() {
+        // given
+        final List<Cpu> cpus = cpus(2);
+        tables.put(CPU, CatalogOrdinalTable.of(3, ids(cpus)));
+        tables.put(RAM_MODULES, CatalogOrdinalTable.of(5, List.of(UUID.randomUUID())));
+        compatible.put(Cpu.class, List.copyOf(cpus));
+
+        // when
+        final CatalogAvailability availability = underTest.getAvailability(draft);
+
+        // then
+        assertThat(availability.getCategories())
+                .containsOnlyKeys(CPU, RAM_MODULES);
+        assertThat(availability.getCategories().get(CPU).getAvailable())
+                .isEqualTo(2);
+        assertThat(availability.getCategories().get(RAM_MODULES).getVersion())
+                .isEqualTo(5);
+        assertThat(availability.getCategories().get(RAM_MODULES).getAvailable())
+                .isZero();
+        assertThat(availability.getCategories().get(RAM_MODULES).getBitmap())
+                .isEmpty();
+    }
+
+    @Test
+    void getAvailability_withComponentMissingFromTable_shouldSkipComponent() {
+        // given
+        final List<Cpu> cpus = cpus(2);
+        final Cpu created = cpus(1).get(0);
+        tables.put(CPU, CatalogOrdinalTable.of(1, ids(cpus)));
+        compatible.put(Cpu.class, List.of(cpus.get(0), created));
+
+        // when
+        final CatalogAvailability availability = underTest.getAvailability(draft);
+
+        // then
+        final CatalogAvailability.Category category = availability.getCategories().get(CPU);
+        assertThat(category.getAvailable())
+                .isEqualTo(1);
+        assertThat(bits(category).stream().boxed().toList())
+                .containsExactly(tables.get(CPU).ordinalOf(cpus.get(0).getId()));
+    }
+
+    @Test
+    void getAvailability_withRemovedComponent_shouldKeepOrdinalsOfOtherComponents() {
+        // given
+        final List<Cpu> cpus = cpus(3);
+        final CatalogOrdinalTable original = CatalogOrdinalTable.of(1, ids(cpus));
+        final Cpu last = cpus.stream()
+                .max(Comparator.comparingInt(cpu -> original.ordinalOf(cpu.getId())))
+                .orElseThrow();
+        final Cpu removed = cpus.stream()
+                .min(Comparator.comparingInt(cpu -> original.ordinalOf(cpu.getId())))
+                .orElseThrow();
+        tables.put(CPU, original.withRemoved(removed.getId()));
+        compatible.put(Cpu.class, List.of(last));
+
+        // when
+        final CatalogAvailability availability = underTest.getAvailability(draft);
+
+        // then
+        final CatalogAvailability.Category category = availability.getCategories().get(CPU);
+        assertThat(category.getVersion())
+                .isEqualTo(2);
+        assertThat(bits(category).stream().boxed().toList())
+                .containsExactly(original.ordinalOf(last.getId()));
+    }
+
+    /**
+     * Декодирует битовую карту доступных комплектующих.
+     *
+     * @param category доступность комплектующих слота
+     * @return порядковые номера доступных комплектующих
+     */
+    private BitSet bits(final CatalogAvailability.Category category) {
+        return BitSet.valueOf(Base64.getDecoder().decode(category.getBitmap()));
+    }
+
+    private List<Cpu> cpus(final int count) {
+        final List<Cpu> cpus = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cpus.add(Cpu.builder()
+                    .id(UUID.randomUUID())
+                    .name("CPU " + i)
+                    .build());
+        }
+        return cpus;
+    }
+
+    private List<UUID> ids(final List<? extends BaseEntity> entities) {
+        return entities.stream()
+                .map(BaseEntity::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,222 @@
+package ru.bukhtaev.service.checker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.model.Cpu;
+import ru.bukhtaev.model.Fan;
+import ru.bukhtaev.model.Psu;
+import ru.bukhtaev.model.dictionary.FanPowerConnector;
+import ru.bukhtaev.model.dictionary.FanSize;
+import ru.bukhtaev.model.dictionary.Vendor;
+import ru.bukhtaev.repository.*;
+import ru.bukhtaev.repository.dictionary.IFanPowerConnectorRepository;
+import ru.bukhtaev.repository.dictionary.IFanSizeRepository;
+import ru.bukhtaev.repository.dictionary.IVendorRepository;
+import ru.bukhtaev.service.KeysetTokenCodec;
+import ru.bukhtaev.service.TransactionService;
+import ru.bukhtaev.service.crud.FanCrudService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.FANS;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.PSU;
+
+/**
+ * Модульные тесты сервиса таблиц порядковых номеров комплектующих каталога.
+ * Репозитории комплектующих заменены заглушками.
+ */
+class CatalogOrdinalServiceTest {
+
+    private ICpuRepository cpuRepository;
+    private IFanRepository fanRepository;
+    private TransactionService transactionService;
+
+    /**
+     * Тестируемый сервис таблиц порядковых номеров комплектующих каталога.
+     */
+    private CatalogOrdinalService underTest;
+
+    private Cpu cpuFirst;
+    private Cpu cpuSecond;
+
+    @BeforeEach
+    void setUp() {
+        cpuRepository = mock(ICpuRepository.class);
+        fanRepository = mock(IFanRepository.class);
+        transactionService = mock(TransactionService.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(transactionService).doInNewTransaction(anyBoolean(), any());
+
+        underTest = new CatalogOrdinalService(
+                cpuRepository,
+                mock(IPsuRepository.class),
+                mock(ICoolerRepository.class),
+                mock(IMotherboardRepository.class),
+                mock(IGraphicsCardRepository.class),
+                mock(IComputerCaseRepository.class),
+                fanRepository,
+                mock(IRamModuleRepository.class),
+                mock(IHddRepository.class),
+                mock(ISsdRepository.class),
+                transactionService
+        );
+
+        cpuFirst = Cpu.builder().id(UUID.randomUUID()).name("CPU 1").build();
+        cpuSecond = Cpu.builder().id(UUID.randomUUID()).name("CPU 2").build();
+        when(cpuRepository.findAll(any(Sort.class))).thenReturn(List.of(cpuFirst, cpuSecond));
+    }
+
+    @Test
+    void getTables_shouldBuildTablesForAllSlotsOnce() {
+        // when
+        underTest.getTables();
+        final CatalogOrdinalTable table = underTest.getTable(CPU);
+
+        // then
+        assertThat(underTest.getTables())
+                .hasSize(ComputerBuildSlot.values().length);
+        assertThat(table.getIds())
+                .containsExactlyInAnyOrder(cpuFirst.getId(), cpuSecond.getId());
+        assertThat(underTest.getTable(PSU).size())
+                .isZero();
+        assertThat(underTest.getType(CPU))
+                .isEqualTo(Cpu.class);
+        verify(cpuRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void onEntityChanged_afterCreate_shouldAppendComponentAndIncrementVersion() {
+        // given
+        final CatalogOrdinalTable before = underTest.getTable(CPU);
+        final UUID createdId = UUID.randomUUID();
+        when(cpuRepository.existsById(createdId)).thenReturn(true);
+
+        // when
+        underTest.onEntityChanged(new EntityChangedEvent(Cpu.class, createdId));
+
+        // then
+        final CatalogOrdinalTable after = underTest.getTable(CPU);
+        assertThat(after.getVersion())
+                .isEqualTo(before.getVersion() + 1);
+        assertThat(after.ordinalOf(createdId))
+                .isEqualTo(before.size());
+        assertThat(after.ordinalOf(cpuFirst.getId()))
+                .isEqualTo(before.ordinalOf(cpuFirst.getId()));
+        assertThat(after.ordinalOf(cpuSecond.getId()))
+                .isEqualTo(before.ordinalOf(cpuSecond.getId()));
+    }
+
+    @Test
+    void onEntityChanged_afterDelete_shouldLeaveHoleAndIncrementVersion() {
+        // given
+        final CatalogOrdinalTable before = underTest.getTable(CPU);
+        final int removedOrdinal = before.ordinalOf(cpuFirst.getId());
+        when(cpuRepository.existsById(cpuFirst.getId())).thenReturn(false);
+
+        // when
+        underTest.onEntityChanged(new EntityChangedEvent(Cpu.class, cpuFirst.getId()));
+
+        // then
+        final CatalogOrdinalTable after = underTest.getTable(CPU);
+        assertThat(after.getVersion())
+                .isEqualTo(before.getVersion() + 1);
+        assertThat(after.size())
+                .isEqualTo(before.size());
+        assertThat(after.ordinalOf(cpuFirst.getId()))
+                .isEqualTo(-1);
+        assertThat(after.getIds().get(removedOrdinal))
+                .isNull();
+        assertThat(after.ordinalOf(cpuSecond.getId()))
+                .isEqualTo(before.ordinalOf(cpuSecond.getId()));
+    }
+
+    @Test
+    void onEntityChanged_afterUpdate_shouldKeepTable() {
+        // given
+        final CatalogOrdinalTable before = underTest.getTable(CPU);
+        when(cpuRepository.existsById(cpuFirst.getId())).thenReturn(true);
+
+        // when
+        underTest.onEntityChanged(new EntityChangedEvent(Cpu.class, cpuFirst.getId()));
+
+        // then
+        assertThat(underTest.getTable(CPU))
+                .isSameAs(before);
+    }
+
+    @Test
+    void onEntityChanged_beforeTablesAreBuilt_shouldNotBuildTables() {
+        // when
+        underTest.onEntityChanged(new EntityChangedEvent(Psu.class, UUID.randomUUID()));
+
+        // then
+        verifyNoInteractions(transactionService);
+    }
+
+    @Test
+    void onEntityChanged_afterFanCreatedByCrudService_shouldAssignOrdinal() {
+        // given
+        final Vendor vendor = Vendor.builder().id(UUID.randomUUID()).name("ASUS").build();
+        final FanSize size = FanSize.builder().id(UUID.randomUUID()).length(120).width(120).height(25).build();
+        final FanPowerConnector connector = FanPowerConnector.builder().id(UUID.randomUUID()).name("4 pin").build();
+        final Fan existent = Fan.builder().id(UUID.randomUUID()).name("ROG STRIX XF120").build();
+        when(fanRepository.findAll(any(Sort.class))).thenReturn(List.of(existent));
+
+        final IVendorRepository vendorRepository = mock(IVendorRepository.class);
+        final IFanSizeRepository sizeRepository = mock(IFanSizeRepository.class);
+        final IFanPowerConnectorRepository connectorRepository = mock(IFanPowerConnectorRepository.class);
+        when(vendorRepository.findById(vendor.getId())).thenReturn(Optional.of(vendor));
+        when(sizeRepository.findById(size.getId())).thenReturn(Optional.of(size));
+        when(connectorRepository.findById(connector.getId())).thenReturn(Optional.of(connector));
+        when(fanRepository.findTheSame(any(), any())).thenReturn(Optional.empty());
+        when(fanRepository.save(any(Fan.class))).thenAnswer(invocation -> {
+            final Fan fan = invocation.getArgument(0);
+            fan.setId(UUID.randomUUID());
+            return fan;
+        });
+        when(fanRepository.existsById(any())).thenReturn(true);
+
+        final ApplicationEventPublisher eventPublisher =
+                event -> underTest.onEntityChanged((EntityChangedEvent) event);
+        final FanCrudService fanService = new FanCrudService(
+                fanRepository,
+                sizeRepository,
+                vendorRepository,
+                connectorRepository,
+                mock(Translator.class),
+                eventPublisher,
+                mock(KeysetTokenCodec.class)
+        );
+        final CatalogOrdinalTable before = underTest.getTable(FANS);
+
+        // when
+        final Fan created = fanService.create(Fan.builder()
+                .name("ROG STRIX XF120 ARGB")
+                .vendor(Vendor.builder().id(vendor.getId()).build())
+                .size(FanSize.builder().id(size.getId()).build())
+                .powerConnector(FanPowerConnector.builder().id(connector.getId()).build())
+                .build());
+
+        // then
+        final CatalogOrdinalTable after = underTest.getTable(FANS);
+        assertThat(after.getVersion())
+                .isEqualTo(before.getVersion() + 1);
+        assertThat(after.ordinalOf(created.getId()))
+                .isEqualTo(before.size());
+        assertThat(after.ordinalOf(existent.getId()))
+                .isEqualTo(before.ordinalOf(existent.getId()));
+    }
+}
@@ -0,0 +1,235 @@
+package ru.bukhtaev.service.checker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.bukhtaev.config.CompletionProperties;
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.model.dictionary.Socket;
+import ru.bukhtaev.service.checker.ComputerBuildCompletionResult.Candidate;
+import ru.bukhtaev.service.checker.compatibility.ICompatibilityChecker;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+
+/**
+ * Модульные тесты сервиса автодополнения сборки ПК.
+ * Каталог комплектующих заменен заглушкой сервиса подбора совместимых комплектующих,
+ * а совместимость процессора и материнской платы проверяется по сокету.
+ * Пустыми в сборке ПК остаются слоты процессора, материнской платы и блока питания.
+ */
+class ComputerBuildCompletionServiceTest {
+
+    private CompletionProperties properties;
+    private ForkJoinPool pool;
+
+    /**
+     * Тестируемый сервис автодополнения сборки ПК.
+     */
+    private ComputerBuildCompletionService underTest;
+
+    /**
+     * Кандидаты по типам комплектующих в порядке просмотра каталога.
+     */
+    private final Map<Class<?>, List<BaseEntity>> catalog = new HashMap<>();
+
+    private Socket socketIntel;
+    private Socket socketAmd;
+    private ComputerBuild draft;
+
+    @BeforeEach
+    void setUp() {
+        final CompatibleCandidateService candidateService = mock(CompatibleCandidateService.class);
+        final ComputerBuildResolver resolver = mock(ComputerBuildResolver.class);
+        properties = new CompletionProperties();
+        pool = new ForkJoinPool(2);
+
+        doAnswer(invocation -> catalog.getOrDefault(invocation.<Class<?>>getArgument(0), List.of()))
+                .when(candidateService).findCompatible(any(), any(), any(), anyInt());
+
+        underTest = new ComputerBuildCompletionService(
+                List.of(new SocketChecker(mock(Translator.class))),
+                resolver,
+                candidateService,
+                mock(ComputerBuildInitializer.class),
+                properties,
+                pool
+        );
+
+        socketIntel = Socket.builder().id(UUID.randomUUID()).name("LGA 1700").build();
+        socketAmd = Socket.builder().id(UUID.randomUUID()).name("AM5").build();
+
+        final RamModule module = RamModule.builder().id(UUID.randomUUID()).capacity(16384).build();
+        draft = ComputerBuild.builder()
+                .name("Draft")
+                .graphicsCard(GraphicsCard.builder()
+                        .id(UUID.randomUUID())
+                        .gpu(Gpu.builder().id(UUID.randomUUID()).name("GPU").powerConsumption(200).build())
+                        .build())
+                .cooler(Cooler.builder().id(UUID.randomUUID()).name("Cooler").build())
+                .computerCase(ComputerCase.builder().id(UUID.randomUUID()).name("Case").build())
+                .build();
+        draft.addRamModule(module, 2);
+        when(resolver.resolve(draft)).thenReturn(draft);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void complete_withSolvableBuild_shouldReturnCompatibleVariantsByScore() {
+        // given
+        final Cpu cpuIntel = cpu(socketIntel);
+        final Cpu cpuAmd = cpu(socketAmd);
+        final Motherboard boardIntel = motherboard(socketIntel);
+        final Psu psuSmall = psu(480);
+        final Psu psuLarge = psu(840);
+        catalog.put(Cpu.class, List.of(cpuIntel, cpuAmd));
+        catalog.put(Motherboard.class, List.of(boardIntel));
+        catalog.put(Psu.class, List.of(psuSmall, psuLarge));
+
+        // when
+        final ComputerBuildCompletionResult<ComputerBuild> result =
+                underTest.complete(draft, CompletionObjective.PSU_12V_HEADROOM, 10);
+
+        // then
+        assertThat(result.isExhaustive())
+                .isTrue();
+        assertThat(result.getCandidates())
+                .extracting(
+                        candidate -> candidate.getBuild().getCpu(),
+                        candidate -> candidate.getBuild().getMotherboard(),
+                        candidate -> candidate.getBuild().getPsu(),
+                        Candidate::getScore
+                )
+                .containsExactly(
+                        tuple(cpuIntel, boardIntel, psuLarge, 840L - 450L),
+                        tuple(cpuIntel, boardIntel, psuSmall, 480L - 450L)
+                );
+    }
+
+    @Test
+    void complete_withUnsolvableBuild_shouldReturnEmptyExhaustiveResult() {
+        // given
+        catalog.put(Cpu.class, List.of(cpu(socketAmd)));
+        catalog.put(Motherboard.class, List.of(motherboard(socketIntel)));
+        catalog.put(Psu.class, List.of(psu(840)));
+
+        // when
+        final ComputerBuildCompletionResult<ComputerBuild> result =
+                underTest.complete(draft, CompletionObjective.PSU_12V_HEADROOM, 10);
+
+        // then
+        assertThat(result.getCandidates())
+                .isEmpty();
+        assertThat(result.isExhaustive())
+                .isTrue();
+    }
+
+    @Test
+    void complete_withExpiredDeadline_shouldNotSearchAndReturnNonExhaustiveResult() {
+        // given
+        properties.setTimeBudget(Duration.ZERO);
+        catalog.put(Cpu.class, List.of(cpu(socketIntel)));
+        catalog.put(Motherboard.class, List.of(motherboard(socketIntel)));
+        catalog.put(Psu.class, List.of(psu(840)));
+
+        // when
+        final ComputerBuildCompletionResult<ComputerBuild> result =
+                underTest.complete(draft, CompletionObjective.PSU_12V_HEADROOM, 10);
+
+        // then
+        assertThat(result.getCandidates())
+                .isEmpty();
+        assertThat(result.isExhaustive())
+                .isFalse();
+    }
+
+    @Test
+    void complete_withMoreCandidatesThanDomainSize_shouldReturnNonExhaustiveResult() {
+        // given
+        properties.setDomainSize(1);
+        final Cpu cpuIntel = cpu(socketIntel);
+        final Motherboard boardIntel = motherboard(socketIntel);
+        final Psu psuLarge = psu(840);
+        catalog.put(Cpu.class, List.of(cpuIntel));
+        catalog.put(Motherboard.class, List.of(boardIntel));
+        catalog.put(Psu.class, List.of(psuLarge, psu(480)));
+
+        // when
+        final ComputerBuildCompletionResult<ComputerBuild> result =
+                underTest.complete(draft, CompletionObjective.PSU_12V_HEADROOM, 10);
+
+        // then
+        assertThat(result.isExhaustive())
+                .isFalse();
+        assertThat(result.getCandidates())
+                .extracting(candidate -> candidate.getBuild().getPsu())
+                .containsExactly(psuLarge);
+    }
+
+    private Cpu cpu(final Socket socket) {
+        return Cpu.builder()
+                .id(UUID.randomUUID())
+                .name("CPU " + socket.getName())
+                .maxTdp(100)
+                .socket(socket)
+                .build();
+    }
+
+    private Motherboard motherboard(final Socket socket) {
+        return Motherboard.builder()
+                .id(UUID.randomUUID())
+                .name("Board " + socket.getName())
+                .chipset(Chipset.builder()
+                        .id(UUID.randomUUID())
+                        .name("Chipset " + socket.getName())
+                        .socket(socket)
+                        .build())
+                .build();
+    }
+
+    private Psu psu(final int power12V) {
+        return Psu.builder()
+                .id(UUID.randomUUID())
+                .name("PSU " + power12V)
+                .power12V(power12V)
+                .build();
+    }
+
+    /**
+     * Сервис проверки совпадения сокетов процессора и материнской платы.
+     */
+    @CheckedSlots({CPU, MOTHERBOARD})
+    static class SocketChecker extends ICompatibilityChecker {
+
+        SocketChecker(final Translator translator) {
+            super(translator);
+        }
+
+        @Override
+        public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
+            final Cpu cpu = computer.getCpu();
+            final Motherboard motherboard = computer.getMotherboard();
+            if (cpu == null || motherboard == null || cpu.getSocket() == motherboard.getChipset().getSocket()) {
+                return Optional.empty();
+            }
+
+            return violation("test.socket.mismatch");
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package ru.bukhtaev.service.checker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.bukhtaev.config.VerificationProperties;
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.model.dictionary.Socket;
+import ru.bukhtaev.service.checker.compatibility.ICompatibilityChecker;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+
+/**
+ * Модульные тесты сервиса подбора исправлений несовместимых сборок ПК.
+ * Каталог комплектующих заменен заглушкой сервиса подбора совместимых комплектующих,
+ * а совместимость проверяется одним сервисом проверки по сокету процессора и материнской платы.
+ */
+class ComputerBuildRepairServiceTest {
+
+    /**
+     * Код нарушения несовпадения сокетов.
+     */
+    private static final String CODE_SOCKET_MISMATCH = "test.socket.mismatch";
+
+    private CompatibleCandidateService candidateService;
+    private ComputerBuildResolver resolver;
+    private VerificationProperties properties;
+
+    /**
+     * Тестируемый сервис подбора исправлений несовместимых сборок ПК.
+     */
+    private ComputerBuildRepairService underTest;
+
+    /**
+     * Кандидаты по типам комплектующих в порядке просмотра каталога.
+     */
+    private final Map<Class<?>, List<BaseEntity>> catalog = new HashMap<>();
+
+    private Socket socketIntel;
+    private Socket socketAmd;
+    private ComputerBuild computer;
+
+    @BeforeEach
+    void setUp() {
+        final Translator translator = mock(Translator.class);
+        candidateService = mock(CompatibleCandidateService.class);
+        resolver = mock(ComputerBuildResolver.class);
+        properties = new VerificationProperties();
+
+        doAnswer(invocation -> {
+            final Consumer<BaseEntity> action = invocation.getArgument(4);
+            catalog.getOrDefault(invocation.<Class<?>>getArgument(0), List.of()).forEach(action);
+            return null;
+        }).when(candidateService).forEachCompatible(any(), any(), any(), anyInt(), any());
+
+        underTest = new ComputerBuildRepairService(
+                List.of(new SocketChecker(translator)),
+                null,
+                resolver,
+                candidateService,
+                mock(ComputerBuildInitializer.class),
+                translator,
+                properties
+        );
+
+        socketIntel = Socket.builder().id(UUID.randomUUID()).name("LGA 1700").build();
+        socketAmd = Socket.builder().id(UUID.randomUUID()).name("AM5").build();
+
+        computer = ComputerBuild.builder()
+                .name("Test")
+                .cpu(cpu("Ryzen 5 7600", socketAmd, 8))
+                .motherboard(motherboard(socketIntel))
+                .build();
+        when(resolver.resolve(computer)).thenReturn(computer);
+    }
+
+    @Test
+    void repairUnsaved_withCompatibleBuild_shouldReturnEmptyList() {
+        // given
+        computer.setCpu(cpu("Core i5-13600K", socketIntel, 14));
+
+        // when
+        final List<ComputerBuildRepair> repairs = underTest.repairUnsaved(computer, 10);
+
+        // then
+        assertThat(repairs)
+                .isEmpty();
+        verifyNoInteractions(candidateService);
+    }
+
+    @Test
+    void repairUnsaved_withMoreCandidatesThanPerSlot_shouldSelectMostSimilarFromWholeCatalog() {
+        // given
+        properties.getRepair().setCandidatesPerSlot(1);
+        final Cpu distant = cpu("Core i9-13900K", socketIntel, 24);
+        final Cpu close = cpu("Core i5-13400", socketIntel, 6);
+        catalog.put(Cpu.class, List.of(distant, close));
+
+        // when
+        final List<ComputerBuildRepair> repairs = underTest.repairUnsaved(computer, 10);
+
+        // then
+        assertThat(repairs)
+                .hasSize(1);
+        final ComputerBuildRepair.Swap swap = repairs.get(0).getSwaps().get(0);
+        assertThat(swap.getSlot())
+                .isEqualTo(CPU);
+        assertThat(swap.getOriginalIds())
+                .containsExactly(computer.getCpu().getId());
+        assertThat(swap.getReplacementId())
+                .isEqualTo(close.getId());
+    }
+
+    @Test
+    void repairUnsaved_withCandidatesForBothSlots_shouldOrderRepairsBySimilarity() {
+        // given
+        final Cpu close = cpu("Core i5-13400", socketIntel, 6);
+        final Cpu distant = cpu("Core i9-13900K", socketIntel, 24);
+        final Motherboard board = motherboard(socketAmd);
+        catalog.put(Cpu.class, List.of(distant, close));
+        catalog.put(Motherboard.class, List.of(board));
+
+        // when
+        final List<ComputerBuildRepair> repairs = underTest.repairUnsaved(computer, 10);
+
+        // then
+        assertThat(repairs)
+                .flatExtracting(ComputerBuildRepair::getSwaps)
+                .extracting(ComputerBuildRepair.Swap::getReplacementId)
+                .containsExactly(board.getId(), close.getId(), distant.getId());
+        assertThat(repairs)
+                .extracting(ComputerBuildRepair::getSimilarity)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void repairUnsaved_withExhaustedDomains_shouldReturnEmptyList() {
+        // given
+        catalog.put(Cpu.class, List.of(computer.getCpu()));
+
+        // when
+        final List<ComputerBuildRepair> repairs = underTest.repairUnsaved(computer, 10);
+
+        // then
+        assertThat(repairs)
+                .isEmpty();
+        verify(candidateService, atLeastOnce()).forEachCompatible(eq(Cpu.class), any(), any(), anyInt(), any());
+        verify(candidateService, atLeastOnce()).forEachCompatible(eq(Motherboard.class), any(), any(), anyInt(), any());
+    }
+
+    private Cpu cpu(final String name, final Socket socket, final int coreCount) {
+        return Cpu.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .coreCount(coreCount)
+                .threadCount(coreCount * 2)
+                .baseClock(3500)
+                .maxClock(5100)
+                .l3CacheSize(24)
+                .maxTdp(125)
+                .socket(socket)
+                .build();
+    }
+
+    private Motherboard motherboard(final Socket socket) {
+        return Motherboard.builder()
+                .id(UUID.randomUUID())
+                .name("Board " + socket.getName())
+                .maxMemoryClock(5600)
+                .maxMemoryOverClock(7800)
+                .maxMemorySize(196608)
+                .slotsCount(4)
+                .chipset(Chipset.builder()
+                        .id(UUID.randomUUID())
+                        .name("Chipset " + socket.getName())
+                        .socket(socket)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Сервис проверки совпадения сокетов процессора и материнской платы.
+     */
+    @CheckedSlots({CPU, MOTHERBOARD})
+    static class SocketChecker extends ICompatibilityChecker {
+
+        SocketChecker(final Translator translator) {
+            super(translator);
+        }
+
+        @Override
+        public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
+            final Cpu cpu = computer.getCpu();
+            final Motherboard motherboard = computer.getMotherboard();
+            if (cpu == null || motherboard == null || cpu.getSocket() == motherboard.getChipset().getSocket()) {
+                return Optional.empty();
+            }
+
+            return violation(CODE_SOCKET_MISMATCH);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package ru.bukhtaev.service.checker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.bukhtaev.AbstractContainerizedTest;
+import ru.bukhtaev.config.VerificationProperties;
+import ru.bukhtaev.model.BaseEntity;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.model.Cpu;
+import ru.bukhtaev.model.dictionary.Manufacturer;
+import ru.bukhtaev.model.dictionary.RamType;
+import ru.bukhtaev.model.dictionary.Socket;
+import ru.bukhtaev.model.dictionary.Vendor;
+import ru.bukhtaev.repository.IComputerBuildRepository;
+import ru.bukhtaev.service.TransactionService;
+import ru.bukhtaev.service.event.EntityChangedEvent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Модульные тесты сервиса фоновой повторной проверки сборок ПК.
+ * Проверяют, что после изменения сущности повторно проверяются
+ * только сборки ПК, прямо или косвенно ссылающиеся на нее.
+ */
+@DataJpaTest
+@Import({ComputerBuildReferenceFinder.class, TransactionService.class})
+class ComputerBuildReverificationServiceTest extends AbstractContainerizedTest {
+
+    @Autowired
+    private IComputerBuildRepository repository;
+
+    @Autowired
+    private ComputerBuildReferenceFinder referenceFinder;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ComputerBuildVerifyingService verifyingService;
+    private ScheduledExecutorService executor;
+    private VerificationProperties properties;
+
+    /**
+     * Тестируемый сервис фоновой повторной проверки сборок ПК.
+     */
+    private ComputerBuildReverificationService underTest;
+
+    private Manufacturer manufacturer;
+    private Socket socketIntel;
+    private RamType ramTypeDdr4;
+    private Vendor vendor;
+    private ComputerBuild computerIntel;
+    private ComputerBuild computerAmd;
+
+    @BeforeEach
+    void setUp() {
+        manufacturer = entityManager.persist(Manufacturer.builder().name("Intel").build());
+        socketIntel = entityManager.persist(Socket.builder().name("LGA 1700").build());
+        final Socket socketAmd = entityManager.persist(Socket.builder().name("AM5").build());
+        final RamType ramTypeDdr5 = entityManager.persist(RamType.builder().name("DDR5").build());
+        ramTypeDdr4 = entityManager.persist(RamType.builder().name("DDR4").build());
+        vendor = entityManager.persist(Vendor.builder().name("ASUS").build());
+
+        final Cpu cpuIntel = cpu("Core i5-13600K", socketIntel);
+        cpuIntel.addRamType(ramTypeDdr5, 5600);
+        entityManager.persist(cpuIntel);
+
+        final Cpu cpuAmd = cpu("Ryzen 5 7600", socketAmd);
+        cpuAmd.addRamType(ramTypeDdr4, 3200);
+        entityManager.persist(cpuAmd);
+
+        computerIntel = entityManager.persist(ComputerBuild.builder().name("Intel").cpu(cpuIntel).build());
+        computerAmd = entityManager.persist(ComputerBuild.builder().name("AMD").cpu(cpuAmd).build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        verifyingService = mock(ComputerBuildVerifyingService.class);
+        executor = mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+
+        properties = new VerificationProperties();
+        underTest = new ComputerBuildReverificationService(
+                repository,
+                verifyingService,
+                referenceFinder,
+                transactionService,
+                properties,
+                executor
+        );
+    }
+
+    @Test
+    void sweep_afterDictionaryChange_shouldReverifyOnlyReferencingBuilds() {
+        // given
+        change(Socket.class, socketIntel.getId());
+
+        // when
+        underTest.sweep();
+
+        // then
+        assertThat(reverifiedIds())
+                .containsExactly(computerIntel.getId());
+    }
+
+    @Test
+    void sweep_afterChangeReferencedThroughLinkEntity_shouldReverifyOnlyReferencingBuilds() {
+        // given
+        change(RamType.class, ramTypeDdr4.getId());
+
+        // when
+        underTest.sweep();
+
+        // then
+        assertThat(reverifiedIds())
+                .containsExactly(computerAmd.getId());
+    }
+
+    @Test
+    void sweep_afterUnreferencedDictionaryChange_shouldNotReverifyBuilds() {
+        // given
+        change(Vendor.class, vendor.getId());
+
+        // when
+        underTest.sweep();
+
+        // then
+        verify(verifyingService, never()).verifyAll(anyCollection(), any(), any());
+        verify(executor, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    void sweep_afterBuildChange_shouldReverifyOnlyChangedBuild() {
+        // given
+        change(ComputerBuild.class, computerAmd.getId());
+
+        // when
+        underTest.sweep();
+
+        // then
+        assertThat(reverifiedIds())
+                .containsExactly(computerAmd.getId());
+    }
+
+    @Test
+    void sweep_withMoreChunksThanConcurrency_shouldSubmitOneTaskPerWorker() {
+        // given
+        properties.getReverification().setChunkSize(1);
+        properties.getReverification().setConcurrency(1);
+        change(Manufacturer.class, manufacturer.getId());
+
+        // when
+        underTest.sweep();
+
+        // then
+        verify(executor, times(1)).execute(any(Runnable.class));
+        assertThat(reverifiedIds())
+                .containsExactlyInAnyOrder(computerIntel.getId(), computerAmd.getId());
+    }
+
+    /**
+     * Сообщает сервису об изменении сущности.
+     *
+     * @param type тип сущности
+     * @param id   ID сущности
+     */
+    private void change(final Class<? extends BaseEntity> type, final UUID id) {
+        underTest.onEntityChanged(new EntityChangedEvent(type, id));
+    }
+
+    /**
+     * Возвращает ID всех повторно проверенных сборок ПК.
+     *
+     * @return ID сборок ПК
+     */
+    @SuppressWarnings("unchecked")
+    private List<UUID> reverifiedIds() {
+        final ArgumentCaptor<Collection<UUID>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(verifyingService, atLeastOnce()).verifyAll(captor.capture(), any(), any());
+        return captor.getAllValues()
+                .stream()
+                .flatMap(Collection::stream)
+                .toList();
+    }
+
+    private Cpu cpu(final String name, final Socket socket) {
+        return Cpu.builder()
+                .name(name)
+                .coreCount(6)
+                .threadCount(12)
+                .baseClock(3500)
+                .maxClock(5100)
+                .l3CacheSize(24)
+                .maxTdp(125)
+                .maxMemorySize(131072)
+                .manufacturer(manufacturer)
+                .socket(socket)
+                .build();
+    }
+}
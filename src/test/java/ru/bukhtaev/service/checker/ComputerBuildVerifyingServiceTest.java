@@ -0,0 +1,490 @@
+package ru.bukhtaev.service.checker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.bukhtaev.config.VerificationProperties;
+import ru.bukhtaev.exception.CommonServerSideException;
+import ru.bukhtaev.exception.DataNotFoundException;
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.model.ComputerBuild;
+import ru.bukhtaev.model.Cpu;
+import ru.bukhtaev.repository.IComputerBuildRepository;
+import ru.bukhtaev.service.TransactionService;
+import ru.bukhtaev.service.checker.compatibility.ICompatibilityChecker;
+import ru.bukhtaev.service.checker.completeness.ICompletenessChecker;
+import ru.bukhtaev.service.checker.optimality.IOptimalityChecker;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static ru.bukhtaev.i18n.MessageUtils.MESSAGE_CODE_COMPUTER_BUILD_NOT_FOUND;
+import static ru.bukhtaev.repository.ComputerBuildFetchPlan.VERIFY;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.*;
+
+/**
+ * Модульные тесты сервиса проверки сборки ПК.
+ * Сервисы проверки заменены заглушками с заданной стоимостью,
+ * чтобы порядок их выполнения отличался от порядка регистрации.
+ */
+class ComputerBuildVerifyingServiceTest {
+
+    /**
+     * Код нарушения дорогого сервиса проверки на законченность.
+     */
+    private static final String CODE_INCOMPLETE = "test.incomplete";
+
+    /**
+     * Код нарушения дешевого сервиса проверки на совместимость.
+     */
+    private static final String CODE_INCOMPATIBLE = "test.incompatible";
+
+    /**
+     * Код нарушения медленного сервиса проверки на законченность.
+     */
+    private static final String CODE_SLOW = "test.slow";
+
+    /**
+     * Время ожидания событий в потоках пула.
+     */
+    private static final long AWAIT_SECONDS = 5;
+
+    /**
+     * Сообщение о том, что сборка ПК не найдена.
+     */
+    private static final String MESSAGE_NOT_FOUND = "Computer build not found";
+
+    private Translator translator;
+    private VerificationProperties properties;
+    private IComputerBuildRepository repository;
+    private TransactionService transactionService;
+    private ComputerBuildResolver resolver;
+
+    /**
+     * Тестируемый сервис проверки сборки ПК.
+     */
+    private ComputerBuildVerifyingService underTest;
+
+    private ComputerBuild computer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        translator = mock(Translator.class);
+        properties = new VerificationProperties();
+        repository = mock(IComputerBuildRepository.class);
+        transactionService = mock(TransactionService.class);
+        resolver = mock(ComputerBuildResolver.class);
+
+        when(translator.getMessage(eq(MESSAGE_CODE_COMPUTER_BUILD_NOT_FOUND), any()))
+                .thenReturn(MESSAGE_NOT_FOUND);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(transactionService).doInTransaction(anyBoolean(), any());
+
+        underTest = createService(
+                new ExpensiveCompletenessChecker(translator),
+                new CheapCompatibilityChecker(translator)
+        );
+
+        computer = ComputerBuild.builder()
+                .id(UUID.randomUUID())
+                .name("Test")
+                .cpu(Cpu.builder()
+                        .id(UUID.randomUUID())
+                        .name("CPU")
+                        .build())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void verify_withFirstViolationMode_shouldReturnCheapestViolation() {
+        // when
+        final ComputerVerifyResult result = underTest.verify(computer, VerificationMode.FIRST_VIOLATION);
+
+        // then
+        assertThat(result.getCompletenessViolations())
+                .isEmpty();
+        assertThat(result.getCompatibilityViolations())
+                .extracting(ComputerBuildViolation::code)
+                .containsExactly(CODE_INCOMPATIBLE);
+    }
+
+    @Test
+    void verify_withFirstViolationModeAndWarmCache_shouldReturnSameViolationAsWithColdCache() {
+        // given
+        final ComputerVerifyResult cold = underTest.verify(computer, VerificationMode.FIRST_VIOLATION);
+        final ComputerVerifyResult full = underTest.verify(computer, VerificationMode.FULL);
+        assertThat(full.getCompletenessViolations())
+                .hasSize(1);
+        assertThat(full.getCompatibilityViolations())
+                .hasSize(1);
+
+        // when
+        final ComputerVerifyResult warm = underTest.verify(computer, VerificationMode.FIRST_VIOLATION);
+
+        // then
+        assertThat(warm.getCompletenessViolations())
+                .containsExactlyElementsOf(cold.getCompletenessViolations());
+        assertThat(warm.getCompatibilityViolations())
+                .containsExactlyElementsOf(cold.getCompatibilityViolations());
+        assertThat(warm.getOptimalityWarnings())
+                .isEmpty();
+        assertThat(warm.getFirstBlockingViolation())
+                .isEqualTo(cold.getFirstBlockingViolation());
+    }
+
+    @Test
+    void verify_withBlockingOnlyModeAndWarmCache_shouldReturnSameViolationsAsWithColdCache() {
+        // given
+        final ComputerVerifyResult cold = underTest.verify(computer, VerificationMode.BLOCKING_ONLY);
+        underTest.verify(computer, VerificationMode.FULL);
+
+        // when
+        final ComputerVerifyResult warm = underTest.verify(computer, VerificationMode.BLOCKING_ONLY);
+
+        // then
+        assertThat(warm.getCompletenessViolations())
+                .containsExactlyElementsOf(cold.getCompletenessViolations());
+        assertThat(warm.getCompatibilityViolations())
+                .containsExactlyElementsOf(cold.getCompatibilityViolations());
+        assertThat(warm.getFirstBlockingViolation())
+                .isEqualTo(cold.getFirstBlockingViolation());
+    }
+
+    @Test
+    void verifyAll_shouldReturnSameResultsAsSingleBuildVerificationInOrderOfIds() {
+        // given
+        properties.setBatchSize(1);
+        final ComputerBuild other = ComputerBuild.builder()
+                .id(UUID.randomUUID())
+                .name("Other")
+                .build();
+        stubRepository(computer, other);
+        final List<UUID> ids = Arrays.asList(other.getId(), null, computer.getId(), other.getId());
+
+        // when
+        final List<ComputerBatchVerifyResult> results = new ArrayList<>();
+        underTest.verifyAll(ids, VerificationMode.FIRST_VIOLATION, results::add);
+
+        // then
+        assertThat(results)
+                .extracting(ComputerBatchVerifyResult::getId)
+                .containsExactly(other.getId(), computer.getId());
+        assertThat(results)
+                .allSatisfy(batchResult -> {
+                    assertThat(batchResult.getErrorMessage())
+                            .isNull();
+                    assertThat(batchResult.getResult())
+                            .usingRecursiveComparison()
+                            .isEqualTo(underTest.verify(batchResult.getId(), VerificationMode.FIRST_VIOLATION));
+                });
+        verify(transactionService, times(2)).doInTransaction(eq(true), any());
+    }
+
+    @Test
+    void verifyAll_withMissingBuild_shouldReportErrorAndVerifyRemainingBuilds() {
+        // given
+        final UUID missingId = UUID.randomUUID();
+        stubRepository(computer);
+
+        // when
+        final List<ComputerBatchVerifyResult> results = new ArrayList<>();
+        underTest.verifyAll(List.of(missingId, computer.getId()), VerificationMode.FULL, results::add);
+
+        // then
+        assertThat(results)
+                .hasSize(2);
+        assertThat(results.get(0).getId())
+                .isEqualTo(missingId);
+        assertThat(results.get(0).getResult())
+                .isNull();
+        assertThat(results.get(0).getErrorMessage())
+                .isEqualTo(MESSAGE_NOT_FOUND);
+        assertThatThrownBy(() -> underTest.verify(missingId, VerificationMode.FULL))
+                .isInstanceOf(DataNotFoundException.class)
+                .extracting("errorMessage")
+                .isEqualTo(MESSAGE_NOT_FOUND);
+
+        assertThat(results.get(1).getId())
+                .isEqualTo(computer.getId());
+        assertThat(results.get(1).getResult())
+                .usingRecursiveComparison()
+                .isEqualTo(underTest.verify(computer.getId(), VerificationMode.FULL));
+    }
+
+    @Test
+    void verifyUnsaved_shouldVerifyResolvedBuildWithoutSavingIt() {
+        // given
+        final ComputerBuild draft = ComputerBuild.builder()
+                .name("Draft")
+                .cpu(Cpu.builder()
+                        .id(computer.getCpu().getId())
+                        .build())
+                .build();
+        when(resolver.resolve(draft)).thenReturn(computer);
+
+        // when
+        final ComputerVerifyResult result = underTest.verifyUnsaved(draft, VerificationMode.FULL);
+
+        // then
+        assertThat(result)
+                .usingRecursiveComparison()
+                .isEqualTo(underTest.verify(computer, VerificationMode.FULL));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void verify_withParallelModeAndSlowChecker_shouldCancelCheckersAndNotKeepPartialResult() {
+        // given
+        properties.setParallel(true);
+        properties.setTimeout(Duration.ofMillis(100));
+        final SlowCompletenessChecker slow = new SlowCompletenessChecker(translator);
+        final CheapCompatibilityChecker cheap = new CheapCompatibilityChecker(translator);
+        underTest = createService(slow, cheap);
+
+        // when
+        assertThatThrownBy(() -> underTest.verify(computer, VerificationMode.FULL))
+                .isInstanceOf(CommonServerSideException.class);
+
+        // then
+        assertThat(await(slow.interrupted))
+                .isTrue();
+        assertThat(cheap.calls.get())
+                .isEqualTo(1);
+
+        // given
+        slow.release.countDown();
+
+        // when
+        final ComputerVerifyResult result = underTest.verify(computer, VerificationMode.FULL);
+
+        // then
+        assertThat(result.getCompletenessViolations())
+                .extracting(ComputerBuildViolation::code)
+                .containsExactly(CODE_SLOW);
+        assertThat(result.getCompatibilityViolations())
+                .extracting(ComputerBuildViolation::code)
+                .containsExactly(CODE_INCOMPATIBLE);
+        assertThat(cheap.calls.get())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void verify_withParallelModeAndFailingChecker_shouldRethrowFailureAndCancelOtherCheckers() {
+        // given
+        properties.setParallel(true);
+        properties.setTimeout(Duration.ofSeconds(AWAIT_SECONDS));
+        final SlowCompletenessChecker slow = new SlowCompletenessChecker(translator);
+        underTest = createService(slow, new FailingCompatibilityChecker(translator, slow.started));
+
+        // when
+        assertThatThrownBy(() -> underTest.verify(computer, VerificationMode.FULL))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(CODE_INCOMPATIBLE);
+
+        // then
+        assertThat(await(slow.started))
+                .isTrue();
+        assertThat(await(slow.interrupted))
+                .isTrue();
+    }
+
+    /**
+     * Создает тестируемый сервис с указанными сервисами проверки.
+     * Если включено параллельное выполнение, сервисы проверки выполняются в отдельном пуле потоков.
+     *
+     * @param completenessChecker  сервис проверки на законченность
+     * @param compatibilityChecker сервис проверки на совместимость
+     * @return сервис проверки сборки ПК
+     */
+    private ComputerBuildVerifyingService createService(
+            final ICompletenessChecker completenessChecker,
+            final ICompatibilityChecker compatibilityChecker
+    ) {
+        if (properties.isParallel()) {
+            executor = Executors.newFixedThreadPool(2);
+        }
+
+        return new ComputerBuildVerifyingService(
+                List.of(completenessChecker),
+                List.of(compatibilityChecker),
+                Collections.<IOptimalityChecker>emptyList(),
+                repository,
+                translator,
+                new ComputerBuildInitializer(),
+                properties,
+                executor,
+                transactionService,
+                resolver,
+                new ComputerVerifyResultCache(
+                        properties,
+                        mock(ComputerBuildDependencyCollector.class),
+                        new SimpleMeterRegistry()
+                ),
+                new ComputerVerifyStateStore(properties),
+                new ComputerBuildCheckerMetrics(new SimpleMeterRegistry())
+        );
+    }
+
+    /**
+     * Ожидает событие в потоке пула.
+     *
+     * @param latch счетчик события
+     * @return {@code true}, если событие произошло вовремя
+     */
+    private static boolean await(final CountDownLatch latch) {
+        try {
+            return latch.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Подменяет загрузку сборок ПК из репозитория поиском среди указанных сборок ПК.
+     *
+     * @param computers сборки ПК
+     */
+    private void stubRepository(final ComputerBuild... computers) {
+        final Map<UUID, ComputerBuild> byId = new HashMap<>();
+        for (final ComputerBuild stored : computers) {
+            byId.put(stored.getId(), stored);
+        }
+
+        when(repository.findAllByIdIn(anyCollection(), eq(VERIFY)))
+                .thenAnswer(invocation -> invocation.<Collection<UUID>>getArgument(0)
+                        .stream()
+                        .map(byId::get)
+                        .filter(Objects::nonNull)
+                        .toList());
+        when(repository.findById(any(), eq(VERIFY)))
+                .thenAnswer(invocation -> Optional.ofNullable(byId.get(invocation.<UUID>getArgument(0))));
+    }
+
+    /**
+     * Сервис проверки на законченность, читающий дорогие слоты и всегда обнаруживающий нарушение.
+     * Зарегистрирован раньше сервиса проверки на совместимость, но выполняется после него.
+     */
+    @CheckedSlots({FANS, RAM_MODULES, HDDS, SSDS})
+    static class ExpensiveCompletenessChecker extends ICompletenessChecker {
+
+        ExpensiveCompletenessChecker(final Translator translator) {
+            super(translator);
+        }
+
+        @Override
+        public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
+            return violation(CODE_INCOMPLETE);
+        }
+    }
+
+    /**
+     * Сервис проверки на совместимость, читающий один слот и всегда обнаруживающий нарушение.
+     */
+    @CheckedSlots(CPU)
+    static class CheapCompatibilityChecker extends ICompatibilityChecker {
+
+        /**
+         * Количество выполненных проверок.
+         */
+        final AtomicInteger calls = new AtomicInteger();
+
+        CheapCompatibilityChecker(final Translator translator) {
+            super(translator);
+        }
+
+        @Override
+        public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
+            calls.incrementAndGet();
+            return violation(CODE_INCOMPATIBLE);
+        }
+    }
+
+    /**
+     * Сервис проверки на совместимость, читающий один слот и всегда завершающийся ошибкой.
+     * Выполняется раньше сервиса проверки на законченность,
+     * но выбрасывает ошибку только после начала медленной проверки.
+     */
+    @CheckedSlots(CPU)
+    static class FailingCompatibilityChecker extends ICompatibilityChecker {
+
+        /**
+         * Событие, после которого выбрасывается ошибка.
+         */
+        private final CountDownLatch before;
+
+        FailingCompatibilityChecker(final Translator translator, final CountDownLatch before) {
+            super(translator);
+            this.before = before;
+        }
+
+        @Override
+        public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
+            await(before);
+            throw new IllegalStateException(CODE_INCOMPATIBLE);
+        }
+    }
+
+    /**
+     * Сервис проверки на законченность, читающий дорогие слоты
+     * и ожидающий разрешения завершиться.
+     * Если ожидание прервано, отмечает это и не обнаруживает нарушение.
+     */
+    @CheckedSlots({FANS, RAM_MODULES, HDDS, SSDS})
+    static class SlowCompletenessChecker extends ICompletenessChecker {
+
+        /**
+         * Отмечает начало проверки.
+         */
+        final CountDownLatch started = new CountDownLatch(1);
+
+        /**
+         * Разрешает проверке завершиться.
+         */
+        final CountDownLatch release = new CountDownLatch(1);
+
+        /**
+         * Отмечает прерывание проверки.
+         */
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        SlowCompletenessChecker(final Translator translator) {
+            super(translator);
+        }
+
+        @Override
+        public Optional<ComputerBuildViolation> check(final ComputerBuild computer) {
+            started.countDown();
+            try {
+                release.await();
+                return violation(CODE_SLOW);
+
+            } catch (final InterruptedException exception) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+    }
+}
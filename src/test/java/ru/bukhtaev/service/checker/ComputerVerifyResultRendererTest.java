@@ -0,0 +1,163 @@
+package ru.bukhtaev.service.checker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import ru.bukhtaev.config.InternationalizationConfig;
+import ru.bukhtaev.i18n.MessageFormatCache;
+import ru.bukhtaev.i18n.Translator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.bukhtaev.i18n.MessageUtils.*;
+
+/**
+ * Модульные тесты сервиса отображения результатов проверки сборок ПК.
+ * Проверяют, что тексты сообщений, сформированные по скомпилированным шаблонам,
+ * совпадают с текстами, которые возвращает {@link Translator} для тех же кода, параметров и локали.
+ */
+class ComputerVerifyResultRendererTest {
+
+    /**
+     * Локали, в которых сравниваются тексты сообщений.
+     */
+    private static final List<Locale> LOCALES = List.of(
+            Locale.ENGLISH,
+            Locale.forLanguageTag("ru"),
+            Locale.forLanguageTag("ru-RU")
+    );
+
+    /**
+     * Нарушения с параметрами разных типов.
+     */
+    private static final List<ComputerBuildViolation> VIOLATIONS = List.of(
+            ComputerBuildViolation.of(MESSAGE_CODE_COMPUTER_BUILD_NO_CPU, ViolationSeverity.ERROR),
+            ComputerBuildViolation.of(MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_SOCKET, ViolationSeverity.ERROR,
+                    "AM5", "LGA 1700"),
+            ComputerBuildViolation.of(MESSAGE_CODE_RAM_MODULES_DIFFERENT_CLOCK, ViolationSeverity.WARNING,
+                    "3200, 3600", 3200),
+            ComputerBuildViolation.of(MESSAGE_CODE_CPU_MAX_RAM_SIZE_EXCEEDING, ViolationSeverity.ERROR,
+                    192.5, 128),
+            ComputerBuildViolation.of(MESSAGE_CODE_RAM_MODULES_WITH_DIFFERENT_DESIGN, ViolationSeverity.WARNING,
+                    List.of("ROG STRIX", "TUF GAMING"))
+    );
+
+    private Translator translator;
+
+    /**
+     * Тестируемый сервис отображения результатов проверки сборок ПК.
+     */
+    private ComputerVerifyResultRenderer underTest;
+
+    @BeforeEach
+    void setUp() {
+        final MessageSource messageSource = new InternationalizationConfig().messageSource();
+        translator = new Translator(messageSource);
+        underTest = new ComputerVerifyResultRenderer(new MessageFormatCache(messageSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @ParameterizedTest(name = "{0} [{1}]")
+    @MethodSource("violationsInLocales")
+    void render_shouldReturnSameMessageAsTranslator(final String code, final Locale locale) {
+        // given
+        final ComputerBuildViolation violation = find(code);
+        LocaleContextHolder.setLocale(locale);
+
+        // when
+        final ComputerVerifyResult result = underTest.render(resultOf(violation), false);
+
+        // then
+        assertThat(result.getCompatibilityViolations())
+                .singleElement()
+                .extracting(ComputerBuildViolation::message)
+                .isEqualTo(translator.getMessage(code, violation.args().toArray()));
+    }
+
+    @Test
+    void render_withAlternatingLocales_shouldNotMixUpCompiledTemplates() {
+        for (final Locale locale : List.of(Locale.ENGLISH, Locale.forLanguageTag("ru"), Locale.ENGLISH)) {
+            // given
+            LocaleContextHolder.setLocale(locale);
+
+            for (final ComputerBuildViolation violation : VIOLATIONS) {
+                // when
+                final ComputerVerifyResult result = underTest.render(resultOf(violation), false);
+
+                // then
+                assertThat(result.getCompatibilityViolations())
+                        .singleElement()
+                        .extracting(ComputerBuildViolation::message)
+                        .as("%s [%s]", violation.code(), locale)
+                        .isEqualTo(translator.getMessage(violation.code(), violation.args().toArray()));
+            }
+        }
+    }
+
+    @Test
+    void render_withCodesOnly_shouldNotFillMessages() {
+        // given
+        final ComputerVerifyResult result = resultOf(VIOLATIONS.get(1));
+
+        // when
+        final ComputerVerifyResult rendered = underTest.render(result, true);
+
+        // then
+        assertThat(rendered.getCompatibilityViolations())
+                .singleElement()
+                .extracting(ComputerBuildViolation::message)
+                .isNull();
+    }
+
+    /**
+     * Возвращает сочетания кодов нарушений и локалей.
+     *
+     * @return аргументы тестов
+     */
+    static Stream<Arguments> violationsInLocales() {
+        return VIOLATIONS.stream()
+                .flatMap(violation -> LOCALES.stream()
+                        .map(locale -> Arguments.of(violation.code(), locale)));
+    }
+
+    /**
+     * Возвращает нарушение с указанным кодом.
+     *
+     * @param code код нарушения
+     * @return нарушение
+     */
+    private static ComputerBuildViolation find(final String code) {
+        return VIOLATIONS.stream()
+                .filter(violation -> violation.code().equals(code))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Создает результат проверки с единственным нарушением совместимости.
+     *
+     * @param violation нарушение
+     * @return результат проверки
+     */
+    private static ComputerVerifyResult resultOf(final ComputerBuildViolation violation) {
+        return ComputerVerifyResult.builder()
+                .completenessViolations(Collections.emptySet())
+                .compatibilityViolations(Set.of(violation))
+                .optimalityWarnings(Collections.emptySet())
+                .build();
+    }
+}
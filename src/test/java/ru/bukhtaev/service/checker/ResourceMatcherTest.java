@@ -0,0 +1,180 @@
+package ru.bukhtaev.service.checker;
+
+import org.junit.jupiter.api.Test;
+import ru.bukhtaev.model.dictionary.StorageConnector;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Модульные тесты сопоставления необходимых и доступных ресурсов.
+ */
+class ResourceMatcherTest {
+
+    /**
+     * Совместимость по индексу порядка коннекторов:
+     * необходимый коннектор подходит к доступному коннектору той же версии или новее.
+     */
+    private static final ResourceMatcher.Compatibility<ConnectorOrderIndex> AT_OR_BELOW =
+            (index, demandId, supplyId) -> index.isAtOrBelow(StorageConnector.class, demandId, supplyId);
+
+    private final UUID idFirst = UUID.randomUUID();
+    private final UUID idSecond = UUID.randomUUID();
+    private final UUID idThird = UUID.randomUUID();
+    private final UUID idFourth = UUID.randomUUID();
+
+    @Test
+    void matches_whenOnlyReassignmentOfEarlierPickSucceeds_shouldReturnTrue() {
+        // given
+        // Первый необходимый ресурс подходит к обоим доступным и жадно занимает первый из них,
+        // второй необходимый ресурс подходит только к первому доступному
+        final Map<UUID, Set<UUID>> compatible = Map.of(
+                idFirst, Set.of(idThird, idFourth),
+                idSecond, Set.of(idThird)
+        );
+        final ResourceMatcher matcher = ResourceMatcher.acquire()
+                .demand(idFirst, 1)
+                .demand(idSecond, 1)
+                .supply(idThird, 1)
+                .supply(idFourth, 1);
+
+        // when
+        final boolean matched = matcher.matches(
+                compatible,
+                (context, demandId, supplyId) -> context.get(demandId).contains(supplyId)
+        );
+
+        // then
+        assertThat(matched)
+                .isTrue();
+    }
+
+    @Test
+    void matches_whenCompatibleSupplyIsOverSubscribed_shouldReturnFalse() {
+        // given
+        // Доступных ресурсов хватает по общему количеству,
+        // но оба необходимых ресурса подходят только к одному доступному
+        final Map<UUID, Set<UUID>> compatible = Map.of(
+                idFirst, Set.of(idThird),
+                idSecond, Set.of(idThird)
+        );
+        final ResourceMatcher matcher = ResourceMatcher.acquire()
+                .demand(idFirst, 1)
+                .demand(idSecond, 1)
+                .supply(idThird, 1)
+                .supply(idFourth, 1);
+
+        // when
+        final boolean matched = matcher.matches(
+                compatible,
+                (context, demandId, supplyId) -> context.get(demandId).contains(supplyId)
+        );
+
+        // then
+        assertThat(matched)
+                .isFalse();
+    }
+
+    @Test
+    void matchesExactly_whenSupplyIsLessThanDemand_shouldReturnFalse() {
+        // given
+        final ResourceMatcher matcher = ResourceMatcher.acquire()
+                .demand(idFirst, 2)
+                .demand(idFirst, 1)
+                .supply(idFirst, 2);
+
+        // when
+        final boolean matched = matcher.matchesExactly();
+
+        // then
+        assertThat(matched)
+                .isFalse();
+    }
+
+    @Test
+    void matches_withTransitiveConnectorOrder_shouldMatchOlderDemandToNewerSupply() {
+        // given
+        final ConnectorOrderIndex index = connectorOrderIndex();
+        final ResourceMatcher matcher = ResourceMatcher.acquire()
+                .demand(idFirst, 1)
+                .supply(idThird, 1);
+
+        // when
+        final boolean matched = matcher.matches(index, AT_OR_BELOW);
+
+        // then
+        assertThat(matched)
+                .isTrue();
+    }
+
+    @Test
+    void matches_withTransitiveConnectorOrder_shouldNotMatchNewerDemandToOlderSupply() {
+        // given
+        final ConnectorOrderIndex index = connectorOrderIndex();
+        final ResourceMatcher matcher = ResourceMatcher.acquire()
+                .demand(idThird, 1)
+                .supply(idFirst, 1);
+
+        // when
+        final boolean matched = matcher.matches(index, AT_OR_BELOW);
+
+        // then
+        assertThat(matched)
+                .isFalse();
+    }
+
+    @Test
+    void matches_withTransitiveConnectorOrderAndReassignment_shouldReturnTrue() {
+        // given
+        // Старый коннектор сначала занимает самый новый доступный,
+        // который затем нужен новому коннектору
+        final ConnectorOrderIndex index = connectorOrderIndex();
+        final ResourceMatcher matcher = ResourceMatcher.acquire()
+                .demand(idFirst, 1)
+                .demand(idThird, 1)
+                .supply(idThird, 1)
+                .supply(idSecond, 1);
+
+        // when
+        final boolean matched = matcher.matches(index, AT_OR_BELOW);
+
+        // then
+        assertThat(matched)
+                .isTrue();
+    }
+
+    @Test
+    void matches_withoutDemandId_shouldReturnFalse() {
+        // given
+        final ConnectorOrderIndex index = connectorOrderIndex();
+        final ResourceMatcher matcher = ResourceMatcher.acquire()
+                .demand(null, 1)
+                .supply(idThird, 1);
+
+        // when
+        final boolean matched = matcher.matches(index, AT_OR_BELOW);
+
+        // then
+        assertThat(matched)
+                .isFalse();
+    }
+
+    /**
+     * Создает индекс порядка коннекторов накопителей,
+     * в котором пары заданы только между соседними версиями.
+     *
+     * @return индекс порядка коннекторов
+     */
+    private ConnectorOrderIndex connectorOrderIndex() {
+        return ConnectorOrderIndex.builder(1)
+                .element(StorageConnector.class, idFirst, "SATA 1.0")
+                .element(StorageConnector.class, idSecond, "SATA 2.0")
+                .element(StorageConnector.class, idThird, "SATA 3.0")
+                .below(StorageConnector.class, idThird, idSecond)
+                .below(StorageConnector.class, idSecond, idFirst)
+                .build();
+    }
+}
@@ -0,0 +1,441 @@
+package ru.bukhtaev.service.checker.compatibility;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import ru.bukhtaev.i18n.Translator;
+import ru.bukhtaev.model.*;
+import ru.bukhtaev.model.cross.CpuToRamType;
+import ru.bukhtaev.model.dictionary.RamType;
+import ru.bukhtaev.service.checker.CheckedSlots;
+import ru.bukhtaev.service.checker.ComputerBuildFacts;
+import ru.bukhtaev.service.checker.ComputerBuildRule;
+import ru.bukhtaev.service.checker.ComputerBuildViolation;
+import ru.bukhtaev.service.checker.ViolationSeverity;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static ru.bukhtaev.i18n.MessageUtils.*;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.CPU;
+import static ru.bukhtaev.service.checker.ComputerBuildSlot.MOTHERBOARD;
+
+/**
+ * Модульные тесты сервисов проверки на совместимость, заданных правилами {@link ComputerBuildRule}.
+ * Каждое правило сравнивается с исходной императивной реализацией сервиса проверки
+ * на всех сочетаниях комплектующих тестового каталога, включая сборки ПК с незаполненными слотами.
+ */
+class RuleCompatibilityCheckerTest {
+
+    /**
+     * Тестовый каталог: сборки ПК из всех сочетаний комплектующих.
+     */
+    private static final List<ComputerBuild> COMPUTERS = computers();
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("checkers")
+    void check_shouldMatchLegacyChecker(
+            final String name,
+            final IRuleCompatibilityChecker checker,
+            final Function<ComputerBuild, Optional<ComputerBuildViolation>> legacy
+    ) {
+        int violations = 0;
+
+        for (final ComputerBuild computer : COMPUTERS) {
+            // when
+            final Optional<ComputerBuildViolation> expected = legacy.apply(computer);
+            final Optional<ComputerBuildViolation> actual = checker.check(computer);
+            final Optional<ComputerBuildViolation> actualWithFacts = checker.check(ComputerBuildFacts.of(computer));
+
+            // then
+            assertThat(actual)
+                    .as(computer.getName())
+                    .isEqualTo(expected);
+            assertThat(actualWithFacts)
+                    .as(computer.getName())
+                    .isEqualTo(expected);
+            if (expected.isPresent()) {
+                violations++;
+            }
+        }
+
+        assertThat(violations)
+                .as("catalog must contain both violating and passing builds")
+                .isPositive()
+                .isLessThan(COMPUTERS.size());
+    }
+
+    @Test
+    void constructor_withRequiredSlotNotDeclaredInCheckedSlots_shouldThrowException() {
+        // given
+        final ComputerBuildRule rule = ComputerBuildRule.of(
+                "test.code",
+                EnumSet.of(CPU, MOTHERBOARD),
+                facts -> true,
+                facts -> new Object[0]
+        );
+
+        // when, then
+        assertThatThrownBy(() -> new CpuOnlyChecker(mock(Translator.class), rule))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    static Stream<Arguments> checkers() {
+        final Translator translator = mock(Translator.class);
+
+        return Stream.of(
+                Arguments.of(
+                        "CaseMaxCoolerHeight",
+                        new CaseMaxCoolerHeightChecker(translator),
+                        (Function<ComputerBuild, Optional<ComputerBuildViolation>>) computer -> {
+                            final Cooler cooler = computer.getCooler();
+                            final ComputerCase computerCase = computer.getComputerCase();
+                            if (cooler == null || computerCase == null
+                                    || cooler.getHeight() <= computerCase.getMaxCoolerHeight()) {
+                                return Optional.empty();
+                            }
+                            return violation(
+                                    MESSAGE_CODE_CASE_MAX_COOLER_HEIGHT_EXCEEDING,
+                                    cooler.getHeight(),
+                                    computerCase.getMaxCoolerHeight()
+                            );
+                        }
+                ),
+                Arguments.of(
+                        "CaseMaxPsuLength",
+                        new CaseMaxPsuLengthChecker(translator),
+                        (Function<ComputerBuild, Optional<ComputerBuildViolation>>) computer -> {
+                            final Psu psu = computer.getPsu();
+                            final ComputerCase computerCase = computer.getComputerCase();
+                            if (psu == null || computerCase == null
+                                    || psu.getLength() <= computerCase.getMaxPsuLength()) {
+                                return Optional.empty();
+                            }
+                            return violation(
+                                    MESSAGE_CODE_CASE_MAX_PSU_LENGTH_EXCEEDING,
+                                    psu.getLength(),
+                                    computerCase.getMaxPsuLength()
+                            );
+                        }
+                ),
+                Arguments.of(
+                        "CpuMaxRamSize",
+                        new CpuMaxRamSizeChecker(translator),
+                        (Function<ComputerBuild, Optional<ComputerBuildViolation>>) computer -> {
+                            final Cpu cpu = computer.getCpu();
+                            if (cpu == null || computer.getRamModules().isEmpty()
+                                    || totalCapacity(computer) <= cpu.getMaxMemorySize()) {
+                                return Optional.empty();
+                            }
+                            return violation(
+                                    MESSAGE_CODE_CPU_MAX_RAM_SIZE_EXCEEDING,
+                                    totalCapacity(computer) / 1024,
+                                    cpu.getMaxMemorySize() / 1024
+                            );
+                        }
+                ),
+                Arguments.of(
+                        "MotherboardMaxRamSize",
+                        new MotherboardMaxRamSizeChecker(translator),
+                        (Function<ComputerBuild, Optional<ComputerBuildViolation>>) computer -> {
+                            final Motherboard motherboard = computer.getMotherboard();
+                            if (motherboard == null || computer.getRamModules().isEmpty()
+                                    || totalCapacity(computer) <= motherboard.getMaxMemorySize()) {
+                                return Optional.empty();
+                            }
+                            return violation(
+                                    MESSAGE_CODE_MOTHERBOARD_MAX_RAM_SIZE_EXCEEDING,
+                                    totalCapacity(computer) / 1024,
+                                    motherboard.getMaxMemorySize() / 1024
+                            );
+                        }
+                ),
+                Arguments.of(
+                        "MotherboardRamTypeMatchCpuRamTypes",
+                        new MotherboardRamTypeMatchCpuRamTypesChecker(translator),
+                        (Function<ComputerBuild, Optional<ComputerBuildViolation>>) computer -> {
+                            final Cpu cpu = computer.getCpu();
+                            final Motherboard motherboard = computer.getMotherboard();
+                            if (cpu == null || motherboard == null
+                                    || cpuRamTypes(cpu).contains(motherboard.getRamType())) {
+                                return Optional.empty();
+                            }
+                            return violation(
+                                    MESSAGE_CODE_INCOMPATIBLE_MOTHERBOARD_RAM_TYPE,
+                                    motherboard.getRamType(),
+                                    names(cpuRamTypes(cpu)).toString()
+                            );
+                        }
+                ),
+                Arguments.of(
+                        "RamModulesRamTypeMatchCpuRamType",
+                        new RamModulesRamTypeMatchCpuRamTypeChecker(translator),
+                        (Function<ComputerBuild, Optional<ComputerBuildViolation>>) computer -> {
+                            final Cpu cpu = computer.getCpu();
+                            if (cpu == null || computer.getRamModules().isEmpty()
+                                    || cpuRamTypes(cpu).containsAll(moduleRamTypes(computer))) {
+                                return Optional.empty();
+                            }
+                            return violation(
+                                    MESSAGE_CODE_CPU_DOES_NOT_SUPPORT_RAM_MODULES_RAM_TYPE,
+                                    names(cpuRamTypes(cpu)).toString(),
+                                    new HashSet<>(moduleRamTypes(computer)).iterator().next().getName()
+                            );
+                        }
+                ),
+                Arguments.of(
+                        "RamModulesRamTypeMatchMotherboardRamType",
+                        new RamModulesRamTypeMatchMotherboardRamTypeChecker(translator),
+                        (Function<ComputerBuild, Optional<ComputerBuildViolation>>) computer -> {
+                            final Motherboard motherboard = computer.getMotherboard();
+                            if (motherboard == null || computer.getRamModules().isEmpty()
+                                    || motherboard.getRamType().equals(moduleRamTypes(computer).get(0))) {
+                                return Optional.empty();
+                            }
+                            return violation(
+                                    MESSAGE_CODE_MOTHERBOARD_DOES_NOT_SUPPORT_RAM_MODULES_RAM_TYPE,
+                                    motherboard.getRamType().getName(),
+                                    moduleRamTypes(computer).get(0).getName()
+                            );
+                        }
+                ),
+                Arguments.of(
+                        "RamModulesTheSameRamType",
+                        new RamModulesTheSameRamTypeChecker(translator),
+                        (Function<ComputerBuild, Optional<ComputerBuildViolation>>) computer -> {
+                            if (computer.getRamModules().isEmpty() || moduleRamTypes(computer).size() < 2) {
+                                return Optional.empty();
+                            }
+                            return violation(
+                                    MESSAGE_CODE_INCOMPATIBLE_RAM_MODULES,
+                                    names(moduleRamTypes(computer)).toString()
+                            );
+                        }
+                ),
+                Arguments.of(
+                        "PsuPower",
+                        new PsuPowerChecker(translator),
+                        (Function<ComputerBuild, Optional<ComputerBuildViolation>>) computer -> {
+                            final Psu psu = computer.getPsu();
+                            final Cpu cpu = computer.getCpu();
+                            final GraphicsCard graphicsCard = computer.getGraphicsCard();
+                            if (psu == null || cpu == null || graphicsCard == null) {
+                                return Optional.empty();
+                            }
+                            final int neededPower = Math.toIntExact(Math.round(
+                                    (cpu.getMaxTdp() + graphicsCard.getGpu().getPowerConsumption()) * 1.5
+                            ));
+                            if (neededPower <= psu.getPower12V()) {
+                                return Optional.empty();
+                            }
+                            return violation(
+                                    MESSAGE_CODE_PSU_POWER_EXCEEDING,
+                                    Integer.toString(psu.getPower12V()),
+                                    Integer.toString(neededPower)
+                            );
+                        }
+                )
+        );
+    }
+
+    private static Optional<ComputerBuildViolation> violation(final String code, final Object... args) {
+        return Optional.of(ComputerBuildViolation.of(code, ViolationSeverity.ERROR, args));
+    }
+
+    private static int totalCapacity(final ComputerBuild computer) {
+        return computer.getRamModules()
+                .stream()
+                .mapToInt(computerToModule -> computerToModule.getRamModule().getCapacity()
+                        * computerToModule.getCount())
+                .sum();
+    }
+
+    private static Set<RamType> cpuRamTypes(final Cpu cpu) {
+        return cpu.getSupportedRamTypes()
+                .stream()
+                .map(CpuToRamType::getRamType)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Возвращает различные типы модулей оперативной памяти в порядке обхода модулей.
+     *
+     * @param computer сборка ПК
+     * @return типы модулей оперативной памяти
+     */
+    private static List<RamType> moduleRamTypes(final ComputerBuild computer) {
+        return computer.getRamModules()
+                .stream()
+                .map(computerToModule -> computerToModule.getRamModule().getType())
+                .distinct()
+                .toList();
+    }
+
+    private static Set<String> names(final Collection<? extends NameableEntity> entities) {
+        return entities.stream()
+                .map(NameableEntity::getName)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Собирает сборки ПК из всех сочетаний комплектующих тестового каталога.
+     * Каждый слот, кроме корпуса, может быть не заполнен.
+     *
+     * @return сборки ПК
+     */
+    private static List<ComputerBuild> computers() {
+        final RamType ddr4 = RamType.builder().id(UUID.randomUUID()).name("DDR4").build();
+        final RamType ddr5 = RamType.builder().id(UUID.randomUUID()).name("DDR5").build();
+
+        final List<Cpu> cpus = Arrays.asList(
+                null,
+                cpu("Core i5-12400", 65, 65536, ddr5),
+                cpu("Core i9-13900K", 253, 196608, ddr4, ddr5)
+        );
+        final List<Motherboard> motherboards = Arrays.asList(
+                null,
+                motherboard("B760 DDR5", ddr5, 65536),
+                motherboard("B760 DDR4", ddr4, 131072)
+        );
+        final List<Psu> psus = Arrays.asList(
+                null,
+                psu("400W", 300, 140),
+                psu("850W", 800, 200)
+        );
+        final List<GraphicsCard> graphicsCards = Arrays.asList(
+                null,
+                graphicsCard(100),
+                graphicsCard(320)
+        );
+        final List<Cooler> coolers = Arrays.asList(
+                null,
+                cooler(150),
+                cooler(170)
+        );
+        final List<ComputerCase> computerCases = Arrays.asList(
+                null,
+                ComputerCase.builder()
+                        .id(UUID.randomUUID())
+                        .name("Midi Tower")
+                        .maxCoolerHeight(160)
+                        .maxPsuLength(160)
+                        .maxGraphicsCardLength(350)
+                        .build()
+        );
+
+        final RamModule ddr5Small = ramModule(ddr5, 16384);
+        final RamModule ddr5Large = ramModule(ddr5, 32768);
+        final RamModule ddr4Small = ramModule(ddr4, 16384);
+        final List<Map<RamModule, Integer>> moduleSets = List.of(
+                Map.of(),
+                Map.of(ddr5Small, 2),
+                Map.of(ddr5Large, 4),
+                Map.of(ddr4Small, 1),
+                Map.of(ddr5Small, 1, ddr4Small, 1)
+        );
+
+        final List<ComputerBuild> computers = new ArrayList<>();
+        for (final Cpu cpu : cpus) {
+            for (final Motherboard motherboard : motherboards) {
+                for (final Psu psu : psus) {
+                    for (final GraphicsCard graphicsCard : graphicsCards) {
+                        for (final Cooler cooler : coolers) {
+                            for (final ComputerCase computerCase : computerCases) {
+                                for (final Map<RamModule, Integer> modules : moduleSets) {
+                                    final ComputerBuild computer = ComputerBuild.builder()
+                                            .id(UUID.randomUUID())
+                                            .name("Computer #" + computers.size())
+                                            .cpu(cpu)
+                                            .motherboard(motherboard)
+                                            .psu(psu)
+                                            .graphicsCard(graphicsCard)
+                                            .cooler(cooler)
+                                            .computerCase(computerCase)
+                                            .build();
+                                    modules.forEach(computer::addRamModule);
+                                    computers.add(computer);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return computers;
+    }
+
+    private static Cpu cpu(final String name, final int maxTdp, final int maxMemorySize, final RamType... types) {
+        final Cpu cpu = Cpu.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .maxTdp(maxTdp)
+                .maxMemorySize(maxMemorySize)
+                .build();
+        for (final RamType type : types) {
+            cpu.addRamType(type, 4800);
+        }
+        return cpu;
+    }
+
+    private static Motherboard motherboard(final String name, final RamType ramType, final int maxMemorySize) {
+        return Motherboard.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .ramType(ramType)
+                .maxMemorySize(maxMemorySize)
+                .build();
+    }
+
+    private static Psu psu(final String name, final int power12V, final int length) {
+        return Psu.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .power12V(power12V)
+                .length(length)
+                .build();
+    }
+
+    private static GraphicsCard graphicsCard(final int powerConsumption) {
+        return GraphicsCard.builder()
+                .id(UUID.randomUUID())
+                .gpu(Gpu.builder()
+                        .id(UUID.randomUUID())
+                        .name("GPU " + powerConsumption)
+                        .powerConsumption(powerConsumption)
+                        .build())
+                .build();
+    }
+
+    private static Cooler cooler(final int height) {
+        return Cooler.builder()
+                .id(UUID.randomUUID())
+                .name("Cooler " + height)
+                .height(height)
+                .build();
+    }
+
+    private static RamModule ramModule(final RamType type, final int capacity) {
+        return RamModule.builder()
+                .id(UUID.randomUUID())
+                .type(type)
+                .capacity(capacity)
+                .build();
+    }
+
+    /**
+     * Сервис проверки, правило которого требует слот, не объявленный в {@link CheckedSlots}.
+     */
+    @CheckedSlots(CPU)
+    static class CpuOnlyChecker extends IRuleCompatibilityChecker {
+
+        CpuOnlyChecker(final Translator translator, final ComputerBuildRule rule) {
+            super(translator, rule);
+        }
+    }
+}